@@ -121,7 +121,7 @@ public class Key {
 
   /** @return the hex representation of the public key. */
   public String toHex() {
-    return ConvertUtils.toHex(this.value).toUpperCase();
+    return ConvertUtils.toHex(this.value);
   }
 
   @Override
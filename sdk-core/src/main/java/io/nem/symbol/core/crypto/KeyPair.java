@@ -72,6 +72,20 @@ public class KeyPair {
     return new KeyPair(Optional.of(privateKey), publicKey, engine);
   }
 
+  /**
+   * Creates a key pair around a private key and the public key already derived from it, for
+   * example in a bulk generation. The public key is not calculated again so the caller must
+   * guarantee that it belongs to the private key.
+   *
+   * @param privateKey The private key.
+   * @param publicKey The public key derived from the private key.
+   * @return a {@link KeyPair} with both public and private keys.
+   */
+  public static KeyPair fromDerivedKeys(final PrivateKey privateKey, final PublicKey publicKey) {
+    Validate.notNull(privateKey, "PrivateKey must not be null");
+    return new KeyPair(Optional.of(privateKey), publicKey, CryptoEngines.defaultEngine());
+  }
+
   /**
    * Creates a pair that only holds a public key using the default engine. It is good to encrypt but
    * cannot decrypt values.
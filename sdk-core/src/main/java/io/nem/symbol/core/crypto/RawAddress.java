@@ -40,15 +40,30 @@ public class RawAddress {
    * @return an encoded address that can be used to identify accounts.
    */
   public static String generateAddress(final String publicKey, final NetworkType networkType) {
-
-    byte networkTypeValue = (byte) networkType.getValue();
-    // step 1: sha3 hash of the public key
     byte[] publicKeyBytes;
     try {
       publicKeyBytes = ConvertUtils.fromHexToBytes(publicKey);
     } catch (Exception e) {
       throw new IllegalArgumentException("Public key is not valid");
     }
+    // step 6: base32 encode the raw address
+    String base32 = Base32Encoder.getString(generateAddressBytes(publicKeyBytes, networkType));
+    return base32.substring(0, base32.length() - 1);
+  }
+
+  /**
+   * This method generates the 24 bytes of the raw address based on the public key and the Symbol
+   * configuration network type.
+   *
+   * @param publicKeyBytes the public key bytes
+   * @param networkType the network type
+   * @return the network type, the ripemd160 hash of the public key and the checksum.
+   */
+  public static byte[] generateAddressBytes(
+      final byte[] publicKeyBytes, final NetworkType networkType) {
+
+    byte networkTypeValue = (byte) networkType.getValue();
+    // step 1: sha3 hash of the public key
     final byte[] publicKeyHash = Hashes.sha3_256(publicKeyBytes);
 
     // step 2: ripemd160 hash of (1)
@@ -62,12 +77,7 @@ public class RawAddress {
     final byte[] stepThreeChecksum = generateChecksum(versionPrefixedRipemd160Hash);
 
     // step 5: concatenate (3) and (4)
-    final byte[] concatStepThreeAndStepSix =
-        ArrayUtils.concat(versionPrefixedRipemd160Hash, stepThreeChecksum);
-
-    // step 6: base32 encode (5)
-    String base32 = Base32Encoder.getString(concatStepThreeAndStepSix);
-    return base32.substring(0, base32.length() - 1);
+    return ArrayUtils.concat(versionPrefixedRipemd160Hash, stepThreeChecksum);
   }
 
   private static byte[] generateChecksum(final byte[] input) {
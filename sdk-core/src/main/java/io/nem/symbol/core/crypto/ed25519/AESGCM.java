@@ -17,8 +17,10 @@ package io.nem.symbol.core.crypto.ed25519;
 
 import io.nem.symbol.core.crypto.CryptoException;
 import io.nem.symbol.sdk.infrastructure.RandomUtils;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import org.apache.commons.lang3.exception.ExceptionUtils;
-import org.bouncycastle.crypto.BlockCipher;
 import org.bouncycastle.crypto.CipherParameters;
 import org.bouncycastle.crypto.InvalidCipherTextException;
 import org.bouncycastle.crypto.engines.AESEngine;
@@ -52,8 +54,30 @@ public class AESGCM {
     return RandomUtils.generateRandomBytes(IV_LENGTH);
   }
 
+  /** The size of the chunks used to stream buffers that are not backed by an accessible array. */
+  private static final int CHUNK_SIZE = 4096;
+
   /**
-   * Creates a new AES/GCM/NoPadding cipher.
+   * The AES/GCM ciphers of the current thread. Creating the cipher is cheap compared to the key
+   * schedule, but bulk encryptions create thousands of them, so they are re-initialised instead.
+   */
+  private static final ThreadLocal<ThreadCiphers> CIPHERS =
+      ThreadLocal.withInitial(ThreadCiphers::new);
+
+  /** The reusable AES/GCM ciphers of one thread. */
+  private static final class ThreadCiphers {
+
+    private final GCMBlockCipher encryption = new GCMBlockCipher(new AESEngine());
+
+    private final GCMBlockCipher decryption = new GCMBlockCipher(new AESEngine());
+
+    private final byte[] inputChunk = new byte[CHUNK_SIZE];
+
+    private final byte[] outputChunk = new byte[CHUNK_SIZE + 2 * TAG_LENGTH];
+  }
+
+  /**
+   * Initialises the AES/GCM/NoPadding cipher of the current thread.
    *
    * @param secretKey The AES key. Must not be {@code null}.
    * @param forEncryption If {@code true} creates an encryption cipher, else creates a decryption
@@ -63,34 +87,24 @@ public class AESGCM {
    */
   private static GCMBlockCipher createAESGCMCipher(
       final byte[] secretKey, final boolean forEncryption, final byte[] iv) {
-
-    // Initialise AES cipher
-    BlockCipher cipher = createCipher(secretKey, forEncryption);
-
-    // Create GCM cipher with AES
-    GCMBlockCipher gcm = new GCMBlockCipher(cipher);
+    ThreadCiphers ciphers = CIPHERS.get();
+    GCMBlockCipher gcm = forEncryption ? ciphers.encryption : ciphers.decryption;
 
     final KeyParameter keyParam = new KeyParameter(secretKey);
     final CipherParameters params = new ParametersWithIV(keyParam, iv);
-    gcm.init(forEncryption, params);
+    try {
+      gcm.init(forEncryption, params);
+    } catch (IllegalArgumentException e) {
+      if (!forEncryption) {
+        throw e;
+      }
+      // GCM ciphers refuse to be initialised twice with the same key and IV for encryption.
+      gcm = new GCMBlockCipher(new AESEngine());
+      gcm.init(true, params);
+    }
     return gcm;
   }
 
-  /**
-   * Creates a new AES cipher.
-   *
-   * @param secretKey The AES key. Must not be {@code null}.
-   * @param forEncryption If {@code true} creates an AES encryption cipher, else creates an AES
-   *     decryption cipher.
-   * @return The AES cipher.
-   */
-  private static AESEngine createCipher(final byte[] secretKey, final boolean forEncryption) {
-    AESEngine cipher = new AESEngine();
-    CipherParameters cipherParams = new KeyParameter(secretKey);
-    cipher.init(forEncryption, cipherParams);
-    return cipher;
-  }
-
   /**
    * Encrypts the specified plain text using AES/GCM/NoPadding.
    *
@@ -147,30 +161,117 @@ public class AESGCM {
       final byte[] secretKey, final byte[] iv, final byte[] cipherText, final byte[] authTag)
       throws RuntimeException {
 
-    // Initialise AES/GCM cipher for decryption
-    GCMBlockCipher cipher = createAESGCMCipher(secretKey, false, iv);
-
-    // Join cipher text and authentication tag to produce cipher input
-    byte[] input = new byte[cipherText.length + authTag.length];
-
-    System.arraycopy(cipherText, 0, input, 0, cipherText.length);
-    System.arraycopy(authTag, 0, input, cipherText.length, authTag.length);
+    byte[] output = new byte[cipherText.length];
+    decrypt(secretKey, iv, ByteBuffer.wrap(cipherText), authTag, ByteBuffer.wrap(output));
+    return output;
+  }
 
-    int outputLength = cipher.getOutputSize(input.length);
+  /**
+   * Encrypts the remaining bytes of the plain text buffer using AES/GCM/NoPadding, writing the
+   * cipher text into the output buffer. Large buffers are streamed through the cipher, they are
+   * not copied into intermediate arrays. The buffers must not overlap.
+   *
+   * @param secretKey The AES key. Must not be {@code null}.
+   * @param iv The initialisation vector (IV). Must not be {@code null}.
+   * @param plainText The plain text, it's read from its position to its limit.
+   * @param cipherText The output buffer, the cipher text is written from its position.
+   * @return The authentication tag.
+   * @throws CryptoException If encryption failed.
+   * @throws BufferOverflowException If the output buffer cannot hold the cipher text.
+   */
+  public static byte[] encrypt(
+      final byte[] secretKey,
+      final byte[] iv,
+      final ByteBuffer plainText,
+      final ByteBuffer cipherText) {
+    if (cipherText.remaining() < plainText.remaining()) {
+      throw new BufferOverflowException();
+    }
+    GCMBlockCipher cipher = createAESGCMCipher(secretKey, true, iv);
+    process(cipher, plainText, cipherText);
 
-    byte[] output = new byte[outputLength];
+    // The last cipher text block followed by the authentication tag
+    byte[] last = new byte[cipher.getOutputSize(0)];
+    int lastLength;
+    try {
+      lastLength = cipher.doFinal(last, 0);
+    } catch (InvalidCipherTextException e) {
+      throw new CryptoException(
+          "Could Not Generate GCM Authentication: " + ExceptionUtils.getMessage(e), e);
+    }
+    cipherText.put(last, 0, lastLength - TAG_LENGTH);
+    return Arrays.copyOfRange(last, lastLength - TAG_LENGTH, lastLength);
+  }
 
-    // Decrypt
-    int outputOffset = cipher.processBytes(input, 0, input.length, output, 0);
+  /**
+   * Decrypts the remaining bytes of the cipher text buffer using AES/GCM/NoPadding, writing the
+   * plain text into the output buffer. Large buffers are streamed through the cipher. The plain
+   * text written into the output must be discarded if the authentication fails. The buffers must
+   * not overlap.
+   *
+   * @param secretKey The AES key. Must not be {@code null}.
+   * @param iv The initialisation vector (IV). Must not be {@code null}.
+   * @param cipherText The cipher text, it's read from its position to its limit.
+   * @param authTag The authentication tag. Must not be {@code null}.
+   * @param plainText The output buffer, the plain text is written from its position.
+   * @return The number of decrypted bytes.
+   * @throws CryptoException If decryption failed.
+   * @throws BufferOverflowException If the output buffer cannot hold the plain text.
+   */
+  public static int decrypt(
+      final byte[] secretKey,
+      final byte[] iv,
+      final ByteBuffer cipherText,
+      final byte[] authTag,
+      final ByteBuffer plainText) {
+    if (plainText.remaining() < cipherText.remaining()) {
+      throw new BufferOverflowException();
+    }
+    int start = plainText.position();
+    GCMBlockCipher cipher = createAESGCMCipher(secretKey, false, iv);
+    process(cipher, cipherText, plainText);
+    process(cipher, ByteBuffer.wrap(authTag), plainText);
 
     // Validate authentication tag
+    byte[] last = new byte[cipher.getOutputSize(0)];
     try {
-      outputOffset += cipher.doFinal(output, outputOffset);
+      plainText.put(last, 0, cipher.doFinal(last, 0));
     } catch (InvalidCipherTextException e) {
       throw new CryptoException("Could decrypt value: " + ExceptionUtils.getMessage(e), e);
     }
+    return plainText.position() - start;
+  }
 
-    return output;
+  /**
+   * Processes the remaining bytes of the input buffer. Array backed buffers are processed in place,
+   * other buffers are copied in chunks into the scratch arrays of the current thread.
+   *
+   * @param cipher the initialised cipher.
+   * @param input the input buffer.
+   * @param output the output buffer, it must be large enough.
+   */
+  private static void process(
+      final GCMBlockCipher cipher, final ByteBuffer input, final ByteBuffer output) {
+    if (input.hasArray() && output.hasArray()) {
+      int length = input.remaining();
+      int written =
+          cipher.processBytes(
+              input.array(),
+              input.arrayOffset() + input.position(),
+              length,
+              output.array(),
+              output.arrayOffset() + output.position());
+      input.position(input.position() + length);
+      output.position(output.position() + written);
+      return;
+    }
+    ThreadCiphers ciphers = CIPHERS.get();
+    while (input.hasRemaining()) {
+      int length = Math.min(input.remaining(), CHUNK_SIZE);
+      input.get(ciphers.inputChunk, 0, length);
+      int written = cipher.processBytes(ciphers.inputChunk, 0, length, ciphers.outputChunk, 0);
+      output.put(ciphers.outputChunk, 0, written);
+    }
   }
 
   /** Prevents public instantiation. */
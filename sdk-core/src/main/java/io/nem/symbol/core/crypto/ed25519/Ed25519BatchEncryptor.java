@@ -0,0 +1,168 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.crypto.ed25519;
+
+import io.nem.symbol.core.crypto.PrivateKey;
+import io.nem.symbol.core.crypto.PublicKey;
+import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519EncodedFieldElement;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Encrypts messages from one sender to many recipients. The sender's scalar is prepared once, the
+ * key agreements run in parallel without precomputing a lookup table per recipient and the AES/GCM
+ * ciphers are reused per thread. The payloads are the same as the ones produced by {@link
+ * Ed25519BlockCipher#encrypt(byte[])}.
+ */
+public class Ed25519BatchEncryptor {
+
+  private final PrivateKey senderPrivateKey;
+
+  private final Ed25519EncodedFieldElement preparedSenderKey;
+
+  private ForkJoinPool pool = ForkJoinPool.commonPool();
+
+  private Ed25519SharedKeyCache sharedKeyCache;
+
+  /**
+   * Constructor.
+   *
+   * @param senderPrivateKey the private key of the sender.
+   */
+  public Ed25519BatchEncryptor(PrivateKey senderPrivateKey) {
+    Validate.notNull(senderPrivateKey, "SenderPrivateKey must not be null");
+    this.senderPrivateKey = senderPrivateKey;
+    this.preparedSenderKey = Ed25519Utils.prepareForScalarMultiply(senderPrivateKey);
+  }
+
+  /**
+   * Sets the pool running the batch encryptions, the common pool by default.
+   *
+   * @param pool the pool.
+   * @return this encryptor.
+   */
+  public Ed25519BatchEncryptor withPool(ForkJoinPool pool) {
+    Validate.notNull(pool, "Pool must not be null");
+    this.pool = pool;
+    return this;
+  }
+
+  /**
+   * Sets the cache used to reuse the shared keys of recipients that have already been used. There
+   * is no cache by default.
+   *
+   * @param sharedKeyCache the cache, null to disable it.
+   * @return this encryptor.
+   */
+  public Ed25519BatchEncryptor withSharedKeyCache(Ed25519SharedKeyCache sharedKeyCache) {
+    this.sharedKeyCache = sharedKeyCache;
+    return this;
+  }
+
+  /**
+   * Returns the shared key between the sender and a recipient.
+   *
+   * @param recipientPublicKey the public key of the recipient.
+   * @return the shared key.
+   */
+  public byte[] getSharedKey(PublicKey recipientPublicKey) {
+    return resolveSharedKey(recipientPublicKey).clone();
+  }
+
+  private byte[] resolveSharedKey(PublicKey recipientPublicKey) {
+    Validate.notNull(recipientPublicKey, "RecipientPublicKey must not be null");
+    if (sharedKeyCache == null) {
+      return Ed25519BlockCipher.getSharedKey(preparedSenderKey, recipientPublicKey);
+    }
+    return sharedKeyCache.getSharedKey(senderPrivateKey, recipientPublicKey, preparedSenderKey);
+  }
+
+  /**
+   * Encrypts a message for one recipient using a random IV.
+   *
+   * @param plainText the plain text.
+   * @param recipientPublicKey the public key of the recipient.
+   * @return the encrypted payload.
+   */
+  public byte[] encrypt(byte[] plainText, PublicKey recipientPublicKey) {
+    return encrypt(plainText, recipientPublicKey, AESGCM.generateIV());
+  }
+
+  /**
+   * Encrypts a message for one recipient.
+   *
+   * @param plainText the plain text.
+   * @param recipientPublicKey the public key of the recipient.
+   * @param ivData the IV.
+   * @return the encrypted payload.
+   */
+  public byte[] encrypt(byte[] plainText, PublicKey recipientPublicKey, byte[] ivData) {
+    Validate.notNull(plainText, "PlainText must not be null");
+    byte[] sharedKey = resolveSharedKey(recipientPublicKey);
+    byte[] payload = new byte[AESGCM.TAG_LENGTH + AESGCM.IV_LENGTH + plainText.length];
+    Ed25519BlockCipher.encrypt(
+        sharedKey, ivData, ByteBuffer.wrap(plainText), ByteBuffer.wrap(payload));
+    return payload;
+  }
+
+  /**
+   * Encrypts the same message for many recipients in parallel, each payload with its own random
+   * IV.
+   *
+   * @param plainText the plain text.
+   * @param recipientPublicKeys the public keys of the recipients.
+   * @return the encrypted payloads, in the order of the recipients.
+   */
+  public List<byte[]> encrypt(byte[] plainText, List<PublicKey> recipientPublicKeys) {
+    Validate.notNull(plainText, "PlainText must not be null");
+    Validate.notNull(recipientPublicKeys, "RecipientPublicKeys must not be null");
+    return encrypt(recipientPublicKeys.size(), i -> encrypt(plainText, recipientPublicKeys.get(i)));
+  }
+
+  /**
+   * Encrypts a message per recipient in parallel, each payload with its own random IV.
+   *
+   * @param plainTexts the plain texts, one per recipient.
+   * @param recipientPublicKeys the public keys of the recipients.
+   * @return the encrypted payloads, in the order of the recipients.
+   */
+  public List<byte[]> encrypt(List<byte[]> plainTexts, List<PublicKey> recipientPublicKeys) {
+    Validate.notNull(plainTexts, "PlainTexts must not be null");
+    Validate.notNull(recipientPublicKeys, "RecipientPublicKeys must not be null");
+    Validate.isTrue(
+        plainTexts.size() == recipientPublicKeys.size(),
+        "There are %s plain texts but %s recipients",
+        plainTexts.size(),
+        recipientPublicKeys.size());
+    return encrypt(
+        recipientPublicKeys.size(), i -> encrypt(plainTexts.get(i), recipientPublicKeys.get(i)));
+  }
+
+  private List<byte[]> encrypt(int size, IntFunction<byte[]> encryption) {
+    return pool.submit(
+            () ->
+                IntStream.range(0, size)
+                    .parallel()
+                    .mapToObj(encryption)
+                    .collect(Collectors.toList()))
+        .join();
+  }
+}
@@ -24,10 +24,12 @@ import io.nem.symbol.core.crypto.Hashes;
 import io.nem.symbol.core.crypto.KeyPair;
 import io.nem.symbol.core.crypto.PrivateKey;
 import io.nem.symbol.core.crypto.PublicKey;
+import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519EncodedFieldElement;
 import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519EncodedGroupElement;
 import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519GroupElement;
-import io.nem.symbol.core.utils.ArrayUtils;
-import java.util.Arrays;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import org.apache.commons.lang3.Validate;
 
 /** Implementation of the block cipher for Ed25519. */
 public class Ed25519BlockCipher implements BlockCipher {
@@ -47,10 +49,63 @@ public class Ed25519BlockCipher implements BlockCipher {
   }
 
   public byte[] encrypt(final byte[] plainText, final byte[] ivData) {
-    AuthenticatedCipherText encryptResult = encode(plainText, ivData);
-    byte[] authTag = encryptResult.getAuthenticationTag();
-    byte[] cipherText = encryptResult.getCipherText();
-    return ArrayUtils.concat(authTag, encryptResult.getIv(), cipherText);
+    byte[] payload = new byte[TAG_LENGTH + IV_LENGTH + plainText.length];
+    encrypt(ByteBuffer.wrap(plainText), ByteBuffer.wrap(payload), ivData);
+    return payload;
+  }
+
+  /**
+   * Encrypts the remaining bytes of the plain text buffer with a random IV, writing the auth tag,
+   * the IV and the cipher text into the output buffer.
+   *
+   * @param plainText the plain text, it's read from its position to its limit.
+   * @param output the output buffer, it must not overlap the plain text.
+   * @return the number of bytes written into the output.
+   */
+  public int encrypt(final ByteBuffer plainText, final ByteBuffer output) {
+    return encrypt(plainText, output, AESGCM.generateIV());
+  }
+
+  /**
+   * Encrypts the remaining bytes of the plain text buffer, writing the auth tag, the IV and the
+   * cipher text into the output buffer.
+   *
+   * @param plainText the plain text, it's read from its position to its limit.
+   * @param output the output buffer, it must not overlap the plain text.
+   * @param ivData the IV.
+   * @return the number of bytes written into the output.
+   */
+  public int encrypt(final ByteBuffer plainText, final ByteBuffer output, final byte[] ivData) {
+    final byte[] sharedKey =
+        getSharedKey(this.senderKeyPair.getPrivateKey(), this.recipientKeyPair.getPublicKey());
+    return encrypt(sharedKey, ivData, plainText, output);
+  }
+
+  /**
+   * Encrypts the plain text with an already calculated shared key, writing the auth tag, the IV and
+   * the cipher text into the output buffer.
+   *
+   * @param sharedKey the shared key.
+   * @param ivData the IV.
+   * @param plainText the plain text, it's read from its position to its limit.
+   * @param output the output buffer.
+   * @return the number of bytes written into the output.
+   */
+  static int encrypt(
+      final byte[] sharedKey,
+      final byte[] ivData,
+      final ByteBuffer plainText,
+      final ByteBuffer output) {
+    Validate.isTrue(ivData.length == IV_LENGTH, "IV size must be %s", IV_LENGTH);
+    if (output.remaining() < TAG_LENGTH + IV_LENGTH + plainText.remaining()) {
+      throw new BufferOverflowException();
+    }
+    final int start = output.position();
+    final ByteBuffer header = output.duplicate();
+    output.position(start + TAG_LENGTH + IV_LENGTH);
+    final byte[] authTag = AESGCM.encrypt(sharedKey, ivData, plainText, output);
+    header.put(authTag).put(ivData);
+    return output.position() - start;
   }
 
   public AuthenticatedCipherText encode(final byte[] plainText, final byte[] ivData) {
@@ -65,19 +120,40 @@ public class Ed25519BlockCipher implements BlockCipher {
     if (input == null) {
       throw new CryptoException("Cannot decrypt. Input is required.");
     }
+    validateDecryptInputSize(input.length);
+    final byte[] output = new byte[input.length - TAG_LENGTH - IV_LENGTH];
+    decrypt(ByteBuffer.wrap(input), ByteBuffer.wrap(output));
+    return output;
+  }
+
+  /**
+   * Decrypts the remaining bytes of the input buffer, a payload with the auth tag, the IV and the
+   * cipher text, writing the plain text into the output buffer. The output must be discarded if
+   * the decryption fails.
+   *
+   * @param input the encrypted payload, it's read from its position to its limit.
+   * @param output the output buffer, it must not overlap the input.
+   * @return the number of bytes written into the output.
+   */
+  public int decrypt(final ByteBuffer input, final ByteBuffer output) {
+    if (input == null) {
+      throw new CryptoException("Cannot decrypt. Input is required.");
+    }
+    validateDecryptInputSize(input.remaining());
+    final byte[] authTag = new byte[TAG_LENGTH];
+    final byte[] ivData = new byte[IV_LENGTH];
+    input.get(authTag).get(ivData);
+    final byte[] sharedKey =
+        getSharedKey(this.recipientKeyPair.getPrivateKey(), this.senderKeyPair.getPublicKey());
+    return AESGCM.decrypt(sharedKey, ivData, input, authTag, output);
+  }
+
+  private static void validateDecryptInputSize(final int size) {
     int minSize = TAG_LENGTH + IV_LENGTH;
-    if (input.length < minSize) {
+    if (size < minSize) {
       throw new CryptoException(
-          "Cannot decrypt input. Size is "
-              + input.length
-              + " when at least "
-              + minSize
-              + " is expected.");
+          "Cannot decrypt input. Size is " + size + " when at least " + minSize + " is expected.");
     }
-    final byte[] authTag = Arrays.copyOfRange(input, 0, TAG_LENGTH);
-    final byte[] ivData = Arrays.copyOfRange(input, TAG_LENGTH, IV_LENGTH + TAG_LENGTH);
-    final byte[] cypherText = Arrays.copyOfRange(input, TAG_LENGTH + IV_LENGTH, input.length);
-    return decode(authTag, ivData, cypherText);
   }
 
   public byte[] decode(byte[] authTag, byte[] ivData, byte[] cypherText) {
@@ -90,13 +166,36 @@ public class Ed25519BlockCipher implements BlockCipher {
     return Hashes.sha256ForSharedKey(getSharedSecret(privateKey, publicKey));
   }
 
+  /**
+   * Calculates the shared key using a private key already prepared for scalar multiplication.
+   *
+   * @param preparedPrivateKey the private key prepared with {@link
+   *     Ed25519Utils#prepareForScalarMultiply(PrivateKey)}.
+   * @param publicKey the public key of the other party.
+   * @return the shared key.
+   */
+  public static byte[] getSharedKey(
+      final Ed25519EncodedFieldElement preparedPrivateKey, final PublicKey publicKey) {
+    return Hashes.sha256ForSharedKey(getSharedSecret(preparedPrivateKey, publicKey));
+  }
+
   public static byte[] getSharedSecret(final PrivateKey privateKey, final PublicKey publicKey) {
+    return getSharedSecret(Ed25519Utils.prepareForScalarMultiply(privateKey), publicKey);
+  }
+
+  /**
+   * Calculates the shared secret using a private key already prepared for scalar multiplication,
+   * so the scalar of a sender can be reused across many recipients.
+   *
+   * @param preparedPrivateKey the private key prepared with {@link
+   *     Ed25519Utils#prepareForScalarMultiply(PrivateKey)}.
+   * @param publicKey the public key of the other party.
+   * @return the shared secret.
+   */
+  public static byte[] getSharedSecret(
+      final Ed25519EncodedFieldElement preparedPrivateKey, final PublicKey publicKey) {
     final Ed25519GroupElement senderA =
         new Ed25519EncodedGroupElement(publicKey.getBytes()).decode();
-    senderA.precomputeForScalarMultiplication();
-    return senderA
-        .scalarMultiply(Ed25519Utils.prepareForScalarMultiply(privateKey))
-        .encode()
-        .getRaw();
+    return senderA.scalarMultiplyVariableBase(preparedPrivateKey).encode().getRaw();
   }
 }
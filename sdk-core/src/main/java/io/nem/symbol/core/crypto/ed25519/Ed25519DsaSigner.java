@@ -21,6 +21,7 @@ import io.nem.symbol.core.crypto.Hasher;
 import io.nem.symbol.core.crypto.Hashes;
 import io.nem.symbol.core.crypto.KeyPair;
 import io.nem.symbol.core.crypto.Signature;
+import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519BasePointMultiplier;
 import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519EncodedFieldElement;
 import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519EncodedGroupElement;
 import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519Group;
@@ -82,7 +83,7 @@ public class Ed25519DsaSigner implements DsaSigner {
     final Ed25519EncodedFieldElement rModQ = r.modQ();
 
     // R = rModQ * base point.
-    final Ed25519GroupElement R = Ed25519Group.BASE_POINT.scalarMultiply(rModQ);
+    final Ed25519GroupElement R = Ed25519BasePointMultiplier.multiply(rModQ);
     final Ed25519EncodedGroupElement encodedR = R.encode();
 
     // S = (r + H(encodedR, encodedA, data) * a) mod group order where
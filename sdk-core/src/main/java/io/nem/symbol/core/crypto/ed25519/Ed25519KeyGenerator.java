@@ -20,8 +20,8 @@ import io.nem.symbol.core.crypto.KeyGenerator;
 import io.nem.symbol.core.crypto.KeyPair;
 import io.nem.symbol.core.crypto.PrivateKey;
 import io.nem.symbol.core.crypto.PublicKey;
+import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519BasePointMultiplier;
 import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519EncodedFieldElement;
-import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519Group;
 import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519GroupElement;
 
 /** Implementation of the key generator for Ed25519. */
@@ -39,7 +39,7 @@ public class Ed25519KeyGenerator implements KeyGenerator {
     final Ed25519EncodedFieldElement a = Ed25519Utils.prepareForScalarMultiply(privateKey);
 
     // a * base point is the public key.
-    final Ed25519GroupElement pubKey = Ed25519Group.BASE_POINT.scalarMultiply(a);
+    final Ed25519GroupElement pubKey = Ed25519BasePointMultiplier.multiply(a);
 
     // verification of signatures will be about twice as fast when pre-calculating
     // a suitable table of group elements.
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.crypto.ed25519;
+
+import io.nem.symbol.core.crypto.Hashes;
+import io.nem.symbol.core.crypto.PrivateKey;
+import io.nem.symbol.core.crypto.PublicKey;
+import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519EncodedFieldElement;
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * A bounded cache of ECDH shared keys for private/public key pairs that exchange many messages.
+ * When the cache is full, the least recently used shared key is evicted. This cache is thread
+ * safe.
+ */
+public class Ed25519SharedKeyCache {
+
+  /** The default maximum number of shared keys. */
+  public static final int DEFAULT_MAX_SIZE = 1024;
+
+  private final Map<ByteBuffer, byte[]> sharedKeys;
+
+  /** Creates a cache with the default maximum size. */
+  public Ed25519SharedKeyCache() {
+    this(DEFAULT_MAX_SIZE);
+  }
+
+  /**
+   * Creates a cache with the given maximum size.
+   *
+   * @param maxSize the maximum number of shared keys to keep.
+   */
+  public Ed25519SharedKeyCache(int maxSize) {
+    Validate.isTrue(maxSize > 0, "Max size must be positive");
+    this.sharedKeys =
+        new LinkedHashMap<ByteBuffer, byte[]>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<ByteBuffer, byte[]> eldest) {
+            return size() > maxSize;
+          }
+        };
+  }
+
+  /**
+   * Returns the shared key of the private and public keys, calculating it if it isn't cached.
+   *
+   * @param privateKey the private key of one party.
+   * @param publicKey the public key of the other party.
+   * @return the shared key.
+   */
+  public byte[] getSharedKey(PrivateKey privateKey, PublicKey publicKey) {
+    return getSharedKey(privateKey, publicKey, null).clone();
+  }
+
+  /**
+   * Returns the cached shared key without copying it.
+   *
+   * @param privateKey the private key of one party.
+   * @param publicKey the public key of the other party.
+   * @param preparedPrivateKey the already prepared private key, null if it needs to be prepared.
+   * @return the shared key, it must not be modified.
+   */
+  byte[] getSharedKey(
+      PrivateKey privateKey, PublicKey publicKey, Ed25519EncodedFieldElement preparedPrivateKey) {
+    ByteBuffer key = toCacheKey(privateKey, publicKey);
+    synchronized (sharedKeys) {
+      byte[] sharedKey = sharedKeys.get(key);
+      if (sharedKey != null) {
+        return sharedKey;
+      }
+    }
+    // Calculated out of the lock, two threads may calculate the same key at the same time.
+    byte[] sharedKey =
+        preparedPrivateKey == null
+            ? Ed25519BlockCipher.getSharedKey(privateKey, publicKey)
+            : Ed25519BlockCipher.getSharedKey(preparedPrivateKey, publicKey);
+    synchronized (sharedKeys) {
+      sharedKeys.put(key, sharedKey);
+    }
+    return sharedKey;
+  }
+
+  /**
+   * The cache key is the sha3 hash of the private and public keys. Raw private keys are never
+   * stored in the cache.
+   *
+   * @param privateKey the private key of one party.
+   * @param publicKey the public key of the other party.
+   * @return the cache key.
+   */
+  private static ByteBuffer toCacheKey(PrivateKey privateKey, PublicKey publicKey) {
+    return ByteBuffer.wrap(Hashes.sha3_256(privateKey.getBytes(), publicKey.getBytes()));
+  }
+
+  /** @return a copy of the cache keys, for tests. */
+  List<byte[]> getCacheKeys() {
+    synchronized (sharedKeys) {
+      return sharedKeys.keySet().stream().map(k -> k.array().clone()).collect(Collectors.toList());
+    }
+  }
+
+  /** @return the number of cached shared keys. */
+  public int size() {
+    synchronized (sharedKeys) {
+      return sharedKeys.size();
+    }
+  }
+
+  /** Removes all the cached shared keys. */
+  public void clear() {
+    synchronized (sharedKeys) {
+      sharedKeys.clear();
+    }
+  }
+}
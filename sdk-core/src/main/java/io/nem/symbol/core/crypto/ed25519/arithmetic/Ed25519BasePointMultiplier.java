@@ -0,0 +1,290 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.crypto.ed25519.arithmetic;
+
+import io.nem.symbol.core.utils.ByteUtils;
+
+/**
+ * Constant time fixed base scalar multiplication h = a * B where B is the {@link
+ * Ed25519Group#BASE_POINT}.
+ *
+ * <p>It runs the same ref10 algorithm as {@link Ed25519GroupElement#scalarMultiply} but the
+ * precomputed table of the base point is flattened into a primitive array and the field elements
+ * are mutable int arrays updated in place. A multiplication allocates a small workspace instead of
+ * the thousands of intermediate group and field elements of the object based implementation.
+ */
+public final class Ed25519BasePointMultiplier {
+
+  /** Number of limbs of a field element. */
+  private static final int LIMBS = 10;
+
+  /** Number of points per table row, the multiples 1 to 8 of 16^(2 * i) * B. */
+  private static final int ROW_SIZE = 8;
+
+  /** Number of table rows. */
+  private static final int ROWS = 32;
+
+  /** Size of a precomputed point, y + x, y - x and 2 * d * x * y. */
+  private static final int POINT_SIZE = 3 * LIMBS;
+
+  /** The flattened precomputed table of the base point. */
+  private static final int[] TABLE = createTable();
+
+  // P3 accumulator, the first three coordinates are also used as the P2 point when doubling.
+  private final int[] hX = new int[LIMBS];
+  private final int[] hY = new int[LIMBS];
+  private final int[] hZ = new int[LIMBS];
+  private final int[] hT = new int[LIMBS];
+
+  // P1xP1 intermediate result.
+  private final int[] rX = new int[LIMBS];
+  private final int[] rY = new int[LIMBS];
+  private final int[] rZ = new int[LIMBS];
+  private final int[] rT = new int[LIMBS];
+
+  // Selected precomputed point.
+  private final int[] tYPlusX = new int[LIMBS];
+  private final int[] tYMinusX = new int[LIMBS];
+  private final int[] tXY2D = new int[LIMBS];
+
+  private final int[] t0 = new int[LIMBS];
+
+  private final long[] accumulator = new long[LIMBS];
+
+  /** Private constructor, a multiplier is a single use workspace. */
+  private Ed25519BasePointMultiplier() {}
+
+  /**
+   * h = a * B where a = a[0]+256*a[1]+...+256^31 a[31] and B is the base point. Constant time.
+   *
+   * @param a The encoded field element.
+   * @return The resulting group element in P3 coordinates.
+   */
+  public static Ed25519GroupElement multiply(final Ed25519EncodedFieldElement a) {
+    return new Ed25519BasePointMultiplier().scalarMultiply(a);
+  }
+
+  private Ed25519GroupElement scalarMultiply(final Ed25519EncodedFieldElement a) {
+    final byte[] e = Ed25519GroupElement.toRadix16(a);
+    hY[0] = 1;
+    hZ[0] = 1;
+    for (int i = 1; i < 64; i += 2) {
+      select(i / 2, e[i]);
+      precomputedAdd();
+      toP3();
+    }
+
+    doubleP2();
+    toP2();
+    doubleP2();
+    toP2();
+    doubleP2();
+    toP2();
+    doubleP2();
+    toP3();
+
+    for (int i = 0; i < 64; i += 2) {
+      select(i / 2, e[i]);
+      precomputedAdd();
+      toP3();
+    }
+    return Ed25519GroupElement.p3(
+        new Ed25519FieldElement(hX),
+        new Ed25519FieldElement(hY),
+        new Ed25519FieldElement(hZ),
+        new Ed25519FieldElement(hT));
+  }
+
+  /**
+   * Loads 16^(2 * pos) * b * B into the selected point. No secret array indices, no secret
+   * branching.
+   *
+   * @param pos the table row.
+   * @param b the signed radix 16 digit, between -8 and 8.
+   */
+  private void select(final int pos, final int b) {
+    final int bNegative = ByteUtils.isNegativeConstantTime(b);
+    final int bAbs = b - (((-bNegative) & b) << 1);
+
+    for (int i = 0; i < LIMBS; i++) {
+      tYPlusX[i] = 0;
+      tYMinusX[i] = 0;
+      tXY2D[i] = 0;
+    }
+    tYPlusX[0] = 1;
+    tYMinusX[0] = 1;
+    for (int j = 0; j < ROW_SIZE; j++) {
+      final int offset = (pos * ROW_SIZE + j) * POINT_SIZE;
+      final int mask = -ByteUtils.isEqualConstantTime(bAbs, j + 1);
+      cmov(tYPlusX, TABLE, offset, mask);
+      cmov(tYMinusX, TABLE, offset + LIMBS, mask);
+      cmov(tXY2D, TABLE, offset + 2 * LIMBS, mask);
+    }
+
+    // -16^(2 * pos) * |b| * B swaps y + x with y - x and negates 2 * d * x * y.
+    final int mask = -bNegative;
+    for (int i = 0; i < LIMBS; i++) {
+      final int swap = mask & (tYPlusX[i] ^ tYMinusX[i]);
+      tYPlusX[i] ^= swap;
+      tYMinusX[i] ^= swap;
+      tXY2D[i] ^= mask & (tXY2D[i] ^ -tXY2D[i]);
+    }
+  }
+
+  /** r = h + t where h is in P3 and t is the selected precomputed point. */
+  private void precomputedAdd() {
+    add(rX, hY, hX);
+    subtract(rY, hY, hX);
+    multiply(rZ, rX, tYPlusX, false);
+    multiply(rY, rY, tYMinusX, false);
+    multiply(rT, tXY2D, hT, false);
+    add(t0, hZ, hZ);
+    subtract(rX, rZ, rY);
+    add(rY, rZ, rY);
+    add(rZ, t0, rT);
+    subtract(rT, t0, rT);
+  }
+
+  /** r = 2 * h where h is read as a P2 point. */
+  private void doubleP2() {
+    multiply(rX, hX, hX, false);
+    multiply(rZ, hY, hY, false);
+    multiply(rT, hZ, hZ, true);
+    add(rY, hX, hY);
+    multiply(t0, rY, rY, false);
+    add(rY, rZ, rX);
+    subtract(rZ, rZ, rX);
+    subtract(rX, t0, rY);
+    subtract(rT, rT, rZ);
+  }
+
+  /** h = r converted from P1xP1 to P2, the T coordinate is left untouched. */
+  private void toP2() {
+    multiply(hX, rX, rT, false);
+    multiply(hY, rY, rZ, false);
+    multiply(hZ, rZ, rT, false);
+  }
+
+  /** h = r converted from P1xP1 to P3. */
+  private void toP3() {
+    toP2();
+    multiply(hT, rX, rY, false);
+  }
+
+  private static void add(final int[] h, final int[] f, final int[] g) {
+    for (int i = 0; i < LIMBS; i++) {
+      h[i] = f[i] + g[i];
+    }
+  }
+
+  private static void subtract(final int[] h, final int[] f, final int[] g) {
+    for (int i = 0; i < LIMBS; i++) {
+      h[i] = f[i] - g[i];
+    }
+  }
+
+  /**
+   * Replaces f with the field element of the table at the offset if the mask is -1, keeps it if
+   * the mask is 0.
+   */
+  private static void cmov(final int[] f, final int[] table, final int offset, final int mask) {
+    for (int i = 0; i < LIMBS; i++) {
+      f[i] ^= mask & (f[i] ^ table[offset + i]);
+    }
+  }
+
+  /**
+   * h = f * g, or h = 2 * f * g when twice is set. h may be the same array as f or g.
+   *
+   * <p>Limb i of a field element is scaled by 2^ceil(25.5 * i), so the product of two odd limbs
+   * is doubled and the products that go over 2^255 wrap around multiplied by 19. The carry chain
+   * is the one of ref10's fe_mul.
+   */
+  private void multiply(final int[] h, final int[] f, final int[] g, final boolean twice) {
+    final long[] acc = this.accumulator;
+    for (int k = 0; k < LIMBS; k++) {
+      acc[k] = 0;
+    }
+    for (int i = 0; i < LIMBS; i++) {
+      final long fi = f[i];
+      for (int j = 0; j < LIMBS; j++) {
+        long product = fi * g[j];
+        if ((i & j & 1) == 1) {
+          product <<= 1;
+        }
+        final int k = i + j;
+        if (k >= LIMBS) {
+          acc[k - LIMBS] += product * 19;
+        } else {
+          acc[k] += product;
+        }
+      }
+    }
+    if (twice) {
+      for (int k = 0; k < LIMBS; k++) {
+        acc[k] <<= 1;
+      }
+    }
+    carry(acc, 0);
+    carry(acc, 4);
+    carry(acc, 1);
+    carry(acc, 5);
+    carry(acc, 2);
+    carry(acc, 6);
+    carry(acc, 3);
+    carry(acc, 7);
+    carry(acc, 4);
+    carry(acc, 8);
+    carry(acc, 9);
+    carry(acc, 0);
+    for (int k = 0; k < LIMBS; k++) {
+      h[k] = (int) acc[k];
+    }
+  }
+
+  /** Moves the bits of limb i over 26 (even limbs) or 25 (odd limbs) bits to the next limb. */
+  private static void carry(final long[] acc, final int i) {
+    final int bits = (i & 1) == 0 ? 26 : 25;
+    final long carry = (acc[i] + (1L << (bits - 1))) >> bits;
+    if (i == LIMBS - 1) {
+      acc[0] += carry * 19;
+    } else {
+      acc[i + 1] += carry;
+    }
+    acc[i] -= carry << bits;
+  }
+
+  /**
+   * Flattens the precomputed table of the base point.
+   *
+   * @return the table, row by row, each point as y + x, y - x and 2 * d * x * y.
+   */
+  private static int[] createTable() {
+    final Ed25519GroupElement[][] precomputed =
+        Ed25519Group.BASE_POINT.getPrecomputedForSingle();
+    final int[] table = new int[ROWS * ROW_SIZE * POINT_SIZE];
+    for (int i = 0; i < ROWS; i++) {
+      for (int j = 0; j < ROW_SIZE; j++) {
+        final Ed25519GroupElement point = precomputed[i][j];
+        final int offset = (i * ROW_SIZE + j) * POINT_SIZE;
+        System.arraycopy(point.getX().getRaw(), 0, table, offset, LIMBS);
+        System.arraycopy(point.getY().getRaw(), 0, table, offset + LIMBS, LIMBS);
+        System.arraycopy(point.getZ().getRaw(), 0, table, offset + 2 * LIMBS, LIMBS);
+      }
+    }
+    return table;
+  }
+}
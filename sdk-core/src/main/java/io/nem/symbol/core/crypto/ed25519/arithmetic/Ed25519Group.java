@@ -45,6 +45,9 @@ public class Ed25519Group {
       Ed25519GroupElement.p2(Ed25519Field.ZERO, Ed25519Field.ONE, Ed25519Field.ONE);
   public static final Ed25519GroupElement ZERO_PRECOMPUTED =
       Ed25519GroupElement.precomputed(Ed25519Field.ONE, Ed25519Field.ONE, Ed25519Field.ZERO);
+  public static final Ed25519GroupElement ZERO_CACHED =
+      Ed25519GroupElement.cached(
+          Ed25519Field.ONE, Ed25519Field.ONE, Ed25519Field.ONE, Ed25519Field.ZERO);
 
   private static Ed25519GroupElement getBasePoint() {
     final byte[] rawEncodedGroupElement =
@@ -179,7 +179,7 @@ public class Ed25519GroupElement implements Serializable {
    * @param encoded The encode field element.
    * @return 64 bytes, each between -8 and 7
    */
-  private static byte[] toRadix16(final Ed25519EncodedFieldElement encoded) {
+  static byte[] toRadix16(final Ed25519EncodedFieldElement encoded) {
     final byte[] a = encoded.getRaw();
     final byte[] e = new byte[64];
     int i;
@@ -852,6 +852,60 @@ public class Ed25519GroupElement implements Serializable {
     return h;
   }
 
+  /**
+   * Look up |b| * A in a table of the cached multiples 1 * A to 8 * A and negates it if b is
+   * negative. No secret array indices, no secret branching. Constant time.
+   *
+   * @param table the cached multiples of A.
+   * @param b the signed radix 16 digit in [-8, 8].
+   * @return b * A in the CACHED coordinate system.
+   */
+  private static Ed25519GroupElement selectCached(final Ed25519GroupElement[] table, final int b) {
+    // Is b negative?
+    final int bNegative = ByteUtils.isNegativeConstantTime(b);
+    // |b|
+    final int bAbs = b - (((-bNegative) & b) << 1);
+
+    Ed25519GroupElement tElement = Ed25519Group.ZERO_CACHED;
+    for (int j = 0; j < table.length; j++) {
+      tElement = tElement.nullSafeCmov(table[j], ByteUtils.isEqualConstantTime(bAbs, j + 1));
+    }
+    // -|b| * A
+    // noinspection SuspiciousNameCombination
+    final Ed25519GroupElement tMinus =
+        cached(tElement.y, tElement.x, tElement.z, tElement.t.negate());
+    return tElement.nullSafeCmov(tMinus, bNegative);
+  }
+
+  /**
+   * h = a * A where a = a[0]+256*a[1]+...+256^31 a[31] and A is this point in P3 coordinate
+   * system. Unlike {@link #scalarMultiply(Ed25519EncodedFieldElement)}, the 256 elements lookup
+   * table is not precomputed. Only the multiples 1 * A to 8 * A are calculated, which is much
+   * cheaper when the point is multiplied once, like the public key of an ECDH key agreement.
+   * Constant time.
+   *
+   * @param a The encoded field element.
+   * @return The resulting group element.
+   */
+  public Ed25519GroupElement scalarMultiplyVariableBase(final Ed25519EncodedFieldElement a) {
+    if (this.coordinateSystem != CoordinateSystem.P3) {
+      throw new UnsupportedOperationException();
+    }
+    final Ed25519GroupElement[] table = new Ed25519GroupElement[8];
+    table[0] = this.toCached();
+    for (int j = 1; j < table.length; j++) {
+      table[j] = this.add(table[j - 1]).toP3().toCached();
+    }
+
+    final byte[] e = toRadix16(a);
+    Ed25519GroupElement h = Ed25519Group.ZERO_P3;
+    for (int i = 63; i >= 0; i--) {
+      h = h.dbl().toP2().dbl().toP2().dbl().toP2().dbl().toP3();
+      h = h.add(selectCached(table, e[i])).toP3();
+    }
+    return h;
+  }
+
   /**
    * r = b * B - a * A where a and b are encoded field elements and B is this point. A must have
    * been previously precomputed for double scalar multiplication.
@@ -18,13 +18,22 @@ package io.nem.symbol.core.math;
 import io.nem.symbol.core.utils.FormatUtils;
 import java.text.DecimalFormat;
 import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.DoubleFunction;
-import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import org.apache.commons.lang3.Validate;
 import org.apache.commons.math3.stat.descriptive.rank.Median;
 
-/** Represents a linear algebra vector. */
+/**
+ * Represents a linear algebra vector. The element-wise operations have three flavors: one creating
+ * a new vector, one writing into a destination vector (which may be this vector) and one updating
+ * this vector in place. They all run plain loops over the raw arrays so the JIT can vectorize them.
+ */
 public class ColumnVector {
 
+  /** The number of elements summed by each task of the parallel reductions. */
+  private static final int PARALLEL_BLOCK_SIZE = 1 << 14;
+
   private final int size;
   private final double[] vector;
   private final DenseMatrix matrix;
@@ -59,13 +68,6 @@ public class ColumnVector {
     this.matrix = new DenseMatrix(this.size, 1, this.vector);
   }
 
-  private ColumnVector(final Matrix matrix) {
-    // since this is only being called internally, matrix should be a DenseMatrix
-    this.matrix = (DenseMatrix) matrix;
-    this.vector = this.matrix.getRaw();
-    this.size = this.vector.length;
-  }
-
   // region matrix delegation
 
   // region size / {get|set|increment}At
@@ -118,7 +120,32 @@ public class ColumnVector {
    * This method has the side effect of modifying the implicit context object, so be careful.
    */
   public void normalize() {
-    this.matrix.normalizeColumns();
+    final double sum = this.absSum();
+    if (0 == sum) {
+      return;
+    }
+
+    for (int i = 0; i < this.size; ++i) {
+      this.vector[i] = this.vector[i] / sum;
+    }
+  }
+
+  /**
+   * Normalizes this vector's elements so that the absolute value of all elements sums to the
+   * specified total, in a single pass over the elements. A zero vector is left unchanged.
+   *
+   * @param total The sum of the absolute values after the normalization.
+   */
+  public void normalizeAndScale(final double total) {
+    final double sum = this.absSum();
+    if (0 == sum) {
+      return;
+    }
+
+    final double factor = total / sum;
+    for (int i = 0; i < this.size; ++i) {
+      this.vector[i] = this.vector[i] * factor;
+    }
   }
 
   /**
@@ -127,7 +154,39 @@ public class ColumnVector {
    * @param scale The scale factor.
    */
   public void scale(final double scale) {
-    this.matrix.scale(scale);
+    for (int i = 0; i < this.size; ++i) {
+      this.vector[i] = this.vector[i] / scale;
+    }
+  }
+
+  /**
+   * Adds the specified vector multiplied by a scalar to this vector (this = this + alpha * x).
+   *
+   * @param alpha The scalar.
+   * @param x The vector.
+   */
+  public void axpy(final double alpha, final ColumnVector x) {
+    this.validateSize(x);
+    final double[] raw = x.vector;
+    for (int i = 0; i < this.size; ++i) {
+      this.vector[i] += alpha * raw[i];
+    }
+  }
+
+  /**
+   * Scales this vector by a scalar and adds the specified vector multiplied by another scalar
+   * (this = beta * this + alpha * x).
+   *
+   * @param alpha The scalar of the specified vector.
+   * @param x The vector.
+   * @param beta The scalar of this vector.
+   */
+  public void axpby(final double alpha, final ColumnVector x, final double beta) {
+    this.validateSize(x);
+    final double[] raw = x.vector;
+    for (int i = 0; i < this.size; ++i) {
+      this.vector[i] = beta * this.vector[i] + alpha * raw[i];
+    }
   }
 
   // endregion
@@ -141,7 +200,36 @@ public class ColumnVector {
    * @return The new vector.
    */
   public ColumnVector multiplyElementWise(final ColumnVector vector) {
-    return this.transform(() -> ColumnVector.this.matrix.multiplyElementWise(vector.matrix));
+    return this.multiplyElementWise(vector, new ColumnVector(this.size));
+  }
+
+  /**
+   * Multiplies this vector element-wise with another vector into a destination vector.
+   *
+   * @param vector The vector.
+   * @param destination The destination vector, which can be this vector or the other vector.
+   * @return The destination vector.
+   */
+  public ColumnVector multiplyElementWise(
+      final ColumnVector vector, final ColumnVector destination) {
+    this.validateSize(vector);
+    this.validateSize(destination);
+    final double[] raw = vector.vector;
+    final double[] result = destination.vector;
+    for (int i = 0; i < this.size; ++i) {
+      result[i] = this.vector[i] * raw[i];
+    }
+
+    return destination;
+  }
+
+  /**
+   * Multiplies this vector element-wise with another vector in place.
+   *
+   * @param vector The vector.
+   */
+  public void multiplyElementWiseInPlace(final ColumnVector vector) {
+    this.multiplyElementWise(vector, this);
   }
 
   /**
@@ -151,7 +239,41 @@ public class ColumnVector {
    * @return The new vector.
    */
   public ColumnVector addElementWise(final ColumnVector vector) {
-    return this.transform(() -> ColumnVector.this.matrix.addElementWise(vector.matrix));
+    return this.addElementWise(vector, new ColumnVector(this.size));
+  }
+
+  /**
+   * Adds the specified vector to this vector into a destination vector.
+   *
+   * @param vector The specified vector.
+   * @param destination The destination vector, which can be this vector or the other vector.
+   * @return The destination vector.
+   */
+  public ColumnVector addElementWise(final ColumnVector vector, final ColumnVector destination) {
+    this.validateSize(vector);
+    this.validateSize(destination);
+    final double[] raw = vector.vector;
+    final double[] result = destination.vector;
+    for (int i = 0; i < this.size; ++i) {
+      result[i] = this.vector[i] + raw[i];
+    }
+
+    return destination;
+  }
+
+  /**
+   * Adds the specified vector to this vector in place.
+   *
+   * @param vector The specified vector.
+   */
+  public void addElementWiseInPlace(final ColumnVector vector) {
+    this.addElementWise(vector, this);
+  }
+
+  private void validateSize(final ColumnVector vector) {
+    if (this.size != vector.size) {
+      throw new IllegalArgumentException("vector sizes must be equal");
+    }
   }
 
   // endregion
@@ -164,7 +286,27 @@ public class ColumnVector {
    * @return The sum of the absolute value of all the vector's elements.
    */
   public double absSum() {
-    return this.matrix.absSum();
+    return this.absSum(0, this.size);
+  }
+
+  /**
+   * Gets the sum of the absolute value of all the vector's elements. Blocks of elements are summed
+   * by the workers of the given pool; the result doesn't depend on the number of workers.
+   *
+   * @param pool The pool.
+   * @return The sum of the absolute value of all the vector's elements.
+   */
+  public double absSum(final ForkJoinPool pool) {
+    return this.reduce(pool, this::absSum);
+  }
+
+  private double absSum(final int start, final int end) {
+    double sum = 0;
+    for (int i = start; i < end; ++i) {
+      sum += Math.abs(this.vector[i]);
+    }
+
+    return sum;
   }
 
   /**
@@ -173,7 +315,69 @@ public class ColumnVector {
    * @return The sum of all the vectors elements.
    */
   public double sum() {
-    return this.matrix.sum();
+    return this.sum(0, this.size);
+  }
+
+  /**
+   * Gets the sum of all the vector's elements. Blocks of elements are summed by the workers of the
+   * given pool; the result doesn't depend on the number of workers.
+   *
+   * @param pool The pool.
+   * @return The sum of all the vectors elements.
+   */
+  public double sum(final ForkJoinPool pool) {
+    return this.reduce(pool, this::sum);
+  }
+
+  private double sum(final int start, final int end) {
+    double sum = 0;
+    for (int i = start; i < end; ++i) {
+      sum += this.vector[i];
+    }
+
+    return sum;
+  }
+
+  private double reduce(final ForkJoinPool pool, final RangeReduction reduction) {
+    Validate.notNull(pool, "pool must not be null");
+    final int blockCount = (this.size + PARALLEL_BLOCK_SIZE - 1) / PARALLEL_BLOCK_SIZE;
+    if (blockCount < 2) {
+      return reduction.reduce(0, this.size);
+    }
+
+    final double[] partialSums = new double[blockCount];
+    pool.submit(
+            () ->
+                IntStream.range(0, blockCount)
+                    .parallel()
+                    .forEach(
+                        b ->
+                            partialSums[b] =
+                                reduction.reduce(
+                                    b * PARALLEL_BLOCK_SIZE,
+                                    Math.min(this.size, (b + 1) * PARALLEL_BLOCK_SIZE))))
+        .join();
+
+    double sum = 0;
+    for (final double partialSum : partialSums) {
+      sum += partialSum;
+    }
+
+    return sum;
+  }
+
+  /** Reduces a range of elements to a partial sum. */
+  @FunctionalInterface
+  private interface RangeReduction {
+
+    /**
+     * Reduces the elements of a range.
+     *
+     * @param start The first index of the range.
+     * @param end The index after the range.
+     * @return The partial sum.
+     */
+    double reduce(final int start, final int end);
   }
 
   // endregion
@@ -187,7 +391,25 @@ public class ColumnVector {
    * @return The new vector.
    */
   public ColumnVector roundTo(final int numPlaces) {
-    return this.transform(() -> ColumnVector.this.matrix.roundTo(numPlaces));
+    return this.roundTo(numPlaces, new ColumnVector(this.size));
+  }
+
+  /**
+   * Rounds this vector to the specified number of decimal places into a destination vector.
+   *
+   * @param numPlaces The number of decimal places.
+   * @param destination The destination vector, which can be this vector.
+   * @return The destination vector.
+   */
+  public ColumnVector roundTo(final int numPlaces, final ColumnVector destination) {
+    this.validateSize(destination);
+    final double multipler = Math.pow(10, numPlaces);
+    final double[] result = destination.vector;
+    for (int i = 0; i < this.size; ++i) {
+      result[i] = Math.round(this.vector[i] * multipler) / multipler;
+    }
+
+    return destination;
   }
 
   /**
@@ -197,7 +419,33 @@ public class ColumnVector {
    * @return The new vector.
    */
   public ColumnVector add(final double scalar) {
-    return this.transform(() -> ColumnVector.this.matrix.add(scalar));
+    return this.add(scalar, new ColumnVector(this.size));
+  }
+
+  /**
+   * Adds a scalar to each element of this vector into a destination vector.
+   *
+   * @param scalar The scalar.
+   * @param destination The destination vector, which can be this vector.
+   * @return The destination vector.
+   */
+  public ColumnVector add(final double scalar, final ColumnVector destination) {
+    this.validateSize(destination);
+    final double[] result = destination.vector;
+    for (int i = 0; i < this.size; ++i) {
+      result[i] = this.vector[i] + scalar;
+    }
+
+    return destination;
+  }
+
+  /**
+   * Adds a scalar to each element of this vector in place.
+   *
+   * @param scalar The scalar.
+   */
+  public void addInPlace(final double scalar) {
+    this.add(scalar, this);
   }
 
   /**
@@ -207,7 +455,33 @@ public class ColumnVector {
    * @return The new vector.
    */
   public ColumnVector multiply(final double scalar) {
-    return this.transform(() -> ColumnVector.this.matrix.multiply(scalar));
+    return this.multiply(scalar, new ColumnVector(this.size));
+  }
+
+  /**
+   * Multiplies this vector by a scalar into a destination vector.
+   *
+   * @param scalar The scalar.
+   * @param destination The destination vector, which can be this vector.
+   * @return The destination vector.
+   */
+  public ColumnVector multiply(final double scalar, final ColumnVector destination) {
+    this.validateSize(destination);
+    final double[] result = destination.vector;
+    for (int i = 0; i < this.size; ++i) {
+      result[i] = this.vector[i] * scalar;
+    }
+
+    return destination;
+  }
+
+  /**
+   * Multiplies this vector by a scalar in place.
+   *
+   * @param scalar The scalar.
+   */
+  public void multiplyInPlace(final double scalar) {
+    this.multiply(scalar, this);
   }
 
   /**
@@ -216,7 +490,28 @@ public class ColumnVector {
    * @return The new vector.
    */
   public ColumnVector sqrt() {
-    return this.transform(ColumnVector.this.matrix::sqrt);
+    return this.sqrt(new ColumnVector(this.size));
+  }
+
+  /**
+   * Takes the square root of each element in this vector into a destination vector.
+   *
+   * @param destination The destination vector, which can be this vector.
+   * @return The destination vector.
+   */
+  public ColumnVector sqrt(final ColumnVector destination) {
+    this.validateSize(destination);
+    final double[] result = destination.vector;
+    for (int i = 0; i < this.size; ++i) {
+      result[i] = Math.sqrt(this.vector[i]);
+    }
+
+    return destination;
+  }
+
+  /** Takes the square root of each element in this vector in place. */
+  public void sqrtInPlace() {
+    this.sqrt(this);
   }
 
   /**
@@ -225,12 +520,28 @@ public class ColumnVector {
    * @return The new vector.
    */
   public ColumnVector abs() {
-    return this.transform(ColumnVector.this.matrix::abs);
+    return this.abs(new ColumnVector(this.size));
+  }
+
+  /**
+   * Takes the absolute value of each element in this vector into a destination vector.
+   *
+   * @param destination The destination vector, which can be this vector.
+   * @return The destination vector.
+   */
+  public ColumnVector abs(final ColumnVector destination) {
+    this.validateSize(destination);
+    final double[] result = destination.vector;
+    for (int i = 0; i < this.size; ++i) {
+      result[i] = Math.abs(this.vector[i]);
+    }
+
+    return destination;
   }
 
-  private ColumnVector transform(final Supplier<Matrix> supplier) {
-    final Matrix delegate = supplier.get();
-    return new ColumnVector(delegate);
+  /** Takes the absolute value of each element in this vector in place. */
+  public void absInPlace() {
+    this.abs(this);
   }
 
   // endregion
@@ -319,6 +630,71 @@ public class ColumnVector {
     return median.evaluate(this.vector);
   }
 
+  /**
+   * Gets the median value of all elements in this vector, selecting it in a caller provided
+   * buffer instead of a copy of the vector. The result is the same as {@link #median()} for
+   * vectors without NaN elements.
+   *
+   * @param buffer The buffer, at least as large as this vector. Its contents are overwritten.
+   * @return The median value of all elements in this vector.
+   */
+  public double median(final double[] buffer) {
+    Validate.isTrue(buffer.length >= this.size, "buffer must be at least as large as the vector");
+    System.arraycopy(this.vector, 0, buffer, 0, this.size);
+    final int middle = this.size / 2;
+    final double upper = select(buffer, this.size, middle);
+    if (1 == this.size % 2) {
+      return upper;
+    }
+
+    // after the selection, the elements before the middle are not greater than the upper median
+    double lower = buffer[0];
+    for (int i = 1; i < middle; ++i) {
+      lower = Math.max(lower, buffer[i]);
+    }
+
+    return lower + 0.5 * (upper - lower);
+  }
+
+  /**
+   * Moves the k-th smallest element of the first size elements of the buffer to index k, with
+   * only smaller or equal elements before it (quickselect).
+   */
+  private static double select(final double[] buffer, final int size, final int k) {
+    int left = 0;
+    int right = size - 1;
+    while (left < right) {
+      final double pivot = buffer[(left + right) >>> 1];
+      int i = left;
+      int j = right;
+      while (i <= j) {
+        while (buffer[i] < pivot) {
+          ++i;
+        }
+
+        while (buffer[j] > pivot) {
+          --j;
+        }
+
+        if (i <= j) {
+          final double swap = buffer[i];
+          buffer[i++] = buffer[j];
+          buffer[j--] = swap;
+        }
+      }
+
+      if (k <= j) {
+        right = j;
+      } else if (k >= i) {
+        left = i;
+      } else {
+        break;
+      }
+    }
+
+    return buffer[k];
+  }
+
   // endregion
 
   // region magnitude / distance / correlation
@@ -329,8 +705,12 @@ public class ColumnVector {
    * @return The magnitude of this vector.
    */
   public double getMagnitude() {
-    final ColumnVector nullVector = new ColumnVector(this.size);
-    return this.l2Distance(nullVector);
+    double sum = 0;
+    for (int i = 0; i < this.size; ++i) {
+      sum += this.vector[i] * this.vector[i];
+    }
+
+    return Math.sqrt(sum);
   }
 
   /**
@@ -354,6 +734,36 @@ public class ColumnVector {
     return Math.sqrt(distance);
   }
 
+  /**
+   * Calculates the Euclidean distance (L2-norm) between the specified vector and this vector.
+   * Blocks of elements are summed by the workers of the given pool; the result doesn't depend on
+   * the number of workers.
+   *
+   * @param vector The specified vector.
+   * @param pool The pool.
+   * @return The Euclidean distance.
+   */
+  public double l2Distance(final ColumnVector vector, final ForkJoinPool pool) {
+    if (this.size != vector.size) {
+      throw new IllegalArgumentException(
+          "cannot determine the distance between vectors with different sizes");
+    }
+
+    final double[] raw = vector.vector;
+    return Math.sqrt(
+        this.reduce(
+            pool,
+            (start, end) -> {
+              double sum = 0;
+              for (int i = start; i < end; ++i) {
+                final double difference = this.vector[i] - raw[i];
+                sum += difference * difference;
+              }
+
+              return sum;
+            }));
+  }
+
   private double distance(final ColumnVector vector, final DoubleFunction<Double> aggregate) {
     if (this.size != vector.size) {
       throw new IllegalArgumentException(
@@ -0,0 +1,862 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.math;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * A compressed bitmap with the same API as {@link SparseBitmap}, split in chunks of 2^16 bits
+ * (Roaring style). Each chunk picks its own container: a sorted array of the set bits while it
+ * holds at most 4096 of them and a plain 65536 bit bitmap otherwise. This keeps random and dense
+ * id sets, for which run length encoding doesn't compress, small and fast to intersect.
+ */
+public class ContainerBitmap implements Iterable<Integer> {
+
+  /** The maximum number of values held by an array container. */
+  private static final int MAX_ARRAY_SIZE = 4096;
+
+  /** The number of 64 bit words of a bitmap container. */
+  private static final int WORD_COUNT = 1 << 10;
+
+  private static final int INITIAL_CAPACITY = 4;
+
+  private char[] keys;
+  private Container[] containers;
+  private int size;
+
+  // Private constructor
+  private ContainerBitmap(final int capacity) {
+    this.keys = new char[Math.max(capacity, INITIAL_CAPACITY)];
+    this.containers = new Container[this.keys.length];
+  }
+
+  // region factories
+
+  /**
+   * Creates a new <code>ContainerBitmap</code> that is empty.
+   *
+   * @return A new <code>ContainerBitmap</code> that is empty (no bits set).
+   */
+  public static ContainerBitmap createEmpty() {
+    return new ContainerBitmap(INITIAL_CAPACITY);
+  }
+
+  /**
+   * Creates a new <code>ContainerBitmap</code> from data that are already sorted in strictly
+   * ascending order (duplicate values are okay).
+   *
+   * @param bitsToSet The bits to set.
+   * @return A new <code>ContainerBitmap</code> with the given bits set.
+   */
+  public static ContainerBitmap createFromSortedData(final int... bitsToSet) {
+    final ContainerBitmap bitmap = createEmpty();
+    for (final int bit : bitsToSet) {
+      bitmap.setWithoutAscendingCheck(bit);
+    }
+
+    return bitmap;
+  }
+
+  /**
+   * Creates a new <code>ContainerBitmap</code> from unsorted data.
+   *
+   * @param bitsToSet The bits to set.
+   * @return A new <code>ContainerBitmap</code> with the given bits set.
+   */
+  public static ContainerBitmap createFromUnsortedData(final int... bitsToSet) {
+    Arrays.sort(bitsToSet);
+    return createFromSortedData(bitsToSet);
+  }
+
+  // endregion
+
+  // region get / set
+
+  /**
+   * Creates a new ContainerBitmap that is the logical <code>or</code> of all the given bitmaps.
+   * The chunks sharing a key are or-ed together at once instead of pairwise.
+   *
+   * @param bitmaps Bitmaps to compute the logical <code>or</code> for
+   * @return ContainerBitmap that has the values set according to the <code>or</code> of the given
+   *     bitmaps.
+   */
+  public static ContainerBitmap batchOr(final ContainerBitmap... bitmaps) {
+    if (bitmaps.length < 1) {
+      return ContainerBitmap.createFromUnsortedData();
+    }
+
+    if (bitmaps.length < 2) {
+      return bitmaps[0];
+    }
+
+    int total = 0;
+    for (final ContainerBitmap bitmap : bitmaps) {
+      total += bitmap.size;
+    }
+
+    // each entry is the key followed by the bitmap index, so sorting groups the chunks by key
+    final long[] entries = new long[total];
+    int index = 0;
+    for (int b = 0; b < bitmaps.length; ++b) {
+      for (int i = 0; i < bitmaps[b].size; ++i) {
+        entries[index++] = ((long) bitmaps[b].keys[i] << 32) | b;
+      }
+    }
+
+    Arrays.sort(entries);
+    final ContainerBitmap result = new ContainerBitmap(total);
+    int start = 0;
+    while (start < total) {
+      final char key = (char) (entries[start] >>> 32);
+      int end = start + 1;
+      while (end < total && (char) (entries[end] >>> 32) == key) {
+        ++end;
+      }
+
+      if (end - start == 1) {
+        result.append(key, bitmaps[(int) entries[start]].getContainer(key).copy());
+      } else {
+        final long[] words = new long[WORD_COUNT];
+        for (int i = start; i < end; ++i) {
+          bitmaps[(int) entries[i]].getContainer(key).orInto(words);
+        }
+
+        result.append(key, fromWords(words));
+      }
+
+      start = end;
+    }
+
+    return result;
+  }
+
+  /**
+   * Gets the value of the bit at the given index.
+   *
+   * @param bitToGet The index of the bit to get.
+   * @return true if the bit is set, false if the bit is not set at the given <code>bitToGet
+   *     </code> index.
+   */
+  public boolean get(final int bitToGet) {
+    if (bitToGet < 0) {
+      return false;
+    }
+
+    final Container container = this.getContainer(highBits(bitToGet));
+    return null != container && container.contains(lowBits(bitToGet));
+  }
+
+  /**
+   * Sets the bit at the given index. Bits can be set in any order, setting them in ascending order
+   * is the fastest.
+   *
+   * @param bitToSet index of the bit to set
+   */
+  public void setWithoutAscendingCheck(final int bitToSet) {
+    if (bitToSet < 0) {
+      throw new IllegalArgumentException("bits must not be negative");
+    }
+
+    final char key = highBits(bitToSet);
+    final int i =
+        this.size > 0 && this.keys[this.size - 1] == key
+            ? this.size - 1
+            : Arrays.binarySearch(this.keys, 0, this.size, key);
+    if (i >= 0) {
+      this.containers[i] = this.containers[i].add(lowBits(bitToSet));
+      return;
+    }
+
+    this.insert(-(i + 1), key, new ArrayContainer().add(lowBits(bitToSet)));
+  }
+
+  // endregion
+
+  // region clear
+
+  /**
+   * Set the bit at the given index. Throws an exception if bits are not set in strictly ascending
+   * order. For performance reasons, bits must be set in ascending order.
+   *
+   * @param bitToSet The index of the bit to set.
+   */
+  public void set(final int bitToSet) {
+    // Check that we are setting bits in ascending order (equality with the last
+    // value is OK).
+    if (this.size > 0 && bitToSet < this.getHighestBit()) {
+      throw new IllegalArgumentException("Must set bits in strictly ascending order.");
+    }
+
+    this.setWithoutAscendingCheck(bitToSet);
+  }
+
+  // endregion
+
+  // region logical operations
+
+  /** Clears all the bits in this bitmap. */
+  public void clear() {
+    Arrays.fill(this.containers, 0, this.size, null);
+    this.size = 0;
+  }
+
+  /**
+   * Computes the logical <code>or</code> of the context bitmap (<code>this</code>) and the given
+   * bitmap.
+   *
+   * @param rhs Bitmap to compute the logical <code>or</code> with.
+   * @return Logical <code>or</code> of <code>this</code> bitmap (context object) and the given
+   *     bitmap.
+   */
+  public ContainerBitmap or(final ContainerBitmap rhs) {
+    final ContainerBitmap result = new ContainerBitmap(this.size + rhs.size);
+    int i = 0;
+    int j = 0;
+    while (i < this.size && j < rhs.size) {
+      if (this.keys[i] < rhs.keys[j]) {
+        result.append(this.keys[i], this.containers[i++].copy());
+      } else if (this.keys[i] > rhs.keys[j]) {
+        result.append(rhs.keys[j], rhs.containers[j++].copy());
+      } else {
+        result.append(this.keys[i], or(this.containers[i++], rhs.containers[j++]));
+      }
+    }
+
+    for (; i < this.size; ++i) {
+      result.append(this.keys[i], this.containers[i].copy());
+    }
+
+    for (; j < rhs.size; ++j) {
+      result.append(rhs.keys[j], rhs.containers[j].copy());
+    }
+
+    return result;
+  }
+
+  /**
+   * Computes the logical <code>and</code> of the context bitmap (<code>this</code>) and the given
+   * bitmap.
+   *
+   * @param rhs Bitmap to compute the logical <code>and</code> with.
+   * @return Logical <code>and</code> of <code>this</code> bitmap (context object) and the given
+   *     bitmap.
+   */
+  public ContainerBitmap and(final ContainerBitmap rhs) {
+    final ContainerBitmap result = new ContainerBitmap(Math.min(this.size, rhs.size));
+    int i = 0;
+    int j = 0;
+    while (i < this.size && j < rhs.size) {
+      if (this.keys[i] < rhs.keys[j]) {
+        ++i;
+      } else if (this.keys[i] > rhs.keys[j]) {
+        ++j;
+      } else {
+        result.append(this.keys[i], and(this.containers[i++], rhs.containers[j++]));
+      }
+    }
+
+    return result;
+  }
+
+  /**
+   * Computes the logical <code>and not</code> of the context bitmap (<code>this</code>) and the
+   * given bitmap.
+   *
+   * @param rhs Bitmap to compute the logical <code>and not</code> with.
+   * @return Logical <code>and not</code> of <code>this</code> bitmap (context object) and the given
+   *     bitmap.
+   */
+  public ContainerBitmap andNot(final ContainerBitmap rhs) {
+    final ContainerBitmap result = new ContainerBitmap(this.size);
+    int j = 0;
+    for (int i = 0; i < this.size; ++i) {
+      while (j < rhs.size && rhs.keys[j] < this.keys[i]) {
+        ++j;
+      }
+
+      if (j < rhs.size && rhs.keys[j] == this.keys[i]) {
+        result.append(this.keys[i], andNot(this.containers[i], rhs.containers[j]));
+      } else {
+        result.append(this.keys[i], this.containers[i].copy());
+      }
+    }
+
+    return result;
+  }
+
+  // endregion
+
+  // region highest bit / cardinality
+
+  /**
+   * Gets the highest bit that is set in the bitmap.
+   *
+   * @return The highest bit.
+   */
+  public int getHighestBit() {
+    return this.size > 0
+        ? toBit(this.keys[this.size - 1], this.containers[this.size - 1].last())
+        : 0;
+  }
+
+  /**
+   * Size of the intersection of <code>this</code> bitmap and the given bitmap.
+   *
+   * @param rhs given bitmap to compute the size of the intersection of
+   * @return size of the intersection of <code>this</code> bitmap and the given bitmap.
+   */
+  public int andCardinality(final ContainerBitmap rhs) {
+    int cardinality = 0;
+    int i = 0;
+    int j = 0;
+    while (i < this.size && j < rhs.size) {
+      if (this.keys[i] < rhs.keys[j]) {
+        ++i;
+      } else if (this.keys[i] > rhs.keys[j]) {
+        ++j;
+      } else {
+        cardinality += andCardinality(this.containers[i++], rhs.containers[j++]);
+      }
+    }
+
+    return cardinality;
+  }
+
+  /**
+   * The number of bits that are set.
+   *
+   * @return The number of bits that are set.
+   */
+  public int cardinality() {
+    int cardinality = 0;
+    for (int i = 0; i < this.size; ++i) {
+      cardinality += this.containers[i].cardinality;
+    }
+
+    return cardinality;
+  }
+
+  // endregion
+
+  // region list / iterator
+
+  /**
+   * Creates a binary list representation of this bitmap.
+   *
+   * @return List representation of this bitmap.
+   */
+  public List<Integer> toList() {
+    final List<Integer> list = new ArrayList<>(this.cardinality());
+    for (int i = 0; i < this.size; ++i) {
+      for (final int bit : this.containers[i].toArray(this.keys[i])) {
+        list.add(bit);
+      }
+    }
+
+    return list;
+  }
+
+  @Override
+  public Iterator<Integer> iterator() {
+    return new Iterator<Integer>() {
+      private int containerIndex;
+      private int[] bits = new int[0];
+      private int bitIndex;
+
+      @Override
+      public boolean hasNext() {
+        final ContainerBitmap bitmap = ContainerBitmap.this;
+        while (this.bitIndex == this.bits.length && this.containerIndex < bitmap.size) {
+          final int i = this.containerIndex++;
+          this.bits = bitmap.containers[i].toArray(bitmap.keys[i]);
+          this.bitIndex = 0;
+        }
+
+        return this.bitIndex < this.bits.length;
+      }
+
+      @Override
+      public Integer next() {
+        if (!this.hasNext()) {
+          throw new NoSuchElementException();
+        }
+
+        return this.bits[this.bitIndex++];
+      }
+    };
+  }
+
+  // endregion
+
+  // region hashCode / equals
+
+  @Override
+  public int hashCode() {
+    int hash = 0;
+    for (int i = 0; i < this.size; ++i) {
+      hash = 31 * hash + this.keys[i];
+      hash = 31 * hash + this.containers[i].hashCode();
+    }
+
+    return hash;
+  }
+
+  @Override
+  public boolean equals(final Object obj) {
+    if (!(obj instanceof ContainerBitmap)) {
+      return false;
+    }
+
+    final ContainerBitmap rhs = (ContainerBitmap) obj;
+    if (this.size != rhs.size) {
+      return false;
+    }
+
+    for (int i = 0; i < this.size; ++i) {
+      if (this.keys[i] != rhs.keys[i] || !this.containers[i].equals(rhs.containers[i])) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  @Override
+  public String toString() {
+    final StringBuilder builder = new StringBuilder("{");
+    for (final int bit : this) {
+      if (builder.length() > 1) {
+        builder.append(',');
+      }
+
+      builder.append(bit);
+    }
+
+    return builder.append('}').toString();
+  }
+
+  // endregion
+
+  // region chunk storage
+
+  private static char highBits(final int bit) {
+    return (char) (bit >>> 16);
+  }
+
+  private static char lowBits(final int bit) {
+    return (char) bit;
+  }
+
+  private static int toBit(final char key, final char value) {
+    return key << 16 | value;
+  }
+
+  private Container getContainer(final char key) {
+    final int i = Arrays.binarySearch(this.keys, 0, this.size, key);
+    return i < 0 ? null : this.containers[i];
+  }
+
+  private void append(final char key, final Container container) {
+    if (null != container) {
+      this.insert(this.size, key, container);
+    }
+  }
+
+  private void insert(final int index, final char key, final Container container) {
+    if (this.size == this.keys.length) {
+      this.keys = Arrays.copyOf(this.keys, 2 * this.size);
+      this.containers = Arrays.copyOf(this.containers, 2 * this.size);
+    }
+
+    System.arraycopy(this.keys, index, this.keys, index + 1, this.size - index);
+    System.arraycopy(this.containers, index, this.containers, index + 1, this.size - index);
+    this.keys[index] = key;
+    this.containers[index] = container;
+    ++this.size;
+  }
+
+  // endregion
+
+  // region containers
+
+  /**
+   * Creates the container holding the bits set in a 65536 bit bitmap.
+   *
+   * @param words The bitmap.
+   * @return The container, an array container if it is small enough, null if no bit is set.
+   */
+  private static Container fromWords(final long[] words) {
+    int cardinality = 0;
+    for (final long word : words) {
+      cardinality += Long.bitCount(word);
+    }
+
+    if (0 == cardinality) {
+      return null;
+    }
+
+    if (cardinality > MAX_ARRAY_SIZE) {
+      return new BitmapContainer(words, cardinality);
+    }
+
+    final char[] values = new char[cardinality];
+    int index = 0;
+    for (int w = 0; w < WORD_COUNT; ++w) {
+      long word = words[w];
+      while (0 != word) {
+        values[index++] = (char) (w << 6 | Long.numberOfTrailingZeros(word));
+        word &= word - 1;
+      }
+    }
+
+    return new ArrayContainer(values, cardinality);
+  }
+
+  private static Container or(final Container lhs, final Container rhs) {
+    if (lhs instanceof ArrayContainer && rhs instanceof ArrayContainer) {
+      final ArrayContainer left = (ArrayContainer) lhs;
+      final ArrayContainer right = (ArrayContainer) rhs;
+      if (left.cardinality + right.cardinality <= MAX_ARRAY_SIZE) {
+        return left.merge(right);
+      }
+    }
+
+    final long[] words = new long[WORD_COUNT];
+    lhs.orInto(words);
+    rhs.orInto(words);
+    return fromWords(words);
+  }
+
+  private static Container and(final Container lhs, final Container rhs) {
+    if (lhs instanceof BitmapContainer && rhs instanceof BitmapContainer) {
+      final long[] words = ((BitmapContainer) lhs).words.clone();
+      final long[] rhsWords = ((BitmapContainer) rhs).words;
+      for (int w = 0; w < WORD_COUNT; ++w) {
+        words[w] &= rhsWords[w];
+      }
+
+      return fromWords(words);
+    }
+
+    final ArrayContainer array = (ArrayContainer) (lhs instanceof ArrayContainer ? lhs : rhs);
+    final Container other = array == lhs ? rhs : lhs;
+    return array.filter(other, true);
+  }
+
+  private static Container andNot(final Container lhs, final Container rhs) {
+    if (lhs instanceof ArrayContainer) {
+      return ((ArrayContainer) lhs).filter(rhs, false);
+    }
+
+    final long[] words = ((BitmapContainer) lhs).words.clone();
+    rhs.clearFrom(words);
+    return fromWords(words);
+  }
+
+  private static int andCardinality(final Container lhs, final Container rhs) {
+    if (lhs instanceof BitmapContainer && rhs instanceof BitmapContainer) {
+      final long[] lhsWords = ((BitmapContainer) lhs).words;
+      final long[] rhsWords = ((BitmapContainer) rhs).words;
+      int cardinality = 0;
+      for (int w = 0; w < WORD_COUNT; ++w) {
+        cardinality += Long.bitCount(lhsWords[w] & rhsWords[w]);
+      }
+
+      return cardinality;
+    }
+
+    final ArrayContainer array = (ArrayContainer) (lhs instanceof ArrayContainer ? lhs : rhs);
+    final Container other = array == lhs ? rhs : lhs;
+    return array.countContained(other);
+  }
+
+  /** The set low 16 bits of one chunk. */
+  private abstract static class Container {
+
+    protected int cardinality;
+
+    abstract boolean contains(final char value);
+
+    /**
+     * Sets a value.
+     *
+     * @param value The value.
+     * @return The container holding the value, this one or a new one if it had to be converted.
+     */
+    abstract Container add(final char value);
+
+    abstract char last();
+
+    abstract void orInto(final long[] words);
+
+    abstract void clearFrom(final long[] words);
+
+    abstract int[] toArray(final char key);
+
+    abstract Container copy();
+  }
+
+  /** A container holding up to {@link #MAX_ARRAY_SIZE} sorted values. */
+  private static final class ArrayContainer extends Container {
+
+    private char[] values;
+
+    private ArrayContainer() {
+      this.values = new char[INITIAL_CAPACITY];
+    }
+
+    private ArrayContainer(final char[] values, final int cardinality) {
+      this.values = values;
+      this.cardinality = cardinality;
+    }
+
+    @Override
+    boolean contains(final char value) {
+      return Arrays.binarySearch(this.values, 0, this.cardinality, value) >= 0;
+    }
+
+    @Override
+    Container add(final char value) {
+      // appending is the common case since bits are mostly set in ascending order
+      final int i =
+          0 == this.cardinality || this.values[this.cardinality - 1] < value
+              ? -(this.cardinality + 1)
+              : Arrays.binarySearch(this.values, 0, this.cardinality, value);
+      if (i >= 0) {
+        return this;
+      }
+
+      if (this.cardinality == MAX_ARRAY_SIZE) {
+        final long[] words = new long[WORD_COUNT];
+        this.orInto(words);
+        return new BitmapContainer(words, this.cardinality).add(value);
+      }
+
+      if (this.cardinality == this.values.length) {
+        this.values = Arrays.copyOf(this.values, Math.min(2 * this.cardinality, MAX_ARRAY_SIZE));
+      }
+
+      final int index = -(i + 1);
+      System.arraycopy(this.values, index, this.values, index + 1, this.cardinality - index);
+      this.values[index] = value;
+      ++this.cardinality;
+      return this;
+    }
+
+    @Override
+    char last() {
+      return this.values[this.cardinality - 1];
+    }
+
+    @Override
+    void orInto(final long[] words) {
+      for (int i = 0; i < this.cardinality; ++i) {
+        words[this.values[i] >>> 6] |= 1L << this.values[i];
+      }
+    }
+
+    @Override
+    void clearFrom(final long[] words) {
+      for (int i = 0; i < this.cardinality; ++i) {
+        words[this.values[i] >>> 6] &= ~(1L << this.values[i]);
+      }
+    }
+
+    @Override
+    int[] toArray(final char key) {
+      final int[] bits = new int[this.cardinality];
+      for (int i = 0; i < this.cardinality; ++i) {
+        bits[i] = toBit(key, this.values[i]);
+      }
+
+      return bits;
+    }
+
+    @Override
+    Container copy() {
+      return new ArrayContainer(Arrays.copyOf(this.values, this.cardinality), this.cardinality);
+    }
+
+    private ArrayContainer merge(final ArrayContainer rhs) {
+      final char[] merged = new char[this.cardinality + rhs.cardinality];
+      int i = 0;
+      int j = 0;
+      int count = 0;
+      while (i < this.cardinality && j < rhs.cardinality) {
+        if (this.values[i] < rhs.values[j]) {
+          merged[count++] = this.values[i++];
+        } else if (this.values[i] > rhs.values[j]) {
+          merged[count++] = rhs.values[j++];
+        } else {
+          merged[count++] = this.values[i++];
+          ++j;
+        }
+      }
+
+      while (i < this.cardinality) {
+        merged[count++] = this.values[i++];
+      }
+
+      while (j < rhs.cardinality) {
+        merged[count++] = rhs.values[j++];
+      }
+
+      return new ArrayContainer(merged, count);
+    }
+
+    private ArrayContainer filter(final Container other, final boolean keepContained) {
+      final char[] filtered = new char[this.cardinality];
+      int count = 0;
+      for (int i = 0; i < this.cardinality; ++i) {
+        if (other.contains(this.values[i]) == keepContained) {
+          filtered[count++] = this.values[i];
+        }
+      }
+
+      return 0 == count ? null : new ArrayContainer(filtered, count);
+    }
+
+    private int countContained(final Container other) {
+      int count = 0;
+      for (int i = 0; i < this.cardinality; ++i) {
+        if (other.contains(this.values[i])) {
+          ++count;
+        }
+      }
+
+      return count;
+    }
+
+    @Override
+    public int hashCode() {
+      int hash = 1;
+      for (int i = 0; i < this.cardinality; ++i) {
+        hash = 31 * hash + this.values[i];
+      }
+
+      return hash;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      if (!(obj instanceof ArrayContainer)) {
+        return false;
+      }
+
+      final ArrayContainer rhs = (ArrayContainer) obj;
+      if (this.cardinality != rhs.cardinality) {
+        return false;
+      }
+
+      for (int i = 0; i < this.cardinality; ++i) {
+        if (this.values[i] != rhs.values[i]) {
+          return false;
+        }
+      }
+
+      return true;
+    }
+  }
+
+  /** A container holding more than {@link #MAX_ARRAY_SIZE} values in a plain bitmap. */
+  private static final class BitmapContainer extends Container {
+
+    private final long[] words;
+
+    private BitmapContainer(final long[] words, final int cardinality) {
+      this.words = words;
+      this.cardinality = cardinality;
+    }
+
+    @Override
+    boolean contains(final char value) {
+      return 0 != (this.words[value >>> 6] & (1L << value));
+    }
+
+    @Override
+    Container add(final char value) {
+      final long word = this.words[value >>> 6];
+      final long updated = word | (1L << value);
+      if (updated != word) {
+        this.words[value >>> 6] = updated;
+        ++this.cardinality;
+      }
+
+      return this;
+    }
+
+    @Override
+    char last() {
+      int w = WORD_COUNT - 1;
+      while (0 == this.words[w]) {
+        --w;
+      }
+
+      return (char) (w << 6 | 63 - Long.numberOfLeadingZeros(this.words[w]));
+    }
+
+    @Override
+    void orInto(final long[] words) {
+      for (int w = 0; w < WORD_COUNT; ++w) {
+        words[w] |= this.words[w];
+      }
+    }
+
+    @Override
+    void clearFrom(final long[] words) {
+      for (int w = 0; w < WORD_COUNT; ++w) {
+        words[w] &= ~this.words[w];
+      }
+    }
+
+    @Override
+    int[] toArray(final char key) {
+      final int[] bits = new int[this.cardinality];
+      int index = 0;
+      for (int w = 0; w < WORD_COUNT; ++w) {
+        long word = this.words[w];
+        while (0 != word) {
+          bits[index++] = toBit(key, (char) (w << 6 | Long.numberOfTrailingZeros(word)));
+          word &= word - 1;
+        }
+      }
+
+      return bits;
+    }
+
+    @Override
+    Container copy() {
+      return new BitmapContainer(this.words.clone(), this.cardinality);
+    }
+
+    @Override
+    public int hashCode() {
+      return Arrays.hashCode(this.words);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      return obj instanceof BitmapContainer
+          && Arrays.equals(this.words, ((BitmapContainer) obj).words);
+    }
+  }
+
+  // endregion
+}
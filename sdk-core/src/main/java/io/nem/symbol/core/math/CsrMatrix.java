@@ -0,0 +1,323 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.math;
+
+import io.nem.symbol.core.utils.FormatUtils;
+import java.text.DecimalFormat;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Represents an immutable sparse matrix in compressed sparse row (CSR) layout. The non zero values
+ * of all the rows are stored back to back in one array, with their columns in ascending order in a
+ * second array and the start of every row in a third one. Created by {@link SparseMatrix#freeze()}.
+ *
+ * <p>Functions creating a new matrix return a mutable {@link SparseMatrix}; functions that would
+ * modify this matrix throw an {@link UnsupportedOperationException}.
+ */
+public final class CsrMatrix extends Matrix {
+
+  /** The number of multiply tasks per pool worker, so rows of very different lengths balance. */
+  private static final int MULTIPLY_TASKS_PER_WORKER = 4;
+
+  private final int numRows;
+  private final int numCols;
+  private final int[] rowOffsets;
+  private final int[] columns;
+  private final double[] values;
+
+  /**
+   * Creates a new matrix around its raw arrays.
+   *
+   * @param numRows The number of rows.
+   * @param numCols The number of columns.
+   * @param rowOffsets The offset of the first entry of each row, followed by the number of entries.
+   * @param columns The columns of the entries, ascending within each row.
+   * @param values The values of the entries, none of them zero.
+   */
+  CsrMatrix(
+      final int numRows,
+      final int numCols,
+      final int[] rowOffsets,
+      final int[] columns,
+      final double[] values) {
+    super(numRows, numCols);
+    this.numRows = numRows;
+    this.numCols = numCols;
+    this.rowOffsets = rowOffsets;
+    this.columns = columns;
+    this.values = values;
+  }
+
+  // region Matrix abstract functions
+
+  @Override
+  protected Matrix create(final int numRows, final int numCols) {
+    final int capacity = 0 == this.numRows ? 1 : this.getNumEntries() / this.numRows;
+    return new SparseMatrix(numRows, numCols, Math.max(1, capacity));
+  }
+
+  @Override
+  protected double getAtUnchecked(final int row, final int col) {
+    final int i =
+        Arrays.binarySearch(this.columns, this.rowOffsets[row], this.rowOffsets[row + 1], col);
+    return i < 0 ? 0.0 : this.values[i];
+  }
+
+  @Override
+  protected void setAtUnchecked(final int row, final int col, final double val) {
+    throw new UnsupportedOperationException("a frozen matrix cannot be modified");
+  }
+
+  @Override
+  protected void forEach(final ElementVisitorFunction func) {
+    for (int r = 0; r < this.numRows; ++r) {
+      for (int i = this.rowOffsets[r]; i < this.rowOffsets[r + 1]; ++i) {
+        func.visit(
+            r,
+            this.columns[i],
+            this.values[i],
+            v -> {
+              throw new UnsupportedOperationException("a frozen matrix cannot be modified");
+            });
+      }
+    }
+  }
+
+  @Override
+  public void forEach(final ReadOnlyElementVisitorFunction func) {
+    for (int r = 0; r < this.numRows; ++r) {
+      for (int i = this.rowOffsets[r]; i < this.rowOffsets[r + 1]; ++i) {
+        func.visit(r, this.columns[i], this.values[i]);
+      }
+    }
+  }
+
+  @Override
+  public MatrixNonZeroElementRowIterator getNonZeroElementRowIterator(final int row) {
+    final int end = this.rowOffsets[row + 1];
+    return new MatrixNonZeroElementRowIterator() {
+      private int index = CsrMatrix.this.rowOffsets[row];
+
+      @Override
+      public boolean hasNext() {
+        return this.index < end;
+      }
+
+      @Override
+      public MatrixElement next() {
+        if (!this.hasNext()) {
+          throw new IndexOutOfBoundsException("index out of range");
+        }
+
+        final int i = this.index++;
+        return new MatrixElement(row, CsrMatrix.this.columns[i], CsrMatrix.this.values[i]);
+      }
+    };
+  }
+
+  // endregion
+
+  /**
+   * Gets the number of non zero columns of a row.
+   *
+   * @param row The row.
+   * @return The number of non zero columns.
+   */
+  public int getNonZeroColumnCount(final int row) {
+    return this.rowOffsets[row + 1] - this.rowOffsets[row];
+  }
+
+  /**
+   * Returns the number of non zero entries in this matrix.
+   *
+   * @return The number of entries.
+   */
+  public int getNumEntries() {
+    return this.rowOffsets[this.numRows];
+  }
+
+  // region multiply
+
+  @Override
+  public ColumnVector multiply(final ColumnVector vector) {
+    this.validateMultiplySize(vector);
+    final double[] rawResult = new double[this.numRows];
+    this.multiplyRows(0, this.numRows, vector.getRaw(), rawResult);
+    return new ColumnVector(rawResult);
+  }
+
+  /**
+   * Multiplies this matrix by a vector. The rows are split in blocks holding about the same number
+   * of entries which are processed by the workers of the given pool.
+   *
+   * @param vector The vector.
+   * @param pool The pool the blocks are processed on.
+   * @return The resulting vector.
+   */
+  public ColumnVector multiply(final ColumnVector vector, final ForkJoinPool pool) {
+    Validate.notNull(pool, "pool must not be null");
+    this.validateMultiplySize(vector);
+    final double[] rawVector = vector.getRaw();
+    final double[] rawResult = new double[this.numRows];
+    final int[] blocks = splitRows(this.rowOffsets, this.numRows, pool, MULTIPLY_TASKS_PER_WORKER);
+    pool.submit(
+            () ->
+                IntStream.range(0, blocks.length - 1)
+                    .parallel()
+                    .forEach(
+                        b -> this.multiplyRows(blocks[b], blocks[b + 1], rawVector, rawResult)))
+        .join();
+    return new ColumnVector(rawResult);
+  }
+
+  private void validateMultiplySize(final ColumnVector vector) {
+    if (this.numCols != vector.size()) {
+      throw new IllegalArgumentException("vector size and matrix column count must be equal");
+    }
+  }
+
+  private void multiplyRows(
+      final int startRow, final int endRow, final double[] rawVector, final double[] rawResult) {
+    for (int r = startRow; r < endRow; ++r) {
+      double sum = 0.0;
+      for (int i = this.rowOffsets[r]; i < this.rowOffsets[r + 1]; ++i) {
+        sum += this.values[i] * rawVector[this.columns[i]];
+      }
+
+      rawResult[r] = sum;
+    }
+  }
+
+  // endregion
+
+  // region transpose
+
+  /**
+   * Transposes this matrix into a new frozen matrix. The column counts are accumulated first, then
+   * the columns are split in one range per worker of the given pool, holding about the same number
+   * of entries. Each worker scatters the entries of its range, so every task writes to its own
+   * slice of the result and the rows of the result stay sorted.
+   *
+   * @param pool The pool the ranges are processed on.
+   * @return The transposed matrix.
+   */
+  public CsrMatrix transpose(final ForkJoinPool pool) {
+    Validate.notNull(pool, "pool must not be null");
+    final int numEntries = this.getNumEntries();
+    final int[] transposedOffsets = new int[this.numCols + 1];
+    for (int i = 0; i < numEntries; ++i) {
+      ++transposedOffsets[this.columns[i] + 1];
+    }
+
+    for (int c = 0; c < this.numCols; ++c) {
+      transposedOffsets[c + 1] += transposedOffsets[c];
+    }
+
+    final int[] transposedColumns = new int[numEntries];
+    final double[] transposedValues = new double[numEntries];
+    final int[] ranges = splitRows(transposedOffsets, this.numCols, pool, 1);
+    pool.submit(
+            () ->
+                IntStream.range(0, ranges.length - 1)
+                    .parallel()
+                    .forEach(
+                        b ->
+                            this.scatterColumns(
+                                ranges[b],
+                                ranges[b + 1],
+                                transposedOffsets,
+                                transposedColumns,
+                                transposedValues)))
+        .join();
+    return new CsrMatrix(
+        this.numCols, this.numRows, transposedOffsets, transposedColumns, transposedValues);
+  }
+
+  private void scatterColumns(
+      final int startColumn,
+      final int endColumn,
+      final int[] transposedOffsets,
+      final int[] transposedColumns,
+      final double[] transposedValues) {
+    if (startColumn == endColumn) {
+      return;
+    }
+
+    final int[] positions = Arrays.copyOfRange(transposedOffsets, startColumn, endColumn);
+    for (int r = 0; r < this.numRows; ++r) {
+      final int start = this.rowOffsets[r];
+      final int end = this.rowOffsets[r + 1];
+      // the columns of a row are sorted so only the entries of the range need to be visited
+      int i = start == end ? end : Arrays.binarySearch(this.columns, start, end, startColumn);
+      if (i < 0) {
+        i = -(i + 1);
+      }
+
+      for (; i < end && this.columns[i] < endColumn; ++i) {
+        final int position = positions[this.columns[i] - startColumn]++;
+        transposedColumns[position] = r;
+        transposedValues[position] = this.values[i];
+      }
+    }
+  }
+
+  // endregion
+
+  /**
+   * Splits rows in consecutive blocks holding about the same number of entries.
+   *
+   * @param offsets The offset of the first entry of each row, followed by the number of entries.
+   * @param rowCount The number of rows.
+   * @param pool The pool the blocks will be processed on.
+   * @param tasksPerWorker The number of blocks per worker of the pool.
+   * @return The first row of each block, followed by the row count.
+   */
+  private static int[] splitRows(
+      final int[] offsets, final int rowCount, final ForkJoinPool pool, final int tasksPerWorker) {
+    final int numEntries = offsets[rowCount];
+    final int blockCount =
+        Math.max(1, Math.min(rowCount, pool.getParallelism() * tasksPerWorker));
+    final int[] blocks = new int[blockCount + 1];
+    for (int b = 1; b < blockCount; ++b) {
+      final long target = (long) numEntries * b / blockCount;
+      int row = Arrays.binarySearch(offsets, blocks[b - 1], rowCount, (int) target);
+      if (row < 0) {
+        row = -(row + 1);
+      }
+
+      blocks[b] = Math.max(blocks[b - 1], Math.min(row, rowCount));
+    }
+
+    blocks[blockCount] = rowCount;
+    return blocks;
+  }
+
+  @Override
+  public String toString() {
+    final StringBuilder builder = new StringBuilder();
+    builder.append(String.format("[%d x %d]", this.numRows, this.numCols));
+    final DecimalFormat format = FormatUtils.getDefaultDecimalFormat();
+    this.forEach(
+        (r, c, v) ->
+            builder.append(
+                String.format(
+                    "%s(%d, %d) -> %s", System.lineSeparator(), r, c, format.format(v))));
+    return builder.toString();
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.math;
+
+/** The outcome of a {@link PowerIterator} run. */
+public class PowerIterationResult {
+
+  private final ColumnVector vector;
+  private final int iterations;
+  private final boolean converged;
+
+  /**
+   * Creates a new result.
+   *
+   * @param vector The last calculated vector.
+   * @param iterations The number of iterations that ran.
+   * @param converged true if the iteration converged before reaching the maximum iterations.
+   */
+  public PowerIterationResult(
+      final ColumnVector vector, final int iterations, final boolean converged) {
+    this.vector = vector;
+    this.iterations = iterations;
+    this.converged = converged;
+  }
+
+  /**
+   * Gets the last calculated vector.
+   *
+   * @return The vector.
+   */
+  public ColumnVector getVector() {
+    return this.vector;
+  }
+
+  /**
+   * Gets the number of iterations that ran.
+   *
+   * @return The number of iterations.
+   */
+  public int getIterations() {
+    return this.iterations;
+  }
+
+  /**
+   * Gets a value indicating whether the iteration converged.
+   *
+   * @return true if the iteration converged.
+   */
+  public boolean hasConverged() {
+    return this.converged;
+  }
+}
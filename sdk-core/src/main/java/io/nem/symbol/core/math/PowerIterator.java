@@ -0,0 +1,169 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.math;
+
+import java.util.concurrent.ForkJoinPool;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Calculates the stationary vector of a link matrix by power iteration (PageRank). Entry (i, j) of
+ * the link matrix is the probability of moving from node j to node i, so every column sums to one
+ * or, for nodes without outlinks, to zero. The mass of the nodes without outlinks and the
+ * teleportation mass are spread uniformly over all the nodes.
+ */
+public class PowerIterator {
+
+  /** The default probability of following a link instead of teleporting. */
+  public static final double DEFAULT_DAMPING_FACTOR = 0.85;
+
+  /** The default L1 distance between two iterations below which the iteration stops. */
+  public static final double DEFAULT_EPSILON = 1.0e-8;
+
+  /** The default maximum number of iterations. */
+  public static final int DEFAULT_MAX_ITERATIONS = 100;
+
+  private static final double COLUMN_SUM_TOLERANCE = 1.0e-6;
+
+  private double dampingFactor = DEFAULT_DAMPING_FACTOR;
+  private double epsilon = DEFAULT_EPSILON;
+  private int maxIterations = DEFAULT_MAX_ITERATIONS;
+  private ForkJoinPool pool = ForkJoinPool.commonPool();
+
+  /**
+   * Sets the probability of following a link instead of teleporting to a random node.
+   *
+   * @param dampingFactor The damping factor, in [0, 1].
+   * @return This iterator.
+   */
+  public PowerIterator withDampingFactor(final double dampingFactor) {
+    Validate.isTrue(
+        dampingFactor >= 0.0 && dampingFactor <= 1.0, "damping factor must be in [0, 1]");
+    this.dampingFactor = dampingFactor;
+    return this;
+  }
+
+  /**
+   * Sets the L1 distance between two consecutive vectors below which the iteration has converged.
+   *
+   * @param epsilon The convergence threshold.
+   * @return This iterator.
+   */
+  public PowerIterator withEpsilon(final double epsilon) {
+    Validate.isTrue(epsilon > 0.0, "epsilon must be positive");
+    this.epsilon = epsilon;
+    return this;
+  }
+
+  /**
+   * Sets the maximum number of iterations.
+   *
+   * @param maxIterations The maximum number of iterations.
+   * @return This iterator.
+   */
+  public PowerIterator withMaxIterations(final int maxIterations) {
+    Validate.isTrue(maxIterations > 0, "max iterations must be positive");
+    this.maxIterations = maxIterations;
+    return this;
+  }
+
+  /**
+   * Sets the pool the matrix vector products run on, the common pool by default.
+   *
+   * @param pool The pool.
+   * @return This iterator.
+   */
+  public PowerIterator withPool(final ForkJoinPool pool) {
+    Validate.notNull(pool, "pool must not be null");
+    this.pool = pool;
+    return this;
+  }
+
+  /**
+   * Runs the power iteration on a link matrix, which is frozen first.
+   *
+   * @param linkMatrix The square link matrix.
+   * @return The result, a vector whose entries sum to one.
+   */
+  public PowerIterationResult run(final SparseMatrix linkMatrix) {
+    Validate.notNull(linkMatrix, "link matrix must not be null");
+    return this.run(linkMatrix.freeze());
+  }
+
+  /**
+   * Runs the power iteration on a frozen link matrix.
+   *
+   * @param linkMatrix The square link matrix.
+   * @return The result, a vector whose entries sum to one.
+   */
+  public PowerIterationResult run(final CsrMatrix linkMatrix) {
+    Validate.notNull(linkMatrix, "link matrix must not be null");
+    final int size = linkMatrix.getRowCount();
+    Validate.isTrue(size == linkMatrix.getColumnCount(), "link matrix must be square");
+    Validate.isTrue(size > 0, "link matrix must not be empty");
+
+    final int[] danglingNodes = findDanglingNodes(linkMatrix);
+    final double teleportation = (1.0 - this.dampingFactor) / size;
+    ColumnVector vector = new ColumnVector(size);
+    vector.setAll(1.0 / size);
+
+    int iteration = 0;
+    while (iteration < this.maxIterations) {
+      ++iteration;
+      final double[] raw = vector.getRaw();
+      double danglingMass = 0.0;
+      for (final int node : danglingNodes) {
+        danglingMass += raw[node];
+      }
+
+      final double shift = teleportation + this.dampingFactor * danglingMass / size;
+      final ColumnVector next = linkMatrix.multiply(vector, this.pool);
+      final double[] rawNext = next.getRaw();
+      for (int i = 0; i < size; ++i) {
+        rawNext[i] = this.dampingFactor * rawNext[i] + shift;
+      }
+
+      final double distance = next.l1Distance(vector);
+      vector = next;
+      if (distance < this.epsilon) {
+        return new PowerIterationResult(vector, iteration, true);
+      }
+    }
+
+    return new PowerIterationResult(vector, iteration, false);
+  }
+
+  private static int[] findDanglingNodes(final Matrix linkMatrix) {
+    final double[] columnSums = linkMatrix.getColumnSumVector().getRaw();
+    int count = 0;
+    for (final double sum : columnSums) {
+      if (0.0 == sum) {
+        ++count;
+      } else if (Math.abs(sum - 1.0) > COLUMN_SUM_TOLERANCE) {
+        throw new IllegalArgumentException("link matrix columns must sum to one or zero");
+      }
+    }
+
+    final int[] danglingNodes = new int[count];
+    int index = 0;
+    for (int i = 0; i < columnSums.length; ++i) {
+      if (0.0 == columnSums[i]) {
+        danglingNodes[index++] = i;
+      }
+    }
+
+    return danglingNodes;
+  }
+}
@@ -230,6 +230,16 @@ public class SparseBitmap implements Iterable<Integer> {
     return this.bitmap.iterator();
   }
 
+  /**
+   * Copies this sparse bitmap into a {@link ContainerBitmap}, which is smaller and faster for
+   * random, dense sets of bits.
+   *
+   * @return A <code>ContainerBitmap</code> with the same bits set.
+   */
+  public ContainerBitmap toContainerBitmap() {
+    return ContainerBitmap.createFromSortedData(this.bitmap.toArray());
+  }
+
   // endregion
 
   // region hashCode / equals
@@ -18,6 +18,9 @@ package io.nem.symbol.core.math;
 import io.nem.symbol.core.utils.FormatUtils;
 import java.text.DecimalFormat;
 import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import org.apache.commons.lang3.Validate;
 
 /** Represents a sparse matrix. */
 public class SparseMatrix extends Matrix {
@@ -80,46 +83,28 @@ public class SparseMatrix extends Matrix {
     // NodeNeighborhoodMap
     // ctor)
 
+    final int maxIndex = this.maxIndices[row];
+    final int[] rowCols = this.cols[row];
     if (val == 0.0) {
-      for (int i = 0; i < this.maxIndices[row]; ++i) {
-        if (this.cols[row][i] == col) {
-          this.remove(row, i);
-          return;
-        }
+      final int i = Arrays.binarySearch(rowCols, 0, maxIndex, col);
+      if (i >= 0) {
+        this.remove(row, i);
       }
-      return;
-    }
 
-    if (this.maxIndices[row] == 0) {
-      this.cols[row][0] = col;
-      this.values[row][0] = val;
-      this.maxIndices[row] += 1;
       return;
     }
 
-    int i = 0;
-    final int maxIndex = this.maxIndices[row];
-    while (i < maxIndex && this.cols[row][i] < col) {
-      i++;
-    }
-
-    if (i == maxIndex) {
-      if (maxIndex == this.cols[row].length) {
-        this.reallocate(row);
-      }
-
-      this.cols[row][i] = col;
+    // appending is the common case when rows are filled in column order
+    final int i =
+        0 == maxIndex || rowCols[maxIndex - 1] < col
+            ? -(maxIndex + 1)
+            : Arrays.binarySearch(rowCols, 0, maxIndex, col);
+    if (i >= 0) {
       this.values[row][i] = val;
-      this.maxIndices[row] += 1;
       return;
     }
 
-    if (this.cols[row][i] == col) {
-      this.values[row][i] = val;
-      return;
-    }
-
-    this.insertColumn(row, col, val, i);
+    this.insertColumn(row, col, val, -(i + 1));
   }
 
   private void insertColumn(final int row, final int col, final double val, final int i) {
@@ -225,6 +210,117 @@ public class SparseMatrix extends Matrix {
     return this.cols[row].length;
   }
 
+  /**
+   * Replaces the contents of a row with the given non zero entries. This avoids the per entry
+   * search of {@link #setAt(int, int, double)} when a row is loaded in bulk.
+   *
+   * @param row The row.
+   * @param rowCols The column indexes, strictly ascending.
+   * @param rowValues The values, none of them zero.
+   * @param offset The offset of the first entry in both arrays.
+   * @param length The number of entries.
+   */
+  public void setRow(
+      final int row,
+      final int[] rowCols,
+      final double[] rowValues,
+      final int offset,
+      final int length) {
+    Validate.isTrue(row >= 0 && row < this.numRows, "row out of range");
+    Validate.isTrue(
+        offset >= 0 && length >= 0 && offset + length <= Math.min(rowCols.length, rowValues.length),
+        "entries out of range");
+    int previous = -1;
+    for (int i = offset; i < offset + length; ++i) {
+      Validate.isTrue(
+          rowCols[i] > previous && rowCols[i] < this.getColumnCount(),
+          "columns must be ascending and in range");
+      Validate.isTrue(0.0 != rowValues[i], "values must not be zero");
+      previous = rowCols[i];
+    }
+
+    final int capacity = Math.max(length, 1);
+    this.cols[row] = Arrays.copyOfRange(rowCols, offset, offset + capacity);
+    this.values[row] = Arrays.copyOfRange(rowValues, offset, offset + capacity);
+    this.maxIndices[row] = length;
+  }
+
+  /**
+   * Compacts this matrix into an immutable {@link CsrMatrix} whose rows are stored in contiguous
+   * arrays, which is faster and lighter to multiply repeatedly. Later changes to this matrix are
+   * not reflected in the returned matrix.
+   *
+   * @return The frozen matrix.
+   */
+  public CsrMatrix freeze() {
+    final int[] rowOffsets = new int[this.numRows + 1];
+    for (int r = 0; r < this.numRows; ++r) {
+      rowOffsets[r + 1] = rowOffsets[r] + this.maxIndices[r];
+    }
+
+    final int[] frozenColumns = new int[rowOffsets[this.numRows]];
+    final double[] frozenValues = new double[rowOffsets[this.numRows]];
+    for (int r = 0; r < this.numRows; ++r) {
+      System.arraycopy(this.cols[r], 0, frozenColumns, rowOffsets[r], this.maxIndices[r]);
+      System.arraycopy(this.values[r], 0, frozenValues, rowOffsets[r], this.maxIndices[r]);
+    }
+
+    return new CsrMatrix(
+        this.numRows, this.getColumnCount(), rowOffsets, frozenColumns, frozenValues);
+  }
+
+  /**
+   * Multiplies this matrix by a vector. Each row is reduced independently so the rows are split
+   * between the workers of the given pool.
+   *
+   * @param vector The vector.
+   * @param pool The pool the rows are processed on.
+   * @return The resulting vector.
+   */
+  public ColumnVector multiply(final ColumnVector vector, final ForkJoinPool pool) {
+    Validate.notNull(pool, "pool must not be null");
+    this.validateMultiplySize(vector);
+    final double[] rawResult = new double[this.numRows];
+    final double[] rawVector = vector.getRaw();
+    pool.submit(
+            () ->
+                IntStream.range(0, this.numRows)
+                    .parallel()
+                    .forEach(r -> rawResult[r] = this.multiplyRow(r, rawVector)))
+        .join();
+    return new ColumnVector(rawResult);
+  }
+
+  @Override
+  public ColumnVector multiply(final ColumnVector vector) {
+    this.validateMultiplySize(vector);
+    final double[] rawResult = new double[this.numRows];
+    final double[] rawVector = vector.getRaw();
+    for (int r = 0; r < this.numRows; ++r) {
+      rawResult[r] = this.multiplyRow(r, rawVector);
+    }
+
+    return new ColumnVector(rawResult);
+  }
+
+  private void validateMultiplySize(final ColumnVector vector) {
+    if (this.getColumnCount() != vector.size()) {
+      throw new IllegalArgumentException("vector size and matrix column count must be equal");
+    }
+  }
+
+  private double multiplyRow(final int row, final double[] rawVector) {
+    final int[] rowCols = this.cols[row];
+    final double[] rowValues = this.values[row];
+    final int size = this.maxIndices[row];
+    double sum = 0.0;
+    for (int j = 0; j < size; ++j) {
+      sum += rowValues[j] * rawVector[rowCols[j]];
+    }
+
+    return sum;
+  }
+
   /**
    * Remove an entries at a specific position
    *
@@ -15,11 +15,30 @@
  */
 package io.nem.symbol.core.utils;
 
-import org.apache.commons.codec.binary.Base32;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 
 /** Static class that contains utility functions for converting Base32 strings to and from bytes. */
 public class Base32Encoder {
 
+  /** The RFC 4648 Base32 alphabet. */
+  private static final char[] ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZ234567".toCharArray();
+
+  /** The padding char. */
+  private static final char PAD = '=';
+
+  /** The value of each ASCII char of the alphabet, lower case included, -1 for other chars. */
+  private static final byte[] VALUES = new byte[128];
+
+  static {
+    Arrays.fill(VALUES, (byte) -1);
+    for (int i = 0; i < ALPHABET.length; i++) {
+      VALUES[ALPHABET[i]] = (byte) i;
+      VALUES[Character.toLowerCase(ALPHABET[i])] = (byte) i;
+    }
+  }
+
   /** Private constructor for this utility class. */
   private Base32Encoder() {}
 
@@ -30,12 +49,9 @@ public class Base32Encoder {
    * @return The output byte array.
    */
   public static byte[] getBytes(final String base32String) {
-    final Base32 codec = new Base32();
-    final byte[] encodedBytes = StringEncoder.getBytes(base32String);
-    if (!codec.isInAlphabet(encodedBytes, true)) {
-      throw new IllegalArgumentException("malformed base32 string passed to getBytes");
-    }
-    return codec.decode(encodedBytes);
+    final byte[] bytes = new byte[getDecodedLength(base32String)];
+    decode(base32String, bytes, 0);
+    return bytes;
   }
 
   /**
@@ -45,8 +61,143 @@ public class Base32Encoder {
    * @return The output Base32 string.
    */
   public static String getString(final byte[] bytes) {
-    final Base32 codec = new Base32();
-    final byte[] decodedBytes = codec.encode(bytes);
-    return StringEncoder.getString(decodedBytes);
+    final char[] chars = new char[getEncodedLength(bytes.length)];
+    encode(bytes, 0, bytes.length, chars, 0);
+    return new String(chars);
+  }
+
+  /**
+   * Returns the size of the padded Base32 encoding of a number of bytes.
+   *
+   * @param length the number of bytes.
+   * @return the number of Base32 chars.
+   */
+  public static int getEncodedLength(final int length) {
+    return (length + 4) / 5 * 8;
+  }
+
+  /**
+   * Returns the number of bytes a Base32 string decodes to. Whitespace is ignored and the decoding
+   * stops at the first padding char.
+   *
+   * @param base32 the Base32 chars.
+   * @return the number of decoded bytes.
+   * @throws IllegalArgumentException if the string contains chars that are not Base32 chars,
+   *     padding or whitespace.
+   */
+  public static int getDecodedLength(final CharSequence base32) {
+    int digits = 0;
+    boolean padded = false;
+    for (int i = 0; i < base32.length(); i++) {
+      final char ch = base32.charAt(i);
+      if (ch == PAD) {
+        padded = true;
+      } else if (ch < VALUES.length && VALUES[ch] != -1) {
+        digits += padded ? 0 : 1;
+      } else if (!isWhitespace(ch)) {
+        throw new IllegalArgumentException("malformed base32 string passed to getBytes");
+      }
+    }
+    return (int) (digits * 5L / 8);
+  }
+
+  /**
+   * Writes the padded Base32 encoding of a byte array region into a char array.
+   *
+   * @param bytes The input byte array.
+   * @param offset The index of the first byte to encode.
+   * @param length The number of bytes to encode.
+   * @param destination The destination array.
+   * @param destinationOffset The index of the first Base32 char in the destination.
+   * @return The number of chars written.
+   */
+  public static int encode(
+      final byte[] bytes,
+      final int offset,
+      final int length,
+      final char[] destination,
+      final int destinationOffset) {
+    int j = destinationOffset;
+    final int end = offset + length;
+    for (int i = offset; i < end; i += 5) {
+      final int blockLength = Math.min(5, end - i);
+      long block = 0;
+      for (int k = 0; k < 5; k++) {
+        block = (block << 8) | (k < blockLength ? bytes[i + k] & 0xFF : 0);
+      }
+      // 8 bits per byte, 5 bits per char, rounding up.
+      final int chars = (blockLength * 8 + 4) / 5;
+      for (int k = 0; k < 8; k++) {
+        destination[j++] = k < chars ? ALPHABET[(int) (block >>> (35 - k * 5)) & 0x1F] : PAD;
+      }
+    }
+    return j - destinationOffset;
+  }
+
+  /**
+   * Decodes a Base32 string into a byte array. Whitespace is ignored and the decoding stops at
+   * the first padding char.
+   *
+   * @param base32 The Base32 chars.
+   * @param destination The destination array.
+   * @param destinationOffset The index of the first decoded byte in the destination.
+   * @return The number of decoded bytes.
+   * @throws IllegalArgumentException if the string contains chars that are not Base32 chars,
+   *     padding or whitespace.
+   */
+  public static int decode(
+      final CharSequence base32, final byte[] destination, final int destinationOffset) {
+    int j = destinationOffset;
+    int buffer = 0;
+    int bits = 0;
+    for (int i = 0; i < base32.length(); i++) {
+      final char ch = base32.charAt(i);
+      if (ch == PAD) {
+        break;
+      }
+      final int value = ch < VALUES.length ? VALUES[ch] : -1;
+      if (value == -1) {
+        if (isWhitespace(ch)) {
+          continue;
+        }
+        throw new IllegalArgumentException("malformed base32 string passed to getBytes");
+      }
+      buffer = (buffer << 5) | value;
+      bits += 5;
+      if (bits >= 8) {
+        bits -= 8;
+        destination[j++] = (byte) (buffer >>> bits);
+        buffer &= (1 << bits) - 1;
+      }
+    }
+    return j - destinationOffset;
+  }
+
+  /**
+   * Decodes a Base32 string into a byte buffer.
+   *
+   * @param base32 The Base32 chars.
+   * @param destination The destination buffer, the bytes are written from its position.
+   * @return The number of decoded bytes.
+   */
+  public static int decode(final CharSequence base32, final ByteBuffer destination) {
+    final int length = getDecodedLength(base32);
+    if (destination.remaining() < length) {
+      throw new BufferOverflowException();
+    }
+    if (destination.hasArray()) {
+      final int position = destination.position();
+      decode(base32, destination.array(), destination.arrayOffset() + position);
+      destination.position(position + length);
+    } else {
+      final byte[] bytes = new byte[length];
+      decode(base32, bytes, 0);
+      destination.put(bytes);
+    }
+    return length;
+  }
+
+  private static boolean isWhitespace(final char ch) {
+    return ch == ' ' || ch == '\n' || ch == '\r' || ch == '\t';
   }
 }
@@ -16,9 +16,10 @@
 package io.nem.symbol.core.utils;
 
 import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import org.apache.commons.codec.DecoderException;
-import org.apache.commons.codec.binary.Hex;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Validate;
 import org.apache.commons.lang3.exception.ExceptionUtils;
@@ -31,6 +32,20 @@ public class ConvertUtils {
   private static final BigInteger UNSIGNED_LONG_MASK =
       BigInteger.ONE.shiftLeft(Long.SIZE).subtract(BigInteger.ONE);
 
+  /** The upper case hex digits. */
+  private static final char[] HEX_CHARS = "0123456789ABCDEF".toCharArray();
+
+  /** The value of each ASCII hex digit, -1 if the char is not a hex digit. */
+  private static final byte[] HEX_VALUES = new byte[128];
+
+  static {
+    Arrays.fill(HEX_VALUES, (byte) -1);
+    for (int i = 0; i < HEX_CHARS.length; i++) {
+      HEX_VALUES[HEX_CHARS[i]] = (byte) i;
+      HEX_VALUES[Character.toLowerCase(HEX_CHARS[i])] = (byte) i;
+    }
+  }
+
   /** Private constructor of this utility class. */
   private ConvertUtils() {}
 
@@ -49,10 +64,48 @@ public class ConvertUtils {
   }
 
   private static byte[] getBytesInternal(final String hexString) throws DecoderException {
-    final Hex codec = new Hex();
-    final String paddedHexString = 0 == hexString.length() % 2 ? hexString : "0" + hexString;
-    final byte[] encodedBytes = StringEncoder.getBytes(paddedHexString);
-    return codec.decode(encodedBytes);
+    // An odd hex is decoded as if it had a leading 0.
+    final int padding = hexString.length() % 2;
+    final byte[] bytes = new byte[(hexString.length() + padding) / 2];
+    if (padding == 1) {
+      bytes[0] = (byte) toDigit(hexString.charAt(0), 1);
+    }
+    decodeHex(hexString, padding, hexString.length(), bytes, padding, padding);
+    return bytes;
+  }
+
+  /**
+   * Decodes the hex chars between start and end into the destination. The length must be even.
+   *
+   * @param hex the hex chars.
+   * @param start the index of the first char.
+   * @param end the index after the last char.
+   * @param destination the destination array.
+   * @param destinationOffset the index of the first decoded byte in the destination.
+   * @param indexShift the shift of the indexes reported in the errors.
+   * @throws DecoderException if a char is not an hex digit.
+   */
+  private static void decodeHex(
+      final CharSequence hex,
+      final int start,
+      final int end,
+      final byte[] destination,
+      final int destinationOffset,
+      final int indexShift)
+      throws DecoderException {
+    for (int i = start, j = destinationOffset; i < end; i += 2, j++) {
+      final int high = toDigit(hex.charAt(i), i + indexShift);
+      final int low = toDigit(hex.charAt(i + 1), i + 1 + indexShift);
+      destination[j] = (byte) ((high << 4) | low);
+    }
+  }
+
+  private static int toDigit(final char ch, final int index) throws DecoderException {
+    final int digit = ch < HEX_VALUES.length ? HEX_VALUES[ch] : -1;
+    if (digit == -1) {
+      throw new DecoderException("Illegal hexadecimal character " + ch + " at index " + index);
+    }
+    return digit;
   }
 
   /**
@@ -62,9 +115,50 @@ public class ConvertUtils {
    * @return The output hex string.
    */
   public static String toHex(final byte[] bytes) {
-    final Hex codec = new Hex();
-    final byte[] decodedBytes = codec.encode(bytes);
-    return StringEncoder.getString(decodedBytes).toUpperCase();
+    final char[] chars = new char[bytes.length * 2];
+    toHex(bytes, 0, bytes.length, chars, 0);
+    return new String(chars);
+  }
+
+  /**
+   * Writes the upper case hex of a byte array region into a char array.
+   *
+   * @param bytes The input byte array.
+   * @param offset The index of the first byte to convert.
+   * @param length The number of bytes to convert.
+   * @param destination The destination array.
+   * @param destinationOffset The index of the first hex char in the destination.
+   * @return The number of chars written, twice the length.
+   */
+  public static int toHex(
+      final byte[] bytes,
+      final int offset,
+      final int length,
+      final char[] destination,
+      final int destinationOffset) {
+    for (int i = offset, j = destinationOffset; i < offset + length; i++) {
+      destination[j++] = HEX_CHARS[(bytes[i] >> 4) & 0xF];
+      destination[j++] = HEX_CHARS[bytes[i] & 0xF];
+    }
+    return length * 2;
+  }
+
+  /**
+   * Writes the upper case hex of the remaining bytes of the source buffer into the destination
+   * buffer as ASCII chars.
+   *
+   * @param source The input buffer, it's read from its position to its limit.
+   * @param destination The destination buffer, two bytes are written per source byte.
+   */
+  public static void toHex(final ByteBuffer source, final ByteBuffer destination) {
+    if (destination.remaining() < source.remaining() * 2) {
+      throw new BufferOverflowException();
+    }
+    while (source.hasRemaining()) {
+      final byte value = source.get();
+      destination.put((byte) HEX_CHARS[(value >> 4) & 0xF]);
+      destination.put((byte) HEX_CHARS[value & 0xF]);
+    }
   }
 
   /**
@@ -87,13 +181,54 @@ public class ConvertUtils {
    * @return the byte array.
    */
   public static byte[] fromHexToBytes(String hexString) {
-    final Hex codec = new Hex();
+    final byte[] bytes = new byte[hexString.length() / 2];
+    fromHexToBytes(hexString, bytes, 0);
+    return bytes;
+  }
+
+  /**
+   * Decodes an hex into a byte array.
+   *
+   * @param hex the hex chars, its length must be even.
+   * @param destination the destination array.
+   * @param destinationOffset the index of the first decoded byte in the destination.
+   * @return the number of decoded bytes.
+   */
+  public static int fromHexToBytes(CharSequence hex, byte[] destination, int destinationOffset) {
     try {
-      return codec.decode(StringEncoder.getBytes(hexString));
+      if (hex.length() % 2 != 0) {
+        throw new DecoderException("Odd number of characters.");
+      }
+      decodeHex(hex, 0, hex.length(), destination, destinationOffset, 0);
+      return hex.length() / 2;
     } catch (DecoderException e) {
       throw new IllegalArgumentException(
-          hexString + " could not be decoded. " + ExceptionUtils.getMessage(e), e);
+          hex + " could not be decoded. " + ExceptionUtils.getMessage(e), e);
+    }
+  }
+
+  /**
+   * Decodes an hex into a byte buffer.
+   *
+   * @param hex the hex chars, its length must be even.
+   * @param destination the destination buffer, the bytes are written from its position.
+   * @return the number of decoded bytes.
+   */
+  public static int fromHexToBytes(CharSequence hex, ByteBuffer destination) {
+    final int length = hex.length() / 2;
+    if (destination.hasArray()) {
+      final int position = destination.position();
+      if (destination.remaining() < length) {
+        throw new BufferOverflowException();
+      }
+      fromHexToBytes(hex, destination.array(), destination.arrayOffset() + position);
+      destination.position(position + length);
+      return length;
     }
+    final byte[] bytes = new byte[length];
+    fromHexToBytes(hex, bytes, 0);
+    destination.put(bytes);
+    return length;
   }
 
   /**
@@ -187,7 +322,8 @@ public class ConvertUtils {
    * @return the positive {@link BigInteger}.
    */
   public static BigInteger toUnsignedBigInteger(long value) {
-    return toUnsignedBigInteger(BigInteger.valueOf(value));
+    BigInteger signed = BigInteger.valueOf(value);
+    return value < 0 ? toUnsignedBigInteger(signed) : signed;
   }
 
   /**
@@ -201,6 +337,38 @@ public class ConvertUtils {
     return value.and(UNSIGNED_LONG_MASK);
   }
 
+  /**
+   * It converts an unsigned int 64 BigInteger into the long holding the same 64 bits. Values
+   * bigger than {@link Long#MAX_VALUE} are returned as overflowed negative longs.
+   *
+   * @param value the value, it must be between 0 and 2^64 - 1.
+   * @return the long with the unsigned value.
+   * @throws IllegalArgumentException if the value is null, negative or bigger than 2^64 - 1.
+   */
+  public static long toUnsignedLong(BigInteger value) {
+    validateNotNegative(value);
+    Validate.isTrue(
+        value.bitLength() <= Long.SIZE, "BigInteger '" + value + "' must fit in an unsigned long");
+    return value.longValue();
+  }
+
+  /**
+   * It converts an id BigInteger into the long holding the same 64 bits. Ids are unsigned int 64
+   * values but they may also be given in their signed, overflowed, form.
+   *
+   * @param id the id, it must be between -2^63 and 2^64 - 1.
+   * @return the long with the unsigned id.
+   * @throws IllegalArgumentException if the id is null or it doesn't fit in 64 bits.
+   */
+  public static long toUnsignedLongId(BigInteger id) {
+    Validate.notNull(id, "Number must not be null");
+    if (id.signum() < 0) {
+      Validate.isTrue(id.bitLength() < Long.SIZE, "BigInteger '" + id + "' must fit in a long");
+      return id.longValue();
+    }
+    return toUnsignedLong(id);
+  }
+
   /**
    * Determines whether or not a string is a hex string.
    *
@@ -214,12 +382,13 @@ public class ConvertUtils {
     if (0 != input.length() % 2) {
       return false;
     }
-    try {
-      getBytesInternal(input);
-      return true;
-    } catch (DecoderException e) {
-      return false;
+    for (int i = 0; i < input.length(); i++) {
+      final char ch = input.charAt(i);
+      if (ch >= HEX_VALUES.length || HEX_VALUES[ch] == -1) {
+        return false;
+      }
     }
+    return true;
   }
 
   /**
@@ -17,6 +17,7 @@ package io.nem.symbol.sdk.api;
 
 import io.nem.symbol.sdk.model.transaction.Transaction;
 import io.nem.symbol.sdk.model.transaction.TransactionFactory;
+import java.nio.ByteBuffer;
 
 /**
  * This interface allow users to serialize and deserialize transaction using the symbol binary
@@ -57,4 +58,32 @@ public interface BinarySerialization {
    * @return the size of the transaction.
    */
   <T extends Transaction> long getSize(T transaction);
+
+  /**
+   * It serializes a transaction into the given buffer, starting at the buffer's current position.
+   * The buffer position is moved to the end of the written transaction. This method allows
+   * serializing many transactions into one reusable, possibly direct, buffer.
+   *
+   * @param <T> the type of the transaction
+   * @param transaction the transaction
+   * @param buffer the buffer the transaction is written into. It must have at least {@link
+   *     #computeSize(Transaction)} bytes remaining.
+   * @return the number of written bytes.
+   */
+  default <T extends Transaction> int serializeTo(T transaction, ByteBuffer buffer) {
+    byte[] bytes = serialize(transaction);
+    buffer.put(bytes);
+    return bytes.length;
+  }
+
+  /**
+   * It computes the exact size in bytes of the serialized transaction.
+   *
+   * @param <T> the type of the transaction
+   * @param transaction the transaction
+   * @return the size of the serialized transaction.
+   */
+  default <T extends Transaction> int computeSize(T transaction) {
+    return (int) getSize(transaction);
+  }
 }
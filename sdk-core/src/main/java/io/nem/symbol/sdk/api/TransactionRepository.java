@@ -50,6 +50,21 @@ public interface TransactionRepository
   Observable<List<Transaction>> getTransactions(
       TransactionGroup group, List<String> transactionHashes);
 
+  /**
+   * Streaming version of {@link #search(SearchCriteria)}. The transactions of the requested page
+   * are emitted one by one as soon as they are decoded from the rest response, without loading the
+   * whole page first. The pagination metadata is not returned, a page is the last one when it emits
+   * fewer transactions than the requested page size.
+   *
+   * <p>Implementations that cannot stream the response fall back to the regular search.
+   *
+   * @param criteria the search criteria.
+   * @return {@link Observable} of the page's {@link Transaction}s.
+   */
+  default Observable<Transaction> streamSearch(TransactionSearchCriteria criteria) {
+    return search(criteria).flatMapIterable(Page::getData);
+  }
+
   /**
    * Send a signed transaction.
    *
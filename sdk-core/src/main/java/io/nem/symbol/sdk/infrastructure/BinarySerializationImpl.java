@@ -57,8 +57,6 @@ import io.nem.symbol.catapult.builders.NodeKeyLinkTransactionBodyBuilder;
 import io.nem.symbol.catapult.builders.SecretLockTransactionBodyBuilder;
 import io.nem.symbol.catapult.builders.SecretProofTransactionBodyBuilder;
 import io.nem.symbol.catapult.builders.Serializer;
-import io.nem.symbol.catapult.builders.SignatureDto;
-import io.nem.symbol.catapult.builders.TimestampDto;
 import io.nem.symbol.catapult.builders.TransactionBuilder;
 import io.nem.symbol.catapult.builders.TransactionBuilderHelper;
 import io.nem.symbol.catapult.builders.TransferTransactionBodyBuilder;
@@ -150,16 +148,14 @@ import io.nem.symbol.sdk.model.transaction.VrfKeyLinkTransactionFactory;
 import java.io.DataInputStream;
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.EnumSet;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.Validate;
-import org.apache.commons.lang3.tuple.Pair;
 
 /**
  * Implementation of BinarySerialization. It uses the catbuffer generated builders to deserialize an
@@ -170,9 +166,21 @@ public class BinarySerializationImpl implements BinarySerialization {
   /** Cached instance. */
   public static final BinarySerialization INSTANCE = new BinarySerializationImpl();
 
-  /** The serializers, one per {@link TransactionType} must be registered. */
-  private final Map<Pair<TransactionType, Integer>, TransactionSerializer<?>> serializers =
-      new HashMap<>();
+  /**
+   * The size of the top level transaction header: size, reserved, signature, signer, reserved,
+   * version, network, type, max fee and deadline.
+   */
+  private static final int TRANSACTION_HEADER_SIZE = 128;
+
+  /** The size of the signature. */
+  private static final int SIGNATURE_SIZE = 64;
+
+  /** The size of the signer public key. */
+  private static final int SIGNER_SIZE = 32;
+
+  /** The serializers, one per {@link TransactionType} and version must be registered. */
+  private final TransactionTypeRegistry<TransactionSerializer<?>> serializers =
+      new TransactionTypeRegistry<>("TransactionSerializer");
 
   /** Constructor */
   public BinarySerializationImpl() {
@@ -205,19 +213,16 @@ public class BinarySerializationImpl implements BinarySerialization {
     register(new AggregateTransactionSerializer(TransactionType.MOSAIC_SUPPLY_REVOCATION, this));
   }
 
-  /** @param serializer the serializer to be registered. */
-  private void register(TransactionSerializer serializer) {
-
-    Pair<TransactionType, Integer> pair =
-        Pair.of(serializer.getTransactionType(), serializer.getVersion());
-    if (serializers.put(pair, serializer) != null) {
-      throw new IllegalArgumentException(
-          "TransactionSerializer for type "
-              + serializer.getTransactionType()
-              + " and version "
-              + serializer.getVersion()
-              + " was already registered!");
-    }
+  /**
+   * It registers a serializer. This is the extension point to support new transaction versions.
+   *
+   * @param serializer the serializer to be registered.
+   * @throws IllegalArgumentException if there is a serializer already registered for the same
+   *     transaction type and version.
+   */
+  public void register(TransactionSerializer<?> serializer) {
+    Validate.notNull(serializer, "serializer must not be null");
+    serializers.register(serializer.getTransactionType(), serializer.getVersion(), serializer);
   }
 
   /**
@@ -231,12 +236,9 @@ public class BinarySerializationImpl implements BinarySerialization {
   <T extends Transaction> TransactionSerializer<T> resolveSerializer(
       TransactionType transactionType, int version) {
     @SuppressWarnings("unchecked")
-    TransactionSerializer<T> mapper =
-        (TransactionSerializer<T>) serializers.get(Pair.of(transactionType, version));
-    if (mapper == null) {
-      throw new UnsupportedOperationException("Unimplemented Transaction type " + transactionType);
-    }
-    return mapper;
+    TransactionSerializer<T> serializer =
+        (TransactionSerializer<T>) serializers.resolve(transactionType, version);
+    return serializer;
   }
 
   /**
@@ -248,8 +250,137 @@ public class BinarySerializationImpl implements BinarySerialization {
   @Override
   public <T extends Transaction> byte[] serialize(T transaction) {
     Validate.notNull(transaction, "Transaction must not be null");
-    TransactionBuilder transactionBuilder = getTransactionBuilder(transaction);
-    return serializeTransaction(transactionBuilder.serialize(), transaction);
+    SerializedBody body = resolveFullyLoadedSerializer(transaction).toSerializedBody(transaction);
+    int size = TRANSACTION_HEADER_SIZE + body.getSize();
+    ByteBuffer buffer = ByteBuffer.allocate(size);
+    write(transaction, body, size, buffer);
+    return buffer.array();
+  }
+
+  /**
+   * It serializes the transaction into the buffer. The common attributes are written directly into
+   * the buffer, the body is written by the transaction's {@link TransactionSerializer}.
+   *
+   * @param transaction the transaction
+   * @param buffer the buffer the transaction is written into.
+   * @param <T> the transaction type.
+   * @return the number of written bytes.
+   */
+  @Override
+  public <T extends Transaction> int serializeTo(T transaction, ByteBuffer buffer) {
+    Validate.notNull(transaction, "Transaction must not be null");
+    Validate.notNull(buffer, "Buffer must not be null");
+    SerializedBody body = resolveFullyLoadedSerializer(transaction).toSerializedBody(transaction);
+    int size = TRANSACTION_HEADER_SIZE + body.getSize();
+    Validate.isTrue(
+        buffer.remaining() >= size,
+        "Buffer has %s remaining bytes but the transaction needs %s",
+        buffer.remaining(),
+        size);
+    write(transaction, body, size, buffer);
+    return size;
+  }
+
+  /**
+   * It writes the header and the body of the transaction into the buffer.
+   *
+   * @param transaction the transaction
+   * @param body the prepared body of the transaction.
+   * @param size the already computed transaction size.
+   * @param buffer the buffer with at least size bytes remaining.
+   */
+  private void write(Transaction transaction, SerializedBody body, int size, ByteBuffer buffer) {
+    ByteOrder originalOrder = buffer.order();
+    buffer.order(ByteOrder.LITTLE_ENDIAN);
+    try {
+      int start = buffer.position();
+      writeHeader(transaction, size, buffer);
+      body.writeTo(buffer);
+      Validate.isTrue(
+          buffer.position() - start == size,
+          "Serialized %s bytes but the expected size was %s",
+          buffer.position() - start,
+          size);
+    } finally {
+      buffer.order(originalOrder);
+    }
+  }
+
+  /**
+   * It computes the exact size of the serialized transaction. Transfer and aggregate body sizes are
+   * calculated without creating catbuffer builders.
+   *
+   * @param transaction the transaction
+   * @param <T> the transaction type.
+   * @return the serialized size.
+   */
+  @Override
+  public <T extends Transaction> int computeSize(T transaction) {
+    Validate.notNull(transaction, "Transaction must not be null");
+    return TRANSACTION_HEADER_SIZE
+        + this.<T>resolveSerializer(transaction.getType(), transaction.getVersion())
+            .getBodySize(transaction);
+  }
+
+  /**
+   * It computes the exact size of the embedded transaction, without the aggregate padding. The
+   * inner transaction memoizes its embedded bytes, they are reused when the aggregate is hashed
+   * and serialized.
+   *
+   * @param transaction the inner transaction
+   * @param <T> the transaction type.
+   * @return the serialized embedded size.
+   */
+  <T extends Transaction> int computeEmbeddedSize(T transaction) {
+    return transaction.getEmbeddedSize();
+  }
+
+  /**
+   * It writes the top level common attributes. The layout is the same as catbuffer's {@link
+   * TransactionBuilder}.
+   *
+   * @param transaction the transaction.
+   * @param size the full size of the transaction.
+   * @param buffer the little endian buffer.
+   */
+  private void writeHeader(Transaction transaction, int size, ByteBuffer buffer) {
+    buffer.putInt(size);
+    buffer.putInt(0);
+    if (transaction.getSignature().isPresent()) {
+      byte[] signature = ConvertUtils.getBytes(transaction.getSignature().get());
+      buffer.put(toFixedSize(signature, SIGNATURE_SIZE));
+    } else {
+      skip(buffer, SIGNATURE_SIZE);
+    }
+    if (transaction.getSigner().isPresent()) {
+      buffer.put(toFixedSize(transaction.getSigner().get().getPublicKey().getBytes(), SIGNER_SIZE));
+    } else {
+      skip(buffer, SIGNER_SIZE);
+    }
+    buffer.putInt(0);
+    buffer.put(transaction.getVersion().byteValue());
+    buffer.put((byte) transaction.getNetworkType().getValue());
+    buffer.putShort((short) transaction.getType().getValue());
+    buffer.putLong(transaction.getMaxFeeAsLong());
+    buffer.putLong(transaction.getDeadline().getValue());
+  }
+
+  private static byte[] toFixedSize(byte[] bytes, int size) {
+    Validate.isTrue(bytes.length == size, "Expected %s bytes but got %s", size, bytes.length);
+    return bytes;
+  }
+
+  /**
+   * It writes zeros. Buffers provided by the caller may be reused, so the bytes are not assumed to
+   * be zero.
+   *
+   * @param buffer the buffer.
+   * @param count the number of zeros.
+   */
+  private static void skip(ByteBuffer buffer, int count) {
+    for (int i = 0; i < count; i++) {
+      buffer.put((byte) 0);
+    }
   }
 
   /**
@@ -280,51 +411,30 @@ public class BinarySerializationImpl implements BinarySerialization {
   private <T extends Transaction> EmbeddedTransactionBuilder toEmbeddedTransactionBuilder(
       T transaction) {
     return EmbeddedTransactionBuilderHelper.loadFromBinary(
-        SerializationUtils.toDataInput(serializeEmbedded(transaction)));
+        SerializationUtils.toDataInput(transaction.getEmbeddedBytes()));
   }
 
   /**
-   * Gets the top level {@link TransactionBuilder} for the given transaction
+   * This method concats the common bytes to the serialized specific transaction.
    *
-   * @param transaction the transaction
-   * @return the top level {@link TransactionBuilder}
+   * @param <T> the type of the transaction
+   * @param commonBytes the common byte array.
+   * @param transaction the transaction.
+   * @return the serialized transaction.
    */
-  private TransactionBuilder getTransactionBuilder(Transaction transaction) {
-
-    final SignatureDto signatureDto =
-        transaction
-            .getSignature()
-            .map(SerializationUtils::toSignatureDto)
-            .orElseGet(() -> new SignatureDto(ByteBuffer.allocate(64)));
-
-    final ByteBuffer signerBuffer =
-        transaction
-            .getSigner()
-            .map(SerializationUtils::toByteBuffer)
-            .orElseGet(() -> ByteBuffer.allocate(32));
-
-    int networkTypeValue = transaction.getNetworkType().getValue();
-    int typeValue = transaction.getType().getValue();
-    byte version = transaction.getVersion().byteValue();
-    return TransactionBuilder.create(
-        signatureDto,
-        new KeyDto(signerBuffer),
-        version,
-        NetworkTypeDto.rawValueOf((byte) networkTypeValue),
-        EntityTypeDto.rawValueOf((short) typeValue),
-        SerializationUtils.toAmount(transaction.getMaxFee()),
-        new TimestampDto(transaction.getDeadline().getValue()));
+  private <T extends Transaction> byte[] serializeTransaction(byte[] commonBytes, T transaction) {
+    return resolveFullyLoadedSerializer(transaction).serialize(commonBytes, transaction);
   }
 
   /**
-   * This method concats the common bytes to the serialized specific transaction.
+   * It resolves the serializer of a transaction that is going to be serialized.
    *
    * @param <T> the type of the transaction
-   * @param commonBytes the common byte array.
    * @param transaction the transaction.
-   * @return the serialized transaction.
+   * @return the {@link TransactionSerializer}
    */
-  private <T extends Transaction> byte[] serializeTransaction(byte[] commonBytes, T transaction) {
+  private <T extends Transaction> TransactionSerializer<T> resolveFullyLoadedSerializer(
+      T transaction) {
     Validate.isTrue(
         transaction.isTransactionFullyLoaded(),
         "Partially loaded and incomplete transactions cannot be serialized.");
@@ -333,8 +443,7 @@ public class BinarySerializationImpl implements BinarySerialization {
     Validate.isTrue(
         transactionSerializer.getTransactionClass().isAssignableFrom(transaction.getClass()),
         "Invalid TransactionSerializer's transaction class.");
-    byte[] transactionBytes = transactionSerializer.toBodyBuilder(transaction).serialize();
-    return SerializationUtils.concat(commonBytes, transactionBytes);
+    return transactionSerializer;
   }
 
   /**
@@ -346,10 +455,7 @@ public class BinarySerializationImpl implements BinarySerialization {
    */
   @Override
   public <T extends Transaction> long getSize(T transaction) {
-    return getTransactionBuilder(transaction).getSize()
-        + resolveSerializer(transaction.getType(), transaction.getVersion())
-            .toBodyBuilder(transaction)
-            .getSize();
+    return computeSize(transaction);
   }
 
   /**
@@ -408,15 +514,14 @@ public class BinarySerializationImpl implements BinarySerialization {
         NetworkType.rawValueOf(
             SerializationUtils.byteToUnsignedInt(builder.getNetwork().getValue()));
 
-    Deadline deadline =
-        new Deadline(SerializationUtils.toUnsignedBigInteger(builder.getDeadline().getTimestamp()));
+    Deadline deadline = new Deadline(builder.getDeadline().getTimestamp());
 
     TransactionFactory<?> factory =
         resolveSerializer(transactionType, builder.getVersion())
             .fromBodyBuilder(networkType, deadline, builder.getBody());
 
     factory.version(SerializationUtils.byteToUnsignedInt(builder.getVersion()));
-    factory.maxFee(SerializationUtils.toUnsignedBigInteger(builder.getFee()));
+    factory.maxFee(builder.getFee().getAmount());
     if (!areAllZeros(builder.getSignature().getSignature().array())) {
       factory.signature(SerializationUtils.toHexString(builder.getSignature().getSignature()));
     }
@@ -480,8 +585,10 @@ public class BinarySerializationImpl implements BinarySerialization {
   /**
    * Interface of the serializer helper classes that know how to serialize/deserialize one type of
    * transaction from a payload.
+   *
+   * @param <T> the transaction class.
    */
-  interface TransactionSerializer<T extends Transaction> {
+  public interface TransactionSerializer<T extends Transaction> {
 
     /** @return the {@link TransactionType} of the transaction this helper handles. */
     TransactionType getTransactionType();
@@ -518,11 +625,100 @@ public class BinarySerializationImpl implements BinarySerialization {
      * @return the catbuffer {@link Serializer}.
      */
     Serializer toBodyBuilder(T transaction);
+
+    /**
+     * It serializes the transaction appending the body bytes to the common bytes. The size at the
+     * beginning of the common bytes is patched with the full size.
+     *
+     * <p>By default, the body is serialized using the catbuffer body builder. Serializers that can
+     * write the body directly into the final byte array override this method.
+     *
+     * @param commonBytes the already serialized common attributes.
+     * @param transaction the transaction to be serialized
+     * @return the serialized transaction.
+     */
+    default byte[] serialize(byte[] commonBytes, T transaction) {
+      return SerializationUtils.concat(commonBytes, toBodyBuilder(transaction).serialize());
+    }
+
+    /**
+     * @param transaction the transaction
+     * @return the size of the serialized body, the bytes after the common attributes.
+     */
+    default int getBodySize(T transaction) {
+      return toBodyBuilder(transaction).getSize();
+    }
+
+    /**
+     * It writes the body, the bytes after the common attributes, into the little endian buffer.
+     *
+     * <p>By default, the body is serialized using the catbuffer body builder.
+     *
+     * @param transaction the transaction to be serialized
+     * @param buffer the buffer.
+     */
+    default void writeBody(T transaction, ByteBuffer buffer) {
+      buffer.put(toBodyBuilder(transaction).serialize());
+    }
+
+    /**
+     * It prepares the body, the bytes after the common attributes, for one serialization. The size
+     * and the written bytes come from the same build of the body.
+     *
+     * <p>By default, the catbuffer body builder is serialized once and its bytes are reused.
+     * Serializers that know the body size without a builder override this method.
+     *
+     * @param transaction the transaction to be serialized
+     * @return the {@link SerializedBody}.
+     */
+    default SerializedBody toSerializedBody(T transaction) {
+      byte[] body = toBodyBuilder(transaction).serialize();
+      return new SerializedBody(body.length, buffer -> buffer.put(body));
+    }
+  }
+
+  /** The body of a transaction ready to be written, its size is known before it's written. */
+  public static class SerializedBody {
+
+    /** The size of the body. */
+    private final int size;
+
+    /** The writer of the body. */
+    private final Consumer<ByteBuffer> writer;
+
+    /**
+     * @param size the size of the body.
+     * @param writer the writer of the body, it writes exactly size bytes into the buffer.
+     */
+    public SerializedBody(int size, Consumer<ByteBuffer> writer) {
+      this.size = size;
+      this.writer = writer;
+    }
+
+    /** @return the size of the body. */
+    public int getSize() {
+      return size;
+    }
+
+    /**
+     * It writes the body into the little endian buffer.
+     *
+     * @param buffer the buffer.
+     */
+    public void writeTo(ByteBuffer buffer) {
+      writer.accept(buffer);
+    }
   }
 
   private static class TransferTransactionSerializer
       implements TransactionSerializer<TransferTransaction> {
 
+    /** The size of the transfer body without mosaics and message. */
+    private static final int TRANSFER_FIXED_BODY_SIZE = 32;
+
+    /** The size of each mosaic, id and amount. */
+    private static final int MOSAIC_SIZE = 16;
+
     @Override
     public TransactionType getTransactionType() {
       return TransactionType.TRANSFER;
@@ -561,6 +757,25 @@ public class BinarySerializationImpl implements BinarySerialization {
           getMessageBuffer(transaction));
     }
 
+    /**
+     * The transfer body is the recipient (24), message size (2), mosaics count (1), reserved (4 +
+     * 1), the mosaics (16 each) and the message.
+     *
+     * @param transaction the transaction
+     * @return the body size.
+     */
+    @Override
+    public int getBodySize(TransferTransaction transaction) {
+      return TRANSFER_FIXED_BODY_SIZE
+          + MOSAIC_SIZE * transaction.getMosaics().size()
+          + transaction.getMessage().map(m -> m.getPayload().length).orElse(0);
+    }
+
+    @Override
+    public SerializedBody toSerializedBody(TransferTransaction transaction) {
+      return new SerializedBody(getBodySize(transaction), buffer -> writeBody(transaction, buffer));
+    }
+
     /**
      * Gets mosaic array.
      *
@@ -574,14 +789,16 @@ public class BinarySerializationImpl implements BinarySerialization {
       // Sort mosaics first
       final List<Mosaic> sortedMosaics =
           transaction.getMosaics().stream()
-              .sorted(Comparator.comparing(m -> m.getId().getId()))
+              .sorted(
+                  (m1, m2) ->
+                      Long.compareUnsigned(m1.getId().getIdAsLong(), m2.getId().getIdAsLong()))
               .collect(Collectors.toList());
 
       for (final Mosaic mosaic : sortedMosaics) {
         final UnresolvedMosaicBuilder mosaicBuilder =
             UnresolvedMosaicBuilder.create(
                 new UnresolvedMosaicIdDto(mosaic.getId().getIdAsLong()),
-                SerializationUtils.toAmount(mosaic.getAmount()));
+                new AmountDto(mosaic.getAmountAsLong()));
         unresolvedMosaicList.add(mosaicBuilder);
       }
       return unresolvedMosaicList;
@@ -629,8 +846,7 @@ public class BinarySerializationImpl implements BinarySerialization {
     @Override
     public Serializer toBodyBuilder(MosaicSupplyChangeTransaction transaction) {
       return MosaicSupplyChangeTransactionBodyBuilder.create(
-          new UnresolvedMosaicIdDto(
-              SerializationUtils.toUnsignedLong(transaction.getMosaicId().getId())),
+          new UnresolvedMosaicIdDto(transaction.getMosaicId().getIdAsLong()),
           SerializationUtils.toAmount(transaction.getDelta()),
           MosaicSupplyChangeActionDto.rawValueOf((byte) transaction.getAction().getValue()));
     }
@@ -670,7 +886,7 @@ public class BinarySerializationImpl implements BinarySerialization {
     @Override
     public Serializer toBodyBuilder(MosaicDefinitionTransaction transaction) {
       return MosaicDefinitionTransactionBodyBuilder.create(
-          new MosaicIdDto(SerializationUtils.toUnsignedLong(transaction.getMosaicId().getId())),
+          new MosaicIdDto(transaction.getMosaicId().getIdAsLong()),
           new BlockDurationDto(transaction.getBlockDuration().getDuration()),
           new MosaicNonceDto((int) transaction.getMosaicNonce().getNonceAsLong()),
           SerializationUtils.getMosaicFlagsEnumSet(transaction.getMosaicFlags()),
@@ -743,7 +959,7 @@ public class BinarySerializationImpl implements BinarySerialization {
       return AccountMetadataTransactionBodyBuilder.create(
           SerializationUtils.toUnresolvedAddress(
               transaction.getTargetAddress(), transaction.getNetworkType()),
-          SerializationUtils.toUnsignedLong(transaction.getScopedMetadataKey()),
+          ConvertUtils.toUnsignedLong(transaction.getScopedMetadataKey()),
           (short) transaction.getValueSizeDelta(),
           ByteBuffer.wrap(MetadataTransaction.toByteArray(transaction.getValue())));
     }
@@ -784,7 +1000,7 @@ public class BinarySerializationImpl implements BinarySerialization {
       return MosaicMetadataTransactionBodyBuilder.create(
           SerializationUtils.toUnresolvedAddress(
               transaction.getTargetAddress(), transaction.getNetworkType()),
-          SerializationUtils.toUnsignedLong(transaction.getScopedMetadataKey()),
+          ConvertUtils.toUnsignedLong(transaction.getScopedMetadataKey()),
           SerializationUtils.toUnresolvedMosaicIdDto(transaction.getTargetMosaicId()),
           (short) transaction.getValueSizeDelta(),
           ByteBuffer.wrap(MetadataTransaction.toByteArray(transaction.getValue())));
@@ -826,9 +1042,8 @@ public class BinarySerializationImpl implements BinarySerialization {
       return NamespaceMetadataTransactionBodyBuilder.create(
           SerializationUtils.toUnresolvedAddress(
               transaction.getTargetAddress(), transaction.getNetworkType()),
-          SerializationUtils.toUnsignedLong(transaction.getScopedMetadataKey()),
-          new NamespaceIdDto(
-              SerializationUtils.toUnsignedLong(transaction.getTargetNamespaceId().getId())),
+          ConvertUtils.toUnsignedLong(transaction.getScopedMetadataKey()),
+          new NamespaceIdDto(transaction.getTargetNamespaceId().getIdAsLong()),
           (short) transaction.getValueSizeDelta(),
           ByteBuffer.wrap(MetadataTransaction.toByteArray(transaction.getValue())));
     }
@@ -887,14 +1102,13 @@ public class BinarySerializationImpl implements BinarySerialization {
       ByteBuffer namespaceNameByteBuffer =
           ByteBuffer.wrap(StringEncoder.getBytes(transaction.getNamespaceName()));
       NamespaceIdDto namespaceIdDto =
-          new NamespaceIdDto(
-              SerializationUtils.toUnsignedLong(transaction.getNamespaceId().getId()));
+          new NamespaceIdDto(transaction.getNamespaceId().getIdAsLong());
 
       if (transaction.getNamespaceRegistrationType() == NamespaceRegistrationType.ROOT_NAMESPACE) {
         txBuilder =
             NamespaceRegistrationTransactionBodyBuilder.createRoot(
                 new BlockDurationDto(
-                    SerializationUtils.toUnsignedLong(
+                    ConvertUtils.toUnsignedLong(
                         transaction
                             .getDuration()
                             .orElseThrow(() -> new IllegalStateException("Duration is required")))),
@@ -905,7 +1119,7 @@ public class BinarySerializationImpl implements BinarySerialization {
         txBuilder =
             NamespaceRegistrationTransactionBodyBuilder.createChild(
                 new NamespaceIdDto(
-                    SerializationUtils.toUnsignedLong(
+                    ConvertUtils.toUnsignedLong(
                         transaction
                             .getParentId()
                             .orElseThrow(() -> new IllegalStateException("ParentId is required"))
@@ -954,7 +1168,7 @@ public class BinarySerializationImpl implements BinarySerialization {
     public Serializer toBodyBuilder(SecretLockTransaction transaction) {
       UnresolvedMosaicIdDto mosaicId =
           new UnresolvedMosaicIdDto(transaction.getMosaic().getId().getIdAsLong());
-      AmountDto amount = SerializationUtils.toAmount(transaction.getMosaic().getAmount());
+      AmountDto amount = new AmountDto(transaction.getMosaic().getAmountAsLong());
       UnresolvedMosaicBuilder unresolvedMosaicBuilder =
           UnresolvedMosaicBuilder.create(mosaicId, amount);
       return SecretLockTransactionBodyBuilder.create(
@@ -962,7 +1176,7 @@ public class BinarySerializationImpl implements BinarySerialization {
               transaction.getRecipient(), transaction.getNetworkType()),
           new Hash256Dto(getSecretBuffer(transaction)),
           unresolvedMosaicBuilder,
-          new BlockDurationDto(SerializationUtils.toUnsignedLong(transaction.getDuration())),
+          new BlockDurationDto(ConvertUtils.toUnsignedLong(transaction.getDuration())),
           LockHashAlgorithmDto.rawValueOf((byte) transaction.getHashAlgorithm().getValue()));
     }
 
@@ -1156,9 +1370,8 @@ public class BinarySerializationImpl implements BinarySerialization {
       return HashLockTransactionBodyBuilder.create(
           UnresolvedMosaicBuilder.create(
               new UnresolvedMosaicIdDto(transaction.getMosaic().getId().getIdAsLong()),
-              new AmountDto(
-                  SerializationUtils.toUnsignedLong(transaction.getMosaic().getAmount()))),
-          new BlockDurationDto(SerializationUtils.toUnsignedLong(transaction.getDuration())),
+              new AmountDto(transaction.getMosaic().getAmountAsLong())),
+          new BlockDurationDto(ConvertUtils.toUnsignedLong(transaction.getDuration())),
           new Hash256Dto(getHashBuffer(transaction)));
     }
 
@@ -1411,9 +1624,9 @@ public class BinarySerializationImpl implements BinarySerialization {
               transaction.getTargetAddress(), transaction.getNetworkType());
       return MosaicAddressRestrictionTransactionBodyBuilder.create(
           new UnresolvedMosaicIdDto(transaction.getMosaicId().getIdAsLong()),
-          SerializationUtils.toUnsignedLong(transaction.getRestrictionKey()),
-          SerializationUtils.toUnsignedLong(transaction.getPreviousRestrictionValue()),
-          SerializationUtils.toUnsignedLong(transaction.getNewRestrictionValue()),
+          ConvertUtils.toUnsignedLong(transaction.getRestrictionKey()),
+          ConvertUtils.toUnsignedLong(transaction.getPreviousRestrictionValue()),
+          ConvertUtils.toUnsignedLong(transaction.getNewRestrictionValue()),
           unresolvedAddressDto);
     }
   }
@@ -1465,9 +1678,9 @@ public class BinarySerializationImpl implements BinarySerialization {
       return MosaicGlobalRestrictionTransactionBodyBuilder.create(
           new UnresolvedMosaicIdDto(transaction.getMosaicId().getIdAsLong()),
           new UnresolvedMosaicIdDto(transaction.getReferenceMosaicId().getIdAsLong()),
-          SerializationUtils.toUnsignedLong(transaction.getRestrictionKey()),
-          SerializationUtils.toUnsignedLong(transaction.getPreviousRestrictionValue()),
-          SerializationUtils.toUnsignedLong(transaction.getNewRestrictionValue()),
+          ConvertUtils.toUnsignedLong(transaction.getRestrictionKey()),
+          ConvertUtils.toUnsignedLong(transaction.getPreviousRestrictionValue()),
+          ConvertUtils.toUnsignedLong(transaction.getNewRestrictionValue()),
           MosaicRestrictionTypeDto.rawValueOf(transaction.getPreviousRestrictionType().getValue()),
           MosaicRestrictionTypeDto.rawValueOf(transaction.getNewRestrictionType().getValue()));
     }
@@ -1538,6 +1751,15 @@ public class BinarySerializationImpl implements BinarySerialization {
   private static class AggregateTransactionSerializer
       implements TransactionSerializer<AggregateTransaction> {
 
+    /** The size of the transactions hash. */
+    private static final int HASH_SIZE = 32;
+
+    /** The size of a cosignature: version, signer and signature. */
+    private static final int COSIGNATURE_SIZE = 8 + SIGNER_SIZE + SIGNATURE_SIZE;
+
+    /** The embedded transactions are padded to this alignment. */
+    private static final int EMBEDDED_ALIGNMENT = 8;
+
     private final TransactionType transactionType;
 
     private final BinarySerializationImpl transactionSerialization;
@@ -1612,9 +1834,76 @@ public class BinarySerializationImpl implements BinarySerialization {
           cosignatures);
     }
 
+    /**
+     * It writes the aggregate body in one pass. The memoized embedded bytes of the inner
+     * transactions are copied into the buffer, there is no intermediate catbuffer {@link
+     * AggregateTransactionBodyBuilder}.
+     *
+     * <p>The layout is the same the body builder writes: transactions hash, payload size, reserved
+     * int, each embedded transaction padded to 8 bytes and the cosignatures.
+     *
+     * @param transaction the aggregate transaction to be serialized
+     * @param buffer the little endian buffer.
+     */
+    @Override
+    public void writeBody(AggregateTransaction transaction, ByteBuffer buffer) {
+      List<Transaction> innerTransactions = transaction.getInnerTransactions();
+      buffer.put(toFixedSize(ConvertUtils.getBytes(transaction.getTransactionsHash()), HASH_SIZE));
+      int payloadSize = 0;
+      for (Transaction innerTransaction : innerTransactions) {
+        int embeddedSize = innerTransaction.getEmbeddedSize();
+        payloadSize += embeddedSize + getPadding(embeddedSize);
+      }
+      buffer.putInt(payloadSize);
+      buffer.putInt(0);
+      for (Transaction innerTransaction : innerTransactions) {
+        innerTransaction.writeEmbeddedBytes(buffer);
+        skip(buffer, getPadding(innerTransaction.getEmbeddedSize()));
+      }
+      for (AggregateTransactionCosignature cosignature : transaction.getCosignatures()) {
+        buffer.putLong(ConvertUtils.toUnsignedLong(cosignature.getVersion()));
+        buffer.put(toFixedSize(cosignature.getSigner().getPublicKey().getBytes(), SIGNER_SIZE));
+        buffer.put(toFixedSize(ConvertUtils.getBytes(cosignature.getSignature()), SIGNATURE_SIZE));
+      }
+    }
+
+    /**
+     * The aggregate body is the transactions hash (32), payload size (4), reserved (4), the padded
+     * embedded transactions and the cosignatures (104 each).
+     *
+     * @param transaction the transaction
+     * @return the body size.
+     */
+    @Override
+    public int getBodySize(AggregateTransaction transaction) {
+      int payloadSize = 0;
+      for (Transaction innerTransaction : transaction.getInnerTransactions()) {
+        int embeddedSize = transactionSerialization.computeEmbeddedSize(innerTransaction);
+        payloadSize += embeddedSize + getPadding(embeddedSize);
+      }
+      return HASH_SIZE
+          + 4
+          + 4
+          + payloadSize
+          + COSIGNATURE_SIZE * transaction.getCosignatures().size();
+    }
+
+    @Override
+    public SerializedBody toSerializedBody(AggregateTransaction transaction) {
+      return new SerializedBody(getBodySize(transaction), buffer -> writeBody(transaction, buffer));
+    }
+
+    /**
+     * @param size the size of an embedded transaction.
+     * @return the zeros added after the embedded transaction to align it to 8 bytes.
+     */
+    private static int getPadding(int size) {
+      return (EMBEDDED_ALIGNMENT - size % EMBEDDED_ALIGNMENT) % EMBEDDED_ALIGNMENT;
+    }
+
     private CosignatureBuilder getCosignatureBuilder(AggregateTransactionCosignature c) {
       return CosignatureBuilder.create(
-          SerializationUtils.toUnsignedLong(c.getVersion()),
+          ConvertUtils.toUnsignedLong(c.getVersion()),
           SerializationUtils.toKeyDto(c.getSigner().getPublicKey()),
           SerializationUtils.toSignatureDto(c.getSignature()));
     }
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.core.utils.ConvertUtils;
+import io.nem.symbol.sdk.api.BinarySerialization;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.model.transaction.TransactionFactory;
+import io.nem.symbol.sdk.model.transaction.TransactionInfo;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * It maps transactions from their symbol buffer payload instead of mapping their json attributes
+ * one by one. It's a standalone utility for sources that hold raw payloads, like transaction files
+ * or caches. Catapult rest doesn't return payloads, the repositories keep using the json mapping.
+ * The source only provides the optional {@link TransactionInfo} meta.
+ *
+ * <p>Inner transactions of aggregates are rebuilt from the aggregate payload, they don't get
+ * their own {@link TransactionInfo}.
+ */
+public class BinaryTransactionMapper {
+
+  /** The name of the json attribute holding the hex payload of a transaction. */
+  public static final String PAYLOAD_FIELD = "payload";
+
+  private final BinarySerialization binarySerialization;
+
+  /** @param binarySerialization the serialization used to deserialize the payloads. */
+  public BinaryTransactionMapper(BinarySerialization binarySerialization) {
+    Validate.notNull(binarySerialization, "binarySerialization must not be null");
+    this.binarySerialization = binarySerialization;
+  }
+
+  /**
+   * It maps the transaction payload into a transaction factory.
+   *
+   * @param payload the symbol buffer payload.
+   * @param transactionInfo the optional transaction info.
+   * @return the {@link TransactionFactory}
+   */
+  public TransactionFactory<?> mapToFactory(byte[] payload, TransactionInfo transactionInfo) {
+    Validate.notNull(payload, "payload must not be null");
+    TransactionFactory<?> factory = binarySerialization.deserializeToFactory(payload);
+    factory.size(payload.length);
+    if (transactionInfo != null) {
+      factory.transactionInfo(transactionInfo);
+    }
+    return factory;
+  }
+
+  /**
+   * It maps the hex transaction payload into a transaction factory.
+   *
+   * @param payload the hex symbol buffer payload.
+   * @param transactionInfo the optional transaction info.
+   * @return the {@link TransactionFactory}
+   */
+  public TransactionFactory<?> mapToFactory(String payload, TransactionInfo transactionInfo) {
+    Validate.notNull(payload, "payload must not be null");
+    return mapToFactory(ConvertUtils.fromHexToBytes(payload), transactionInfo);
+  }
+
+  /**
+   * It maps the transaction payload into a transaction.
+   *
+   * @param payload the symbol buffer payload.
+   * @param transactionInfo the optional transaction info.
+   * @return the {@link Transaction}
+   */
+  public Transaction map(byte[] payload, TransactionInfo transactionInfo) {
+    return mapToFactory(payload, transactionInfo).build();
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.sdk.model.transaction.SignedTransaction;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.model.transaction.TransactionStatusError;
+import io.nem.symbol.sdk.model.transaction.TransactionStatusException;
+import java.util.Optional;
+
+/**
+ * The outcome of one signed transaction announced by the {@link BulkTransactionAnnouncer}. Either
+ * the transaction has been confirmed, or it has been rejected by the catapult server (status
+ * error), or it couldn't be announced at all (rest error after all the retries).
+ */
+public class BulkAnnounceResult {
+
+  /** The announced signed transaction. */
+  private final SignedTransaction signedTransaction;
+
+  /** The confirmed transaction, null if it failed. */
+  private final Transaction transaction;
+
+  /** The error raised when announcing or waiting for the transaction, null if confirmed. */
+  private final Throwable error;
+
+  private BulkAnnounceResult(
+      SignedTransaction signedTransaction, Transaction transaction, Throwable error) {
+    this.signedTransaction = signedTransaction;
+    this.transaction = transaction;
+    this.error = error;
+  }
+
+  /**
+   * Creates a successful result.
+   *
+   * @param signedTransaction the announced signed transaction.
+   * @param transaction the confirmed transaction.
+   * @return the result.
+   */
+  public static BulkAnnounceResult confirmed(
+      SignedTransaction signedTransaction, Transaction transaction) {
+    return new BulkAnnounceResult(signedTransaction, transaction, null);
+  }
+
+  /**
+   * Creates a failed result.
+   *
+   * @param signedTransaction the announced signed transaction.
+   * @param error the error raised when announcing or waiting for the transaction.
+   * @return the result.
+   */
+  public static BulkAnnounceResult failed(SignedTransaction signedTransaction, Throwable error) {
+    return new BulkAnnounceResult(signedTransaction, null, error);
+  }
+
+  /** @return the announced signed transaction. */
+  public SignedTransaction getSignedTransaction() {
+    return signedTransaction;
+  }
+
+  /** @return the confirmed transaction if the transaction was confirmed. */
+  public Optional<Transaction> getTransaction() {
+    return Optional.ofNullable(transaction);
+  }
+
+  /** @return the error if the transaction couldn't be announced or confirmed. */
+  public Optional<Throwable> getError() {
+    return Optional.ofNullable(error);
+  }
+
+  /**
+   * @return the status error sent by the catapult server via web socket if the transaction was
+   *     rejected.
+   */
+  public Optional<TransactionStatusError> getStatusError() {
+    if (error instanceof TransactionStatusException) {
+      return Optional.of(((TransactionStatusException) error).getStatusError());
+    }
+    return Optional.empty();
+  }
+
+  /** @return if the transaction has been confirmed. */
+  public boolean isConfirmed() {
+    return transaction != null;
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import java.util.Optional;
+
+/**
+ * The outcome of one payload deserialized by the {@link BulkTransactionDeserializer}. Either the
+ * transaction has been deserialized or the error explains why the payload couldn't be.
+ */
+public class BulkDeserializationResult {
+
+  /** The position of the payload in the batch. */
+  private final int index;
+
+  /** The deserialized transaction, null if it failed. */
+  private final Transaction transaction;
+
+  /** The error raised when deserializing the payload, null if deserialized. */
+  private final Throwable error;
+
+  private BulkDeserializationResult(int index, Transaction transaction, Throwable error) {
+    this.index = index;
+    this.transaction = transaction;
+    this.error = error;
+  }
+
+  /**
+   * Creates a successful result.
+   *
+   * @param index the position of the payload in the batch.
+   * @param transaction the deserialized transaction.
+   * @return the result.
+   */
+  public static BulkDeserializationResult deserialized(int index, Transaction transaction) {
+    return new BulkDeserializationResult(index, transaction, null);
+  }
+
+  /**
+   * Creates a failed result.
+   *
+   * @param index the position of the payload in the batch.
+   * @param error the error raised when deserializing the payload.
+   * @return the result.
+   */
+  public static BulkDeserializationResult failed(int index, Throwable error) {
+    return new BulkDeserializationResult(index, null, error);
+  }
+
+  /** @return the position of the payload in the batch. */
+  public int getIndex() {
+    return index;
+  }
+
+  /** @return the transaction if the payload was deserialized. */
+  public Optional<Transaction> getTransaction() {
+    return Optional.ofNullable(transaction);
+  }
+
+  /** @return the error if the payload couldn't be deserialized. */
+  public Optional<Throwable> getError() {
+    return Optional.ofNullable(error);
+  }
+
+  /** @return if the payload has been deserialized. */
+  public boolean isDeserialized() {
+    return transaction != null;
+  }
+}
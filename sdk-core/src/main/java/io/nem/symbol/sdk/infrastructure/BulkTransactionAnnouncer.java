@@ -0,0 +1,288 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.core.utils.ConvertUtils;
+import io.nem.symbol.core.utils.HttpStatus;
+import io.nem.symbol.sdk.api.Listener;
+import io.nem.symbol.sdk.api.RepositoryCallException;
+import io.nem.symbol.sdk.api.RepositoryFactory;
+import io.nem.symbol.sdk.api.TransactionRepository;
+import io.nem.symbol.sdk.model.transaction.SignedTransaction;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.model.transaction.TransactionAnnounceResponse;
+import io.nem.symbol.sdk.model.transaction.TransactionType;
+import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.schedulers.Schedulers;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.Validate;
+import org.apache.commons.lang3.tuple.Pair;
+
+/**
+ * Helper that announces a large batch of signed transactions keeping a bounded window of in-flight
+ * announce requests.
+ *
+ * <p>Transactions are ordered by max fee (highest first) per signer and the signers are
+ * interleaved so a single signer doesn't monopolize the window. Announce calls failing with 429 or
+ * 5xx are retried with exponential backoff. Every transaction is reported once in the returned
+ * stream as a {@link BulkAnnounceResult}, either confirmed or with the status error sent by the
+ * catapult server.
+ */
+public class BulkTransactionAnnouncer {
+
+  /** The hex offset of the max fee in a transaction payload (size, reserved, signature, etc.) */
+  private static final int MAX_FEE_HEX_OFFSET = (4 + 4 + 64 + 32 + 4 + 1 + 1 + 2) * 2;
+
+  /** The hex size of the max fee in a transaction payload. */
+  private static final int MAX_FEE_HEX_SIZE = 8 * 2;
+
+  /** The @{@link TransactionRepository} used to announce the transactions. */
+  private final TransactionRepository transactionRepository;
+
+  /** The max number of announce requests running at the same time. */
+  private int maxInFlight = 16;
+
+  /** The max number of retries of a throttled or failed announce request. */
+  private int maxRetries = 5;
+
+  /** The delay before the first retry. It's doubled on each following retry. */
+  private Duration initialBackoff = Duration.ofMillis(500);
+
+  /** The max delay between retries. */
+  private Duration maxBackoff = Duration.ofSeconds(30);
+
+  /** The scheduler used to delay the retries. */
+  private Scheduler scheduler = Schedulers.computation();
+
+  /**
+   * The constructor
+   *
+   * @param repositoryFactory the {@link RepositoryFactory} with the catapult server connection.
+   */
+  public BulkTransactionAnnouncer(RepositoryFactory repositoryFactory) {
+    this.transactionRepository = repositoryFactory.createTransactionRepository();
+  }
+
+  /**
+   * Sets the max number of announce requests running at the same time.
+   *
+   * @param maxInFlight the window size.
+   * @return this announcer.
+   */
+  public BulkTransactionAnnouncer withMaxInFlight(int maxInFlight) {
+    Validate.isTrue(maxInFlight > 0, "maxInFlight must be positive");
+    this.maxInFlight = maxInFlight;
+    return this;
+  }
+
+  /**
+   * Sets the max number of retries of an announce request failing with 429 or 5xx.
+   *
+   * @param maxRetries the max number of retries.
+   * @return this announcer.
+   */
+  public BulkTransactionAnnouncer withMaxRetries(int maxRetries) {
+    Validate.isTrue(maxRetries >= 0, "maxRetries must not be negative");
+    this.maxRetries = maxRetries;
+    return this;
+  }
+
+  /**
+   * Sets the backoff delays. The first retry waits the initial backoff, the following ones double
+   * it until the max backoff is reached.
+   *
+   * @param initialBackoff the delay before the first retry.
+   * @param maxBackoff the max delay between retries.
+   * @return this announcer.
+   */
+  public BulkTransactionAnnouncer withBackoff(Duration initialBackoff, Duration maxBackoff) {
+    Validate.notNull(initialBackoff, "initialBackoff is required");
+    Validate.notNull(maxBackoff, "maxBackoff is required");
+    this.initialBackoff = initialBackoff;
+    this.maxBackoff = maxBackoff;
+    return this;
+  }
+
+  /**
+   * Sets the scheduler used to delay the retries.
+   *
+   * @param scheduler the scheduler.
+   * @return this announcer.
+   */
+  public BulkTransactionAnnouncer withScheduler(Scheduler scheduler) {
+    Validate.notNull(scheduler, "scheduler is required");
+    this.scheduler = scheduler;
+    return this;
+  }
+
+  /**
+   * Announces all the signed transactions waiting for them to be confirmed (or added when the
+   * transaction is an aggregate bonded).
+   *
+   * @param listener the open web socket listener used to detect confirmed transactions or status
+   *     errors.
+   * @param signedTransactions the signed transactions to be announced.
+   * @return an Observable that emits one {@link BulkAnnounceResult} per signed transaction. The
+   *     observable doesn't fail when a single transaction fails.
+   */
+  public Observable<BulkAnnounceResult> announce(
+      Listener listener, List<SignedTransaction> signedTransactions) {
+    Validate.notNull(listener, "listener is required");
+    Validate.notNull(signedTransactions, "signedTransactions is required");
+    return Observable.fromIterable(order(signedTransactions))
+        .flatMap(
+            signedTransaction ->
+                announceWithBackoff(signedTransaction)
+                    .map(r -> Pair.of(signedTransaction, (Throwable) null))
+                    .onErrorReturn(e -> Pair.of(signedTransaction, e)),
+            maxInFlight)
+        .flatMap(
+            pair -> {
+              SignedTransaction signedTransaction = pair.getLeft();
+              if (pair.getRight() != null) {
+                return Observable.just(
+                    BulkAnnounceResult.failed(signedTransaction, pair.getRight()));
+              }
+              return waitFor(listener, signedTransaction)
+                  .map(t -> BulkAnnounceResult.confirmed(signedTransaction, t))
+                  .onErrorReturn(e -> BulkAnnounceResult.failed(signedTransaction, e));
+            });
+  }
+
+  private Observable<? extends Transaction> waitFor(
+      Listener listener, SignedTransaction signedTransaction) {
+    if (signedTransaction.getType() == TransactionType.AGGREGATE_BONDED) {
+      return listener.aggregateBondedAddedOrError(
+          signedTransaction.getSigner().getAddress(), signedTransaction.getHash());
+    }
+    return listener.confirmedOrError(
+        signedTransaction.getSigner().getAddress(), signedTransaction.getHash());
+  }
+
+  private Observable<TransactionAnnounceResponse> announceWithBackoff(
+      SignedTransaction signedTransaction) {
+    return Observable.defer(
+            () -> {
+              if (signedTransaction.getType() == TransactionType.AGGREGATE_BONDED) {
+                return transactionRepository.announceAggregateBonded(signedTransaction);
+              }
+              return transactionRepository.announce(signedTransaction);
+            })
+        .retryWhen(
+            errors ->
+                errors
+                    .zipWith(Observable.range(1, maxRetries + 1), Pair::of)
+                    .flatMap(
+                        pair -> {
+                          Throwable error = pair.getLeft();
+                          int attempt = pair.getRight();
+                          if (attempt > maxRetries || !isRetryable(error)) {
+                            return Observable.error(error);
+                          }
+                          return Observable.timer(
+                              getBackoff(attempt), TimeUnit.MILLISECONDS, scheduler);
+                        }));
+  }
+
+  /**
+   * @param attempt the retry attempt, starting from 1.
+   * @return the delay in millis before the given retry.
+   */
+  long getBackoff(int attempt) {
+    long max = maxBackoff.toMillis();
+    long delay = initialBackoff.toMillis();
+    for (int i = 1; i < attempt && delay < max; i++) {
+      delay = delay * 2;
+    }
+    return Math.min(delay, max);
+  }
+
+  /**
+   * @param error the error raised by the repository.
+   * @return if the announce request is worth retrying (throttled or server error).
+   */
+  static boolean isRetryable(Throwable error) {
+    if (!(error instanceof RepositoryCallException)) {
+      return false;
+    }
+    int statusCode = ((RepositoryCallException) error).getStatusCode();
+    return statusCode == HttpStatus.TOO_MANY_REQUESTS.value()
+        || statusCode >= HttpStatus.INTERNAL_SERVER_ERROR.value();
+  }
+
+  /**
+   * Orders the transactions by max fee (highest first) per signer, interleaving the different
+   * signers.
+   *
+   * @param signedTransactions the transactions.
+   * @return the ordered transactions.
+   */
+  static List<SignedTransaction> order(List<SignedTransaction> signedTransactions) {
+    Map<String, List<SignedTransaction>> bySigner = new LinkedHashMap<>();
+    for (SignedTransaction signedTransaction : signedTransactions) {
+      bySigner
+          .computeIfAbsent(
+              signedTransaction.getSigner().getPublicKey().toHex(), k -> new ArrayList<>())
+          .add(signedTransaction);
+    }
+    Comparator<SignedTransaction> byFee =
+        Comparator.comparing(BulkTransactionAnnouncer::getMaxFee).reversed();
+    List<Iterator<SignedTransaction>> queues = new ArrayList<>(bySigner.size());
+    for (List<SignedTransaction> signerTransactions : bySigner.values()) {
+      signerTransactions.sort(byFee);
+      queues.add(signerTransactions.iterator());
+    }
+    List<SignedTransaction> ordered = new ArrayList<>(signedTransactions.size());
+    while (!queues.isEmpty()) {
+      Iterator<Iterator<SignedTransaction>> queuesIterator = queues.iterator();
+      while (queuesIterator.hasNext()) {
+        Iterator<SignedTransaction> queue = queuesIterator.next();
+        ordered.add(queue.next());
+        if (!queue.hasNext()) {
+          queuesIterator.remove();
+        }
+      }
+    }
+    return ordered;
+  }
+
+  /**
+   * Reads the max fee from the signed transaction payload without deserializing it.
+   *
+   * @param signedTransaction the signed transaction.
+   * @return the max fee or zero if the payload is too short.
+   */
+  static BigInteger getMaxFee(SignedTransaction signedTransaction) {
+    String payload = signedTransaction.getPayload();
+    if (payload == null || payload.length() < MAX_FEE_HEX_OFFSET + MAX_FEE_HEX_SIZE) {
+      return BigInteger.ZERO;
+    }
+    byte[] fee =
+        ConvertUtils.fromHexToBytes(
+            ConvertUtils.reverseHexString(
+                payload.substring(MAX_FEE_HEX_OFFSET, MAX_FEE_HEX_OFFSET + MAX_FEE_HEX_SIZE)));
+    return new BigInteger(1, fee);
+  }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.sdk.api.BinarySerialization;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Helper that deserializes large batches of transaction payloads in parallel.
+ *
+ * <p>The batch is split recursively in a {@link ForkJoinPool} until the chunks are small enough to
+ * be deserialized sequentially. The results keep the order of the payloads. A payload that cannot
+ * be deserialized doesn't abort the batch, it's reported as a failed {@link
+ * BulkDeserializationResult}.
+ */
+public class BulkTransactionDeserializer {
+
+  /** The size of the payload size field at the start of each payload. */
+  private static final int PAYLOAD_SIZE_SIZE = 4;
+
+  /** The {@link BinarySerialization} used to deserialize the payloads. */
+  private final BinarySerialization binarySerialization;
+
+  /** The pool running the deserialization tasks. */
+  private ForkJoinPool pool = ForkJoinPool.commonPool();
+
+  /** The max number of payloads deserialized sequentially by one task. */
+  private int threshold = 64;
+
+  /**
+   * The constructor
+   *
+   * @param binarySerialization the serialization used to deserialize the payloads.
+   */
+  public BulkTransactionDeserializer(BinarySerialization binarySerialization) {
+    Validate.notNull(binarySerialization, "binarySerialization must not be null");
+    this.binarySerialization = binarySerialization;
+  }
+
+  /**
+   * Sets the pool running the deserialization tasks. The common pool is used by default.
+   *
+   * @param pool the pool.
+   * @return this deserializer.
+   */
+  public BulkTransactionDeserializer withPool(ForkJoinPool pool) {
+    Validate.notNull(pool, "pool is required");
+    this.pool = pool;
+    return this;
+  }
+
+  /**
+   * Sets the max number of payloads a task deserializes without splitting its chunk any further.
+   *
+   * @param threshold the threshold.
+   * @return this deserializer.
+   */
+  public BulkTransactionDeserializer withThreshold(int threshold) {
+    Validate.isTrue(threshold > 0, "threshold must be positive");
+    this.threshold = threshold;
+    return this;
+  }
+
+  /**
+   * It deserializes the payloads in parallel.
+   *
+   * @param payloads the payloads.
+   * @return one result per payload, in the same order.
+   */
+  public List<BulkDeserializationResult> deserialize(List<byte[]> payloads) {
+    Validate.notNull(payloads, "payloads must not be null");
+    BulkDeserializationResult[] results = new BulkDeserializationResult[payloads.size()];
+    pool.invoke(new DeserializeTask(payloads, results, 0, payloads.size()));
+    return Arrays.asList(results);
+  }
+
+  /**
+   * It deserializes the payloads of the stream in parallel.
+   *
+   * @param payloads the stream of payloads.
+   * @return one result per payload, in the encounter order of the stream.
+   */
+  public List<BulkDeserializationResult> deserialize(Stream<byte[]> payloads) {
+    Validate.notNull(payloads, "payloads must not be null");
+    return deserialize(payloads.collect(Collectors.toList()));
+  }
+
+  /**
+   * It deserializes a region of consecutive payloads, for example a memory mapped file of
+   * transactions. The region goes from the buffer's position to its limit and each payload starts
+   * with its own size. The buffer's position is not changed.
+   *
+   * <p>The region is split sequentially using the payload sizes, the payloads are then copied and
+   * deserialized in parallel. If a payload has an invalid size the rest of the region cannot be
+   * split, it's reported as a last failed result.
+   *
+   * @param region the buffer holding the payloads.
+   * @return one result per payload, in the same order.
+   */
+  public List<BulkDeserializationResult> deserialize(ByteBuffer region) {
+    Validate.notNull(region, "region must not be null");
+    ByteBuffer buffer = region.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+    List<ByteBuffer> slices = new ArrayList<>();
+    IllegalArgumentException error = null;
+    int offset = buffer.position();
+    while (offset < buffer.limit()) {
+      int remaining = buffer.limit() - offset;
+      int size = remaining < PAYLOAD_SIZE_SIZE ? -1 : buffer.getInt(offset);
+      if (size < PAYLOAD_SIZE_SIZE || size > remaining) {
+        error =
+            new IllegalArgumentException(
+                "Invalid payload size " + size + " at offset " + offset + " of the region");
+        break;
+      }
+      ByteBuffer slice = buffer.duplicate();
+      slice.position(offset);
+      slice.limit(offset + size);
+      slices.add(slice.slice());
+      offset += size;
+    }
+    List<byte[]> payloads =
+        slices.stream().map(BulkTransactionDeserializer::toBytes).collect(Collectors.toList());
+    List<BulkDeserializationResult> results = new ArrayList<>(deserialize(payloads));
+    if (error != null) {
+      results.add(BulkDeserializationResult.failed(results.size(), error));
+    }
+    return results;
+  }
+
+  private static byte[] toBytes(ByteBuffer slice) {
+    byte[] bytes = new byte[slice.remaining()];
+    slice.duplicate().get(bytes);
+    return bytes;
+  }
+
+  /** Fork join task deserializing the payloads of a range. */
+  private class DeserializeTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient List<byte[]> payloads;
+
+    private final transient BulkDeserializationResult[] results;
+
+    private final int from;
+
+    private final int to;
+
+    DeserializeTask(List<byte[]> payloads, BulkDeserializationResult[] results, int from, int to) {
+      this.payloads = payloads;
+      this.results = results;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= threshold) {
+        for (int i = from; i < to; i++) {
+          results[i] = deserialize(i);
+        }
+        return;
+      }
+      int middle = (from + to) >>> 1;
+      invokeAll(
+          new DeserializeTask(payloads, results, from, middle),
+          new DeserializeTask(payloads, results, middle, to));
+    }
+
+    private BulkDeserializationResult deserialize(int index) {
+      try {
+        return BulkDeserializationResult.deserialized(
+            index, binarySerialization.deserialize(payloads.get(index)));
+      } catch (Exception e) {
+        return BulkDeserializationResult.failed(index, e);
+      }
+    }
+  }
+}
@@ -32,9 +32,7 @@ import io.nem.symbol.catapult.builders.UnresolvedMosaicIdDto;
 import io.nem.symbol.catapult.builders.VotingKeyDto;
 import io.nem.symbol.core.crypto.PublicKey;
 import io.nem.symbol.core.crypto.VotingKey;
-import io.nem.symbol.core.utils.Base32Encoder;
 import io.nem.symbol.core.utils.ConvertUtils;
-import io.nem.symbol.core.utils.MapperUtils;
 import io.nem.symbol.core.utils.StringEncoder;
 import io.nem.symbol.sdk.model.account.Address;
 import io.nem.symbol.sdk.model.account.PublicAccount;
@@ -82,8 +80,8 @@ public class SerializationUtils {
    */
   public static Mosaic toMosaic(UnresolvedMosaicBuilder builder) {
     return new Mosaic(
-        new MosaicId(toUnsignedBigInteger(builder.getMosaicId().getUnresolvedMosaicId())),
-        toUnsignedBigInteger(builder.getAmount().getAmount()));
+        new MosaicId(builder.getMosaicId().getUnresolvedMosaicId()),
+        builder.getAmount().getAmount());
   }
 
   /**
@@ -93,7 +91,7 @@ public class SerializationUtils {
    * @return the model {@link UnresolvedMosaicId}
    */
   public static UnresolvedMosaicId toUnresolvedMosaicId(UnresolvedMosaicIdDto dto) {
-    return new MosaicId(toUnsignedBigInteger(dto.getUnresolvedMosaicId()));
+    return new MosaicId(dto.getUnresolvedMosaicId());
   }
 
   /**
@@ -103,7 +101,7 @@ public class SerializationUtils {
    * @return the model {@link MosaicId}
    */
   public static MosaicId toMosaicId(MosaicIdDto dto) {
-    return new MosaicId(toUnsignedBigInteger(dto.getMosaicId()));
+    return new MosaicId(dto.getMosaicId());
   }
 
   /**
@@ -113,7 +111,7 @@ public class SerializationUtils {
    * @return the model {@link NamespaceId}
    */
   public static NamespaceId toNamespaceId(NamespaceIdDto dto) {
-    return NamespaceId.createFromId(toUnsignedBigInteger(dto.getNamespaceId()));
+    return NamespaceId.createFromId(dto.getNamespaceId());
   }
 
   /**
@@ -151,7 +149,7 @@ public class SerializationUtils {
    * @return the serialized {@link ByteBuffer}
    */
   public static ByteBuffer fromAddressToByteBuffer(Address resolvedAddress) {
-    return ByteBuffer.wrap(Base32Encoder.getBytes(resolvedAddress.plain()));
+    return ByteBuffer.wrap(resolvedAddress.getBytes());
   }
 
   /**
@@ -165,13 +163,14 @@ public class SerializationUtils {
   }
 
   /**
-   * It creates a {@link Address} from an {@link AddressDto}.
+   * It creates a {@link Address} from an {@link AddressDto}. The address checksum is validated, the
+   * valid address is interned.
    *
    * @param dto the catbuffer {@link AddressDto}.
    * @return the model {@link Address}
    */
   public static Address toAddress(AddressDto dto) {
-    return Address.createFromEncoded(ConvertUtils.toHex(dto.getAddress().array()));
+    return Address.createFromBytes(dto.getAddress().array()).intern();
   }
 
   /**
@@ -194,7 +193,23 @@ public class SerializationUtils {
    * @return the model {@link UnresolvedAddress}
    */
   public static UnresolvedAddress toUnresolvedAddress(UnresolvedAddressDto dto) {
-    return MapperUtils.toUnresolvedAddress(ConvertUtils.toHex(dto.getUnresolvedAddress().array()));
+    return toUnresolvedAddress(dto.getUnresolvedAddress().array());
+  }
+
+  /**
+   * It creates a {@link UnresolvedAddress} from the 24 bytes of a serialized unresolved address.
+   * The address checksum is validated, the valid address is interned.
+   *
+   * @param bytes the unresolved address bytes, they are copied.
+   * @return the model {@link UnresolvedAddress}
+   */
+  public static UnresolvedAddress toUnresolvedAddress(byte[] bytes) {
+    // If bit 4 of byte 0 is set (e.g. 0x91) it represents a namespace id which starts at byte 1.
+    if ((bytes[0] & 16) == 16) {
+      return NamespaceId.createFromId(
+          ByteBuffer.wrap(bytes, 1, Long.BYTES).order(ByteOrder.LITTLE_ENDIAN).getLong());
+    }
+    return Address.createFromBytes(bytes).intern();
   }
 
   /**
@@ -264,18 +279,7 @@ public class SerializationUtils {
    * @return the hex string.
    */
   public static String toHexString(Hash256Dto dto) {
-    return ConvertUtils.toHex(dto.getHash256().array()).toUpperCase();
-  }
-
-  /**
-   * Converts and valida a big integer value to "unsigned long".
-   *
-   * @param number The input string.
-   * @return the long.
-   */
-  public static long toUnsignedLong(final BigInteger number) {
-    ConvertUtils.validateNotNegative(number);
-    return number.longValue();
+    return ConvertUtils.toHex(dto.getHash256().array());
   }
 
   /**
@@ -285,7 +289,7 @@ public class SerializationUtils {
    * @return the hex string.
    */
   public static String toHexString(ByteBuffer buffer) {
-    return ConvertUtils.toHex(buffer.array()).toUpperCase();
+    return ConvertUtils.toHex(buffer.array());
   }
 
   /**
@@ -405,7 +409,7 @@ public class SerializationUtils {
    * @return the dto
    */
   public static UnresolvedMosaicIdDto toUnresolvedMosaicIdDto(UnresolvedMosaicId mosaicId) {
-    return new UnresolvedMosaicIdDto(mosaicId.getId().longValue());
+    return new UnresolvedMosaicIdDto(mosaicId.getIdAsLong());
   }
 
   /**
@@ -415,7 +419,7 @@ public class SerializationUtils {
    * @return the dto
    */
   public static MosaicIdDto toMosaicIdDto(MosaicId mosaicId) {
-    return new MosaicIdDto(mosaicId.getId().longValue());
+    return new MosaicIdDto(mosaicId.getIdAsLong());
   }
 
   /**
@@ -443,7 +447,8 @@ public class SerializationUtils {
    * @return the dto
    */
   private static MosaicBuilder toMosaicBuilder(ResolvedMosaic mosaic) {
-    return MosaicBuilder.create(toMosaicIdDto(mosaic.getId()), toAmount(mosaic.getAmount()));
+    return MosaicBuilder.create(
+        toMosaicIdDto(mosaic.getId()), new AmountDto(mosaic.getAmountAsLong()));
   }
 
   /**
@@ -453,7 +458,7 @@ public class SerializationUtils {
    * @return the dto.
    */
   public static AmountDto toAmount(BigInteger amount) {
-    return new AmountDto(SerializationUtils.toUnsignedLong(amount));
+    return new AmountDto(ConvertUtils.toUnsignedLong(amount));
   }
 
   /**
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.core.utils.ConvertUtils;
+import io.nem.symbol.sdk.model.transaction.TransactionInfo;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * The layout of the files written by {@link TransactionFileWriter} and read by {@link
+ * TransactionFileReader}. All the numbers are little endian.
+ *
+ * <pre>
+ * file   := magic (u32) | format version (u32) | record*
+ * record := record size (u32, bytes after this field) | payload size (u32) | payload | meta
+ * meta   := flags (u8) | [height (u64) | index (u32)? | id? | hash? | merkle component hash?
+ *           | aggregate hash? | aggregate id?]
+ * </pre>
+ *
+ * <p>The payload is the catbuffer serialization of the transaction. Ids are utf-8 strings and
+ * hashes are the decoded hex bytes, both prefixed with their size (u16). The flags tell which of
+ * the optional {@link TransactionInfo} attributes are present.
+ */
+final class TransactionFileFormat {
+
+  /** The bytes "SYTX" read as a little endian int. */
+  static final int MAGIC = 0x58545953;
+
+  /** The current format version. */
+  static final int FORMAT_VERSION = 1;
+
+  /** The size of the file header, magic and format version. */
+  static final int FILE_HEADER_SIZE = 8;
+
+  /** The size of the record size field. */
+  static final int RECORD_SIZE_SIZE = 4;
+
+  /** The size of the payload size field. */
+  static final int PAYLOAD_SIZE_SIZE = 4;
+
+  private static final int HAS_INFO = 1;
+
+  private static final int HAS_INDEX = 1 << 1;
+
+  private static final int HAS_ID = 1 << 2;
+
+  private static final int HAS_HASH = 1 << 3;
+
+  private static final int HAS_MERKLE_COMPONENT_HASH = 1 << 4;
+
+  private static final int HAS_AGGREGATE_HASH = 1 << 5;
+
+  private static final int HAS_AGGREGATE_ID = 1 << 6;
+
+  private static final int MAX_FIELD_SIZE = 0xFFFF;
+
+  /** Private constructor. */
+  private TransactionFileFormat() {}
+
+  /** @return a new little endian buffer with the file header. */
+  static ByteBuffer createFileHeader() {
+    ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    header.putInt(MAGIC);
+    header.putInt(FORMAT_VERSION);
+    header.flip();
+    return header;
+  }
+
+  /**
+   * It validates the file header.
+   *
+   * @param header the little endian buffer holding the header at its current position.
+   * @throws IllegalStateException if the header is not valid.
+   */
+  static void validateFileHeader(ByteBuffer header) {
+    if (header.remaining() < FILE_HEADER_SIZE) {
+      throw new IllegalStateException("Transaction file is too short, it has no header");
+    }
+    int magic = header.getInt(header.position());
+    if (magic != MAGIC) {
+      throw new IllegalStateException("Not a transaction file, invalid magic " + magic);
+    }
+    int version = header.getInt(header.position() + 4);
+    if (version != FORMAT_VERSION) {
+      throw new IllegalStateException("Unsupported transaction file version " + version);
+    }
+  }
+
+  /**
+   * It encodes the transaction info meta of a record.
+   *
+   * @param transactionInfo the transaction info, it can be null.
+   * @return the encoded meta.
+   */
+  static byte[] encodeMeta(TransactionInfo transactionInfo) {
+    if (transactionInfo == null) {
+      return new byte[] {0};
+    }
+    byte[] id = transactionInfo.getId().map(TransactionFileFormat::fromUtf8).orElse(null);
+    byte[] hash = transactionInfo.getHash().map(ConvertUtils::fromHexToBytes).orElse(null);
+    byte[] merkleComponentHash =
+        transactionInfo.getMerkleComponentHash().map(ConvertUtils::fromHexToBytes).orElse(null);
+    byte[] aggregateHash =
+        transactionInfo.getAggregateHash().map(ConvertUtils::fromHexToBytes).orElse(null);
+    byte[] aggregateId =
+        transactionInfo.getAggregateId().map(TransactionFileFormat::fromUtf8).orElse(null);
+
+    int flags = HAS_INFO;
+    int size = 1 + 8;
+    if (transactionInfo.getIndex().isPresent()) {
+      flags |= HAS_INDEX;
+      size += 4;
+    }
+    flags |= getFlag(id, HAS_ID) | getFlag(hash, HAS_HASH);
+    flags |= getFlag(merkleComponentHash, HAS_MERKLE_COMPONENT_HASH);
+    flags |= getFlag(aggregateHash, HAS_AGGREGATE_HASH) | getFlag(aggregateId, HAS_AGGREGATE_ID);
+    size += getFieldSize(id) + getFieldSize(hash) + getFieldSize(merkleComponentHash);
+    size += getFieldSize(aggregateHash) + getFieldSize(aggregateId);
+
+    ByteBuffer buffer = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+    buffer.put((byte) flags);
+    buffer.putLong(transactionInfo.getHeightAsLong());
+    transactionInfo.getIndex().ifPresent(buffer::putInt);
+    putField(buffer, id);
+    putField(buffer, hash);
+    putField(buffer, merkleComponentHash);
+    putField(buffer, aggregateHash);
+    putField(buffer, aggregateId);
+    return buffer.array();
+  }
+
+  /**
+   * It decodes the transaction info meta of a record.
+   *
+   * @param meta the meta bytes.
+   * @return the transaction info if the record has it.
+   */
+  static Optional<TransactionInfo> decodeMeta(ByteBuffer meta) {
+    ByteBuffer buffer = meta.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+    int flags = buffer.get();
+    if ((flags & HAS_INFO) == 0) {
+      return Optional.empty();
+    }
+    BigInteger height = SerializationUtils.toUnsignedBigInteger(buffer.getLong());
+    Integer index = (flags & HAS_INDEX) != 0 ? buffer.getInt() : null;
+    String id = (flags & HAS_ID) != 0 ? toUtf8(getField(buffer)) : null;
+    String hash = (flags & HAS_HASH) != 0 ? ConvertUtils.toHex(getField(buffer)) : null;
+    String merkleComponentHash =
+        (flags & HAS_MERKLE_COMPONENT_HASH) != 0 ? ConvertUtils.toHex(getField(buffer)) : null;
+    String aggregateHash =
+        (flags & HAS_AGGREGATE_HASH) != 0 ? ConvertUtils.toHex(getField(buffer)) : null;
+    String aggregateId = (flags & HAS_AGGREGATE_ID) != 0 ? toUtf8(getField(buffer)) : null;
+    return Optional.of(
+        TransactionInfo.create(
+            height, index, id, hash, merkleComponentHash, aggregateHash, aggregateId));
+  }
+
+  private static int getFlag(byte[] field, int flag) {
+    return field == null ? 0 : flag;
+  }
+
+  private static int getFieldSize(byte[] field) {
+    if (field == null) {
+      return 0;
+    }
+    Validate.isTrue(
+        field.length <= MAX_FIELD_SIZE, "Transaction info field is too long %s", field.length);
+    return 2 + field.length;
+  }
+
+  private static void putField(ByteBuffer buffer, byte[] field) {
+    if (field != null) {
+      buffer.putShort((short) field.length);
+      buffer.put(field);
+    }
+  }
+
+  private static byte[] getField(ByteBuffer buffer) {
+    byte[] field = new byte[SerializationUtils.shortToUnsignedInt(buffer.getShort())];
+    buffer.get(field);
+    return field;
+  }
+
+  private static byte[] fromUtf8(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static String toUtf8(byte[] value) {
+    return new String(value, StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.core.utils.ExceptionUtils;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * It reads the transaction files written by {@link TransactionFileWriter}. See {@link
+ * TransactionFileFormat} for the layout.
+ *
+ * <p>The file is memory mapped in windows using {@link FileChannel#map(MapMode, long, long)} and
+ * the records are returned as slices of the mapped window, nothing is copied until a record is
+ * decoded. A truncated last record, left by a writer that didn't finish, is ignored.
+ */
+public class TransactionFileReader implements Closeable, Iterable<TransactionRecord> {
+
+  /** The default size of each mapped window. */
+  public static final long DEFAULT_WINDOW_SIZE = 256L * 1024 * 1024;
+
+  private final FileChannel channel;
+
+  private final long windowSize;
+
+  /**
+   * It opens a transaction file.
+   *
+   * @param path the file path.
+   * @throws IOException if the file cannot be opened.
+   */
+  public TransactionFileReader(Path path) throws IOException {
+    this(path, DEFAULT_WINDOW_SIZE);
+  }
+
+  /**
+   * It opens a transaction file.
+   *
+   * @param path the file path.
+   * @param windowSize the size of each mapped window. Records bigger than the window get their own.
+   * @throws IOException if the file cannot be opened.
+   */
+  public TransactionFileReader(Path path, long windowSize) throws IOException {
+    Validate.notNull(path, "path must not be null");
+    Validate.isTrue(
+        windowSize > 0 && windowSize <= Integer.MAX_VALUE, "Invalid window size %s", windowSize);
+    this.windowSize = windowSize;
+    this.channel = FileChannel.open(path, StandardOpenOption.READ);
+    try {
+      TransactionFileFormat.validateFileHeader(
+          read(channel, 0, TransactionFileFormat.FILE_HEADER_SIZE));
+    } catch (RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  /**
+   * It returns an iterator over the records of the file as it's when the iterator is created.
+   * Iterators are not thread safe, but different iterators can be used from different threads.
+   *
+   * @return the record iterator.
+   */
+  @Override
+  public Iterator<TransactionRecord> iterator() {
+    return new RecordIterator(ExceptionUtils.propagate(channel::size));
+  }
+
+  /** @return a sequential stream of the records of the file. */
+  public Stream<TransactionRecord> stream() {
+    return StreamSupport.stream(
+        Spliterators.spliteratorUnknownSize(
+            iterator(), Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE),
+        false);
+  }
+
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+
+  /**
+   * It finds the end of the last complete record. Bytes after it belong to a truncated record.
+   *
+   * @param channel the channel of a transaction file with a valid header.
+   * @return the offset after the last complete record.
+   * @throws IOException if the file cannot be read.
+   */
+  static long findEndOffset(FileChannel channel) throws IOException {
+    long size = channel.size();
+    long offset = TransactionFileFormat.FILE_HEADER_SIZE;
+    while (size - offset >= TransactionFileFormat.RECORD_SIZE_SIZE) {
+      long recordSize =
+          Integer.toUnsignedLong(
+              read(channel, offset, TransactionFileFormat.RECORD_SIZE_SIZE).getInt());
+      long next = offset + TransactionFileFormat.RECORD_SIZE_SIZE + recordSize;
+      if (next > size) {
+        break;
+      }
+      offset = next;
+    }
+    return offset;
+  }
+
+  private static ByteBuffer read(FileChannel channel, long position, int size) throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer, position + buffer.position()) < 0) {
+        break;
+      }
+    }
+    buffer.flip();
+    return buffer;
+  }
+
+  /** Iterator that moves the mapped window along the file. */
+  private class RecordIterator implements Iterator<TransactionRecord> {
+
+    private final long size;
+
+    private long offset = TransactionFileFormat.FILE_HEADER_SIZE;
+
+    private MappedByteBuffer window;
+
+    private long windowStart;
+
+    private TransactionRecord next;
+
+    RecordIterator(long size) {
+      this.size = size;
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (next == null) {
+        next = readNext();
+      }
+      return next != null;
+    }
+
+    @Override
+    public TransactionRecord next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      TransactionRecord record = next;
+      next = null;
+      return record;
+    }
+
+    private TransactionRecord readNext() {
+      if (size - offset < TransactionFileFormat.RECORD_SIZE_SIZE) {
+        return null;
+      }
+      ByteBuffer buffer = map(offset, TransactionFileFormat.RECORD_SIZE_SIZE);
+      long recordSize = Integer.toUnsignedLong(buffer.getInt(position(offset)));
+      long recordEnd = offset + TransactionFileFormat.RECORD_SIZE_SIZE + recordSize;
+      if (recordEnd > size) {
+        // Truncated record, the writer didn't complete it.
+        return null;
+      }
+      if (recordSize < TransactionFileFormat.PAYLOAD_SIZE_SIZE + 1
+          || recordSize > Integer.MAX_VALUE - TransactionFileFormat.RECORD_SIZE_SIZE) {
+        throw new IllegalStateException("Invalid record size " + recordSize + " at " + offset);
+      }
+      buffer = map(offset, (int) (recordEnd - offset));
+      int payloadStart = position(offset) + TransactionFileFormat.RECORD_SIZE_SIZE;
+      int payloadSize = buffer.getInt(payloadStart);
+      int metaEnd = position(recordEnd);
+      payloadStart += TransactionFileFormat.PAYLOAD_SIZE_SIZE;
+      if (payloadSize < 0 || payloadStart + payloadSize >= metaEnd) {
+        throw new IllegalStateException("Invalid payload size " + payloadSize + " at " + offset);
+      }
+      TransactionRecord record =
+          new TransactionRecord(
+              offset,
+              slice(buffer, payloadStart, payloadStart + payloadSize),
+              slice(buffer, payloadStart + payloadSize, metaEnd));
+      offset = recordEnd;
+      return record;
+    }
+
+    /**
+     * It makes sure the mapped window contains the given file region, mapping a new window
+     * starting at the region if it doesn't.
+     */
+    private ByteBuffer map(long start, int length) {
+      if (window == null
+          || start < windowStart
+          || start + length > windowStart + window.capacity()) {
+        long mapSize = Math.min(size - start, Math.max(windowSize, length));
+        window = ExceptionUtils.propagate(() -> channel.map(MapMode.READ_ONLY, start, mapSize));
+        window.order(ByteOrder.LITTLE_ENDIAN);
+        windowStart = start;
+      }
+      return window;
+    }
+
+    private int position(long fileOffset) {
+      return (int) (fileOffset - windowStart);
+    }
+
+    private ByteBuffer slice(ByteBuffer buffer, int start, int end) {
+      ByteBuffer slice = buffer.asReadOnlyBuffer();
+      slice.position(start);
+      slice.limit(end);
+      return slice.slice();
+    }
+  }
+}
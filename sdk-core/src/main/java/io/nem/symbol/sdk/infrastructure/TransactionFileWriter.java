@@ -0,0 +1,212 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.sdk.api.BinarySerialization;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.model.transaction.TransactionInfo;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * It appends transactions to a transaction file, see {@link TransactionFileFormat} for the layout.
+ * The file can be read back with {@link TransactionFileReader}.
+ *
+ * <p>Records are buffered in memory and written in batches. The file is synced to disk every
+ * {@code syncInterval} records, on {@link #sync()} and on {@link #close()}. If an existing file
+ * ends with a truncated record, left by a writer that didn't finish, the truncated bytes are
+ * discarded before appending.
+ *
+ * <p>This object is not thread safe.
+ */
+public class TransactionFileWriter implements Closeable, Flushable {
+
+  /** The default number of records appended between syncs. */
+  public static final int DEFAULT_SYNC_INTERVAL = 1000;
+
+  /** The size of the write buffer. */
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final BinarySerialization binarySerialization = BinarySerializationImpl.INSTANCE;
+
+  private final FileChannel channel;
+
+  private final int syncInterval;
+
+  private ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+
+  private int unsyncedRecords;
+
+  /**
+   * It opens the file for appending, creating it if it doesn't exist.
+   *
+   * @param path the file path.
+   * @throws IOException if the file cannot be opened.
+   */
+  public TransactionFileWriter(Path path) throws IOException {
+    this(path, DEFAULT_SYNC_INTERVAL);
+  }
+
+  /**
+   * It opens the file for appending, creating it if it doesn't exist.
+   *
+   * @param path the file path.
+   * @param syncInterval the number of records appended between syncs.
+   * @throws IOException if the file cannot be opened.
+   */
+  public TransactionFileWriter(Path path, int syncInterval) throws IOException {
+    Validate.notNull(path, "path must not be null");
+    Validate.isTrue(syncInterval > 0, "syncInterval must be greater than 0");
+    this.syncInterval = syncInterval;
+    this.channel =
+        FileChannel.open(
+            path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    try {
+      if (channel.size() == 0) {
+        ByteBuffer header = TransactionFileFormat.createFileHeader();
+        while (header.hasRemaining()) {
+          channel.write(header, header.position());
+        }
+        channel.force(true);
+      } else {
+        ByteBuffer header =
+            ByteBuffer.allocate(TransactionFileFormat.FILE_HEADER_SIZE)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        channel.read(header, 0);
+        header.flip();
+        TransactionFileFormat.validateFileHeader(header);
+        channel.truncate(TransactionFileReader.findEndOffset(channel));
+      }
+      channel.position(channel.size());
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  /**
+   * It appends a transaction and its transaction info, if any. The transaction is serialized
+   * straight into the write buffer.
+   *
+   * @param transaction the transaction.
+   * @throws IOException if the record cannot be written.
+   */
+  public void append(Transaction transaction) throws IOException {
+    Validate.notNull(transaction, "transaction must not be null");
+    byte[] meta = TransactionFileFormat.encodeMeta(transaction.getTransactionInfo().orElse(null));
+    int payloadSize = binarySerialization.computeSize(transaction);
+    int recordStart = writeRecordHeader(payloadSize, meta.length);
+    try {
+      binarySerialization.serializeTo(transaction, buffer);
+    } catch (RuntimeException e) {
+      // The incomplete record is discarded.
+      buffer.position(recordStart);
+      throw e;
+    }
+    buffer.put(meta);
+    recordAppended();
+  }
+
+  /**
+   * It appends a serialized transaction.
+   *
+   * @param payload the catbuffer payload.
+   * @param transactionInfo the transaction info, it can be null.
+   * @throws IOException if the record cannot be written.
+   */
+  public void append(byte[] payload, TransactionInfo transactionInfo) throws IOException {
+    Validate.notNull(payload, "payload must not be null");
+    byte[] meta = TransactionFileFormat.encodeMeta(transactionInfo);
+    writeRecordHeader(payload.length, meta.length);
+    buffer.put(payload);
+    buffer.put(meta);
+    recordAppended();
+  }
+
+  /**
+   * It makes room for the record in the buffer and writes its header.
+   *
+   * @param payloadSize the payload size.
+   * @param metaSize the meta size.
+   * @return the position of the record in the buffer.
+   * @throws IOException if the buffered records cannot be flushed.
+   */
+  private int writeRecordHeader(int payloadSize, int metaSize) throws IOException {
+    int recordSize = TransactionFileFormat.PAYLOAD_SIZE_SIZE + payloadSize + metaSize;
+    int size = TransactionFileFormat.RECORD_SIZE_SIZE + recordSize;
+    if (buffer.remaining() < size) {
+      flush();
+      if (buffer.capacity() < size) {
+        buffer = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+      }
+    }
+    int recordStart = buffer.position();
+    buffer.putInt(recordSize);
+    buffer.putInt(payloadSize);
+    return recordStart;
+  }
+
+  private void recordAppended() throws IOException {
+    unsyncedRecords++;
+    if (unsyncedRecords >= syncInterval) {
+      sync();
+    }
+  }
+
+  /**
+   * It writes the buffered records to the file. They may not be on disk yet, see {@link #sync()}.
+   *
+   * @throws IOException if the records cannot be written.
+   */
+  @Override
+  public void flush() throws IOException {
+    buffer.flip();
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+    buffer.clear();
+    if (buffer.capacity() > BUFFER_SIZE) {
+      buffer = ByteBuffer.allocate(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    }
+  }
+
+  /**
+   * It writes the buffered records and forces them to disk.
+   *
+   * @throws IOException if the records cannot be written.
+   */
+  public void sync() throws IOException {
+    flush();
+    channel.force(false);
+    unsyncedRecords = 0;
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      sync();
+    } finally {
+      channel.close();
+    }
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.model.transaction.TransactionInfo;
+import java.nio.ByteBuffer;
+import java.util.Optional;
+
+/**
+ * A record of a transaction file read by {@link TransactionFileReader}. The record doesn't copy
+ * its bytes, the payload and the meta are read only slices of the mapped file. The transaction
+ * info and the transaction model are only decoded when requested.
+ */
+public class TransactionRecord {
+
+  private static final BinaryTransactionMapper BINARY_TRANSACTION_MAPPER =
+      new BinaryTransactionMapper(BinarySerializationImpl.INSTANCE);
+
+  private final long offset;
+
+  private final ByteBuffer payload;
+
+  private final ByteBuffer meta;
+
+  private Optional<TransactionInfo> transactionInfo;
+
+  /**
+   * @param offset the offset of the record in the file.
+   * @param payload the read only slice with the catbuffer payload.
+   * @param meta the read only slice with the encoded transaction info.
+   */
+  TransactionRecord(long offset, ByteBuffer payload, ByteBuffer meta) {
+    this.offset = offset;
+    this.payload = payload;
+    this.meta = meta;
+  }
+
+  /** @return the offset of the record in the file. */
+  public long getOffset() {
+    return offset;
+  }
+
+  /** @return the payload size. */
+  public int getPayloadSize() {
+    return payload.remaining();
+  }
+
+  /** @return a read only buffer with the catbuffer payload of the transaction. */
+  public ByteBuffer getPayload() {
+    return payload.duplicate();
+  }
+
+  /** @return a lazy {@link TransactionView} of the payload. */
+  public TransactionView getView() {
+    return TransactionView.of(payload.duplicate());
+  }
+
+  /** @return the stored transaction info, decoded the first time it's requested. */
+  public Optional<TransactionInfo> getTransactionInfo() {
+    if (transactionInfo == null) {
+      transactionInfo = TransactionFileFormat.decodeMeta(meta);
+    }
+    return transactionInfo;
+  }
+
+  /**
+   * It deserializes the transaction including its transaction info.
+   *
+   * @return the {@link Transaction} model.
+   */
+  public Transaction toTransaction() {
+    byte[] bytes = new byte[payload.remaining()];
+    payload.duplicate().get(bytes);
+    return BINARY_TRANSACTION_MAPPER.map(bytes, getTransactionInfo().orElse(null));
+  }
+}
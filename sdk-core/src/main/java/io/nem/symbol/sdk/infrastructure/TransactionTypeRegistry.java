@@ -0,0 +1,110 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.sdk.model.transaction.TransactionType;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * A registry of objects, like serializers or mappers, per {@link TransactionType} and version.
+ *
+ * <p>The lookup is a dense table indexed by the transaction type ordinal and the version, there are
+ * no key objects or hash lookups on the hot path. Registration copies the affected row so lookups
+ * never lock, new versions can be registered at any time.
+ *
+ * @param <V> the type of the registered objects.
+ */
+public class TransactionTypeRegistry<V> {
+
+  /** The name of the registered objects used in the error messages. */
+  private final String name;
+
+  /** The registered objects, indexed by type ordinal and version. Rows are never modified. */
+  private final AtomicReferenceArray<Object[]> table =
+      new AtomicReferenceArray<>(TransactionType.values().length);
+
+  /** @param name the name of the registered objects, used in the error messages. */
+  public TransactionTypeRegistry(String name) {
+    Validate.notNull(name, "name must not be null");
+    this.name = name;
+  }
+
+  /**
+   * It registers an object for the given transaction type and version.
+   *
+   * @param transactionType the transaction type.
+   * @param version the transaction version.
+   * @param value the object to register.
+   * @throws IllegalArgumentException if there is an object already registered for the type and
+   *     version.
+   */
+  public synchronized void register(TransactionType transactionType, int version, V value) {
+    Validate.notNull(transactionType, "transactionType must not be null");
+    Validate.notNull(value, "value must not be null");
+    Validate.isTrue(version >= 0, "version must not be negative");
+    Object[] row = table.get(transactionType.ordinal());
+    if (row != null && version < row.length && row[version] != null) {
+      throw new IllegalArgumentException(
+          name
+              + " for type "
+              + transactionType
+              + " and version "
+              + version
+              + " was already registered!");
+    }
+    Object[] newRow =
+        row == null
+            ? new Object[version + 1]
+            : Arrays.copyOf(row, Math.max(row.length, version + 1));
+    newRow[version] = value;
+    table.set(transactionType.ordinal(), newRow);
+  }
+
+  /**
+   * It returns the object registered for the given transaction type and version.
+   *
+   * @param transactionType the transaction type.
+   * @param version the transaction version.
+   * @return the registered object or null if there is none.
+   */
+  @SuppressWarnings("unchecked")
+  public V get(TransactionType transactionType, int version) {
+    Object[] row = table.get(transactionType.ordinal());
+    if (row == null || version < 0 || version >= row.length) {
+      return null;
+    }
+    return (V) row[version];
+  }
+
+  /**
+   * It returns the object registered for the given transaction type and version.
+   *
+   * @param transactionType the transaction type.
+   * @param version the transaction version.
+   * @return the registered object.
+   * @throws UnsupportedOperationException if there is no object registered.
+   */
+  public V resolve(TransactionType transactionType, int version) {
+    V value = get(transactionType, version);
+    if (value == null) {
+      throw new UnsupportedOperationException(
+          "Unimplemented Transaction type " + transactionType + " version " + version);
+    }
+    return value;
+  }
+}
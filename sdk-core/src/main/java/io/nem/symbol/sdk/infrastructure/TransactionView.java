@@ -0,0 +1,227 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.core.crypto.PublicKey;
+import io.nem.symbol.core.utils.ConvertUtils;
+import io.nem.symbol.sdk.model.account.PublicAccount;
+import io.nem.symbol.sdk.model.account.UnresolvedAddress;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import io.nem.symbol.sdk.model.transaction.Deadline;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.model.transaction.TransactionType;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Optional;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * A read only view of a serialized transaction. Fields are decoded from the underlying buffer only
+ * when they are accessed, nothing is copied or materialized when the view is created.
+ *
+ * <p>The view is a flyweight, one instance can be moved along a buffer holding many consecutive
+ * payloads using {@link #wrap(ByteBuffer, int)}. The full {@link Transaction} model can be created
+ * on demand with {@link #toTransaction()}.
+ *
+ * <p>The view is not thread safe and it's only valid while the wrapped bytes are not modified.
+ */
+public class TransactionView {
+
+  /** The size of the top level transaction header. */
+  public static final int HEADER_SIZE = 128;
+
+  private static final int SIGNATURE_OFFSET = 8;
+
+  private static final int SIGNATURE_SIZE = 64;
+
+  private static final int SIGNER_OFFSET = SIGNATURE_OFFSET + SIGNATURE_SIZE;
+
+  private static final int SIGNER_SIZE = 32;
+
+  private static final int VERSION_OFFSET = SIGNER_OFFSET + SIGNER_SIZE + 4;
+
+  private static final int NETWORK_OFFSET = VERSION_OFFSET + 1;
+
+  private static final int TYPE_OFFSET = NETWORK_OFFSET + 1;
+
+  private static final int MAX_FEE_OFFSET = TYPE_OFFSET + 2;
+
+  private static final int DEADLINE_OFFSET = MAX_FEE_OFFSET + 8;
+
+  /** The size of the recipient address, the first attribute of the transfer body. */
+  private static final int RECIPIENT_SIZE = 24;
+
+  /** A little endian duplicate of the wrapped buffer, its position can be used freely. */
+  private ByteBuffer buffer;
+
+  private int offset;
+
+  /**
+   * It creates a view of the transaction starting at the buffer's current position.
+   *
+   * @param buffer the buffer.
+   * @return a new {@link TransactionView}
+   */
+  public static TransactionView of(ByteBuffer buffer) {
+    Validate.notNull(buffer, "buffer must not be null");
+    return new TransactionView().wrap(buffer, buffer.position());
+  }
+
+  /**
+   * It creates a view of the transaction payload.
+   *
+   * @param payload the payload.
+   * @return a new {@link TransactionView}
+   */
+  public static TransactionView of(byte[] payload) {
+    Validate.notNull(payload, "payload must not be null");
+    return of(ByteBuffer.wrap(payload));
+  }
+
+  /**
+   * It moves this view to the transaction that starts at the given offset of the buffer. The
+   * buffer's position, limit and order are not changed.
+   *
+   * @param buffer the buffer.
+   * @param offset the absolute offset where the transaction starts.
+   * @return this view.
+   */
+  public TransactionView wrap(ByteBuffer buffer, int offset) {
+    Validate.notNull(buffer, "buffer must not be null");
+    Validate.isTrue(
+        offset >= 0 && buffer.limit() - offset >= HEADER_SIZE,
+        "There are not enough bytes for a transaction header at offset %s",
+        offset);
+    this.buffer = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+    this.offset = offset;
+    Validate.isTrue(
+        getSize() >= HEADER_SIZE && getSize() <= buffer.limit() - offset,
+        "Invalid transaction size %s at offset %s",
+        getSize(),
+        offset);
+    return this;
+  }
+
+  /** @return the offset of the byte after this transaction, where the next one would start. */
+  public int getEndOffset() {
+    return offset + getSize();
+  }
+
+  /** @return the size of the serialized transaction. */
+  public int getSize() {
+    return buffer.getInt(offset);
+  }
+
+  /** @return the transaction type. */
+  public TransactionType getType() {
+    return TransactionType.rawValueOf(
+        SerializationUtils.shortToUnsignedInt(buffer.getShort(offset + TYPE_OFFSET)));
+  }
+
+  /** @return the transaction version. */
+  public int getVersion() {
+    return SerializationUtils.byteToUnsignedInt(buffer.get(offset + VERSION_OFFSET));
+  }
+
+  /** @return the network type. */
+  public NetworkType getNetworkType() {
+    return NetworkType.rawValueOf(
+        SerializationUtils.byteToUnsignedInt(buffer.get(offset + NETWORK_OFFSET)));
+  }
+
+  /** @return the raw deadline value. */
+  public long getDeadlineValue() {
+    return buffer.getLong(offset + DEADLINE_OFFSET);
+  }
+
+  /** @return the deadline. */
+  public Deadline getDeadline() {
+    return new Deadline(getDeadlineValue());
+  }
+
+  /** @return the raw max fee value, it should be read as an unsigned long. */
+  public long getMaxFeeValue() {
+    return buffer.getLong(offset + MAX_FEE_OFFSET);
+  }
+
+  /** @return the max fee. */
+  public BigInteger getMaxFee() {
+    return SerializationUtils.toUnsignedBigInteger(getMaxFeeValue());
+  }
+
+  /** @return the signature as hex if the transaction has been signed. */
+  public Optional<String> getSignature() {
+    return readNonZero(SIGNATURE_OFFSET, SIGNATURE_SIZE).map(ConvertUtils::toHex);
+  }
+
+  /** @return the signer public key if known. */
+  public Optional<PublicKey> getSignerPublicKey() {
+    return readNonZero(SIGNER_OFFSET, SIGNER_SIZE).map(PublicKey::new);
+  }
+
+  /** @return the signer public account if known. */
+  public Optional<PublicAccount> getSigner() {
+    return getSignerPublicKey()
+        .map(publicKey -> new PublicAccount(publicKey.toHex(), getNetworkType()));
+  }
+
+  /** @return the recipient of a transfer transaction, empty for any other transaction type. */
+  public Optional<UnresolvedAddress> getRecipient() {
+    if (getType() != TransactionType.TRANSFER) {
+      return Optional.empty();
+    }
+    return Optional.of(SerializationUtils.toUnresolvedAddress(read(HEADER_SIZE, RECIPIENT_SIZE)));
+  }
+
+  /** @return a read only buffer with the transaction bytes. */
+  public ByteBuffer getPayload() {
+    ByteBuffer payload = buffer.asReadOnlyBuffer();
+    payload.position(offset);
+    payload.limit(offset + getSize());
+    return payload.slice();
+  }
+
+  /** @return a copy of the transaction bytes. */
+  public byte[] toByteArray() {
+    return read(0, getSize());
+  }
+
+  /**
+   * It fully deserializes the transaction.
+   *
+   * @return the {@link Transaction} model.
+   */
+  public Transaction toTransaction() {
+    return BinarySerializationImpl.INSTANCE.deserialize(toByteArray());
+  }
+
+  private byte[] read(int relativeOffset, int size) {
+    byte[] bytes = new byte[size];
+    buffer.position(offset + relativeOffset);
+    buffer.get(bytes);
+    return bytes;
+  }
+
+  private Optional<byte[]> readNonZero(int relativeOffset, int size) {
+    for (int i = 0; i < size; i++) {
+      if (buffer.get(offset + relativeOffset + i) != 0) {
+        return Optional.of(read(relativeOffset, size));
+      }
+    }
+    return Optional.empty();
+  }
+}
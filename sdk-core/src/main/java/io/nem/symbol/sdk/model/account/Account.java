@@ -61,6 +61,18 @@ public class Account {
     this.networkType = networkType;
   }
 
+  /**
+   * Constructor of an account whose public account has already been derived from the key pair.
+   *
+   * @param keyPair the key pair.
+   * @param publicAccount the public account of the key pair.
+   */
+  Account(KeyPair keyPair, PublicAccount publicAccount) {
+    this.keyPair = keyPair;
+    this.publicAccount = publicAccount;
+    this.networkType = publicAccount.getAddress().getNetworkType();
+  }
+
   /**
    * Create an Account from a given private key.
    *
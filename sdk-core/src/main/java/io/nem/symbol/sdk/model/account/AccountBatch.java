@@ -0,0 +1,175 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.model.account;
+
+import io.nem.symbol.core.crypto.CryptoEngines;
+import io.nem.symbol.core.crypto.KeyGenerator;
+import io.nem.symbol.core.crypto.KeyPair;
+import io.nem.symbol.core.crypto.PrivateKey;
+import io.nem.symbol.core.crypto.PublicKey;
+import io.nem.symbol.core.crypto.RawAddress;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * A batch of randomly generated accounts. The keys and addresses are derived in parallel and kept
+ * in flat primitive arrays so large batches don't allocate one object graph per account. The
+ * {@link Account}, {@link PublicAccount} and {@link Address} objects are only created on demand
+ * and, given the keys are derived in this batch, they are not validated or derived again.
+ */
+public final class AccountBatch {
+
+  /** The number of accounts generated by each parallel task. */
+  private static final int CHUNK_SIZE = 64;
+
+  private static final int ADDRESS_SIZE = 24;
+
+  private final NetworkType networkType;
+
+  private final int size;
+
+  private final byte[] privateKeys;
+
+  private final byte[] publicKeys;
+
+  private final byte[] addresses;
+
+  private AccountBatch(NetworkType networkType, int size) {
+    this.networkType = networkType;
+    this.size = size;
+    this.privateKeys = new byte[size * PrivateKey.SIZE];
+    this.publicKeys = new byte[size * PublicKey.SIZE];
+    this.addresses = new byte[size * ADDRESS_SIZE];
+  }
+
+  /**
+   * Generates a batch of random accounts using the common fork join pool.
+   *
+   * @param networkType the network type of the addresses.
+   * @param count the number of accounts to generate.
+   * @return the generated batch.
+   */
+  public static AccountBatch generate(NetworkType networkType, int count) {
+    return generate(networkType, count, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Generates a batch of random accounts using the provided pool.
+   *
+   * @param networkType the network type of the addresses.
+   * @param count the number of accounts to generate.
+   * @param pool the pool running the generation tasks.
+   * @return the generated batch.
+   */
+  public static AccountBatch generate(NetworkType networkType, int count, ForkJoinPool pool) {
+    Validate.notNull(networkType, "NetworkType must not be null");
+    Validate.notNull(pool, "Pool must not be null");
+    Validate.isTrue(count >= 0, "Count must not be negative");
+    Validate.isTrue(
+        count <= Integer.MAX_VALUE / PrivateKey.SIZE, "Count " + count + " is too large");
+    AccountBatch batch = new AccountBatch(networkType, count);
+    int chunks = (count + CHUNK_SIZE - 1) / CHUNK_SIZE;
+    pool.submit(() -> IntStream.range(0, chunks).parallel().forEach(batch::generateChunk)).join();
+    return batch;
+  }
+
+  private void generateChunk(int chunk) {
+    KeyGenerator keyGenerator = CryptoEngines.ed25519Engine().createKeyGenerator();
+    SecureRandom random = new SecureRandom();
+    int end = Math.min(size, (chunk + 1) * CHUNK_SIZE);
+    for (int index = chunk * CHUNK_SIZE; index < end; index++) {
+      byte[] privateKey = new byte[PrivateKey.SIZE];
+      random.nextBytes(privateKey);
+      byte[] publicKey = keyGenerator.derivePublicKey(new PrivateKey(privateKey)).getBytes();
+      byte[] address = RawAddress.generateAddressBytes(publicKey, networkType);
+      System.arraycopy(privateKey, 0, privateKeys, index * PrivateKey.SIZE, PrivateKey.SIZE);
+      System.arraycopy(publicKey, 0, publicKeys, index * PublicKey.SIZE, PublicKey.SIZE);
+      System.arraycopy(address, 0, addresses, index * ADDRESS_SIZE, ADDRESS_SIZE);
+    }
+  }
+
+  /** @return the number of accounts in this batch. */
+  public int size() {
+    return size;
+  }
+
+  /** @return the network type of the addresses. */
+  public NetworkType getNetworkType() {
+    return networkType;
+  }
+
+  /**
+   * @param index the account index.
+   * @return the private key of the account.
+   */
+  public PrivateKey getPrivateKey(int index) {
+    return new PrivateKey(slice(privateKeys, index, PrivateKey.SIZE));
+  }
+
+  /**
+   * @param index the account index.
+   * @return the public key of the account.
+   */
+  public PublicKey getPublicKey(int index) {
+    return new PublicKey(slice(publicKeys, index, PublicKey.SIZE));
+  }
+
+  /**
+   * @param index the account index.
+   * @return the address of the account.
+   */
+  public Address getAddress(int index) {
+    return new Address(slice(addresses, index, ADDRESS_SIZE), networkType);
+  }
+
+  /**
+   * @param index the account index.
+   * @return the public account of the account.
+   */
+  public PublicAccount getPublicAccount(int index) {
+    return new PublicAccount(getPublicKey(index), getAddress(index));
+  }
+
+  /**
+   * @param index the account index.
+   * @return the account, with its private key.
+   */
+  public Account getAccount(int index) {
+    PublicAccount publicAccount = getPublicAccount(index);
+    KeyPair keyPair = KeyPair.fromDerivedKeys(getPrivateKey(index), publicAccount.getPublicKey());
+    return new Account(keyPair, publicAccount);
+  }
+
+  /** @return all the accounts of this batch. */
+  public List<Account> toAccounts() {
+    List<Account> accounts = new ArrayList<>(size);
+    for (int index = 0; index < size; index++) {
+      accounts.add(getAccount(index));
+    }
+    return accounts;
+  }
+
+  private byte[] slice(byte[] values, int index, int length) {
+    Validate.isTrue(index >= 0 && index < size, "Invalid index %s", index);
+    return Arrays.copyOfRange(values, index * length, (index + 1) * length);
+  }
+}
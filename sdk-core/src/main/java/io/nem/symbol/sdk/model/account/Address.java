@@ -24,6 +24,7 @@ import io.nem.symbol.sdk.model.network.NetworkType;
 import java.util.Arrays;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import org.apache.commons.lang3.Validate;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 
@@ -43,10 +44,27 @@ public class Address implements UnresolvedAddress {
   /** The checksum size. */
   private static final int CHECKSUM_SIZE = RawAddress.NUM_CHECKSUM_BYTES;
 
-  private final String plainAddress;
+  /** The size of the interned addresses cache, it must be a power of 2. */
+  private static final int INTERNED_CACHE_SIZE = 4096;
+
+  /**
+   * The interned addresses. It's a lossy cache, an address replaces the one with the same slot so
+   * the cache never grows and doesn't need locking.
+   */
+  private static final AtomicReferenceArray<Address> INTERNED =
+      new AtomicReferenceArray<>(INTERNED_CACHE_SIZE);
+
+  /** The 24 bytes of the raw address: network type, public key hash and checksum. */
+  private final byte[] bytes;
 
   private final NetworkType networkType;
 
+  /** The hash code of the bytes. */
+  private final int hash;
+
+  /** The lazily calculated plain address. */
+  private String plainAddress;
+
   /**
    * Constructor
    *
@@ -62,6 +80,20 @@ public class Address implements UnresolvedAddress {
     Validate.isTrue(
         addressNetwork == this.networkType.getAddressPrefix(),
         this.networkType + " Address must start with " + this.networkType.getAddressPrefix());
+    this.bytes = Base32Encoder.getBytes(this.plainAddress);
+    this.hash = Arrays.hashCode(this.bytes);
+  }
+
+  /**
+   * Constructor of already validated raw addresses.
+   *
+   * @param bytes the 24 bytes of the raw address, they are not copied.
+   * @param networkType Network type
+   */
+  Address(byte[] bytes, NetworkType networkType) {
+    this.bytes = bytes;
+    this.networkType = networkType;
+    this.hash = Arrays.hashCode(bytes);
   }
 
   /**
@@ -107,9 +139,84 @@ public class Address implements UnresolvedAddress {
    * @return {@link Address}
    */
   public static Address createFromEncoded(String encodedAddress) {
+    byte[] bytes = ConvertUtils.fromHexToBytes(encodedAddress);
+    if (isValidBytes(bytes)) {
+      return new Address(bytes, resolveNetworkType(bytes));
+    }
+    // Slow path that explains why the address is invalid.
     return Address.createFromRawAddress(fromEncodedToPlain(encodedAddress));
   }
 
+  /**
+   * Create an Address from the 24 bytes of a raw address validating its size, network type and
+   * checksum.
+   *
+   * @param bytes the raw address bytes, they are copied.
+   * @return {@link Address}
+   */
+  public static Address createFromBytes(byte[] bytes) {
+    Validate.notNull(bytes, "bytes must not be null");
+    Validate.isTrue(
+        isValidBytes(bytes), "Raw address " + ConvertUtils.toHex(bytes) + " is invalid");
+    return new Address(bytes.clone(), resolveNetworkType(bytes));
+  }
+
+  /**
+   * Create an Address from the 24 bytes of a raw address that the caller derived or verified, like
+   * an address generated from a public key. The checksum is not validated and the address is
+   * interned, see {@link #intern()}. Bytes from any other source must use {@link
+   * #createFromBytes(byte[])}.
+   *
+   * @param bytes the raw address bytes, they are not copied so they must not be modified later.
+   * @return {@link Address}
+   */
+  public static Address createFromTrustedBytes(byte[] bytes) {
+    Validate.notNull(bytes, "bytes must not be null");
+    Validate.isTrue(
+        bytes.length == RAW_ADDRESS_SIZE,
+        "Raw address size is " + bytes.length + " when " + RAW_ADDRESS_SIZE + " is required");
+    int hash = Arrays.hashCode(bytes);
+    Address interned = INTERNED.get(hash & (INTERNED_CACHE_SIZE - 1));
+    if (interned != null && interned.hash == hash && Arrays.equals(interned.bytes, bytes)) {
+      return interned;
+    }
+    return new Address(bytes, resolveNetworkType(bytes)).intern();
+  }
+
+  /**
+   * It resolve the network type from the first byte of a raw address.
+   *
+   * @param bytes the raw address bytes
+   * @return the network type.
+   */
+  private static NetworkType resolveNetworkType(byte[] bytes) {
+    return NetworkType.rawValueOf(bytes[0] & 0xFF);
+  }
+
+  /**
+   * Checks the size, network type and checksum of raw address bytes.
+   *
+   * @param bytes the raw address bytes.
+   * @return true if the bytes are a valid address.
+   */
+  private static boolean isValidBytes(byte[] bytes) {
+    if (bytes.length != RAW_ADDRESS_SIZE) {
+      return false;
+    }
+    int networkValue = bytes[0] & 0xFF;
+    if (Arrays.stream(NetworkType.values()).noneMatch(n -> n.getValue() == networkValue)) {
+      return false;
+    }
+    int checksumBegin = RAW_ADDRESS_SIZE - CHECKSUM_SIZE;
+    byte[] checksum = Hashes.sha3_256(Arrays.copyOf(bytes, checksumBegin));
+    for (int i = 0; i < CHECKSUM_SIZE; i++) {
+      if (checksum[i] != bytes[checksumBegin + i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   /**
    * Creates an address based on the public key and the network type. The sign schema will be
    * resolved based on the
@@ -120,7 +227,13 @@ public class Address implements UnresolvedAddress {
    * @see RawAddress
    */
   public static Address createFromPublicKey(String publicKey, NetworkType networkType) {
-    return new Address(RawAddress.generateAddress(publicKey, networkType), networkType);
+    byte[] publicKeyBytes;
+    try {
+      publicKeyBytes = ConvertUtils.fromHexToBytes(publicKey);
+    } catch (Exception e) {
+      throw new IllegalArgumentException("Public key is not valid");
+    }
+    return new Address(RawAddress.generateAddressBytes(publicKeyBytes, networkType), networkType);
   }
 
   /**
@@ -247,7 +360,38 @@ public class Address implements UnresolvedAddress {
    * @return String
    */
   public String plain() {
-    return this.plainAddress;
+    String plain = this.plainAddress;
+    if (plain == null) {
+      plain = encodePlainAddress(bytes);
+      this.plainAddress = plain;
+    }
+    return plain;
+  }
+
+  /**
+   * Returns the 24 bytes of the raw address.
+   *
+   * @return a copy of the raw address bytes.
+   */
+  public byte[] getBytes() {
+    return bytes.clone();
+  }
+
+  /**
+   * Returns the canonical instance of this address. Hot addresses, like the ones of the accounts
+   * that sign or receive most of the transactions, are shared by the deserialized transactions
+   * instead of being held once per transaction.
+   *
+   * @return the interned address equal to this one.
+   */
+  public Address intern() {
+    int slot = hash & (INTERNED_CACHE_SIZE - 1);
+    Address interned = INTERNED.get(slot);
+    if (this.equals(interned)) {
+      return interned;
+    }
+    INTERNED.set(slot, this);
+    return this;
   }
 
   /**
@@ -276,7 +420,7 @@ public class Address implements UnresolvedAddress {
    * @return the encoded plain address.
    */
   public String encoded() {
-    return fromPlainToEncoded(plain());
+    return ConvertUtils.toHex(bytes);
   }
 
   /**
@@ -285,30 +429,29 @@ public class Address implements UnresolvedAddress {
    * @return String
    */
   public String pretty() {
-    return this.plainAddress.replaceAll("(.{6})", "$1-");
+    return plain().replaceAll("(.{6})", "$1-");
   }
 
   /**
-   * Concert a encoded address to a plain one
+   * Concerts an encoded to a plain one
    *
-   * @param plain the plain address.
+   * @param encoded the encoded address.
    * @return the encoded address.
    */
-  private static String fromPlainToEncoded(String plain) {
-    byte[] bytes = Base32Encoder.getBytes(plain);
-    return ConvertUtils.toHex(bytes);
+  private static String fromEncodedToPlain(String encoded) {
+    return encodePlainAddress(ConvertUtils.fromHexToBytes(encoded));
   }
 
   /**
-   * Concerts an encoded to a plain one
+   * Encodes raw address bytes to a plain address, the Base32 encoding without its padding.
    *
-   * @param encoded the encoded address.
-   * @return the encoded address.
+   * @param bytes the raw address bytes.
+   * @return the plain address.
    */
-  private static String fromEncodedToPlain(String encoded) {
-    byte[] bytes = ConvertUtils.fromHexToBytes(encoded);
-    String rawAddress = Base32Encoder.getString(bytes);
-    return rawAddress.substring(0, rawAddress.length() - 1);
+  private static String encodePlainAddress(byte[] bytes) {
+    char[] base32 = new char[Base32Encoder.getEncodedLength(bytes.length)];
+    Base32Encoder.encode(bytes, 0, bytes.length, base32, 0);
+    return new String(base32, 0, base32.length - 1);
   }
 
   /**
@@ -325,12 +468,13 @@ public class Address implements UnresolvedAddress {
       return false;
     }
     Address address1 = (Address) o;
-    return Objects.equals(plainAddress, address1.plainAddress)
-        && networkType == address1.networkType;
+    return hash == address1.hash
+        && networkType == address1.networkType
+        && Arrays.equals(bytes, address1.bytes);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(plainAddress, networkType);
+    return hash;
   }
 }
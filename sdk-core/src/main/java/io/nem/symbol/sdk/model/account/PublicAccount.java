@@ -34,6 +34,17 @@ public class PublicAccount {
     this.publicKey = PublicKey.fromHexString(publicKey);
   }
 
+  /**
+   * Constructor of a public account whose address has already been derived from the public key.
+   *
+   * @param publicKey the public key.
+   * @param address the address of the public key.
+   */
+  PublicAccount(PublicKey publicKey, Address address) {
+    this.address = address;
+    this.publicKey = publicKey;
+  }
+
   /**
    * Create a PublicAccount from a public key and network type.
    *
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.model.account;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.lang3.Validate;
+
+/** The importances calculated by a {@link TransferImportanceCalculator}, summing to one. */
+public class TransferImportance {
+
+  private final List<UnresolvedAddress> accounts;
+
+  private final Map<UnresolvedAddress, Integer> indexes;
+
+  private final double[] scores;
+
+  private final int iterations;
+
+  private final boolean converged;
+
+  TransferImportance(
+      List<UnresolvedAddress> accounts,
+      Map<UnresolvedAddress, Integer> indexes,
+      double[] scores,
+      int iterations,
+      boolean converged) {
+    this.accounts = Collections.unmodifiableList(accounts);
+    this.indexes = indexes;
+    this.scores = scores;
+    this.iterations = iterations;
+    this.converged = converged;
+  }
+
+  /** @return the ranked accounts, in the order they were first seen. */
+  public List<UnresolvedAddress> getAccounts() {
+    return accounts;
+  }
+
+  /** @return the number of ranked accounts. */
+  public int getAccountCount() {
+    return scores.length;
+  }
+
+  /**
+   * Returns the importance of the account at the given index of {@link #getAccounts()}.
+   *
+   * @param index the account index.
+   * @return the importance.
+   */
+  public double getScore(int index) {
+    Validate.isTrue(index >= 0 && index < scores.length, "Index out of range: %d", index);
+    return scores[index];
+  }
+
+  /**
+   * Returns the importance of an account.
+   *
+   * @param account the account.
+   * @return the importance, 0 if the account wasn't part of any transfer.
+   */
+  public double getScore(UnresolvedAddress account) {
+    Integer index = indexes.get(account);
+    return index == null ? 0.0 : scores[index];
+  }
+
+  /** @return a copy of the importances, indexed as {@link #getAccounts()}. */
+  public double[] getScores() {
+    return scores.clone();
+  }
+
+  /** @return the number of power iterations that ran. */
+  public int getIterations() {
+    return iterations;
+  }
+
+  /** @return true if the power iteration converged before reaching the maximum iterations. */
+  public boolean isConverged() {
+    return converged;
+  }
+}
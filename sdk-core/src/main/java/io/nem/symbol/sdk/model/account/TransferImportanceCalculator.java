@@ -0,0 +1,246 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.model.account;
+
+import io.nem.symbol.core.math.PowerIterationResult;
+import io.nem.symbol.core.math.PowerIterator;
+import io.nem.symbol.core.math.SparseMatrix;
+import io.nem.symbol.sdk.model.transaction.TransferTransaction;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Stream;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Ranks the accounts of a transfer graph by importance. Every transfer is an outlink from the
+ * signer's address to the recipient, weighted by {@link #withWeight(ToDoubleFunction)}. The
+ * outlinks of each account are normalized into a {@link SparseMatrix} link matrix and the
+ * importances are its PageRank, calculated by a {@link PowerIterator} whose matrix vector products
+ * are split by rows over a fork join pool.
+ *
+ * <p>Recipients are grouped by their unresolved address, so a namespace alias is ranked as its own
+ * account. Transfers without a signer, self transfers and transfers with a non positive weight are
+ * ignored.
+ */
+public class TransferImportanceCalculator {
+
+  private final PowerIterator powerIterator = new PowerIterator();
+
+  private ToDoubleFunction<TransferTransaction> weight = transfer -> 1.0;
+
+  /**
+   * Sets the weight of a transfer outlink, 1 per transfer by default.
+   *
+   * @param weight the function returning the weight of a transfer.
+   * @return this calculator.
+   */
+  public TransferImportanceCalculator withWeight(ToDoubleFunction<TransferTransaction> weight) {
+    Validate.notNull(weight, "Weight must not be null");
+    this.weight = weight;
+    return this;
+  }
+
+  /**
+   * Sets the probability of following an outlink instead of teleporting to a random account.
+   *
+   * @param dampingFactor the damping factor, {@link PowerIterator#DEFAULT_DAMPING_FACTOR} by
+   *     default.
+   * @return this calculator.
+   */
+  public TransferImportanceCalculator withDampingFactor(double dampingFactor) {
+    powerIterator.withDampingFactor(dampingFactor);
+    return this;
+  }
+
+  /**
+   * Sets the L1 distance between two iterations below which the calculation has converged.
+   *
+   * @param epsilon the threshold, {@link PowerIterator#DEFAULT_EPSILON} by default.
+   * @return this calculator.
+   */
+  public TransferImportanceCalculator withEpsilon(double epsilon) {
+    powerIterator.withEpsilon(epsilon);
+    return this;
+  }
+
+  /**
+   * Sets the maximum number of iterations.
+   *
+   * @param maxIterations the maximum, {@link PowerIterator#DEFAULT_MAX_ITERATIONS} by default.
+   * @return this calculator.
+   */
+  public TransferImportanceCalculator withMaxIterations(int maxIterations) {
+    powerIterator.withMaxIterations(maxIterations);
+    return this;
+  }
+
+  /**
+   * Sets the pool running the iterations, the common pool by default.
+   *
+   * @param pool the pool.
+   * @return this calculator.
+   */
+  public TransferImportanceCalculator withPool(ForkJoinPool pool) {
+    powerIterator.withPool(pool);
+    return this;
+  }
+
+  /**
+   * Calculates the importances of the accounts taking part in the given transfers.
+   *
+   * @param transfers the transfers, consumed sequentially.
+   * @return the importance of each account.
+   */
+  public TransferImportance calculate(Stream<TransferTransaction> transfers) {
+    Validate.notNull(transfers, "Transfers must not be null");
+    TransferGraph graph = new TransferGraph();
+    transfers.sequential().forEach(graph::add);
+    if (graph.accounts.isEmpty()) {
+      return new TransferImportance(graph.accounts, graph.indexes, new double[0], 0, true);
+    }
+    PowerIterationResult result = powerIterator.run(graph.toLinkMatrix());
+    return new TransferImportance(
+        graph.accounts,
+        graph.indexes,
+        result.getVector().getRaw(),
+        result.getIterations(),
+        result.hasConverged());
+  }
+
+  /** The accounts and the weighted edges collected from the transfers. */
+  private class TransferGraph {
+
+    private static final int INITIAL_EDGE_CAPACITY = 1024;
+
+    private final Map<UnresolvedAddress, Integer> indexes = new HashMap<>();
+
+    private final List<UnresolvedAddress> accounts = new ArrayList<>();
+
+    private int[] sources = new int[INITIAL_EDGE_CAPACITY];
+
+    private int[] targets = new int[INITIAL_EDGE_CAPACITY];
+
+    private double[] weights = new double[INITIAL_EDGE_CAPACITY];
+
+    private int edgeCount;
+
+    private void add(TransferTransaction transfer) {
+      if (!transfer.getSigner().isPresent() || transfer.getRecipient() == null) {
+        return;
+      }
+      UnresolvedAddress sender = transfer.getSigner().get().getAddress();
+      UnresolvedAddress recipient = transfer.getRecipient();
+      double edgeWeight = weight.applyAsDouble(transfer);
+      if (sender.equals(recipient) || !(edgeWeight > 0.0)) {
+        return;
+      }
+      if (edgeCount == sources.length) {
+        int capacity = edgeCount + (edgeCount >> 1);
+        sources = Arrays.copyOf(sources, capacity);
+        targets = Arrays.copyOf(targets, capacity);
+        weights = Arrays.copyOf(weights, capacity);
+      }
+      sources[edgeCount] = indexOf(sender);
+      targets[edgeCount] = indexOf(recipient);
+      weights[edgeCount] = edgeWeight;
+      edgeCount++;
+    }
+
+    private int indexOf(UnresolvedAddress account) {
+      return indexes.computeIfAbsent(
+          account,
+          key -> {
+            accounts.add(key);
+            return accounts.size() - 1;
+          });
+    }
+
+    /**
+     * Builds the link matrix, one row per target account. The edges are counting sorted by source
+     * and then, stably, by target so every row is loaded at once with its columns in order.
+     */
+    private SparseMatrix toLinkMatrix() {
+      int size = accounts.size();
+      double[] outWeights = new double[size];
+      for (int i = 0; i < edgeCount; i++) {
+        outWeights[sources[i]] += weights[i];
+      }
+
+      int[] bySource = sortByKey(sources, null, size);
+      int[] rowStarts = new int[size + 1];
+      int[] byTarget = sortByKey(targets, bySource, size, rowStarts);
+
+      int maxRowLength = 0;
+      for (int row = 0; row < size; row++) {
+        maxRowLength = Math.max(maxRowLength, rowStarts[row + 1] - rowStarts[row]);
+      }
+      int[] rowCols = new int[maxRowLength];
+      double[] rowValues = new double[maxRowLength];
+      SparseMatrix matrix = new SparseMatrix(size, size, 1);
+      for (int row = 0; row < size; row++) {
+        int length = 0;
+        for (int i = rowStarts[row]; i < rowStarts[row + 1]; i++) {
+          int edge = byTarget[i];
+          int source = sources[edge];
+          double value = weights[edge] / outWeights[source];
+          if (length > 0 && rowCols[length - 1] == source) {
+            rowValues[length - 1] += value;
+          } else {
+            rowCols[length] = source;
+            rowValues[length] = value;
+            length++;
+          }
+        }
+        matrix.setRow(row, rowCols, rowValues, 0, length);
+      }
+      return matrix;
+    }
+
+    private int[] sortByKey(int[] keys, int[] order, int keyCount) {
+      return sortByKey(keys, order, keyCount, new int[keyCount + 1]);
+    }
+
+    /**
+     * Stable counting sort of the edges by key.
+     *
+     * @param keys the key of each edge.
+     * @param order the current order of the edges, null for the natural order.
+     * @param keyCount the number of distinct keys.
+     * @param starts receives the position of the first edge of each key, and the edge count last.
+     * @return the edges sorted by key.
+     */
+    private int[] sortByKey(int[] keys, int[] order, int keyCount, int[] starts) {
+      for (int i = 0; i < edgeCount; i++) {
+        starts[keys[i] + 1]++;
+      }
+      for (int key = 0; key < keyCount; key++) {
+        starts[key + 1] += starts[key];
+      }
+      int[] positions = Arrays.copyOf(starts, keyCount);
+      int[] sorted = new int[edgeCount];
+      for (int i = 0; i < edgeCount; i++) {
+        int edge = order == null ? i : order[i];
+        sorted[positions[keys[edge]]++] = edge;
+      }
+      return sorted;
+    }
+  }
+}
@@ -21,8 +21,11 @@ import io.nem.symbol.core.crypto.CryptoEngines;
 import io.nem.symbol.core.crypto.KeyPair;
 import io.nem.symbol.core.crypto.PrivateKey;
 import io.nem.symbol.core.crypto.PublicKey;
+import io.nem.symbol.core.crypto.ed25519.Ed25519BatchEncryptor;
 import io.nem.symbol.core.utils.ConvertUtils;
 import io.nem.symbol.core.utils.StringEncoder;
+import java.util.List;
+import java.util.stream.Collectors;
 
 /** A message that has been encrypted using the NEM's SDK libraries. */
 public class EncryptedMessage extends TypedMessage {
@@ -63,6 +66,24 @@ public class EncryptedMessage extends TypedMessage {
         ConvertUtils.toHex(blockCipher.encrypt(StringEncoder.getBytes(plainTextMessage))));
   }
 
+  /**
+   * Encrypts the same message for many recipients in parallel using the {@link
+   * Ed25519BatchEncryptor}. The resulting messages can be decrypted like the ones created with
+   * {@link #create(String, PrivateKey, PublicKey)}.
+   *
+   * @param plainTextMessage Plain message to be encrypted
+   * @param senderPrivateKey Sender private key
+   * @param recipientPublicKeys Recipient public keys
+   * @return the EncryptedMessages, in the order of the recipients.
+   */
+  public static List<EncryptedMessage> create(
+      String plainTextMessage, PrivateKey senderPrivateKey, List<PublicKey> recipientPublicKeys) {
+    Ed25519BatchEncryptor encryptor = new Ed25519BatchEncryptor(senderPrivateKey);
+    return encryptor.encrypt(StringEncoder.getBytes(plainTextMessage), recipientPublicKeys).stream()
+        .map(payload -> new EncryptedMessage(ConvertUtils.toHex(payload)))
+        .collect(Collectors.toList());
+  }
+
   /**
    * Utility method that allow users to decrypt a message if it was created using the Java SDK or
    * the Typescript SDK.
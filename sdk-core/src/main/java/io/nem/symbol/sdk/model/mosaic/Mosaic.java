@@ -30,12 +30,25 @@ public class Mosaic {
 
   private final UnresolvedMosaicId id;
 
-  private final BigInteger amount;
+  /** The amount as an unsigned long. */
+  private final long amount;
 
   public Mosaic(UnresolvedMosaicId id, BigInteger amount) {
     Validate.notNull(id, "Id must not be null");
     Validate.notNull(amount, "Amount must not be null");
-    ConvertUtils.validateNotNegative(amount);
+    this.id = id;
+    this.amount = ConvertUtils.toUnsignedLong(amount);
+  }
+
+  /**
+   * Creates a mosaic without going through {@link BigInteger}.
+   *
+   * @param id the mosaic id.
+   * @param amount the amount as an unsigned long, values bigger than {@link Long#MAX_VALUE} are
+   *     given as overflowed negative longs.
+   */
+  public Mosaic(UnresolvedMosaicId id, long amount) {
+    Validate.notNull(id, "Id must not be null");
     this.id = id;
     this.amount = amount;
   }
@@ -65,6 +78,15 @@ public class Mosaic {
    * @return amount of mosaic
    */
   public BigInteger getAmount() {
+    return ConvertUtils.toUnsignedBigInteger(amount);
+  }
+
+  /**
+   * Return mosaic amount as an unsigned long, it may be negative if it's overflowed.
+   *
+   * @return amount of mosaic
+   */
+  public long getAmountAsLong() {
     return amount;
   }
 
@@ -77,7 +99,7 @@ public class Mosaic {
       return false;
     }
     Mosaic mosaic = (Mosaic) o;
-    return Objects.equals(id, mosaic.id) && Objects.equals(amount, mosaic.amount);
+    return Objects.equals(id, mosaic.id) && amount == mosaic.amount;
   }
 
   @Override
@@ -15,14 +15,12 @@
  */
 package io.nem.symbol.sdk.model.mosaic;
 
-import io.nem.symbol.core.utils.Base32Encoder;
 import io.nem.symbol.core.utils.ByteUtils;
 import io.nem.symbol.core.utils.ConvertUtils;
 import io.nem.symbol.sdk.model.account.Address;
 import io.nem.symbol.sdk.model.account.PublicAccount;
 import io.nem.symbol.sdk.model.transaction.IdGenerator;
 import java.math.BigInteger;
-import java.util.Objects;
 
 /**
  * The mosaic id structure describes mosaic id
@@ -31,7 +29,11 @@ import java.util.Objects;
  */
 public class MosaicId implements UnresolvedMosaicId {
 
-  private final BigInteger id;
+  /** The id as an unsigned long. */
+  private final long id;
+
+  /** If the id was given as a negative, signed, {@link BigInteger}. {@link #getId()} keeps it. */
+  private final boolean signed;
 
   /**
    * Create MosaicId from mosaic Hex string
@@ -41,16 +43,29 @@ public class MosaicId implements UnresolvedMosaicId {
    */
   public MosaicId(String hex) {
     ConvertUtils.validateIsHexString(hex, 16);
-    this.id = new BigInteger(hex, 16);
+    this.id = Long.parseUnsignedLong(hex, 16);
+    this.signed = false;
   }
 
   /**
    * Create MosaicId from BigInteger id
    *
    * @param id the mosaic id as {@link BigInteger}.
+   * @throws IllegalArgumentException if the id doesn't fit in 64 bits.
    */
   public MosaicId(BigInteger id) {
+    this.id = ConvertUtils.toUnsignedLongId(id);
+    this.signed = id.signum() < 0;
+  }
+
+  /**
+   * Create MosaicId from its long id
+   *
+   * @param id the mosaic id as an unsigned long, it may be negative if it's overflowed.
+   */
+  public MosaicId(long id) {
     this.id = id;
+    this.signed = false;
   }
 
   /**
@@ -60,9 +75,8 @@ public class MosaicId implements UnresolvedMosaicId {
    * @param owner the address of the owner
    */
   public MosaicId(MosaicNonce mosaicNonce, Address owner) {
-    this.id =
-        IdGenerator.generateMosaicId(
-            mosaicNonce.getNonceAsInt(), Base32Encoder.getBytes(owner.plain()));
+    this.id = IdGenerator.generateMosaicIdAsLong(mosaicNonce.getNonceAsInt(), owner.getBytes());
+    this.signed = false;
   }
 
   /**
@@ -103,7 +117,7 @@ public class MosaicId implements UnresolvedMosaicId {
    * @return mosaic BigInteger id
    */
   public BigInteger getId() {
-    return id;
+    return signed ? BigInteger.valueOf(id) : ConvertUtils.toUnsignedBigInteger(id);
   }
 
   /**
@@ -112,7 +126,7 @@ public class MosaicId implements UnresolvedMosaicId {
    * @return id long
    */
   public long getIdAsLong() {
-    return this.id.longValue();
+    return this.id;
   }
 
   /**
@@ -129,12 +143,12 @@ public class MosaicId implements UnresolvedMosaicId {
       return false;
     }
     MosaicId mosaicId = (MosaicId) o;
-    return Objects.equals(id, mosaicId.id);
+    return id == mosaicId.id && signed == mosaicId.signed;
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(id);
+    return 31 * Long.hashCode(id) + Boolean.hashCode(signed);
   }
 
   /**
@@ -144,7 +158,7 @@ public class MosaicId implements UnresolvedMosaicId {
    */
   @Override
   public String getIdAsHex() {
-    byte[] bytes = ByteUtils.bigIntToBytes(getId());
+    byte[] bytes = ByteUtils.longToBytes(id);
     return ConvertUtils.toHex(bytes);
   }
 }
@@ -29,12 +29,25 @@ public class ResolvedMosaic {
 
   private final MosaicId id;
 
-  private final BigInteger amount;
+  /** The amount as an unsigned long. */
+  private final long amount;
 
   public ResolvedMosaic(MosaicId id, BigInteger amount) {
     Validate.notNull(id, "Id must not be null");
     Validate.notNull(amount, "Amount must not be null");
-    ConvertUtils.validateNotNegative(amount);
+    this.id = id;
+    this.amount = ConvertUtils.toUnsignedLong(amount);
+  }
+
+  /**
+   * Creates a mosaic without going through {@link BigInteger}.
+   *
+   * @param id the mosaic id.
+   * @param amount the amount as an unsigned long, values bigger than {@link Long#MAX_VALUE} are
+   *     given as overflowed negative longs.
+   */
+  public ResolvedMosaic(MosaicId id, long amount) {
+    Validate.notNull(id, "Id must not be null");
     this.id = id;
     this.amount = amount;
   }
@@ -64,6 +77,15 @@ public class ResolvedMosaic {
    * @return amount of mosaic
    */
   public BigInteger getAmount() {
+    return ConvertUtils.toUnsignedBigInteger(amount);
+  }
+
+  /**
+   * Return mosaic amount as an unsigned long, it may be negative if it's overflowed.
+   *
+   * @return amount of mosaic
+   */
+  public long getAmountAsLong() {
     return amount;
   }
 }
@@ -25,7 +25,6 @@ import io.nem.symbol.sdk.model.network.NetworkType;
 import io.nem.symbol.sdk.model.transaction.IdGenerator;
 import java.math.BigInteger;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 
 /**
@@ -35,7 +34,8 @@ import java.util.Optional;
  */
 public class NamespaceId implements UnresolvedMosaicId, UnresolvedAddress {
 
-  private final BigInteger id;
+  /** The id as an unsigned long. */
+  private final long id;
 
   private final Optional<String> fullName;
 
@@ -47,12 +47,12 @@ public class NamespaceId implements UnresolvedMosaicId, UnresolvedAddress {
    */
   public NamespaceId(String hex) {
     ConvertUtils.validateIsHexString(hex, 16);
-    this.id = new BigInteger(hex, 16);
+    this.id = Long.parseUnsignedLong(hex, 16);
     this.fullName = Optional.empty();
   }
 
-  private NamespaceId(BigInteger id, Optional<String> fullName) {
-    this.id = ConvertUtils.toUnsignedBigInteger(id);
+  private NamespaceId(long id, Optional<String> fullName) {
+    this.id = id;
     this.fullName = fullName;
   }
 
@@ -64,7 +64,7 @@ public class NamespaceId implements UnresolvedMosaicId, UnresolvedAddress {
    */
   public static NamespaceId createFromName(String namespaceName) {
     return new NamespaceId(
-        IdGenerator.generateNamespaceId(namespaceName), Optional.of(namespaceName));
+        IdGenerator.generateNamespaceIdAsLong(namespaceName), Optional.of(namespaceName));
   }
 
   /**
@@ -74,9 +74,10 @@ public class NamespaceId implements UnresolvedMosaicId, UnresolvedAddress {
    * @param fullName the full name that includes the parent namespaces (ex: nem or
    *     domain.subdom.subdome)
    * @return the new {@link NamespaceId}
+   * @throws IllegalArgumentException if the id doesn't fit in 64 bits.
    */
   public static NamespaceId createFromIdAndFullName(BigInteger id, String fullName) {
-    return new NamespaceId(id, Optional.of(fullName));
+    return new NamespaceId(ConvertUtils.toUnsignedLongId(id), Optional.of(fullName));
   }
 
   /**
@@ -85,10 +86,13 @@ public class NamespaceId implements UnresolvedMosaicId, UnresolvedAddress {
    * @param namespaceName the namespace name.
    * @param parentId the parent id.
    * @return the new {@link NamespaceId}
+   * @throws IllegalArgumentException if the parent id doesn't fit in 64 bits.
    */
   public static NamespaceId createFromNameAndParentId(String namespaceName, BigInteger parentId) {
     return new NamespaceId(
-        IdGenerator.generateNamespaceId(namespaceName, parentId), Optional.of(namespaceName));
+        IdGenerator.generateNamespaceIdAsLong(
+            namespaceName, ConvertUtils.toUnsignedLongId(parentId)),
+        Optional.of(namespaceName));
   }
 
   /**
@@ -102,7 +106,7 @@ public class NamespaceId implements UnresolvedMosaicId, UnresolvedAddress {
   public static NamespaceId createFromNameAndParentName(
       String namespaceName, String parentNamespaceName) {
     return new NamespaceId(
-        IdGenerator.generateNamespaceId(namespaceName, parentNamespaceName),
+        IdGenerator.generateNamespaceIdAsLong(parentNamespaceName + "." + namespaceName),
         Optional.of(parentNamespaceName + "." + namespaceName));
   }
 
@@ -111,8 +115,19 @@ public class NamespaceId implements UnresolvedMosaicId, UnresolvedAddress {
    *
    * @param id the namespace id as {@link BigInteger}.
    * @return the new {@link NamespaceId}
+   * @throws IllegalArgumentException if the id doesn't fit in 64 bits.
    */
   public static NamespaceId createFromId(BigInteger id) {
+    return new NamespaceId(ConvertUtils.toUnsignedLongId(id), Optional.empty());
+  }
+
+  /**
+   * Create NamespaceId from its long id
+   *
+   * @param id the namespace id as an unsigned long, it may be negative if it's overflowed.
+   * @return the new {@link NamespaceId}
+   */
+  public static NamespaceId createFromId(long id) {
     return new NamespaceId(id, Optional.empty());
   }
 
@@ -132,7 +147,7 @@ public class NamespaceId implements UnresolvedMosaicId, UnresolvedAddress {
    * @return namespace BigInteger id
    */
   public BigInteger getId() {
-    return id;
+    return ConvertUtils.toUnsignedBigInteger(id);
   }
 
   /**
@@ -141,7 +156,7 @@ public class NamespaceId implements UnresolvedMosaicId, UnresolvedAddress {
    * @return id long
    */
   public long getIdAsLong() {
-    return this.id.longValue();
+    return this.id;
   }
 
   /**
@@ -162,12 +177,12 @@ public class NamespaceId implements UnresolvedMosaicId, UnresolvedAddress {
       return false;
     }
     NamespaceId that = (NamespaceId) o;
-    return Objects.equals(id, that.id);
+    return id == that.id;
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(id);
+    return Long.hashCode(id);
   }
 
   @Override
@@ -188,6 +203,6 @@ public class NamespaceId implements UnresolvedMosaicId, UnresolvedAddress {
    */
   @Override
   public String getIdAsHex() {
-    return ConvertUtils.toHex(ByteUtils.bigIntToBytes(getId()));
+    return ConvertUtils.toHex(ByteUtils.longToBytes(id));
   }
 }
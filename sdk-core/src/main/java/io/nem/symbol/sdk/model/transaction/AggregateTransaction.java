@@ -15,17 +15,19 @@
  */
 package io.nem.symbol.sdk.model.transaction;
 
-import io.nem.symbol.catapult.builders.CosignatureBuilder;
-import io.nem.symbol.catapult.builders.SignatureDto;
+import io.nem.symbol.core.crypto.CryptoEngines;
+import io.nem.symbol.core.crypto.DsaSigner;
+import io.nem.symbol.core.crypto.KeyPair;
+import io.nem.symbol.core.crypto.Signature;
 import io.nem.symbol.core.utils.ConvertUtils;
-import io.nem.symbol.sdk.infrastructure.SerializationUtils;
 import io.nem.symbol.sdk.model.account.Account;
 import io.nem.symbol.sdk.model.account.PublicAccount;
-import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
-import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.Validate;
 
 /**
  * The aggregate innerTransactions contain multiple innerTransactions that can be initiated by
@@ -35,6 +37,9 @@ import org.apache.commons.lang3.ArrayUtils;
  */
 public class AggregateTransaction extends Transaction {
 
+  /** The size of a cosignature's signature. */
+  private static final int SIGNATURE_SIZE = 64;
+
   private final String transactionsHash;
 
   private final List<Transaction> innerTransactions;
@@ -105,27 +110,121 @@ public class AggregateTransaction extends Transaction {
       final List<? extends AggregateTransactionCosignature> cosignatures,
       final String generationHash) {
     SignedTransaction signedTransaction = this.signWith(initiatorAccount, generationHash);
-    StringBuilder payload = new StringBuilder(signedTransaction.getPayload());
-
-    for (AggregateTransactionCosignature cosignatory : cosignatures) {
-      SignatureDto signature = SerializationUtils.toSignatureDto(cosignatory.getSignature());
-      CosignatureBuilder builder =
-          CosignatureBuilder.create(
-              cosignatory.getVersion().longValue(),
-              SerializationUtils.toKeyDto(cosignatory.getSigner().getPublicKey()),
-              signature);
-      payload.append(ConvertUtils.toHex(builder.serialize()));
-    }
+    return appendCosignatures(signedTransaction, cosignatures);
+  }
 
-    byte[] payloadBytes = ConvertUtils.fromHexToBytes(payload.toString());
-    byte[] size = BigInteger.valueOf(payloadBytes.length).toByteArray();
-    ArrayUtils.reverse(size);
-    System.arraycopy(size, 0, payloadBytes, 0, size.length);
+  /**
+   * It appends the cosignatures to an already signed aggregate transaction. The payload is
+   * decoded once and the cosignatures are written as bytes into a single buffer.
+   *
+   * <p>The cosignatures are not verified, see {@link #appendVerifiedCosignatures(SignedTransaction,
+   * List)}.
+   *
+   * @param signedAggregate the signed aggregate transaction.
+   * @param cosignatures the cosignatures to append.
+   * @return a new {@link SignedTransaction} with the cosignatures.
+   */
+  public static SignedTransaction appendCosignatures(
+      final SignedTransaction signedAggregate,
+      final List<? extends AggregateTransactionCosignature> cosignatures) {
+    Validate.notNull(signedAggregate, "signedAggregate must not be null");
+    byte[] payload =
+        appendCosignatures(ConvertUtils.fromHexToBytes(signedAggregate.getPayload()), cosignatures);
     return new SignedTransaction(
-        initiatorAccount.getPublicAccount(),
-        ConvertUtils.toHex(payloadBytes),
-        signedTransaction.getHash(),
-        getType());
+        signedAggregate.getSigner(),
+        ConvertUtils.toHex(payload),
+        signedAggregate.getHash(),
+        signedAggregate.getType());
+  }
+
+  /**
+   * It appends the cosignatures to the payload of a signed aggregate transaction. The result is
+   * written into one buffer of the final size and the payload size is updated.
+   *
+   * @param signedAggregatePayload the payload of the signed aggregate transaction.
+   * @param cosignatures the cosignatures to append.
+   * @return the new payload including the cosignatures.
+   */
+  public static byte[] appendCosignatures(
+      final byte[] signedAggregatePayload,
+      final List<? extends AggregateTransactionCosignature> cosignatures) {
+    Validate.notNull(signedAggregatePayload, "signedAggregatePayload must not be null");
+    Validate.notNull(cosignatures, "cosignatures must not be null");
+    int size =
+        signedAggregatePayload.length
+            + AggregateTransactionFactory.COSIGNATURE_SIZE * cosignatures.size();
+    ByteBuffer buffer = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+    buffer.put(signedAggregatePayload);
+    for (AggregateTransactionCosignature cosignature : cosignatures) {
+      byte[] signature = ConvertUtils.getBytes(cosignature.getSignature());
+      Validate.isTrue(
+          signature.length == SIGNATURE_SIZE,
+          "Cosignature must have %s bytes but got %s",
+          SIGNATURE_SIZE,
+          signature.length);
+      buffer.putLong(cosignature.getVersion().longValue());
+      buffer.put(cosignature.getSigner().getPublicKey().getBytes());
+      buffer.put(signature);
+    }
+    buffer.putInt(0, size);
+    return buffer.array();
+  }
+
+  /**
+   * It verifies the cosignatures against the hash of the signed aggregate and, if all of them are
+   * valid, it appends them to the aggregate's payload.
+   *
+   * @param signedAggregate the signed aggregate transaction.
+   * @param cosignatures the cosignatures to verify and append.
+   * @return a new {@link SignedTransaction} with the cosignatures.
+   * @throws IllegalArgumentException if any of the cosignatures is not valid.
+   */
+  public static SignedTransaction appendVerifiedCosignatures(
+      final SignedTransaction signedAggregate,
+      final List<CosignatureSignedTransaction> cosignatures) {
+    Validate.notNull(signedAggregate, "signedAggregate must not be null");
+    verifyCosignatures(signedAggregate.getHash(), cosignatures);
+    return appendCosignatures(signedAggregate, cosignatures);
+  }
+
+  /**
+   * It verifies, in parallel, that each cosignature signs the given aggregate hash with the
+   * cosigner's key.
+   *
+   * @param aggregateHash the hash of the signed aggregate transaction.
+   * @param cosignatures the cosignatures to verify.
+   * @throws IllegalArgumentException if any of the cosignatures is not valid. The message lists
+   *     the public keys of the invalid cosigners.
+   */
+  public static void verifyCosignatures(
+      final String aggregateHash, final List<CosignatureSignedTransaction> cosignatures) {
+    Validate.notNull(aggregateHash, "aggregateHash must not be null");
+    Validate.notNull(cosignatures, "cosignatures must not be null");
+    byte[] hash = ConvertUtils.fromHexToBytes(aggregateHash);
+    List<String> invalidCosigners =
+        cosignatures.parallelStream()
+            .filter(cosignature -> !isValidCosignature(aggregateHash, hash, cosignature))
+            .map(cosignature -> cosignature.getSigner().getPublicKey().toHex())
+            .collect(Collectors.toList());
+    if (!invalidCosigners.isEmpty()) {
+      throw new IllegalArgumentException(
+          "Invalid cosignatures of aggregate " + aggregateHash + " from " + invalidCosigners);
+    }
+  }
+
+  private static boolean isValidCosignature(
+      String aggregateHash, byte[] hash, CosignatureSignedTransaction cosignature) {
+    if (!aggregateHash.equalsIgnoreCase(cosignature.getParentHash())) {
+      return false;
+    }
+    byte[] signature = ConvertUtils.getBytes(cosignature.getSignature());
+    if (signature.length != SIGNATURE_SIZE) {
+      return false;
+    }
+    DsaSigner signer =
+        CryptoEngines.defaultEngine()
+            .createDsaSigner(KeyPair.onlyPublic(cosignature.getSigner().getPublicKey()));
+    return signer.verify(hash, new Signature(signature));
   }
 
   /**
@@ -15,11 +15,8 @@
  */
 package io.nem.symbol.sdk.model.transaction;
 
-import io.nem.symbol.core.crypto.Hasher;
-import io.nem.symbol.core.crypto.Hashes;
 import io.nem.symbol.core.crypto.MerkleHashBuilder;
 import io.nem.symbol.core.utils.ConvertUtils;
-import io.nem.symbol.sdk.infrastructure.BinarySerializationImpl;
 import io.nem.symbol.sdk.model.network.NetworkType;
 import java.math.BigInteger;
 import java.util.ArrayList;
@@ -152,13 +149,8 @@ public class AggregateTransactionFactory extends TransactionFactory<AggregateTra
   private static String calculateTransactionsHash(final List<Transaction> transactions) {
 
     final MerkleHashBuilder transactionsHashBuilder = new MerkleHashBuilder();
-    final BinarySerializationImpl transactionSerialization = new BinarySerializationImpl();
-
-    Hasher hasher = Hashes::sha3_256;
     for (final Transaction transaction : transactions) {
-      final byte[] bytes = transactionSerialization.serializeEmbedded(transaction);
-      byte[] transactionHash = hasher.hash(bytes);
-      transactionsHashBuilder.update(transactionHash);
+      transactionsHashBuilder.update(transaction.getEmbeddedHash());
     }
 
     final byte[] hash = transactionsHashBuilder.getRootHash();
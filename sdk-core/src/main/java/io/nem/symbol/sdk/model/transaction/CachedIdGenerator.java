@@ -0,0 +1,141 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.model.transaction;
+
+import io.nem.symbol.core.utils.ConvertUtils;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * An {@link IdGenerator} that memoizes the id chains of the namespace paths it resolves. The
+ * parent paths are resolved through the cache too, so the common parents of many paths (like
+ * symbol in symbol.xym) are hashed once. It can be shared between threads.
+ *
+ * <p>The cache is bounded: when it reaches the max size, it's cleared before adding new paths.
+ */
+public class CachedIdGenerator {
+
+  /** The default maximum number of cached paths. */
+  public static final int DEFAULT_MAX_SIZE = 100_000;
+
+  private final int maxSize;
+
+  private final ConcurrentMap<String, long[]> paths = new ConcurrentHashMap<>();
+
+  /** Creates a generator with the default maximum size. */
+  public CachedIdGenerator() {
+    this(DEFAULT_MAX_SIZE);
+  }
+
+  /**
+   * Creates a generator with the given maximum size.
+   *
+   * @param maxSize the maximum number of cached paths.
+   */
+  public CachedIdGenerator(int maxSize) {
+    Validate.isTrue(maxSize > 0, "Max size must be positive");
+    this.maxSize = maxSize;
+  }
+
+  /**
+   * Generate the ids of each level of a namespace path.
+   *
+   * @param namespacePath Namespace path.
+   * @return the namespace ids as unsigned longs, from the root to the last level.
+   */
+  public long[] generateNamespacePathAsLongs(String namespacePath) {
+    return resolvePath(namespacePath).clone();
+  }
+
+  /**
+   * Generate namespace id.
+   *
+   * @param namespacePath Namespace path.
+   * @return Namespace id as an unsigned long.
+   */
+  public long generateNamespaceIdAsLong(String namespacePath) {
+    long[] path = resolvePath(namespacePath);
+    return path[path.length - 1];
+  }
+
+  /**
+   * Generate namespace id.
+   *
+   * @param namespacePath Namespace path.
+   * @return List of namespace id.
+   */
+  public List<BigInteger> generateNamespacePath(String namespacePath) {
+    long[] ids = resolvePath(namespacePath);
+    List<BigInteger> path = new ArrayList<>(ids.length);
+    for (long id : ids) {
+      path.add(ConvertUtils.toUnsignedBigInteger(id));
+    }
+    return path;
+  }
+
+  /**
+   * Generate namespace id.
+   *
+   * @param namespacePath Namespace path.
+   * @return Namespace id.
+   */
+  public BigInteger generateNamespaceId(String namespacePath) {
+    return ConvertUtils.toUnsignedBigInteger(generateNamespaceIdAsLong(namespacePath));
+  }
+
+  /** @return the number of cached paths. */
+  public int size() {
+    return paths.size();
+  }
+
+  /** Removes all the cached paths. */
+  public void clear() {
+    paths.clear();
+  }
+
+  private long[] resolvePath(String namespacePath) {
+    long[] path = paths.get(namespacePath);
+    if (path != null) {
+      return path;
+    }
+    int separator = namespacePath.lastIndexOf('.');
+    if (separator <= 0
+        || separator == namespacePath.length() - 1
+        || namespacePath.charAt(separator - 1) == '.') {
+      // Roots and unusual paths are delegated, the generator reports the invalid ones.
+      path = IdGenerator.generateNamespacePathAsLongs(namespacePath);
+    } else {
+      long[] parent = resolvePath(namespacePath.substring(0, separator));
+      path = new long[parent.length + 1];
+      System.arraycopy(parent, 0, path, 0, parent.length);
+      path[parent.length] =
+          IdGenerator.generateNamespaceIdAsLong(
+              namespacePath,
+              separator + 1,
+              namespacePath.length(),
+              parent[parent.length - 1]);
+    }
+    if (paths.size() >= maxSize) {
+      paths.clear();
+    }
+    paths.put(namespacePath, path);
+    return path;
+  }
+}
@@ -15,6 +15,7 @@
  */
 package io.nem.symbol.sdk.model.transaction;
 
+import io.nem.symbol.core.utils.ConvertUtils;
 import java.math.BigInteger;
 import java.time.Duration;
 import java.time.Instant;
@@ -31,8 +32,8 @@ import java.time.temporal.ChronoUnit;
  */
 public class Deadline {
 
-  /** number of millis elapsed since the creation of the nemesis block */
-  private final BigInteger value;
+  /** number of millis elapsed since the creation of the nemesis block, as an unsigned long */
+  private final long value;
 
   /**
    * Constructor
@@ -40,6 +41,15 @@ public class Deadline {
    * @param input Deadline in BigInteger format
    */
   public Deadline(BigInteger input) {
+    this.value = ConvertUtils.toUnsignedLong(input);
+  }
+
+  /**
+   * Constructor
+   *
+   * @param input Deadline as an unsigned long, the millis elapsed since the nemesis block.
+   */
+  public Deadline(long input) {
     this.value = input;
   }
 
@@ -53,7 +63,7 @@ public class Deadline {
    */
   public static Deadline create(Duration epochAdjustment, int units, ChronoUnit chronoUnit) {
     long millis = Instant.now().plus(units, chronoUnit).minus(epochAdjustment).toEpochMilli();
-    return new Deadline(BigInteger.valueOf(millis));
+    return new Deadline(millis);
   }
 
   /**
@@ -68,7 +78,7 @@ public class Deadline {
 
   /** @return the BigInteger representation of the duration. */
   public BigInteger toBigInteger() {
-    return value;
+    return ConvertUtils.toUnsignedBigInteger(value);
   }
 
   /**
@@ -77,7 +87,7 @@ public class Deadline {
    * @return long
    */
   public long getValue() {
-    return value.longValue();
+    return value;
   }
 
   /**
@@ -87,7 +97,7 @@ public class Deadline {
    * @return the instant time from the creation of the nemesis block.
    */
   public Instant getInstant(Duration epochAdjustment) {
-    return Instant.ofEpochMilli(value.longValue()).plusMillis(epochAdjustment.toMillis());
+    return Instant.ofEpochMilli(value).plusMillis(epochAdjustment.toMillis());
   }
 
   /**
@@ -15,17 +15,13 @@
  */
 package io.nem.symbol.sdk.model.transaction;
 
-import io.nem.symbol.core.crypto.Hashes;
 import io.nem.symbol.core.utils.ConvertUtils;
 import io.nem.symbol.sdk.model.mosaic.IllegalIdentifierException;
 import java.math.BigInteger;
-import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
-import java.util.regex.Pattern;
-import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.Validate;
+import org.bouncycastle.crypto.digests.SHA3Digest;
 
 /** Id generator */
 public class IdGenerator {
@@ -35,6 +31,45 @@ public class IdGenerator {
 
   private static final long ID_GENERATOR_FLAG = 0x8000000000000000L;
 
+  /** The separator of the namespace path levels. */
+  private static final char NAMESPACE_SEPARATOR = '.';
+
+  /** The SHA3-256 digest and output of the current thread. */
+  private static final ThreadLocal<IdDigest> DIGEST = ThreadLocal.withInitial(IdDigest::new);
+
+  /** A reusable SHA3-256 digest that returns the first 8 bytes of the hash as a long. */
+  private static final class IdDigest {
+
+    private final SHA3Digest digest = new SHA3Digest(256);
+
+    private final byte[] hash = new byte[digest.getDigestSize()];
+
+    /**
+     * It resets the digest, a previous computation may have failed after updating it.
+     *
+     * @return this digest.
+     */
+    private IdDigest start() {
+      digest.reset();
+      return this;
+    }
+
+    private void updateLittleEndian(long value, int size) {
+      for (int i = 0; i < size; i++) {
+        digest.update((byte) (value >>> (i * 8)));
+      }
+    }
+
+    private long finish() {
+      digest.doFinal(hash, 0);
+      long value = 0;
+      for (int i = Long.BYTES - 1; i >= 0; i--) {
+        value = (value << 8) | (hash[i] & 0xFF);
+      }
+      return value;
+    }
+  }
+
   /**
    * Generate mosaic id.
    *
@@ -43,11 +78,23 @@ public class IdGenerator {
    * @return Mosaic id.
    */
   public static BigInteger generateMosaicId(final int nonce, final byte[] publicKey) {
-    final ByteBuffer parentIdBuffer =
-        ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putInt(nonce);
-    final byte[] hash = IdGenerator.getHashInLittleEndian(parentIdBuffer.array(), publicKey);
+    return BigInteger.valueOf(generateMosaicIdAsLong(nonce, publicKey));
+  }
+
+  /**
+   * Generate mosaic id.
+   *
+   * @param nonce Nonce int.
+   * @param publicKey Public key.
+   * @return Mosaic id as a long.
+   */
+  public static long generateMosaicIdAsLong(final int nonce, final byte[] publicKey) {
+    Validate.notNull(publicKey, "publicKey must not be null");
+    final IdDigest digest = DIGEST.get().start();
+    digest.updateLittleEndian(nonce, Integer.BYTES);
+    digest.digest.update(publicKey, 0, publicKey.length);
     // Unset the high bit for mosaic id
-    return BigInteger.valueOf(ByteBuffer.wrap(hash).getLong() & ~ID_GENERATOR_FLAG);
+    return digest.finish() & ~ID_GENERATOR_FLAG;
   }
 
   /**
@@ -59,16 +106,65 @@ public class IdGenerator {
    */
   public static BigInteger generateNamespaceId(
       final String namespaceName, final BigInteger parentId) {
-    if (!namespaceName.matches("^[a-z0-9][a-z0-9-_]*$")) {
+    return ConvertUtils.toUnsignedBigInteger(
+        generateNamespaceIdAsLong(namespaceName, ConvertUtils.toUnsignedLongId(parentId)));
+  }
+
+  /**
+   * Generate namespace id.
+   *
+   * @param namespaceName Namespace name.
+   * @param parentId Parent id as an unsigned long, 0 for root namespaces.
+   * @return Namespace id as an unsigned long.
+   */
+  public static long generateNamespaceIdAsLong(final String namespaceName, final long parentId) {
+    return generateNamespaceIdAsLong(namespaceName, 0, namespaceName.length(), parentId);
+  }
+
+  /**
+   * Generate the id of a namespace name contained in a namespace path.
+   *
+   * @param namespacePath the text containing the namespace name.
+   * @param start the index of the first char of the name.
+   * @param end the index after the last char of the name.
+   * @param parentId Parent id as an unsigned long, 0 for root namespaces.
+   * @return Namespace id as an unsigned long.
+   */
+  static long generateNamespaceIdAsLong(
+      final String namespacePath, final int start, final int end, final long parentId) {
+    if (!isValidNamespaceName(namespacePath, start, end)) {
       throw new IllegalIdentifierException("invalid namespace name");
     }
-
-    final ByteBuffer parentIdBuffer =
-        ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN).putLong(parentId.longValue());
-    final byte[] hash =
-        IdGenerator.getHashInLittleEndian(parentIdBuffer.array(), namespaceName.getBytes());
+    final IdDigest digest = DIGEST.get().start();
+    digest.updateLittleEndian(parentId, Long.BYTES);
+    // Valid names are ASCII, each char is encoded as one byte.
+    for (int i = start; i < end; i++) {
+      digest.digest.update((byte) namespacePath.charAt(i));
+    }
     // Set the high bit for namespace id
-    return ConvertUtils.toUnsignedBigInteger(ByteBuffer.wrap(hash).getLong() | ID_GENERATOR_FLAG);
+    return digest.finish() | ID_GENERATOR_FLAG;
+  }
+
+  /**
+   * Checks a namespace name, it must match ^[a-z0-9][a-z0-9-_]*$.
+   *
+   * @param text the text containing the namespace name.
+   * @param start the index of the first char of the name.
+   * @param end the index after the last char of the name.
+   * @return true if the name is valid.
+   */
+  private static boolean isValidNamespaceName(final String text, final int start, final int end) {
+    if (start >= end) {
+      return false;
+    }
+    for (int i = start; i < end; i++) {
+      final char ch = text.charAt(i);
+      final boolean alphanumeric = (ch >= 'a' && ch <= 'z') || (ch >= '0' && ch <= '9');
+      if (!alphanumeric && (i == start || (ch != '-' && ch != '_'))) {
+        return false;
+      }
+    }
+    return true;
   }
 
   /**
@@ -89,8 +185,18 @@ public class IdGenerator {
    * @return Namespace id.
    */
   public static BigInteger generateNamespaceId(String namespacePath) {
-    List<BigInteger> namespaceList = generateNamespacePath(namespacePath);
-    return namespaceList.get(namespaceList.size() - 1);
+    return ConvertUtils.toUnsignedBigInteger(generateNamespaceIdAsLong(namespacePath));
+  }
+
+  /**
+   * Generate namespace id.
+   *
+   * @param namespacePath Namespace path.
+   * @return Namespace id as an unsigned long.
+   */
+  public static long generateNamespaceIdAsLong(String namespacePath) {
+    long[] path = generateNamespacePathAsLongs(namespacePath);
+    return path[path.length - 1];
   }
 
   /**
@@ -100,32 +206,46 @@ public class IdGenerator {
    * @return List of namespace id.
    */
   public static List<BigInteger> generateNamespacePath(String namespacePath) {
-    String[] parts = namespacePath.split(Pattern.quote("."));
-    List<BigInteger> path = new ArrayList<>();
-
-    if (parts.length == 0) {
-      throw new IllegalIdentifierException("invalid namespace path");
-    }
-
-    BigInteger namespaceId = BigInteger.valueOf(0);
-
-    for (String part : parts) {
-      namespaceId = generateNamespaceId(part, namespaceId);
-      path.add(namespaceId);
+    long[] ids = generateNamespacePathAsLongs(namespacePath);
+    List<BigInteger> path = new ArrayList<>(ids.length);
+    for (long id : ids) {
+      path.add(ConvertUtils.toUnsignedBigInteger(id));
     }
     return path;
   }
 
   /**
-   * Gets hash in little endian.
+   * Generate the ids of each level of a namespace path.
    *
-   * @param inputs Inputs to hash.
-   * @return Hash value.
+   * @param namespacePath Namespace path.
+   * @return the namespace ids as unsigned longs, from the root to the last level.
    */
-  private static byte[] getHashInLittleEndian(final byte[]... inputs) {
-    byte[] result = Hashes.sha3_256(inputs);
-    result = Arrays.copyOfRange(result, 0, 8);
-    ArrayUtils.reverse(result);
-    return result;
+  public static long[] generateNamespacePathAsLongs(String namespacePath) {
+    // Like String.split, trailing separators are ignored.
+    int end = namespacePath.length();
+    while (end > 0 && namespacePath.charAt(end - 1) == NAMESPACE_SEPARATOR) {
+      end--;
+    }
+    if (end == 0 && !namespacePath.isEmpty()) {
+      throw new IllegalIdentifierException("invalid namespace path");
+    }
+    int levels = 1;
+    for (int i = 0; i < end; i++) {
+      if (namespacePath.charAt(i) == NAMESPACE_SEPARATOR) {
+        levels++;
+      }
+    }
+
+    long[] path = new long[levels];
+    long namespaceId = 0;
+    int start = 0;
+    for (int level = 0; level < levels; level++) {
+      int separator = namespacePath.indexOf(NAMESPACE_SEPARATOR, start);
+      int partEnd = separator < 0 || separator > end ? end : separator;
+      namespaceId = generateNamespaceIdAsLong(namespacePath, start, partEnd, namespaceId);
+      path[level] = namespaceId;
+      start = partEnd + 1;
+    }
+    return path;
   }
 }
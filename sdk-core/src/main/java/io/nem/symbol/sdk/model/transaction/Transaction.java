@@ -28,6 +28,7 @@ import io.nem.symbol.sdk.model.account.Account;
 import io.nem.symbol.sdk.model.account.PublicAccount;
 import io.nem.symbol.sdk.model.network.NetworkType;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.util.Optional;
 
 /**
@@ -44,20 +45,26 @@ public abstract class Transaction implements Stored {
   private final NetworkType networkType;
   private final Integer version;
   private final Deadline deadline;
-  private final BigInteger maxFee;
+  private final long maxFee;
   private final Optional<Long> size;
   private final Optional<TransactionGroup> group;
   private final Optional<String> signature;
   private final Optional<TransactionInfo> transactionInfo;
   private Optional<PublicAccount> signer;
 
+  /** The memoized embedded bytes, they depend on the signer set when the aggregate is created. */
+  private volatile byte[] embeddedBytes;
+
+  /** The memoized sha3 hash of the embedded bytes. */
+  private volatile byte[] embeddedHash;
+
   /** Abstract constructors of all transactions. */
   Transaction(TransactionFactory<?> factory) {
     this.type = factory.getType();
     this.networkType = factory.getNetworkType();
     this.version = factory.getVersion();
     this.deadline = factory.getDeadline();
-    this.maxFee = factory.getMaxFee();
+    this.maxFee = factory.getMaxFeeAsLong();
     this.group = factory.getGroup();
     this.signature = factory.getSignature();
     this.signer = factory.getSigner();
@@ -109,6 +116,16 @@ public abstract class Transaction implements Stored {
    * @return fee amount
    */
   public BigInteger getMaxFee() {
+    return ConvertUtils.toUnsignedBigInteger(maxFee);
+  }
+
+  /**
+   * Returns the fee for the transaction as an unsigned long, it may be negative if it's
+   * overflowed.
+   *
+   * @return fee amount
+   */
+  public long getMaxFeeAsLong() {
     return maxFee;
   }
 
@@ -158,6 +175,62 @@ public abstract class Transaction implements Stored {
     return this.size.orElseGet(() -> BinarySerializationImpl.INSTANCE.getSize(this));
   }
 
+  /**
+   * It returns a copy of the embedded (inner transaction) bytes. The bytes are serialized once and
+   * reused when the aggregate transaction is hashed, sized and serialized.
+   *
+   * @return the embedded bytes of the transaction.
+   */
+  public byte[] getEmbeddedBytes() {
+    return getSharedEmbeddedBytes().clone();
+  }
+
+  /** @return the size of the embedded (inner transaction) bytes. */
+  public int getEmbeddedSize() {
+    return getSharedEmbeddedBytes().length;
+  }
+
+  /**
+   * It writes the embedded (inner transaction) bytes into the buffer without copying them first.
+   *
+   * @param buffer the buffer the embedded bytes are written into.
+   */
+  public void writeEmbeddedBytes(ByteBuffer buffer) {
+    buffer.put(getSharedEmbeddedBytes());
+  }
+
+  /**
+   * It returns the memoized embedded bytes. The array is shared, it must not be modified or leaked.
+   *
+   * @return the memoized embedded bytes of the transaction.
+   */
+  byte[] getSharedEmbeddedBytes() {
+    byte[] bytes = this.embeddedBytes;
+    if (bytes == null) {
+      // The shared instance is always a BinarySerializationImpl, serializeEmbedded isn't part of
+      // the public BinarySerialization api.
+      bytes = ((BinarySerializationImpl) BINARY_SERIALIZATION).serializeEmbedded(this);
+      this.embeddedBytes = bytes;
+    }
+    return bytes;
+  }
+
+  /**
+   * It returns the sha3 hash of the embedded bytes, the leaf used by {@link
+   * AggregateTransactionFactory} to calculate the transactions hash. The hash is calculated once,
+   * the array is shared and it must not be modified or leaked.
+   *
+   * @return the hash of the embedded bytes.
+   */
+  byte[] getEmbeddedHash() {
+    byte[] hash = this.embeddedHash;
+    if (hash == null) {
+      hash = Hashes.sha3_256(getSharedEmbeddedBytes());
+      this.embeddedHash = hash;
+    }
+    return hash;
+  }
+
   /**
    * Generates hash for a serialized transaction payload.
    *
@@ -237,6 +310,8 @@ public abstract class Transaction implements Stored {
    */
   public Transaction toAggregate(final PublicAccount signer) {
     this.signer = Optional.of(signer);
+    this.embeddedBytes = null;
+    this.embeddedHash = null;
     return this;
   }
 
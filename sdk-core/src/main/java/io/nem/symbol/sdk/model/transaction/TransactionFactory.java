@@ -15,6 +15,7 @@
  */
 package io.nem.symbol.sdk.model.transaction;
 
+import io.nem.symbol.core.utils.ConvertUtils;
 import io.nem.symbol.sdk.model.account.PublicAccount;
 import io.nem.symbol.sdk.model.network.NetworkType;
 import java.math.BigInteger;
@@ -54,8 +55,8 @@ public abstract class TransactionFactory<T extends Transaction> {
   /** The version of the new transaction, by default the {@link TransactionType} default version. */
   private Integer version;
 
-  /** The max fee of the new transaction. Zero by default. */
-  private BigInteger maxFee = BigInteger.ZERO;
+  /** The max fee of the new transaction as an unsigned long. Zero by default. */
+  private long maxFee;
 
   /**
    * The signature of the new transaction. This is generally set when mapping transaction coming
@@ -134,6 +135,17 @@ public abstract class TransactionFactory<T extends Transaction> {
    */
   public TransactionFactory<T> maxFee(BigInteger maxFee) {
     Validate.notNull(maxFee, "MaxFee must not be null");
+    this.maxFee = ConvertUtils.toUnsignedLong(maxFee);
+    return this;
+  }
+
+  /**
+   * Builder method used to change the default maxFee without going through {@link BigInteger}.
+   *
+   * @param maxFee a new maxFee as an unsigned long.
+   * @return this factory to continue building the transaction.
+   */
+  public TransactionFactory<T> maxFee(long maxFee) {
     this.maxFee = maxFee;
     return this;
   }
@@ -245,8 +257,13 @@ public abstract class TransactionFactory<T extends Transaction> {
     return deadline;
   }
 
-  /** @return the transaction type. */
+  /** @return the max fee. */
   public BigInteger getMaxFee() {
+    return ConvertUtils.toUnsignedBigInteger(maxFee);
+  }
+
+  /** @return the max fee as an unsigned long, it may be negative if it's overflowed. */
+  public long getMaxFeeAsLong() {
     return maxFee;
   }
 
@@ -15,6 +15,7 @@
  */
 package io.nem.symbol.sdk.model.transaction;
 
+import io.nem.symbol.core.utils.ConvertUtils;
 import java.math.BigInteger;
 import java.util.Optional;
 import org.apache.commons.lang3.Validate;
@@ -22,7 +23,8 @@ import org.apache.commons.lang3.Validate;
 /** The transaction information model included in all transactions. */
 public class TransactionInfo {
 
-  private final BigInteger height;
+  /** The height as an unsigned long. */
+  private final long height;
   private final Optional<Integer> index;
   private final Optional<String> id;
   private final Optional<String> hash;
@@ -39,7 +41,7 @@ public class TransactionInfo {
       Optional<String> aggregateHash,
       Optional<String> aggregateId) {
     Validate.notNull(height, "Height must not be null");
-    this.height = height;
+    this.height = ConvertUtils.toUnsignedLong(height);
     this.index = index;
     this.id = id;
     this.hash = hash;
@@ -111,12 +113,51 @@ public class TransactionInfo {
         Optional.empty());
   }
 
+  /**
+   * Create transaction info object with all the attributes, any of them but the height can be null.
+   *
+   * @param height Block height in which the transaction was included.
+   * @param index The transaction index.
+   * @param id transaction id.
+   * @param hash The transaction hash.
+   * @param merkleComponentHash The transaction merkle component hash.
+   * @param aggregateHash The hash of the aggregate transaction.
+   * @param aggregateId The id of the aggregate transaction.
+   * @return instance of TransactionInfo
+   */
+  public static TransactionInfo create(
+      BigInteger height,
+      Integer index,
+      String id,
+      String hash,
+      String merkleComponentHash,
+      String aggregateHash,
+      String aggregateId) {
+    return new TransactionInfo(
+        height,
+        Optional.ofNullable(index),
+        Optional.ofNullable(id),
+        Optional.ofNullable(hash),
+        Optional.ofNullable(merkleComponentHash),
+        Optional.ofNullable(aggregateHash),
+        Optional.ofNullable(aggregateId));
+  }
+
   /**
    * Returns block height in which the transaction was included.
    *
    * @return block height
    */
   public BigInteger getHeight() {
+    return ConvertUtils.toUnsignedBigInteger(height);
+  }
+
+  /**
+   * Returns block height in which the transaction was included as an unsigned long.
+   *
+   * @return block height
+   */
+  public long getHeightAsLong() {
     return height;
   }
 
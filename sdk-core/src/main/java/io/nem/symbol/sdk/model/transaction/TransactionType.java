@@ -111,6 +111,13 @@ public enum TransactionType {
    */
   private final int currentVersion;
 
+  /** The lowest transaction type value, the offset of the {@link #BY_VALUE} table. */
+  private static final int MIN_VALUE =
+      Arrays.stream(values()).mapToInt(TransactionType::getValue).min().orElse(0);
+
+  /** The transaction types indexed by value minus {@link #MIN_VALUE}. */
+  private static final TransactionType[] BY_VALUE = createLookupTable();
+
   TransactionType(int value, int currentVersion) {
     this.value = value;
     this.currentVersion = currentVersion;
@@ -123,10 +130,21 @@ public enum TransactionType {
    * @return {@link TransactionType}
    */
   public static TransactionType rawValueOf(int value) {
-    return Arrays.stream(values())
-        .filter(e -> e.value == value)
-        .findFirst()
-        .orElseThrow(() -> new IllegalArgumentException(value + " is not a valid value"));
+    int index = value - MIN_VALUE;
+    TransactionType type = index >= 0 && index < BY_VALUE.length ? BY_VALUE[index] : null;
+    if (type == null) {
+      throw new IllegalArgumentException(value + " is not a valid value");
+    }
+    return type;
+  }
+
+  private static TransactionType[] createLookupTable() {
+    int maxValue = Arrays.stream(values()).mapToInt(TransactionType::getValue).max().orElse(0);
+    TransactionType[] table = new TransactionType[maxValue - MIN_VALUE + 1];
+    for (TransactionType type : values()) {
+      table[type.value - MIN_VALUE] = type;
+    }
+    return table;
   }
 
   /**
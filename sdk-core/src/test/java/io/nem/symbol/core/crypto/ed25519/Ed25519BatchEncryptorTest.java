@@ -0,0 +1,117 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.crypto.ed25519;
+
+import io.nem.symbol.core.crypto.KeyPair;
+import io.nem.symbol.core.crypto.PublicKey;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class Ed25519BatchEncryptorTest {
+
+  @Test
+  public void encryptManyRecipientsCanBeDecryptedByEachRecipient() {
+    // Arrange:
+    final KeyPair sender = KeyPair.random();
+    final List<KeyPair> recipients =
+        IntStream.range(0, 20).mapToObj(i -> KeyPair.random()).collect(Collectors.toList());
+    final byte[] plainText = {1, 2, 3, 4, 5, 6, 7, 8};
+    final ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      final Ed25519BatchEncryptor encryptor =
+          new Ed25519BatchEncryptor(sender.getPrivateKey()).withPool(pool);
+
+      // Act:
+      final List<byte[]> payloads =
+          encryptor.encrypt(
+              plainText,
+              recipients.stream().map(KeyPair::getPublicKey).collect(Collectors.toList()));
+
+      // Assert:
+      Assertions.assertEquals(recipients.size(), payloads.size());
+      for (int i = 0; i < recipients.size(); i++) {
+        final Ed25519BlockCipher cipher =
+            new Ed25519BlockCipher(KeyPair.onlyPublic(sender.getPublicKey()), recipients.get(i));
+        Assertions.assertArrayEquals(plainText, cipher.decrypt(payloads.get(i)));
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void encryptReturnsSamePayloadAsBlockCipher() {
+    // Arrange:
+    final KeyPair sender = KeyPair.random();
+    final KeyPair recipient = KeyPair.random();
+    final byte[] plainText = {9, 8, 7};
+    final byte[] iv = AESGCM.generateIV();
+
+    // Act:
+    final byte[] payload =
+        new Ed25519BatchEncryptor(sender.getPrivateKey())
+            .encrypt(plainText, recipient.getPublicKey(), iv);
+
+    // Assert:
+    Assertions.assertArrayEquals(
+        new Ed25519BlockCipher(sender, recipient).encrypt(plainText, iv), payload);
+  }
+
+  @Test
+  public void encryptOneMessagePerRecipient() {
+    // Arrange:
+    final KeyPair sender = KeyPair.random();
+    final List<KeyPair> recipients = Arrays.asList(KeyPair.random(), KeyPair.random());
+    final List<byte[]> plainTexts = Arrays.asList(new byte[] {1}, new byte[] {2, 3});
+    final Ed25519SharedKeyCache cache = new Ed25519SharedKeyCache();
+    final Ed25519BatchEncryptor encryptor =
+        new Ed25519BatchEncryptor(sender.getPrivateKey()).withSharedKeyCache(cache);
+    final List<PublicKey> recipientPublicKeys =
+        recipients.stream().map(KeyPair::getPublicKey).collect(Collectors.toList());
+
+    // Act:
+    final List<byte[]> payloads = encryptor.encrypt(plainTexts, recipientPublicKeys);
+
+    // Assert:
+    Assertions.assertEquals(2, cache.size());
+    for (int i = 0; i < recipients.size(); i++) {
+      final Ed25519BlockCipher cipher = new Ed25519BlockCipher(sender, recipients.get(i));
+      Assertions.assertArrayEquals(plainTexts.get(i), cipher.decrypt(payloads.get(i)));
+      Assertions.assertArrayEquals(
+          Ed25519BlockCipher.getSharedKey(sender.getPrivateKey(), recipientPublicKeys.get(i)),
+          encryptor.getSharedKey(recipientPublicKeys.get(i)));
+    }
+  }
+
+  @Test
+  public void encryptFailsWhenSizesDontMatch() {
+    final Ed25519BatchEncryptor encryptor =
+        new Ed25519BatchEncryptor(KeyPair.random().getPrivateKey());
+    IllegalArgumentException exception =
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () ->
+                encryptor.encrypt(
+                    Arrays.asList(new byte[] {1}, new byte[] {2}),
+                    Arrays.asList(KeyPair.random().getPublicKey())));
+    Assertions.assertEquals("There are 2 plain texts but 1 recipients", exception.getMessage());
+  }
+}
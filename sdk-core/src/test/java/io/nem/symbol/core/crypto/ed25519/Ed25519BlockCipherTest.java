@@ -21,6 +21,10 @@ import io.nem.symbol.core.crypto.CryptoEngine;
 import io.nem.symbol.core.crypto.CryptoEngines;
 import io.nem.symbol.core.crypto.CryptoException;
 import io.nem.symbol.core.crypto.KeyPair;
+import io.nem.symbol.sdk.infrastructure.RandomUtils;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -57,6 +61,96 @@ public class Ed25519BlockCipherTest extends BlockCipherTest {
     Assertions.assertEquals("Cannot decrypt. Input is required.", exception.getMessage());
   }
 
+  @Test
+  public void encryptWithSameKeysAndIvTwiceReturnsSamePayload() {
+    // Arrange:
+    final CryptoEngine engine = this.getCryptoEngine();
+    final Ed25519BlockCipher blockCipher =
+        new Ed25519BlockCipher(KeyPair.random(engine), KeyPair.random(engine));
+    final byte[] plainText = {1, 2, 3, 4, 5};
+    final byte[] iv = AESGCM.generateIV();
+
+    // Act:
+    final byte[] payload1 = blockCipher.encrypt(plainText, iv);
+    final byte[] payload2 = blockCipher.encrypt(plainText, iv);
+
+    // Assert:
+    Assertions.assertArrayEquals(payload1, payload2);
+    Assertions.assertArrayEquals(plainText, blockCipher.decrypt(payload2));
+  }
+
+  @Test
+  public void encryptByteBufferReturnsSamePayloadAsByteArray() {
+    // Arrange:
+    final Ed25519BlockCipher blockCipher =
+        new Ed25519BlockCipher(KeyPair.random(), KeyPair.random());
+    final byte[] plainText = RandomUtils.generateRandomBytes(100);
+    final byte[] iv = AESGCM.generateIV();
+    final ByteBuffer output = ByteBuffer.allocate(200);
+    output.position(10);
+
+    // Act:
+    final int written = blockCipher.encrypt(ByteBuffer.wrap(plainText), output, iv);
+
+    // Assert:
+    final byte[] expected = blockCipher.encrypt(plainText, iv);
+    Assertions.assertEquals(expected.length, written);
+    Assertions.assertEquals(10 + written, output.position());
+    Assertions.assertArrayEquals(expected, Arrays.copyOfRange(output.array(), 10, 10 + written));
+  }
+
+  @Test
+  public void largeDirectByteBufferRoundTrip() {
+    // Arrange:
+    final KeyPair sender = KeyPair.random();
+    final KeyPair recipient = KeyPair.random();
+    final byte[] plainText = RandomUtils.generateRandomBytes(10000);
+    final ByteBuffer input = ByteBuffer.allocateDirect(plainText.length);
+    input.put(plainText).flip();
+    final ByteBuffer encrypted = ByteBuffer.allocateDirect(plainText.length + 28);
+    final ByteBuffer decrypted = ByteBuffer.allocateDirect(plainText.length);
+
+    // Act:
+    new Ed25519BlockCipher(sender, recipient).encrypt(input, encrypted);
+    encrypted.flip();
+    final int decryptedSize =
+        new Ed25519BlockCipher(KeyPair.onlyPublic(sender.getPublicKey()), recipient)
+            .decrypt(encrypted, decrypted);
+
+    // Assert:
+    Assertions.assertEquals(plainText.length, decryptedSize);
+    final byte[] result = new byte[decryptedSize];
+    decrypted.flip();
+    decrypted.get(result);
+    Assertions.assertArrayEquals(plainText, result);
+  }
+
+  @Test
+  public void decryptByteBufferFailsIfPayloadIsAltered() {
+    // Arrange:
+    final Ed25519BlockCipher blockCipher =
+        new Ed25519BlockCipher(KeyPair.random(), KeyPair.random());
+    final byte[] encrypted = blockCipher.encrypt(new byte[] {1, 2, 3, 4});
+    encrypted[encrypted.length - 1] ^= 1;
+
+    // Assert:
+    Assertions.assertThrows(
+        CryptoException.class,
+        () -> blockCipher.decrypt(ByteBuffer.wrap(encrypted), ByteBuffer.allocate(4)));
+  }
+
+  @Test
+  public void encryptByteBufferFailsIfOutputIsTooSmall() {
+    // Arrange:
+    final Ed25519BlockCipher blockCipher =
+        new Ed25519BlockCipher(KeyPair.random(), KeyPair.random());
+
+    // Assert:
+    Assertions.assertThrows(
+        BufferOverflowException.class,
+        () -> blockCipher.encrypt(ByteBuffer.wrap(new byte[10]), ByteBuffer.allocate(37)));
+  }
+
   @Override
   protected BlockCipher getBlockCipher(
       final KeyPair senderKeyPair, final KeyPair recipientKeyPair) {
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.crypto.ed25519;
+
+import io.nem.symbol.core.crypto.KeyPair;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class Ed25519SharedKeyCacheTest {
+
+  @Test
+  public void getSharedKeyReturnsSameKeyAsBlockCipher() {
+    // Arrange:
+    final KeyPair alice = KeyPair.random();
+    final KeyPair bob = KeyPair.random();
+    final Ed25519SharedKeyCache cache = new Ed25519SharedKeyCache();
+
+    // Act:
+    final byte[] sharedKey1 = cache.getSharedKey(alice.getPrivateKey(), bob.getPublicKey());
+    final byte[] sharedKey2 = cache.getSharedKey(alice.getPrivateKey(), bob.getPublicKey());
+
+    // Assert:
+    Assertions.assertArrayEquals(
+        Ed25519BlockCipher.getSharedKey(alice.getPrivateKey(), bob.getPublicKey()), sharedKey1);
+    Assertions.assertArrayEquals(
+        Ed25519BlockCipher.getSharedKey(bob.getPrivateKey(), alice.getPublicKey()), sharedKey2);
+    Assertions.assertEquals(1, cache.size());
+  }
+
+  @Test
+  public void leastRecentlyUsedKeysAreEvicted() {
+    // Arrange:
+    final KeyPair alice = KeyPair.random();
+    final KeyPair bob = KeyPair.random();
+    final KeyPair carol = KeyPair.random();
+    final Ed25519SharedKeyCache cache = new Ed25519SharedKeyCache(2);
+
+    // Act:
+    cache.getSharedKey(alice.getPrivateKey(), bob.getPublicKey());
+    cache.getSharedKey(alice.getPrivateKey(), carol.getPublicKey());
+    cache.getSharedKey(alice.getPrivateKey(), bob.getPublicKey());
+    cache.getSharedKey(bob.getPrivateKey(), carol.getPublicKey());
+
+    // Assert:
+    Assertions.assertEquals(2, cache.size());
+    cache.clear();
+    Assertions.assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void privateKeysAreNotStoredInTheCache() {
+    // Arrange:
+    final KeyPair alice = KeyPair.random();
+    final KeyPair bob = KeyPair.random();
+    final Ed25519SharedKeyCache cache = new Ed25519SharedKeyCache();
+
+    // Act:
+    cache.getSharedKey(alice.getPrivateKey(), bob.getPublicKey());
+    cache.getSharedKey(bob.getPrivateKey(), alice.getPublicKey());
+
+    // Assert:
+    final List<byte[]> keys = cache.getCacheKeys();
+    Assertions.assertEquals(2, keys.size());
+    for (final byte[] key : keys) {
+      Assertions.assertFalse(contains(key, alice.getPrivateKey().getBytes()));
+      Assertions.assertFalse(contains(key, bob.getPrivateKey().getBytes()));
+    }
+  }
+
+  private static boolean contains(final byte[] array, final byte[] subArray) {
+    for (int i = 0; i + subArray.length <= array.length; i++) {
+      if (Arrays.equals(Arrays.copyOfRange(array, i, i + subArray.length), subArray)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Test
+  public void cacheSizeMustBePositive() {
+    Assertions.assertThrows(IllegalArgumentException.class, () -> new Ed25519SharedKeyCache(0));
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.crypto.ed25519.arithmetic;
+
+import io.nem.symbol.core.crypto.KeyPair;
+import io.nem.symbol.core.crypto.PrivateKey;
+import io.nem.symbol.core.crypto.ed25519.Ed25519Utils;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+public class Ed25519BasePointMultiplierTest {
+
+  @Test
+  public void multiplyWithZeroReturnsNeutralElement() {
+    // Act:
+    final Ed25519GroupElement g = Ed25519BasePointMultiplier.multiply(Ed25519Field.ZERO.encode());
+
+    // Assert:
+    MatcherAssert.assertThat(Ed25519Group.ZERO_P3, IsEqual.equalTo(g));
+  }
+
+  @Test
+  public void multiplyWithOneReturnsBasePoint() {
+    // Act:
+    final Ed25519GroupElement g = Ed25519BasePointMultiplier.multiply(Ed25519Field.ONE.encode());
+
+    // Assert:
+    MatcherAssert.assertThat(Ed25519Group.BASE_POINT, IsEqual.equalTo(g));
+  }
+
+  @Test
+  public void multiplyReturnsSameResultAsScalarMultiply() {
+    for (int i = 0; i < 200; i++) {
+      // Arrange:
+      final Ed25519EncodedFieldElement a = MathUtils.getRandomFieldElement().encode();
+
+      // Act:
+      final Ed25519GroupElement g = Ed25519BasePointMultiplier.multiply(a);
+      final Ed25519GroupElement h = Ed25519Group.BASE_POINT.scalarMultiply(a);
+
+      // Assert:
+      MatcherAssert.assertThat(g, IsEqual.equalTo(h));
+      MatcherAssert.assertThat(g.encode(), IsEqual.equalTo(h.encode()));
+    }
+  }
+
+  @Test
+  public void multiplyPrivateKeysReturnsSameResultAsScalarMultiply() {
+    for (int i = 0; i < 100; i++) {
+      // Arrange:
+      final PrivateKey privateKey = KeyPair.random().getPrivateKey();
+      final Ed25519EncodedFieldElement a = Ed25519Utils.prepareForScalarMultiply(privateKey);
+
+      // Act:
+      final Ed25519GroupElement g = Ed25519BasePointMultiplier.multiply(a);
+      final Ed25519GroupElement h = Ed25519Group.BASE_POINT.scalarMultiply(a);
+
+      // Assert:
+      MatcherAssert.assertThat(g.encode(), IsEqual.equalTo(h.encode()));
+    }
+  }
+}
@@ -589,6 +589,36 @@ public class Ed25519GroupElementTest {
     }
   }
 
+  @Test
+  public void scalarMultiplyVariableBaseReturnsSameResultAsScalarMultiply() {
+    for (int i = 0; i < 20; i++) {
+      // Arrange:
+      final Ed25519GroupElement g = MathUtils.getRandomGroupElement();
+      final Ed25519FieldElement f = MathUtils.getRandomFieldElement();
+
+      // Act:
+      final Ed25519GroupElement h1 = g.scalarMultiplyVariableBase(f.encode());
+      g.precomputeForScalarMultiplication();
+      final Ed25519GroupElement h2 = g.scalarMultiply(f.encode());
+
+      // Assert:
+      MatcherAssert.assertThat(h1.encode(), IsEqual.equalTo(h2.encode()));
+    }
+  }
+
+  @Test
+  public void scalarMultiplyVariableBaseWithZeroAndOne() {
+    // Arrange:
+    final Ed25519GroupElement g = MathUtils.getRandomGroupElement();
+
+    // Assert:
+    MatcherAssert.assertThat(
+        g.scalarMultiplyVariableBase(Ed25519Field.ZERO.encode()),
+        IsEqual.equalTo(Ed25519Group.ZERO_P3));
+    MatcherAssert.assertThat(
+        g.scalarMultiplyVariableBase(Ed25519Field.ONE.encode()), IsEqual.equalTo(g));
+  }
+
   // This test is slow (~6s) due to math utils using an inferior algorithm to
   // calculate the
   // result.
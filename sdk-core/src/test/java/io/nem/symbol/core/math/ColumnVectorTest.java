@@ -20,6 +20,8 @@ import io.nem.symbol.core.test.IsRoundedEqual;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.core.IsEqual;
 import org.hamcrest.core.IsNot;
@@ -619,6 +621,170 @@ public class ColumnVectorTest {
 
   // endregion
 
+  // region in place / destination variants
+
+  @Test
+  public void destinationVariantsMatchAllocatingVariants() {
+    // Arrange:
+    final ColumnVector vector = new ColumnVector(4, -9, 2.25, 16);
+    final ColumnVector other = new ColumnVector(2, 3, -1, 0.5);
+    final ColumnVector destination = new ColumnVector(4);
+
+    // Assert:
+    MatcherAssert.assertThat(vector.add(1.5, destination), IsEqual.equalTo(vector.add(1.5)));
+    MatcherAssert.assertThat(
+        vector.multiply(-2, destination), IsEqual.equalTo(vector.multiply(-2)));
+    MatcherAssert.assertThat(vector.abs(destination), IsEqual.equalTo(vector.abs()));
+    MatcherAssert.assertThat(vector.sqrt(destination), IsEqual.equalTo(vector.sqrt()));
+    MatcherAssert.assertThat(vector.roundTo(1, destination), IsEqual.equalTo(vector.roundTo(1)));
+    MatcherAssert.assertThat(
+        vector.addElementWise(other, destination), IsEqual.equalTo(vector.addElementWise(other)));
+    MatcherAssert.assertThat(
+        vector.multiplyElementWise(other, destination),
+        IsEqual.equalTo(vector.multiplyElementWise(other)));
+    MatcherAssert.assertThat(vector, IsEqual.equalTo(new ColumnVector(4, -9, 2.25, 16)));
+  }
+
+  @Test
+  public void inPlaceVariantsUpdateTheVector() {
+    // Arrange:
+    final ColumnVector vector = new ColumnVector(4, -9, 2.25, 16);
+
+    // Act:
+    vector.absInPlace();
+    vector.sqrtInPlace();
+    vector.multiplyInPlace(2);
+    vector.addInPlace(1);
+    vector.addElementWiseInPlace(new ColumnVector(1, 1, 1, 1));
+    vector.multiplyElementWiseInPlace(new ColumnVector(1, 2, 3, 0.5));
+
+    // Assert:
+    MatcherAssert.assertThat(vector, IsEqual.equalTo(new ColumnVector(6, 16, 15, 5)));
+  }
+
+  @Test
+  public void destinationVariantsRejectDifferentSizedDestination() {
+    // Arrange:
+    final ColumnVector vector = new ColumnVector(3);
+    final ColumnVector destination = new ColumnVector(2);
+
+    // Assert:
+    Assertions.assertThrows(IllegalArgumentException.class, () -> vector.add(1, destination));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> vector.abs(destination));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> vector.addElementWise(new ColumnVector(3), destination));
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> vector.multiplyElementWiseInPlace(destination));
+  }
+
+  // endregion
+
+  // region axpy / normalizeAndScale
+
+  @Test
+  public void axpyAddsScaledVector() {
+    // Arrange:
+    final ColumnVector vector = new ColumnVector(1, 2, 3);
+
+    // Act:
+    vector.axpy(2, new ColumnVector(5, -1, 0.5));
+
+    // Assert:
+    MatcherAssert.assertThat(vector, IsEqual.equalTo(new ColumnVector(11, 0, 4)));
+  }
+
+  @Test
+  public void axpbyScalesBothVectors() {
+    // Arrange:
+    final ColumnVector vector = new ColumnVector(1, 2, 3);
+
+    // Act:
+    vector.axpby(2, new ColumnVector(5, -1, 0.5), 3);
+
+    // Assert:
+    MatcherAssert.assertThat(vector, IsEqual.equalTo(new ColumnVector(13, 4, 10)));
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> vector.axpy(1, new ColumnVector(2)));
+  }
+
+  @Test
+  public void normalizeAndScaleScalesTheNormalizedVector() {
+    // Arrange:
+    final ColumnVector vector = new ColumnVector(2, -6, 12);
+    final ColumnVector zeroVector = new ColumnVector(3);
+
+    // Act:
+    vector.normalizeAndScale(10);
+    zeroVector.normalizeAndScale(10);
+
+    // Assert:
+    MatcherAssert.assertThat(vector, IsEqual.equalTo(new ColumnVector(1, -3, 6)));
+    MatcherAssert.assertThat(zeroVector, IsEqual.equalTo(new ColumnVector(3)));
+  }
+
+  // endregion
+
+  // region parallel reductions / median buffer
+
+  @Test
+  public void parallelReductionsDoNotDependOnTheNumberOfWorkers() {
+    // Arrange:
+    final Random random = new Random(5);
+    final ColumnVector a = new ColumnVector(100_003);
+    final ColumnVector b = new ColumnVector(100_003);
+    for (int i = 0; i < a.size(); ++i) {
+      a.setAt(i, random.nextDouble() - 0.5);
+      b.setAt(i, random.nextDouble() - 0.5);
+    }
+
+    final ForkJoinPool single = new ForkJoinPool(1);
+    final ForkJoinPool parallel = new ForkJoinPool(4);
+
+    // Assert:
+    MatcherAssert.assertThat(a.sum(parallel), IsEqual.equalTo(a.sum(single)));
+    MatcherAssert.assertThat(a.absSum(parallel), IsEqual.equalTo(a.absSum(single)));
+    MatcherAssert.assertThat(a.l2Distance(b, parallel), IsEqual.equalTo(a.l2Distance(b, single)));
+    MatcherAssert.assertThat(a.sum(parallel), IsRoundedEqual.equalTo(a.sum(), 8));
+    MatcherAssert.assertThat(a.absSum(parallel), IsRoundedEqual.equalTo(a.absSum(), 8));
+    MatcherAssert.assertThat(a.l2Distance(b, parallel), IsRoundedEqual.equalTo(a.l2Distance(b), 8));
+  }
+
+  @Test
+  public void parallelReductionsMatchSequentialReductionsOnSmallVectors() {
+    // Arrange:
+    final ColumnVector a = new ColumnVector(3, -4, 12);
+    final ColumnVector b = new ColumnVector(0, 0, 0);
+
+    // Assert:
+    MatcherAssert.assertThat(a.sum(ForkJoinPool.commonPool()), IsEqual.equalTo(11.0));
+    MatcherAssert.assertThat(a.absSum(ForkJoinPool.commonPool()), IsEqual.equalTo(19.0));
+    MatcherAssert.assertThat(a.l2Distance(b, ForkJoinPool.commonPool()), IsEqual.equalTo(13.0));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> a.l2Distance(new ColumnVector(2), ForkJoinPool.commonPool()));
+  }
+
+  @Test
+  public void medianWithBufferMatchesMedian() {
+    // Arrange:
+    final Random random = new Random(9);
+    final double[] buffer = new double[101];
+    for (int size = 1; size <= 101; size += 5) {
+      final ColumnVector vector = new ColumnVector(size);
+      for (int i = 0; i < size; ++i) {
+        vector.setAt(i, random.nextInt(20));
+      }
+
+      // Assert:
+      MatcherAssert.assertThat(vector.median(buffer), IsEqual.equalTo(vector.median()));
+    }
+
+    MatcherAssert.assertThat(new ColumnVector(4, 1, 3, 2).median(buffer), IsEqual.equalTo(2.5));
+  }
+
+  // endregion
+
   // region equals / hashCode
 
   @Test
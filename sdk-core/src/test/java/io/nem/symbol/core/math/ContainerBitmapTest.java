@@ -0,0 +1,232 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.math;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsNot;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ContainerBitmapTest {
+
+  private static int[] createRandomBits(final int count, final int bound, final int seed) {
+    return new Random(seed).ints(count, 0, bound).toArray();
+  }
+
+  private static void assertSameBits(final ContainerBitmap bitmap, final SparseBitmap expected) {
+    MatcherAssert.assertThat(bitmap.toList(), IsEqual.equalTo(expected.toList()));
+    MatcherAssert.assertThat(bitmap.cardinality(), IsEqual.equalTo(expected.cardinality()));
+    MatcherAssert.assertThat(bitmap.getHighestBit(), IsEqual.equalTo(expected.getHighestBit()));
+    MatcherAssert.assertThat(bitmap, IsEqual.equalTo(expected.toContainerBitmap()));
+  }
+
+  // region create / get / set
+
+  @Test
+  public void createEmptyCanCreateEmptyBitmap() {
+    // Act:
+    final ContainerBitmap bitmap = ContainerBitmap.createEmpty();
+
+    // Assert:
+    MatcherAssert.assertThat(bitmap.cardinality(), IsEqual.equalTo(0));
+    MatcherAssert.assertThat(bitmap.get(0), IsEqual.equalTo(false));
+    MatcherAssert.assertThat(bitmap.getHighestBit(), IsEqual.equalTo(0));
+    MatcherAssert.assertThat(bitmap.toString(), IsEqual.equalTo("{}"));
+  }
+
+  @Test
+  public void createFromUnsortedDataCanCreateBitmapAroundBitsWithDuplicates() {
+    // Act:
+    final ContainerBitmap bitmap = ContainerBitmap.createFromUnsortedData(1337, 4, 70000, 4, 8);
+
+    // Assert:
+    MatcherAssert.assertThat(bitmap.toList(), IsEqual.equalTo(Arrays.asList(4, 8, 1337, 70000)));
+    MatcherAssert.assertThat(bitmap.get(70000), IsEqual.equalTo(true));
+    MatcherAssert.assertThat(bitmap.get(70001), IsEqual.equalTo(false));
+    MatcherAssert.assertThat(bitmap.get(-1), IsEqual.equalTo(false));
+    MatcherAssert.assertThat(bitmap.getHighestBit(), IsEqual.equalTo(70000));
+    MatcherAssert.assertThat(bitmap.toString(), IsEqual.equalTo("{4,8,1337,70000}"));
+  }
+
+  @Test
+  public void bitsCannotBeSetOutOfOrder() {
+    // Arrange:
+    final ContainerBitmap bitmap = ContainerBitmap.createEmpty();
+    bitmap.set(100);
+    bitmap.set(100);
+
+    // Assert:
+    Assertions.assertThrows(IllegalArgumentException.class, () -> bitmap.set(99));
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> bitmap.setWithoutAscendingCheck(-1));
+  }
+
+  @Test
+  public void bitsCanBeSetOutOfOrderWithoutAscendingCheck() {
+    // Arrange:
+    final ContainerBitmap bitmap = ContainerBitmap.createEmpty();
+
+    // Act:
+    bitmap.setWithoutAscendingCheck(200000);
+    bitmap.setWithoutAscendingCheck(5);
+    bitmap.setWithoutAscendingCheck(70000);
+    bitmap.setWithoutAscendingCheck(3);
+
+    // Assert:
+    MatcherAssert.assertThat(
+        bitmap.toList(), IsEqual.equalTo(Arrays.asList(3, 5, 70000, 200000)));
+  }
+
+  @Test
+  public void clearZerosOutAllBitsAndBitsCanBeSetAgain() {
+    // Arrange:
+    final ContainerBitmap bitmap = ContainerBitmap.createFromSortedData(1, 70000, 140000);
+
+    // Act:
+    bitmap.clear();
+    bitmap.set(7);
+
+    // Assert:
+    MatcherAssert.assertThat(bitmap.toList(), IsEqual.equalTo(Arrays.asList(7)));
+  }
+
+  @Test
+  public void chunksSwitchToBitmapContainersWhenDense() {
+    // Arrange: every other bit of the first chunk, more than an array container holds
+    final int[] bits = IntStream.range(0, 5000).map(i -> 2 * i).toArray();
+
+    // Act:
+    final ContainerBitmap sorted = ContainerBitmap.createFromSortedData(bits);
+    final ContainerBitmap unsorted = ContainerBitmap.createEmpty();
+    for (int i = bits.length - 1; i >= 0; --i) {
+      unsorted.setWithoutAscendingCheck(bits[i]);
+    }
+
+    // Assert:
+    MatcherAssert.assertThat(sorted.cardinality(), IsEqual.equalTo(5000));
+    MatcherAssert.assertThat(sorted.getHighestBit(), IsEqual.equalTo(9998));
+    MatcherAssert.assertThat(sorted.get(4096), IsEqual.equalTo(true));
+    MatcherAssert.assertThat(sorted.get(4097), IsEqual.equalTo(false));
+    MatcherAssert.assertThat(unsorted, IsEqual.equalTo(sorted));
+    MatcherAssert.assertThat(unsorted.hashCode(), IsEqual.equalTo(sorted.hashCode()));
+  }
+
+  // endregion
+
+  // region logical operations
+
+  @Test
+  public void logicalOperationsMatchSparseBitmapOnRandomBits() {
+    for (final int bound : new int[] {1 << 10, 1 << 16, 1 << 20, 1 << 24}) {
+      // Arrange:
+      final int[] lhsBits = createRandomBits(20000, bound, 1);
+      final int[] rhsBits = createRandomBits(15000, bound, 2);
+      final SparseBitmap lhs = SparseBitmap.createFromUnsortedData(lhsBits.clone());
+      final SparseBitmap rhs = SparseBitmap.createFromUnsortedData(rhsBits.clone());
+      final ContainerBitmap left = ContainerBitmap.createFromUnsortedData(lhsBits);
+      final ContainerBitmap right = ContainerBitmap.createFromUnsortedData(rhsBits);
+
+      // Assert:
+      assertSameBits(left, lhs);
+      assertSameBits(left.or(right), lhs.or(rhs));
+      assertSameBits(left.and(right), lhs.and(rhs));
+      assertSameBits(left.andNot(right), lhs.andNot(rhs));
+      assertSameBits(right.andNot(left), rhs.andNot(lhs));
+      MatcherAssert.assertThat(
+          left.andCardinality(right), IsEqual.equalTo(lhs.andCardinality(rhs)));
+    }
+  }
+
+  @Test
+  public void batchOrMatchesSparseBitmapOnRandomBits() {
+    // Arrange:
+    final SparseBitmap[] sparseBitmaps = new SparseBitmap[6];
+    final ContainerBitmap[] bitmaps = new ContainerBitmap[6];
+    for (int i = 0; i < bitmaps.length; ++i) {
+      final int[] bits = createRandomBits(3000 * (i + 1), 1 << 18, 10 + i);
+      sparseBitmaps[i] = SparseBitmap.createFromUnsortedData(bits.clone());
+      bitmaps[i] = ContainerBitmap.createFromUnsortedData(bits);
+    }
+
+    // Act:
+    final ContainerBitmap result = ContainerBitmap.batchOr(bitmaps);
+
+    // Assert:
+    assertSameBits(result, SparseBitmap.batchOr(sparseBitmaps));
+    MatcherAssert.assertThat(ContainerBitmap.batchOr().cardinality(), IsEqual.equalTo(0));
+    MatcherAssert.assertThat(ContainerBitmap.batchOr(bitmaps[0]), IsEqual.equalTo(bitmaps[0]));
+  }
+
+  @Test
+  public void resultsDoNotShareStorageWithOperands() {
+    // Arrange:
+    final ContainerBitmap lhs = ContainerBitmap.createFromSortedData(1, 2, 3);
+    final ContainerBitmap rhs = ContainerBitmap.createFromSortedData(70000);
+
+    // Act:
+    final ContainerBitmap result = ContainerBitmap.batchOr(lhs, rhs);
+    lhs.set(4);
+
+    // Assert:
+    MatcherAssert.assertThat(result.toList(), IsEqual.equalTo(Arrays.asList(1, 2, 3, 70000)));
+  }
+
+  // endregion
+
+  // region iterator / equals
+
+  @Test
+  public void iteratorReturnsSetBits() {
+    // Arrange:
+    final ContainerBitmap bitmap = ContainerBitmap.createFromSortedData(4, 8, 70000, 140000);
+
+    // Act:
+    final List<Integer> bits =
+        StreamSupport.stream(bitmap.spliterator(), false).collect(Collectors.toList());
+
+    // Assert:
+    MatcherAssert.assertThat(bits, IsEqual.equalTo(Arrays.asList(4, 8, 70000, 140000)));
+  }
+
+  @Test
+  public void equalsOnlyReturnsTrueForEquivalentObjects() {
+    // Arrange:
+    final ContainerBitmap bitmap = ContainerBitmap.createFromSortedData(4, 8, 16);
+
+    // Assert:
+    MatcherAssert.assertThat(
+        ContainerBitmap.createFromSortedData(4, 8, 16), IsEqual.equalTo(bitmap));
+    MatcherAssert.assertThat(
+        ContainerBitmap.createFromSortedData(4, 8, 16).hashCode(),
+        IsEqual.equalTo(bitmap.hashCode()));
+    MatcherAssert.assertThat(
+        ContainerBitmap.createFromSortedData(4, 8), IsNot.not(IsEqual.equalTo(bitmap)));
+    MatcherAssert.assertThat(
+        ContainerBitmap.createFromSortedData(4, 9, 16), IsNot.not(IsEqual.equalTo(bitmap)));
+    MatcherAssert.assertThat(
+        ContainerBitmap.createFromSortedData(4, 8, 16, 70000), IsNot.not(IsEqual.equalTo(bitmap)));
+    MatcherAssert.assertThat(null, IsNot.not(IsEqual.equalTo(bitmap)));
+  }
+
+  // endregion
+}
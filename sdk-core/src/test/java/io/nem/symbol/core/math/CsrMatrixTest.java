@@ -0,0 +1,204 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.math;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsInstanceOf;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class CsrMatrixTest {
+
+  private static SparseMatrix createMatrix(final int rows, final int cols, final double[] values) {
+    final SparseMatrix matrix = new SparseMatrix(rows, cols, 2);
+    for (int i = 0; i < values.length; ++i) {
+      matrix.setAt(i / cols, i % cols, values[i]);
+    }
+
+    return matrix;
+  }
+
+  private static SparseMatrix createRandomMatrix(final int rows, final int cols, final int seed) {
+    final Random random = new Random(seed);
+    final SparseMatrix matrix = new SparseMatrix(rows, cols, 4);
+    for (int i = 0; i < rows * 5; ++i) {
+      // skew the rows so that a few of them hold most of the entries
+      final int row = random.nextInt(4) == 0 ? random.nextInt(3) : random.nextInt(rows);
+      matrix.setAt(row, random.nextInt(cols), random.nextDouble() + 0.1);
+    }
+
+    return matrix;
+  }
+
+  private static ColumnVector createRandomVector(final int size, final int seed) {
+    final Random random = new Random(seed);
+    final ColumnVector vector = new ColumnVector(size);
+    for (int i = 0; i < size; ++i) {
+      vector.setAt(i, random.nextDouble());
+    }
+
+    return vector;
+  }
+
+  @Test
+  public void freezeKeepsAllEntries() {
+    // Arrange:
+    final SparseMatrix matrix = createMatrix(3, 3, new double[] {0, 2, 0, 0, 0, 0, 7, 0, -4});
+
+    // Act:
+    final CsrMatrix frozen = matrix.freeze();
+
+    // Assert:
+    MatcherAssert.assertThat(frozen, IsEqual.equalTo(matrix));
+    MatcherAssert.assertThat(frozen.toString(), IsEqual.equalTo(matrix.toString()));
+    MatcherAssert.assertThat(frozen.getNumEntries(), IsEqual.equalTo(3));
+    MatcherAssert.assertThat(frozen.getNonZeroColumnCount(1), IsEqual.equalTo(0));
+    MatcherAssert.assertThat(frozen.getNonZeroColumnCount(2), IsEqual.equalTo(2));
+    MatcherAssert.assertThat(frozen.getAt(2, 2), IsEqual.equalTo(-4.0));
+    MatcherAssert.assertThat(frozen.getAt(2, 1), IsEqual.equalTo(0.0));
+  }
+
+  @Test
+  public void frozenMatrixIsNotAffectedByLaterChanges() {
+    // Arrange:
+    final SparseMatrix matrix = createMatrix(2, 2, new double[] {1, 2, 3, 4});
+    final CsrMatrix frozen = matrix.freeze();
+
+    // Act:
+    matrix.setAt(0, 0, 9);
+
+    // Assert:
+    MatcherAssert.assertThat(frozen.getAt(0, 0), IsEqual.equalTo(1.0));
+  }
+
+  @Test
+  public void frozenMatrixCannotBeModified() {
+    // Arrange:
+    final CsrMatrix frozen = createMatrix(2, 2, new double[] {1, 2, 3, 4}).freeze();
+
+    // Assert:
+    Assertions.assertThrows(UnsupportedOperationException.class, () -> frozen.setAt(0, 0, 5));
+    Assertions.assertThrows(UnsupportedOperationException.class, () -> frozen.scale(2));
+  }
+
+  @Test
+  public void derivedMatricesAreMutable() {
+    // Arrange:
+    final CsrMatrix frozen = createMatrix(2, 2, new double[] {1, 2, 0, 4}).freeze();
+
+    // Act:
+    final Matrix result = frozen.multiply(2.0);
+    final Matrix transposed = frozen.transpose();
+
+    // Assert:
+    MatcherAssert.assertThat(result, IsInstanceOf.instanceOf(SparseMatrix.class));
+    MatcherAssert.assertThat(
+        result, IsEqual.equalTo(createMatrix(2, 2, new double[] {2, 4, 0, 8})));
+    MatcherAssert.assertThat(
+        transposed, IsEqual.equalTo(createMatrix(2, 2, new double[] {1, 0, 2, 4})));
+  }
+
+  @Test
+  public void rowIteratorReturnsSortedRowEntries() {
+    // Arrange:
+    final CsrMatrix frozen = createMatrix(2, 3, new double[] {0, 0, 0, 5, 0, 6}).freeze();
+
+    // Act:
+    final MatrixNonZeroElementRowIterator iterator = frozen.getNonZeroElementRowIterator(1);
+
+    // Assert:
+    MatcherAssert.assertThat(iterator.next(), IsEqual.equalTo(new MatrixElement(1, 0, 5.0)));
+    MatcherAssert.assertThat(iterator.next(), IsEqual.equalTo(new MatrixElement(1, 2, 6.0)));
+    MatcherAssert.assertThat(iterator.hasNext(), IsEqual.equalTo(false));
+    Assertions.assertThrows(IndexOutOfBoundsException.class, iterator::next);
+    MatcherAssert.assertThat(
+        frozen.getNonZeroElementRowIterator(0).hasNext(), IsEqual.equalTo(false));
+  }
+
+  @Test
+  public void multiplyMatchesSparseMatrixMultiply() {
+    // Arrange:
+    final SparseMatrix matrix = createRandomMatrix(400, 300, 5);
+    final ColumnVector vector = createRandomVector(300, 6);
+    final CsrMatrix frozen = matrix.freeze();
+
+    // Act:
+    final ColumnVector expected = matrix.multiply(vector);
+
+    // Assert:
+    MatcherAssert.assertThat(frozen.multiply(vector), IsEqual.equalTo(expected));
+    MatcherAssert.assertThat(
+        frozen.multiply(vector, new ForkJoinPool(1)), IsEqual.equalTo(expected));
+    MatcherAssert.assertThat(
+        frozen.multiply(vector, new ForkJoinPool(3)), IsEqual.equalTo(expected));
+  }
+
+  @Test
+  public void multiplyRejectsVectorOfWrongSize() {
+    // Arrange:
+    final CsrMatrix frozen = new SparseMatrix(2, 3, 1).freeze();
+
+    // Assert:
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> frozen.multiply(new ColumnVector(2)));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> frozen.multiply(new ColumnVector(2), ForkJoinPool.commonPool()));
+  }
+
+  @Test
+  public void transposeMatchesMatrixTranspose() {
+    // Arrange:
+    final SparseMatrix matrix = createRandomMatrix(300, 500, 8);
+    final Matrix expected = matrix.transpose();
+    final CsrMatrix frozen = matrix.freeze();
+
+    // Act:
+    final CsrMatrix single = frozen.transpose(new ForkJoinPool(1));
+    final CsrMatrix parallel = frozen.transpose(new ForkJoinPool(4));
+
+    // Assert:
+    MatcherAssert.assertThat(single, IsEqual.equalTo(expected));
+    MatcherAssert.assertThat(parallel, IsEqual.equalTo(expected));
+    MatcherAssert.assertThat(parallel.getNumEntries(), IsEqual.equalTo(frozen.getNumEntries()));
+    for (int row = 0; row < parallel.getRowCount(); ++row) {
+      int col = -1;
+      final MatrixNonZeroElementRowIterator iterator = parallel.getNonZeroElementRowIterator(row);
+      while (iterator.hasNext()) {
+        final int next = iterator.next().getColumn();
+        MatcherAssert.assertThat(next > col, IsEqual.equalTo(true));
+        col = next;
+      }
+    }
+  }
+
+  @Test
+  public void transposeTwiceReturnsOriginalMatrix() {
+    // Arrange:
+    final CsrMatrix frozen = createMatrix(2, 3, new double[] {1, 0, 2, 0, 0, 3}).freeze();
+
+    // Act:
+    final CsrMatrix result = frozen.transpose(ForkJoinPool.commonPool());
+
+    // Assert:
+    MatcherAssert.assertThat(result.getRowCount(), IsEqual.equalTo(3));
+    MatcherAssert.assertThat(
+        result.transpose(ForkJoinPool.commonPool()), IsEqual.equalTo(frozen));
+  }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.math;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.number.IsCloseTo;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class PowerIteratorTest {
+
+  private static SparseMatrix createLinkMatrix(final int size, final int[][] links) {
+    final SparseMatrix matrix = new SparseMatrix(size, size, 4);
+    for (final int[] link : links) {
+      matrix.setAt(link[1], link[0], 1.0);
+    }
+
+    matrix.normalizeColumns();
+    return matrix;
+  }
+
+  @Test
+  public void cycleHasUniformImportance() {
+    // Arrange:
+    final SparseMatrix matrix = createLinkMatrix(3, new int[][] {{0, 1}, {1, 2}, {2, 0}});
+
+    // Act:
+    final PowerIterationResult result = new PowerIterator().run(matrix);
+
+    // Assert:
+    MatcherAssert.assertThat(result.hasConverged(), IsEqual.equalTo(true));
+    for (int i = 0; i < 3; ++i) {
+      MatcherAssert.assertThat(result.getVector().getAt(i), IsCloseTo.closeTo(1.0 / 3, 1e-9));
+    }
+  }
+
+  @Test
+  public void danglingNodeMassIsSpreadUniformly() {
+    // Arrange: 0 -> 1, 1 has no outlinks
+    final SparseMatrix matrix = createLinkMatrix(2, new int[][] {{0, 1}});
+
+    // Act:
+    final PowerIterationResult result = new PowerIterator().withEpsilon(1e-12).run(matrix);
+
+    // Assert: x0 = 0.075 + 0.425 * x1 and x0 + x1 = 1
+    final double expected = 0.5 / 1.425;
+    MatcherAssert.assertThat(result.hasConverged(), IsEqual.equalTo(true));
+    MatcherAssert.assertThat(result.getVector().getAt(0), IsCloseTo.closeTo(expected, 1e-9));
+    MatcherAssert.assertThat(result.getVector().getAt(1), IsCloseTo.closeTo(1 - expected, 1e-9));
+    MatcherAssert.assertThat(result.getVector().sum(), IsCloseTo.closeTo(1.0, 1e-9));
+  }
+
+  @Test
+  public void zeroDampingFactorConvergesToUniformVectorInOneIteration() {
+    // Arrange:
+    final SparseMatrix matrix = createLinkMatrix(3, new int[][] {{0, 1}, {2, 1}});
+
+    // Act:
+    final PowerIterationResult result = new PowerIterator().withDampingFactor(0).run(matrix);
+
+    // Assert:
+    MatcherAssert.assertThat(result.hasConverged(), IsEqual.equalTo(true));
+    MatcherAssert.assertThat(result.getIterations(), IsEqual.equalTo(1));
+    MatcherAssert.assertThat(result.getVector().getAt(1), IsCloseTo.closeTo(1.0 / 3, 1e-12));
+  }
+
+  @Test
+  public void iterationStopsAtMaxIterations() {
+    // Arrange:
+    final SparseMatrix matrix = createLinkMatrix(3, new int[][] {{0, 1}, {2, 1}, {1, 0}});
+
+    // Act:
+    final PowerIterationResult result =
+        new PowerIterator().withMaxIterations(2).withEpsilon(1e-15).run(matrix);
+
+    // Assert:
+    MatcherAssert.assertThat(result.hasConverged(), IsEqual.equalTo(false));
+    MatcherAssert.assertThat(result.getIterations(), IsEqual.equalTo(2));
+  }
+
+  @Test
+  public void parallelRunMatchesSingleThreadedRun() {
+    // Arrange:
+    final Random random = new Random(11);
+    final int[][] links = new int[5000][];
+    for (int i = 0; i < links.length; ++i) {
+      links[i] = new int[] {random.nextInt(1000), random.nextInt(1000)};
+    }
+
+    final SparseMatrix matrix = createLinkMatrix(1000, links);
+
+    // Act:
+    final PowerIterationResult single =
+        new PowerIterator().withPool(new ForkJoinPool(1)).run(matrix);
+    final PowerIterationResult parallel =
+        new PowerIterator().withPool(new ForkJoinPool(4)).run(matrix);
+
+    // Assert:
+    MatcherAssert.assertThat(parallel.getVector(), IsEqual.equalTo(single.getVector()));
+    MatcherAssert.assertThat(parallel.getIterations(), IsEqual.equalTo(single.getIterations()));
+    MatcherAssert.assertThat(parallel.getVector().sum(), IsCloseTo.closeTo(1.0, 1e-9));
+  }
+
+  @Test
+  public void cannotRunOnInvalidLinkMatrix() {
+    // Arrange:
+    final SparseMatrix notSquare = new SparseMatrix(2, 3, 1);
+    final SparseMatrix notStochastic = new SparseMatrix(2, 2, 1);
+    notStochastic.setAt(0, 1, 0.5);
+
+    // Assert:
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> new PowerIterator().run(notSquare));
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> new PowerIterator().run(notStochastic));
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> new PowerIterator().withDampingFactor(1.5));
+  }
+}
@@ -18,8 +18,11 @@ package io.nem.symbol.core.math;
 import io.nem.symbol.core.test.IsEquivalent;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 public class SparseMatrixTest extends MatrixTest<SparseMatrix> {
@@ -252,6 +255,76 @@ public class SparseMatrixTest extends MatrixTest<SparseMatrix> {
 
   // endregion
 
+  // region setRow / parallel multiply
+
+  @Test
+  public void setRowReplacesTheRowEntries() {
+    // Arrange:
+    final SparseMatrix matrix = this.createMatrix(2, 4, new double[] {1, 0, 2, 0, 3, 4, 0, 5});
+
+    // Act:
+    matrix.setRow(0, new int[] {9, 1, 3}, new double[] {9, 7, 8}, 1, 2);
+
+    // Assert:
+    MatcherAssert.assertThat(
+        matrix, IsEqual.equalTo(this.createMatrix(2, 4, new double[] {0, 7, 0, 8, 3, 4, 0, 5})));
+    MatcherAssert.assertThat(matrix.getNonZeroColumnCount(0), IsEqual.equalTo(2));
+    matrix.setAt(0, 2, 6);
+    assertSorted(matrix.getNonZeroElementRowIterator(0));
+  }
+
+  @Test
+  public void setRowRejectsUnsortedColumnsAndZeroValues() {
+    // Arrange:
+    final SparseMatrix matrix = this.createMatrix(2, 4);
+
+    // Assert:
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> matrix.setRow(0, new int[] {2, 1}, new double[] {1, 1}, 0, 2));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> matrix.setRow(0, new int[] {1, 2}, new double[] {1, 0}, 0, 2));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> matrix.setRow(0, new int[] {1, 4}, new double[] {1, 1}, 0, 2));
+  }
+
+  @Test
+  public void parallelMultiplyMatchesSequentialMultiply() {
+    // Arrange:
+    final Random random = new Random(7);
+    final SparseMatrix matrix = this.createMatrix(500, 300);
+    for (int i = 0; i < 3000; ++i) {
+      matrix.setAt(random.nextInt(500), random.nextInt(300), random.nextDouble());
+    }
+
+    final ColumnVector vector = new ColumnVector(300);
+    for (int i = 0; i < 300; ++i) {
+      vector.setAt(i, random.nextDouble());
+    }
+
+    // Act:
+    final ColumnVector expected = matrix.multiply(vector);
+    final ColumnVector result = matrix.multiply(vector, new ForkJoinPool(4));
+
+    // Assert:
+    MatcherAssert.assertThat(result, IsEqual.equalTo(expected));
+  }
+
+  @Test
+  public void parallelMultiplyRejectsVectorOfWrongSize() {
+    // Arrange:
+    final SparseMatrix matrix = this.createMatrix(2, 3);
+
+    // Assert:
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> matrix.multiply(new ColumnVector(2), ForkJoinPool.commonPool()));
+  }
+
+  // endregion
+
   @Override
   protected SparseMatrix createMatrix(final int rows, final int cols) {
     return new SparseMatrix(rows, cols, 100);
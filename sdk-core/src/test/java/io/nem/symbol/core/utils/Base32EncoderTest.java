@@ -15,6 +15,9 @@
  */
 package io.nem.symbol.core.utils;
 
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Assertions;
@@ -61,4 +64,51 @@ public class Base32EncoderTest {
         Base32Encoder.getBytes("  ETBKFYUCVQ======  "),
         IsEqual.equalTo(ENCODED_CURRENCY_SYMBOLS_BYTES));
   }
+
+  @Test
+  public void rfc4648VectorsCanBeEncodedAndDecoded() {
+    String[][] vectors = {
+      {"", ""},
+      {"f", "MY======"},
+      {"fo", "MZXQ===="},
+      {"foo", "MZXW6==="},
+      {"foob", "MZXW6YQ="},
+      {"fooba", "MZXW6YTB"},
+      {"foobar", "MZXW6YTBOI======"}
+    };
+    for (String[] vector : vectors) {
+      byte[] bytes = StringEncoder.getBytes(vector[0]);
+      Assertions.assertEquals(vector[1], Base32Encoder.getString(bytes));
+      Assertions.assertArrayEquals(bytes, Base32Encoder.getBytes(vector[1]));
+      Assertions.assertArrayEquals(bytes, Base32Encoder.getBytes(vector[1].toLowerCase()));
+    }
+  }
+
+  @Test
+  public void encodeIntoCharArray() {
+    char[] chars = new char[12];
+    Arrays.fill(chars, '-');
+    Assertions.assertEquals(8, Base32Encoder.encode(ENCODED_SIGMA_BYTES, 0, 5, chars, 2));
+    Assertions.assertEquals("--KNUWO3LB--", new String(chars));
+    Assertions.assertEquals(16, Base32Encoder.getEncodedLength(6));
+  }
+
+  @Test
+  public void decodeIntoByteArrayAndBuffer() {
+    byte[] bytes = new byte[8];
+    Assertions.assertEquals(5, Base32Encoder.decode("KNUWO3LB", bytes, 1));
+    Assertions.assertArrayEquals(ENCODED_SIGMA_BYTES, Arrays.copyOfRange(bytes, 1, 6));
+
+    ByteBuffer buffer = ByteBuffer.allocateDirect(10);
+    Assertions.assertEquals(6, Base32Encoder.decode("ETBKFYUCVQ======", buffer));
+    Assertions.assertEquals(6, buffer.position());
+    byte[] decoded = new byte[6];
+    buffer.flip();
+    buffer.get(decoded);
+    Assertions.assertArrayEquals(ENCODED_CURRENCY_SYMBOLS_BYTES, decoded);
+
+    Assertions.assertThrows(
+        BufferOverflowException.class,
+        () -> Base32Encoder.decode("ETBKFYUCVQ======", ByteBuffer.allocate(5)));
+  }
 }
@@ -16,6 +16,8 @@
 package io.nem.symbol.core.utils;
 
 import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Assertions;
@@ -118,6 +120,66 @@ public class ConvertUtilsTest {
     assertGetStringConversion(new byte[] {}, "");
   }
 
+  @Test
+  void toHexIntoCharArrayAndBuffer() {
+    byte[] bytes = {0x00, 0x0A, (byte) 0xFF, 0x7B};
+    char[] chars = new char[8];
+    Assertions.assertEquals(6, ConvertUtils.toHex(bytes, 1, 3, chars, 1));
+    Assertions.assertEquals("0AFF7B", new String(chars, 1, 6));
+
+    ByteBuffer source = ByteBuffer.wrap(bytes);
+    ByteBuffer destination = ByteBuffer.allocateDirect(8);
+    ConvertUtils.toHex(source, destination);
+    Assertions.assertFalse(source.hasRemaining());
+    Assertions.assertEquals("000AFF7B", StringEncoder.getString(toArray(destination)));
+
+    Assertions.assertThrows(
+        BufferOverflowException.class,
+        () -> ConvertUtils.toHex(ByteBuffer.wrap(bytes), ByteBuffer.allocate(7)));
+  }
+
+  @Test
+  void fromHexIntoByteArrayAndBuffer() {
+    byte[] bytes = new byte[5];
+    Assertions.assertEquals(3, ConvertUtils.fromHexToBytes("0aFf7B", bytes, 2));
+    Assertions.assertArrayEquals(new byte[] {0, 0, 0x0A, (byte) 0xFF, 0x7B}, bytes);
+
+    ByteBuffer heap = ByteBuffer.allocate(4);
+    heap.position(1);
+    Assertions.assertEquals(3, ConvertUtils.fromHexToBytes("0AFF7B", heap));
+    Assertions.assertEquals(4, heap.position());
+    Assertions.assertArrayEquals(new byte[] {0, 0x0A, (byte) 0xFF, 0x7B}, heap.array());
+
+    ByteBuffer direct = ByteBuffer.allocateDirect(3);
+    Assertions.assertEquals(3, ConvertUtils.fromHexToBytes("0AFF7B", direct));
+    Assertions.assertArrayEquals(new byte[] {0x0A, (byte) 0xFF, 0x7B}, toArray(direct));
+
+    IllegalArgumentException exception =
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> ConvertUtils.fromHexToBytes("0AFX", ByteBuffer.allocate(2)));
+    Assertions.assertEquals(
+        "0AFX could not be decoded. DecoderException: Illegal hexadecimal character X at index 3",
+        exception.getMessage());
+  }
+
+  @Test
+  void getBytesWithOddLengthReportsPaddedIndex() {
+    IllegalArgumentException exception =
+        Assertions.assertThrows(
+            IllegalArgumentException.class, () -> ConvertUtils.getBytes("e454g465457"));
+    Assertions.assertEquals(
+        "org.apache.commons.codec.DecoderException: Illegal hexadecimal character g at index 5",
+        exception.getMessage());
+  }
+
+  private static byte[] toArray(ByteBuffer buffer) {
+    buffer.flip();
+    byte[] bytes = new byte[buffer.remaining()];
+    buffer.get(bytes);
+    return bytes;
+  }
+
   @Test
   void fromStringToHexToString() {
     // Assert:
@@ -185,6 +247,40 @@ public class ConvertUtilsTest {
         ConvertUtils.toUnsignedBigInteger(biggerThanLongInteger.longValue()).toString());
   }
 
+  @Test
+  void toUnsignedLong() {
+    BigInteger maxUnsignedLong = BigInteger.ONE.shiftLeft(Long.SIZE).subtract(BigInteger.ONE);
+    Assertions.assertEquals(-1L, ConvertUtils.toUnsignedLong(maxUnsignedLong));
+    Assertions.assertEquals(10L, ConvertUtils.toUnsignedLong(BigInteger.TEN));
+    Assertions.assertEquals(
+        maxUnsignedLong,
+        ConvertUtils.toUnsignedBigInteger(ConvertUtils.toUnsignedLong(maxUnsignedLong)));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> ConvertUtils.toUnsignedLong(maxUnsignedLong.add(BigInteger.ONE)));
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> ConvertUtils.toUnsignedLong(BigInteger.valueOf(-1)));
+  }
+
+  @Test
+  void toUnsignedLongId() {
+    BigInteger maxUnsignedLong = BigInteger.ONE.shiftLeft(Long.SIZE).subtract(BigInteger.ONE);
+    Assertions.assertEquals(-1L, ConvertUtils.toUnsignedLongId(maxUnsignedLong));
+    Assertions.assertEquals(-1L, ConvertUtils.toUnsignedLongId(BigInteger.valueOf(-1)));
+    Assertions.assertEquals(
+        Long.MIN_VALUE, ConvertUtils.toUnsignedLongId(BigInteger.valueOf(Long.MIN_VALUE)));
+    Assertions.assertEquals(10L, ConvertUtils.toUnsignedLongId(BigInteger.TEN));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> ConvertUtils.toUnsignedLongId(maxUnsignedLong.add(BigInteger.valueOf(6))));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            ConvertUtils.toUnsignedLongId(
+                BigInteger.valueOf(Long.MIN_VALUE).subtract(BigInteger.ONE)));
+    Assertions.assertThrows(NullPointerException.class, () -> ConvertUtils.toUnsignedLongId(null));
+  }
+
   @Test
   void testIsHexString() {
     Assertions.assertTrue(ConvertUtils.isHexString("026ee415fc15"));
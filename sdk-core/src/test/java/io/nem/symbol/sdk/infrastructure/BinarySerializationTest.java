@@ -15,24 +15,43 @@
  */
 package io.nem.symbol.sdk.infrastructure;
 
+import io.nem.symbol.catapult.builders.EntityTypeDto;
+import io.nem.symbol.catapult.builders.Serializer;
+import io.nem.symbol.catapult.builders.KeyDto;
+import io.nem.symbol.catapult.builders.NetworkTypeDto;
+import io.nem.symbol.catapult.builders.SignatureDto;
+import io.nem.symbol.catapult.builders.TimestampDto;
+import io.nem.symbol.catapult.builders.TransactionBuilder;
 import io.nem.symbol.core.utils.ConvertUtils;
+import io.nem.symbol.sdk.infrastructure.BinarySerializationImpl.TransactionSerializer;
 import io.nem.symbol.sdk.model.account.Account;
 import io.nem.symbol.sdk.model.account.Address;
 import io.nem.symbol.sdk.model.message.MessageType;
 import io.nem.symbol.sdk.model.message.PlainMessage;
 import io.nem.symbol.sdk.model.mosaic.Mosaic;
 import io.nem.symbol.sdk.model.mosaic.MosaicId;
+import io.nem.symbol.sdk.model.mosaic.MosaicSupplyChangeActionType;
 import io.nem.symbol.sdk.model.network.NetworkType;
+import io.nem.symbol.sdk.model.transaction.AggregateTransaction;
+import io.nem.symbol.sdk.model.transaction.AggregateTransactionCosignature;
+import io.nem.symbol.sdk.model.transaction.AggregateTransactionFactory;
 import io.nem.symbol.sdk.model.transaction.Deadline;
+import io.nem.symbol.sdk.model.transaction.MosaicSupplyChangeTransactionFactory;
 import io.nem.symbol.sdk.model.transaction.SignedTransaction;
 import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.model.transaction.TransactionFactory;
 import io.nem.symbol.sdk.model.transaction.TransactionType;
 import io.nem.symbol.sdk.model.transaction.TransferTransaction;
 import io.nem.symbol.sdk.model.transaction.TransferTransactionFactory;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -142,4 +161,272 @@ class BinarySerializationTest {
     Assertions.assertFalse(deserializeWithoutSignature.getSignature().isPresent());
     Assertions.assertFalse(deserializeWithoutSignature.getSigner().isPresent());
   }
+
+  @Test
+  void testAggregateDirectSerializationMatchesBodyBuilder() {
+    BinarySerializationImpl binarySerialization = new BinarySerializationImpl();
+    NetworkType networkType = NetworkType.MIJIN_TEST;
+    List<Transaction> innerTransactions =
+        IntStream.range(0, 100)
+            .mapToObj(
+                i ->
+                    TransferTransactionFactory.create(
+                            networkType,
+                            new Deadline(BigInteger.ONE),
+                            Address.generateRandom(networkType),
+                            Collections.emptyList())
+                        // Different message sizes so all the paddings are exercised.
+                        .message(new PlainMessage(StringUtils.repeat('a', i)))
+                        .build()
+                        .toAggregate(account.getPublicAccount()))
+            .collect(Collectors.toList());
+
+    AggregateTransaction aggregate =
+        AggregateTransactionFactory.createBonded(
+                networkType, new Deadline(BigInteger.TEN), innerTransactions)
+            .maxFee(BigInteger.valueOf(12345))
+            .addCosignatures(
+                new AggregateTransactionCosignature(
+                    BigInteger.ZERO,
+                    ConvertUtils.toHex(RandomUtils.generateRandomBytes(64)),
+                    Account.generateNewAccount(networkType).getPublicAccount()),
+                new AggregateTransactionCosignature(
+                    BigInteger.ONE,
+                    ConvertUtils.toHex(RandomUtils.generateRandomBytes(64)),
+                    Account.generateNewAccount(networkType).getPublicAccount()))
+            .build();
+
+    byte[] direct = binarySerialization.serialize(aggregate);
+
+    byte[] bodyBuilderBytes =
+        binarySerialization
+            .resolveSerializer(aggregate.getType(), aggregate.getVersion())
+            .toBodyBuilder(aggregate)
+            .serialize();
+    byte[] expected =
+        SerializationUtils.concat(
+            Arrays.copyOf(direct, direct.length - bodyBuilderBytes.length), bodyBuilderBytes);
+
+    Assertions.assertEquals(ConvertUtils.toHex(expected), ConvertUtils.toHex(direct));
+    Assertions.assertEquals(expected.length, binarySerialization.getSize(aggregate));
+
+    AggregateTransaction deserialized =
+        (AggregateTransaction) binarySerialization.deserialize(direct);
+    Assertions.assertEquals(100, deserialized.getInnerTransactions().size());
+    Assertions.assertEquals(2, deserialized.getCosignatures().size());
+    Assertions.assertEquals(
+        ConvertUtils.toHex(direct),
+        ConvertUtils.toHex(binarySerialization.serialize(deserialized)));
+  }
+
+  /**
+   * The serialization as it was done with the catbuffer builders, header builder plus body
+   * builder.
+   */
+  private byte[] serializeWithBuilders(
+      BinarySerializationImpl binarySerialization, Transaction transaction) {
+    TransactionBuilder header =
+        TransactionBuilder.create(
+            transaction
+                .getSignature()
+                .map(SerializationUtils::toSignatureDto)
+                .orElseGet(() -> new SignatureDto(ByteBuffer.allocate(64))),
+            new KeyDto(
+                transaction
+                    .getSigner()
+                    .map(SerializationUtils::toByteBuffer)
+                    .orElseGet(() -> ByteBuffer.allocate(32))),
+            transaction.getVersion().byteValue(),
+            NetworkTypeDto.rawValueOf((byte) transaction.getNetworkType().getValue()),
+            EntityTypeDto.rawValueOf((short) transaction.getType().getValue()),
+            SerializationUtils.toAmount(transaction.getMaxFee()),
+            new TimestampDto(transaction.getDeadline().getValue()));
+    byte[] body =
+        binarySerialization
+            .resolveSerializer(transaction.getType(), transaction.getVersion())
+            .toBodyBuilder(transaction)
+            .serialize();
+    return SerializationUtils.concat(header.serialize(), body);
+  }
+
+  private List<Transaction> createTransactions() {
+    NetworkType networkType = NetworkType.MIJIN_TEST;
+    TransferTransaction transfer =
+        TransferTransactionFactory.create(
+                networkType,
+                new Deadline(BigInteger.valueOf(1000)),
+                Address.generateRandom(networkType),
+                Arrays.asList(
+                    new Mosaic(new MosaicId(BigInteger.TEN), BigInteger.ONE),
+                    new Mosaic(new MosaicId(BigInteger.ONE), BigInteger.TEN)))
+            .message(new PlainMessage("Some Message"))
+            .maxFee(BigInteger.valueOf(100))
+            .build();
+    SignedTransaction signedTransfer = transfer.signWith(account, generationHash);
+    Transaction signedTransferModel =
+        BinarySerializationImpl.INSTANCE.deserialize(
+            ConvertUtils.getBytes(signedTransfer.getPayload()));
+
+    Transaction supplyChange =
+        MosaicSupplyChangeTransactionFactory.create(
+                networkType,
+                new Deadline(BigInteger.ONE),
+                new MosaicId(BigInteger.TEN),
+                MosaicSupplyChangeActionType.INCREASE,
+                BigInteger.valueOf(5))
+            .build();
+
+    Transaction aggregate =
+        AggregateTransactionFactory.createComplete(
+                networkType,
+                new Deadline(BigInteger.ONE),
+                Arrays.asList(
+                    transfer.toAggregate(account.getPublicAccount()),
+                    supplyChange.toAggregate(account.getPublicAccount())))
+            .addCosignatures(
+                new AggregateTransactionCosignature(
+                    BigInteger.ZERO,
+                    ConvertUtils.toHex(RandomUtils.generateRandomBytes(64)),
+                    Account.generateNewAccount(networkType).getPublicAccount()))
+            .build();
+    return Arrays.asList(transfer, signedTransferModel, supplyChange, aggregate);
+  }
+
+  @Test
+  void testSerializeToSharedBuffer() {
+    BinarySerializationImpl binarySerialization = new BinarySerializationImpl();
+    List<Transaction> transactions = createTransactions();
+
+    int totalSize = transactions.stream().mapToInt(binarySerialization::computeSize).sum();
+    ByteBuffer buffer = ByteBuffer.allocateDirect(totalSize + 10);
+    buffer.position(10);
+    for (Transaction transaction : transactions) {
+      int start = buffer.position();
+      int written = binarySerialization.serializeTo(transaction, buffer);
+      byte[] expected = serializeWithBuilders(binarySerialization, transaction);
+
+      Assertions.assertEquals(expected.length, written);
+      Assertions.assertEquals(start + written, buffer.position());
+      Assertions.assertEquals(expected.length, binarySerialization.computeSize(transaction));
+      Assertions.assertEquals(expected.length, binarySerialization.getSize(transaction));
+
+      byte[] bytes = new byte[expected.length];
+      ByteBuffer slice = buffer.duplicate();
+      slice.position(start);
+      slice.get(bytes);
+      Assertions.assertEquals(ConvertUtils.toHex(expected), ConvertUtils.toHex(bytes));
+      Assertions.assertEquals(
+          ConvertUtils.toHex(expected),
+          ConvertUtils.toHex(binarySerialization.serialize(transaction)));
+    }
+    Assertions.assertEquals(0, buffer.remaining());
+    Assertions.assertEquals(ByteOrder.BIG_ENDIAN, buffer.order());
+  }
+
+  @Test
+  void testSerializeToSmallBuffer() {
+    BinarySerializationImpl binarySerialization = new BinarySerializationImpl();
+    Transaction transaction = createTransactions().get(0);
+    ByteBuffer buffer = ByteBuffer.allocate(binarySerialization.computeSize(transaction) - 1);
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> binarySerialization.serializeTo(transaction, buffer));
+    Assertions.assertEquals(0, buffer.position());
+  }
+
+  @Test
+  void testRegisterNewTransactionVersion() {
+    BinarySerializationImpl binarySerialization = new BinarySerializationImpl();
+    TransactionSerializer<TransferTransaction> version1 =
+        binarySerialization.resolveSerializer(TransactionType.TRANSFER, 1);
+    TransactionSerializer<TransferTransaction> version2 =
+        new TransactionSerializer<TransferTransaction>() {
+          @Override
+          public TransactionType getTransactionType() {
+            return TransactionType.TRANSFER;
+          }
+
+          @Override
+          public int getVersion() {
+            return 2;
+          }
+
+          @Override
+          public Class<TransferTransaction> getTransactionClass() {
+            return TransferTransaction.class;
+          }
+
+          @Override
+          public TransactionFactory<?> fromBodyBuilder(
+              NetworkType networkType, Deadline deadline, Serializer transactionBuilder) {
+            return version1.fromBodyBuilder(networkType, deadline, transactionBuilder);
+          }
+
+          @Override
+          public Serializer toBodyBuilder(TransferTransaction transaction) {
+            return version1.toBodyBuilder(transaction);
+          }
+        };
+
+    TransferTransaction transaction =
+        TransferTransactionFactory.create(
+                NetworkType.MIJIN_TEST,
+                new Deadline(BigInteger.ONE),
+                Address.generateRandom(NetworkType.MIJIN_TEST),
+                Collections.emptyList())
+            .message(new PlainMessage("Some Message"))
+            .version(2)
+            .build();
+
+    Assertions.assertThrows(
+        UnsupportedOperationException.class, () -> binarySerialization.serialize(transaction));
+
+    binarySerialization.register(version2);
+    Assertions.assertSame(
+        version2, binarySerialization.resolveSerializer(TransactionType.TRANSFER, 2));
+    Assertions.assertSame(
+        version1, binarySerialization.resolveSerializer(TransactionType.TRANSFER, 1));
+
+    byte[] payload = binarySerialization.serialize(transaction);
+    Transaction deserialized = binarySerialization.deserialize(payload);
+    Assertions.assertEquals(2, deserialized.getVersion().intValue());
+    Assertions.assertArrayEquals(payload, binarySerialization.serialize(deserialized));
+
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> binarySerialization.register(version2));
+  }
+
+  @Test
+  void testDeserializeAggregateBatch() {
+    BinarySerializationImpl binarySerialization = new BinarySerializationImpl();
+    List<byte[]> payloads =
+        IntStream.range(0, 200)
+            .mapToObj(
+                i ->
+                    AggregateTransactionFactory.createComplete(
+                            NetworkType.MIJIN_TEST,
+                            new Deadline(BigInteger.valueOf(i)),
+                            IntStream.range(0, 10)
+                                .mapToObj(
+                                    j ->
+                                        TransferTransactionFactory.create(
+                                                NetworkType.MIJIN_TEST,
+                                                new Deadline(BigInteger.ONE),
+                                                Address.generateRandom(NetworkType.MIJIN_TEST),
+                                                Collections.emptyList())
+                                            .message(new PlainMessage("message " + i + " " + j))
+                                            .build()
+                                            .toAggregate(account.getPublicAccount()))
+                                .collect(Collectors.toList()))
+                        .build())
+            .map(binarySerialization::serialize)
+            .collect(Collectors.toList());
+
+    for (byte[] payload : payloads) {
+      AggregateTransaction aggregate =
+          (AggregateTransaction) binarySerialization.deserialize(payload);
+      Assertions.assertEquals(10, aggregate.getInnerTransactions().size());
+      Assertions.assertArrayEquals(payload, binarySerialization.serialize(aggregate));
+    }
+  }
 }
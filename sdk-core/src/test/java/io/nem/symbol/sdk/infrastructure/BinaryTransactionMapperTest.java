@@ -0,0 +1,99 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.core.utils.ConvertUtils;
+import io.nem.symbol.sdk.model.account.Account;
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.message.PlainMessage;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import io.nem.symbol.sdk.model.transaction.Deadline;
+import io.nem.symbol.sdk.model.transaction.SignedTransaction;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.model.transaction.TransactionInfo;
+import io.nem.symbol.sdk.model.transaction.TransactionType;
+import io.nem.symbol.sdk.model.transaction.TransferTransaction;
+import io.nem.symbol.sdk.model.transaction.TransferTransactionFactory;
+import java.math.BigInteger;
+import java.util.Collections;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/** Tests of {@link BinaryTransactionMapper}. */
+class BinaryTransactionMapperTest {
+
+  private final NetworkType networkType = NetworkType.MIJIN_TEST;
+
+  private final BinaryTransactionMapper mapper =
+      new BinaryTransactionMapper(BinarySerializationImpl.INSTANCE);
+
+  @Test
+  void mapSignedPayloadWithInfo() {
+    Account account = Account.generateNewAccount(networkType);
+    TransferTransaction transaction =
+        TransferTransactionFactory.create(
+                networkType,
+                new Deadline(BigInteger.valueOf(100)),
+                Address.generateRandom(networkType),
+                Collections.emptyList())
+            .message(new PlainMessage("hello"))
+            .maxFee(BigInteger.valueOf(2000))
+            .build();
+    SignedTransaction signedTransaction = transaction.signWith(account, "abc");
+    TransactionInfo transactionInfo =
+        TransactionInfo.create(
+            BigInteger.TEN, 1, "someId", signedTransaction.getHash(), "merkleHash");
+
+    byte[] payload = ConvertUtils.fromHexToBytes(signedTransaction.getPayload());
+    Transaction mapped = mapper.map(payload, transactionInfo);
+
+    Assertions.assertEquals(TransactionType.TRANSFER, mapped.getType());
+    Assertions.assertEquals(payload.length, mapped.getSize());
+    Assertions.assertEquals(account.getPublicAccount(), mapped.getSigner().get());
+    Assertions.assertEquals(transactionInfo, mapped.getTransactionInfo().get());
+    Assertions.assertEquals(
+        signedTransaction.getPayload(),
+        ConvertUtils.toHex(BinarySerializationImpl.INSTANCE.serialize(mapped)));
+  }
+
+  @Test
+  void mapWithoutInfo() {
+    TransferTransaction transaction =
+        TransferTransactionFactory.create(
+                networkType,
+                new Deadline(BigInteger.ONE),
+                Address.generateRandom(networkType),
+                Collections.emptyList())
+            .build();
+    byte[] payload = BinarySerializationImpl.INSTANCE.serialize(transaction);
+
+    Transaction mapped = mapper.mapToFactory(payload, null).build();
+
+    Assertions.assertFalse(mapped.getTransactionInfo().isPresent());
+    Assertions.assertFalse(mapped.getSigner().isPresent());
+    Assertions.assertEquals(
+        ConvertUtils.toHex(payload),
+        ConvertUtils.toHex(BinarySerializationImpl.INSTANCE.serialize(mapped)));
+  }
+
+  @Test
+  void nullPayload() {
+    Assertions.assertThrows(
+        NullPointerException.class, () -> mapper.mapToFactory((byte[]) null, null));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> mapper.mapToFactory((String) null, null));
+  }
+}
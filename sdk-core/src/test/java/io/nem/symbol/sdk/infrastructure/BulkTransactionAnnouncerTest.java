@@ -0,0 +1,200 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.sdk.api.Listener;
+import io.nem.symbol.sdk.api.RepositoryCallException;
+import io.nem.symbol.sdk.api.RepositoryFactory;
+import io.nem.symbol.sdk.api.TransactionRepository;
+import io.nem.symbol.sdk.model.account.Account;
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import io.nem.symbol.sdk.model.transaction.Deadline;
+import io.nem.symbol.sdk.model.transaction.SignedTransaction;
+import io.nem.symbol.sdk.model.transaction.TransactionAnnounceResponse;
+import io.nem.symbol.sdk.model.transaction.TransactionStatusError;
+import io.nem.symbol.sdk.model.transaction.TransactionStatusException;
+import io.nem.symbol.sdk.model.transaction.TransferTransaction;
+import io.nem.symbol.sdk.model.transaction.TransferTransactionFactory;
+import io.reactivex.Observable;
+import io.reactivex.schedulers.Schedulers;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/** Tests of {@link BulkTransactionAnnouncer}. */
+class BulkTransactionAnnouncerTest {
+
+  private final NetworkType networkType = NetworkType.MIJIN_TEST;
+  private final String generationHash = "abc";
+  private TransactionRepository transactionRepositoryMock;
+  private Listener listener;
+  private BulkTransactionAnnouncer announcer;
+  private Account account1;
+  private Account account2;
+
+  @BeforeEach
+  void setup() {
+    account1 = Account.generateNewAccount(networkType);
+    account2 = Account.generateNewAccount(networkType);
+    RepositoryFactory factory = Mockito.mock(RepositoryFactory.class);
+    transactionRepositoryMock = Mockito.mock(TransactionRepository.class);
+    Mockito.when(factory.createTransactionRepository()).thenReturn(transactionRepositoryMock);
+    listener = Mockito.mock(Listener.class);
+    announcer =
+        new BulkTransactionAnnouncer(factory)
+            .withMaxInFlight(2)
+            .withMaxRetries(2)
+            .withBackoff(Duration.ofMillis(1), Duration.ofMillis(2))
+            .withScheduler(Schedulers.trampoline());
+  }
+
+  private TransferTransaction createTransfer(long maxFee) {
+    return TransferTransactionFactory.create(
+            networkType,
+            new Deadline(BigInteger.ONE),
+            Address.generateRandom(networkType),
+            Collections.emptyList())
+        .maxFee(BigInteger.valueOf(maxFee))
+        .build();
+  }
+
+  @Test
+  void getMaxFee() {
+    SignedTransaction signedTransaction =
+        createTransfer(123456789L).signWith(account1, generationHash);
+    Assertions.assertEquals(
+        BigInteger.valueOf(123456789L), BulkTransactionAnnouncer.getMaxFee(signedTransaction));
+  }
+
+  @Test
+  void orderByMaxFeePerSigner() {
+    SignedTransaction a1 = createTransfer(10).signWith(account1, generationHash);
+    SignedTransaction a2 = createTransfer(30).signWith(account1, generationHash);
+    SignedTransaction a3 = createTransfer(20).signWith(account1, generationHash);
+    SignedTransaction b1 = createTransfer(5).signWith(account2, generationHash);
+    SignedTransaction b2 = createTransfer(50).signWith(account2, generationHash);
+
+    List<SignedTransaction> ordered =
+        BulkTransactionAnnouncer.order(Arrays.asList(a1, a2, a3, b1, b2));
+
+    Assertions.assertEquals(Arrays.asList(a2, b2, a3, b1, a1), ordered);
+  }
+
+  @Test
+  void isRetryable() {
+    Assertions.assertTrue(
+        BulkTransactionAnnouncer.isRetryable(new RepositoryCallException("Throttled", 429, null)));
+    Assertions.assertTrue(
+        BulkTransactionAnnouncer.isRetryable(new RepositoryCallException("Error", 503, null)));
+    Assertions.assertFalse(
+        BulkTransactionAnnouncer.isRetryable(new RepositoryCallException("Invalid", 409, null)));
+    Assertions.assertFalse(
+        BulkTransactionAnnouncer.isRetryable(new IllegalStateException("Unknown")));
+  }
+
+  @Test
+  void getBackoff() {
+    BulkTransactionAnnouncer announcer =
+        new BulkTransactionAnnouncer(Mockito.mock(RepositoryFactory.class))
+            .withBackoff(Duration.ofMillis(100), Duration.ofMillis(1000));
+    Assertions.assertEquals(100, announcer.getBackoff(1));
+    Assertions.assertEquals(200, announcer.getBackoff(2));
+    Assertions.assertEquals(400, announcer.getBackoff(3));
+    Assertions.assertEquals(800, announcer.getBackoff(4));
+    Assertions.assertEquals(1000, announcer.getBackoff(5));
+    Assertions.assertEquals(1000, announcer.getBackoff(50));
+  }
+
+  @Test
+  void announceReportsConfirmedAndFailedTransactions() {
+    TransferTransaction confirmedTransaction = createTransfer(10);
+    SignedTransaction confirmed = confirmedTransaction.signWith(account1, generationHash);
+    SignedTransaction rejected = createTransfer(20).signWith(account1, generationHash);
+    SignedTransaction throttled = createTransfer(30).signWith(account2, generationHash);
+    SignedTransaction invalid = createTransfer(40).signWith(account2, generationHash);
+
+    TransactionAnnounceResponse response = new TransactionAnnounceResponse("OK");
+    Mockito.when(transactionRepositoryMock.announce(Mockito.eq(confirmed)))
+        .thenReturn(Observable.just(response));
+    Mockito.when(transactionRepositoryMock.announce(Mockito.eq(rejected)))
+        .thenReturn(Observable.just(response));
+    Mockito.when(transactionRepositoryMock.announce(Mockito.eq(throttled)))
+        .thenReturn(Observable.error(new RepositoryCallException("Throttled", 429, null)));
+    Mockito.when(transactionRepositoryMock.announce(Mockito.eq(invalid)))
+        .thenReturn(Observable.error(new RepositoryCallException("Invalid", 409, null)));
+
+    Mockito.when(
+            listener.confirmedOrError(
+                Mockito.eq(account1.getAddress()), Mockito.eq(confirmed.getHash())))
+        .thenReturn(Observable.just(confirmedTransaction));
+    TransactionStatusError statusError =
+        new TransactionStatusError(
+            account1.getAddress(),
+            rejected.getHash(),
+            "Failure_Core_Insufficient_Balance",
+            new Deadline(BigInteger.ONE));
+    Mockito.when(
+            listener.confirmedOrError(
+                Mockito.eq(account1.getAddress()), Mockito.eq(rejected.getHash())))
+        .thenReturn(
+            Observable.error(
+                new TransactionStatusException(new IllegalStateException(), statusError)));
+
+    Map<String, BulkAnnounceResult> results =
+        announcer
+            .announce(listener, Arrays.asList(confirmed, rejected, throttled, invalid))
+            .toList()
+            .blockingGet()
+            .stream()
+            .collect(
+                Collectors.toMap(r -> r.getSignedTransaction().getHash(), Function.identity()));
+
+    Assertions.assertEquals(4, results.size());
+
+    BulkAnnounceResult confirmedResult = results.get(confirmed.getHash());
+    Assertions.assertTrue(confirmedResult.isConfirmed());
+    Assertions.assertEquals(confirmedTransaction, confirmedResult.getTransaction().get());
+
+    BulkAnnounceResult rejectedResult = results.get(rejected.getHash());
+    Assertions.assertFalse(rejectedResult.isConfirmed());
+    Assertions.assertEquals(statusError, rejectedResult.getStatusError().get());
+
+    BulkAnnounceResult throttledResult = results.get(throttled.getHash());
+    Assertions.assertFalse(throttledResult.isConfirmed());
+    Assertions.assertFalse(throttledResult.getStatusError().isPresent());
+    Assertions.assertEquals(
+        429, ((RepositoryCallException) throttledResult.getError().get()).getStatusCode());
+
+    BulkAnnounceResult invalidResult = results.get(invalid.getHash());
+    Assertions.assertFalse(invalidResult.isConfirmed());
+    Assertions.assertEquals(
+        409, ((RepositoryCallException) invalidResult.getError().get()).getStatusCode());
+
+    // 1 call + 2 retries for the throttled one, no retries for the invalid one.
+    Mockito.verify(transactionRepositoryMock, Mockito.times(3)).announce(Mockito.eq(throttled));
+    Mockito.verify(transactionRepositoryMock, Mockito.times(1)).announce(Mockito.eq(invalid));
+  }
+}
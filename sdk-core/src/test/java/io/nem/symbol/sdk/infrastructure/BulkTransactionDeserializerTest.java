@@ -0,0 +1,127 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.message.PlainMessage;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import io.nem.symbol.sdk.model.transaction.Deadline;
+import io.nem.symbol.sdk.model.transaction.TransferTransaction;
+import io.nem.symbol.sdk.model.transaction.TransferTransactionFactory;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/** Tests of {@link BulkTransactionDeserializer}. */
+class BulkTransactionDeserializerTest {
+
+  private final NetworkType networkType = NetworkType.MIJIN_TEST;
+
+  private final BulkTransactionDeserializer deserializer =
+      new BulkTransactionDeserializer(BinarySerializationImpl.INSTANCE).withThreshold(2);
+
+  private byte[] createPayload(int index) {
+    TransferTransaction transaction =
+        TransferTransactionFactory.create(
+                networkType,
+                new Deadline(BigInteger.valueOf(index + 1)),
+                Address.generateRandom(networkType),
+                Collections.emptyList())
+            .message(new PlainMessage("message " + index))
+            .build();
+    return BinarySerializationImpl.INSTANCE.serialize(transaction);
+  }
+
+  @Test
+  void deserializeKeepsOrderAndReportsErrors() {
+    List<byte[]> payloads = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      payloads.add(i % 7 == 3 ? new byte[] {1, 2, 3} : createPayload(i));
+    }
+
+    List<BulkDeserializationResult> results = deserializer.deserialize(payloads);
+
+    Assertions.assertEquals(payloads.size(), results.size());
+    for (int i = 0; i < payloads.size(); i++) {
+      BulkDeserializationResult result = results.get(i);
+      Assertions.assertEquals(i, result.getIndex());
+      if (i % 7 == 3) {
+        Assertions.assertFalse(result.isDeserialized());
+        Assertions.assertTrue(result.getError().isPresent());
+        Assertions.assertFalse(result.getTransaction().isPresent());
+      } else {
+        Assertions.assertTrue(result.isDeserialized());
+        Assertions.assertFalse(result.getError().isPresent());
+        Assertions.assertEquals(
+            BigInteger.valueOf(i + 1),
+            result.getTransaction().get().getDeadline().toBigInteger());
+      }
+    }
+  }
+
+  @Test
+  void deserializeStream() {
+    List<BulkDeserializationResult> results =
+        deserializer
+            .withPool(new ForkJoinPool(2))
+            .deserialize(Stream.of(createPayload(0), createPayload(1)));
+
+    Assertions.assertEquals(2, results.size());
+    Assertions.assertTrue(results.get(0).isDeserialized());
+    Assertions.assertTrue(results.get(1).isDeserialized());
+  }
+
+  @Test
+  void deserializeRegion() {
+    List<byte[]> payloads = new ArrayList<>();
+    int size = 0;
+    for (int i = 0; i < 5; i++) {
+      byte[] payload = createPayload(i);
+      payloads.add(payload);
+      size += payload.length;
+    }
+    ByteBuffer region = ByteBuffer.allocateDirect(size + 6);
+    payloads.forEach(region::put);
+    // A truncated payload claiming more bytes than the region holds.
+    region.put(new byte[] {(byte) 200, 0, 0, 0, 1, 2});
+    region.flip();
+
+    List<BulkDeserializationResult> results = deserializer.deserialize(region);
+
+    Assertions.assertEquals(0, region.position());
+    Assertions.assertEquals(6, results.size());
+    for (int i = 0; i < 5; i++) {
+      Assertions.assertEquals(
+          BigInteger.valueOf(i + 1),
+          results.get(i).getTransaction().get().getDeadline().toBigInteger());
+    }
+    Assertions.assertEquals(5, results.get(5).getIndex());
+    Assertions.assertTrue(results.get(5).getError().get() instanceof IllegalArgumentException);
+  }
+
+  @Test
+  void invalidArguments() {
+    Assertions.assertThrows(
+        NullPointerException.class, () -> new BulkTransactionDeserializer(null));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> deserializer.withThreshold(0));
+  }
+}
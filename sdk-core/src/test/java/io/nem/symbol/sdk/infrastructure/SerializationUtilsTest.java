@@ -16,6 +16,7 @@
 package io.nem.symbol.sdk.infrastructure;
 
 import io.nem.symbol.core.utils.ConvertUtils;
+import io.nem.symbol.sdk.model.account.Address;
 import io.nem.symbol.sdk.model.namespace.NamespaceId;
 import io.nem.symbol.sdk.model.network.NetworkType;
 import org.junit.jupiter.api.Assertions;
@@ -67,4 +68,15 @@ public class SerializationUtilsTest {
 
     Assertions.assertEquals(4294967295L, SerializationUtils.intToUnsignedLong(-1));
   }
+
+  @Test
+  void toUnresolvedAddressValidatesTheChecksum() {
+    Address address = Address.generateRandom(NetworkType.MAIN_NET);
+    byte[] bytes = address.getBytes();
+    Assertions.assertEquals(address, SerializationUtils.toUnresolvedAddress(bytes));
+
+    bytes[bytes.length - 1] ^= 1;
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> SerializationUtils.toUnresolvedAddress(bytes));
+  }
 }
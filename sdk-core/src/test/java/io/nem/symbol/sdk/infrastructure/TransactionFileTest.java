@@ -0,0 +1,230 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.core.utils.ConvertUtils;
+import io.nem.symbol.sdk.model.account.Account;
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.message.PlainMessage;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import io.nem.symbol.sdk.model.transaction.AggregateTransactionFactory;
+import io.nem.symbol.sdk.model.transaction.Deadline;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.model.transaction.TransactionInfo;
+import io.nem.symbol.sdk.model.transaction.TransactionType;
+import io.nem.symbol.sdk.model.transaction.TransferTransactionFactory;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Tests of {@link TransactionFileWriter} and {@link TransactionFileReader}. */
+class TransactionFileTest {
+
+  private final NetworkType networkType = NetworkType.MIJIN_TEST;
+
+  private final Account account = Account.generateNewAccount(networkType);
+
+  private final String hash = "6C610D61B3E6839AE85AC18465CF6AD06D8F17A4F145F720BD324880B4FBB12B";
+
+  private final String merkleComponentHash =
+      "57F7DA205008026C776CB6AED843393F04CD458E0AA2D9F1D5F31A402072B2D6";
+
+  @TempDir Path tempDir;
+
+  private Transaction createTransfer(int index, TransactionInfo transactionInfo) {
+    TransferTransactionFactory factory =
+        TransferTransactionFactory.create(
+                networkType,
+                new Deadline(BigInteger.valueOf(index)),
+                Address.generateRandom(networkType),
+                Collections.emptyList())
+            .message(new PlainMessage("message " + index));
+    if (transactionInfo != null) {
+      factory.transactionInfo(transactionInfo);
+    }
+    return factory.build();
+  }
+
+  private List<Transaction> createTransactions(int count) {
+    List<Transaction> transactions = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      switch (i % 4) {
+        case 0:
+          transactions.add(createTransfer(i, null));
+          break;
+        case 1:
+          transactions.add(
+              createTransfer(
+                  i,
+                  TransactionInfo.create(
+                      BigInteger.valueOf(i), i, "id" + i, hash, merkleComponentHash)));
+          break;
+        case 2:
+          transactions.add(
+              createTransfer(
+                  i,
+                  TransactionInfo.createAggregate(
+                      new BigInteger("18446744073709551615"), i, null, hash, "aggregateId")));
+          break;
+        default:
+          transactions.add(
+              AggregateTransactionFactory.createComplete(
+                      networkType,
+                      new Deadline(BigInteger.valueOf(i)),
+                      Arrays.asList(
+                          createTransfer(i, null).toAggregate(account.getPublicAccount()),
+                          createTransfer(i + 1, null).toAggregate(account.getPublicAccount())))
+                  .transactionInfo(TransactionInfo.create(BigInteger.TEN, hash, hash))
+                  .build());
+      }
+    }
+    return transactions;
+  }
+
+  private List<TransactionRecord> readAll(Path path, long windowSize) throws IOException {
+    try (TransactionFileReader reader = new TransactionFileReader(path, windowSize)) {
+      return reader.stream().collect(Collectors.toList());
+    }
+  }
+
+  private void assertTransactionInfo(
+      TransactionInfo expected, Optional<TransactionInfo> transactionInfo) {
+    Assertions.assertEquals(expected == null, !transactionInfo.isPresent());
+    if (expected == null) {
+      return;
+    }
+    TransactionInfo actual = transactionInfo.get();
+    Assertions.assertEquals(expected.getHeight(), actual.getHeight());
+    Assertions.assertEquals(expected.getIndex(), actual.getIndex());
+    Assertions.assertEquals(expected.getId(), actual.getId());
+    Assertions.assertEquals(expected.getHash(), actual.getHash());
+    Assertions.assertEquals(expected.getMerkleComponentHash(), actual.getMerkleComponentHash());
+    Assertions.assertEquals(expected.getAggregateHash(), actual.getAggregateHash());
+    Assertions.assertEquals(expected.getAggregateId(), actual.getAggregateId());
+  }
+
+  @Test
+  void writeAndRead() throws IOException {
+    Path path = tempDir.resolve("transactions.bin");
+    List<Transaction> transactions = createTransactions(50);
+    try (TransactionFileWriter writer = new TransactionFileWriter(path, 7)) {
+      for (Transaction transaction : transactions) {
+        writer.append(transaction);
+      }
+    }
+
+    // A small window forces the reader to remap the file many times.
+    for (long windowSize : Arrays.asList(300L, TransactionFileReader.DEFAULT_WINDOW_SIZE)) {
+      List<TransactionRecord> records = readAll(path, windowSize);
+      Assertions.assertEquals(transactions.size(), records.size());
+      for (int i = 0; i < transactions.size(); i++) {
+        Transaction expected = transactions.get(i);
+        TransactionRecord record = records.get(i);
+        byte[] payload = expected.serialize();
+        ByteBuffer recordPayload = record.getPayload();
+        Assertions.assertTrue(recordPayload.isReadOnly());
+        Assertions.assertEquals(ByteBuffer.wrap(payload), recordPayload);
+        Assertions.assertEquals(payload.length, record.getPayloadSize());
+        Assertions.assertEquals(expected.getType(), record.getView().getType());
+        assertTransactionInfo(
+            expected.getTransactionInfo().orElse(null), record.getTransactionInfo());
+
+        Transaction transaction = record.toTransaction();
+        Assertions.assertArrayEquals(payload, transaction.serialize());
+        assertTransactionInfo(
+            expected.getTransactionInfo().orElse(null), transaction.getTransactionInfo());
+      }
+      Assertions.assertEquals(
+          TransactionType.AGGREGATE_COMPLETE, records.get(3).toTransaction().getType());
+    }
+  }
+
+  @Test
+  void appendPayloads() throws IOException {
+    Path path = tempDir.resolve("payloads.bin");
+    Transaction transaction = createTransfer(1, null);
+    String signedPayload = transaction.signWith(account, merkleComponentHash).getPayload();
+    TransactionInfo transactionInfo = TransactionInfo.create(BigInteger.ONE, hash, hash);
+    try (TransactionFileWriter writer = new TransactionFileWriter(path)) {
+      writer.append(ConvertUtils.fromHexToBytes(signedPayload), transactionInfo);
+    }
+    List<TransactionRecord> records = readAll(path, TransactionFileReader.DEFAULT_WINDOW_SIZE);
+    Assertions.assertEquals(1, records.size());
+    Transaction read = records.get(0).toTransaction();
+    Assertions.assertEquals(account.getPublicAccount(), read.getSigner().get());
+    Assertions.assertEquals(signedPayload, ConvertUtils.toHex(read.serialize()));
+    assertTransactionInfo(transactionInfo, read.getTransactionInfo());
+  }
+
+  @Test
+  void periodicSync() throws IOException {
+    Path path = tempDir.resolve("sync.bin");
+    try (TransactionFileWriter writer = new TransactionFileWriter(path, 2)) {
+      List<Transaction> transactions = createTransactions(3);
+      for (Transaction transaction : transactions) {
+        writer.append(transaction);
+      }
+      // The third record is still buffered.
+      Assertions.assertEquals(2, readAll(path, 1024).size());
+    }
+    Assertions.assertEquals(3, readAll(path, 1024).size());
+  }
+
+  @Test
+  void truncatedRecordIsIgnoredAndDiscarded() throws IOException {
+    Path path = tempDir.resolve("truncated.bin");
+    try (TransactionFileWriter writer = new TransactionFileWriter(path)) {
+      for (Transaction transaction : createTransactions(3)) {
+        writer.append(transaction);
+      }
+    }
+    long validSize = Files.size(path);
+    byte[] bytes = Files.readAllBytes(path);
+    Files.write(
+        path,
+        Arrays.copyOfRange(bytes, TransactionFileFormat.FILE_HEADER_SIZE, 30),
+        StandardOpenOption.APPEND);
+    Assertions.assertEquals(3, readAll(path, 1024).size());
+
+    try (TransactionFileWriter writer = new TransactionFileWriter(path)) {
+      Assertions.assertEquals(validSize, Files.size(path));
+      writer.append(createTransfer(10, null));
+    }
+    List<TransactionRecord> records = readAll(path, 1024);
+    Assertions.assertEquals(4, records.size());
+    Assertions.assertEquals(validSize, records.get(3).getOffset());
+  }
+
+  @Test
+  void invalidFile() throws IOException {
+    Path path = tempDir.resolve("invalid.bin");
+    Files.write(path, new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9});
+    Assertions.assertThrows(IllegalStateException.class, () -> new TransactionFileReader(path));
+    Assertions.assertThrows(IllegalStateException.class, () -> new TransactionFileWriter(path));
+  }
+}
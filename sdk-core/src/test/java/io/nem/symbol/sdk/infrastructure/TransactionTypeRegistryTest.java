@@ -0,0 +1,60 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.sdk.model.transaction.TransactionType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/** Tests of {@link TransactionTypeRegistry}. */
+class TransactionTypeRegistryTest {
+
+  @Test
+  void registerAndResolve() {
+    TransactionTypeRegistry<String> registry = new TransactionTypeRegistry<>("Value");
+    registry.register(TransactionType.TRANSFER, 1, "transfer1");
+    registry.register(TransactionType.TRANSFER, 3, "transfer3");
+    registry.register(TransactionType.AGGREGATE_BONDED, 1, "bonded1");
+
+    Assertions.assertEquals("transfer1", registry.resolve(TransactionType.TRANSFER, 1));
+    Assertions.assertEquals("transfer3", registry.resolve(TransactionType.TRANSFER, 3));
+    Assertions.assertEquals("bonded1", registry.get(TransactionType.AGGREGATE_BONDED, 1));
+    Assertions.assertNull(registry.get(TransactionType.TRANSFER, 2));
+    Assertions.assertNull(registry.get(TransactionType.TRANSFER, 4));
+    Assertions.assertNull(registry.get(TransactionType.TRANSFER, -1));
+    Assertions.assertNull(registry.get(TransactionType.AGGREGATE_COMPLETE, 1));
+
+    UnsupportedOperationException exception =
+        Assertions.assertThrows(
+            UnsupportedOperationException.class,
+            () -> registry.resolve(TransactionType.TRANSFER, 2));
+    Assertions.assertEquals(
+        "Unimplemented Transaction type TRANSFER version 2", exception.getMessage());
+  }
+
+  @Test
+  void registerDuplicated() {
+    TransactionTypeRegistry<String> registry = new TransactionTypeRegistry<>("Value");
+    registry.register(TransactionType.TRANSFER, 1, "transfer1");
+    IllegalArgumentException exception =
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> registry.register(TransactionType.TRANSFER, 1, "other"));
+    Assertions.assertEquals(
+        "Value for type TRANSFER and version 1 was already registered!", exception.getMessage());
+    Assertions.assertEquals("transfer1", registry.resolve(TransactionType.TRANSFER, 1));
+  }
+}
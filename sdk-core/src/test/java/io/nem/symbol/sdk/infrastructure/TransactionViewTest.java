@@ -0,0 +1,155 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.core.utils.ConvertUtils;
+import io.nem.symbol.sdk.model.account.Account;
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.message.PlainMessage;
+import io.nem.symbol.sdk.model.mosaic.MosaicId;
+import io.nem.symbol.sdk.model.mosaic.MosaicSupplyChangeActionType;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import io.nem.symbol.sdk.model.transaction.AggregateTransactionFactory;
+import io.nem.symbol.sdk.model.transaction.Deadline;
+import io.nem.symbol.sdk.model.transaction.MosaicSupplyChangeTransactionFactory;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.model.transaction.TransactionType;
+import io.nem.symbol.sdk.model.transaction.TransferTransaction;
+import io.nem.symbol.sdk.model.transaction.TransferTransactionFactory;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/** Tests of {@link TransactionView}. */
+class TransactionViewTest {
+
+  private final NetworkType networkType = NetworkType.MIJIN_TEST;
+
+  private final String generationHash =
+      "57F7DA205008026C776CB6AED843393F04CD458E0AA2D9F1D5F31A402072B2D6";
+
+  private final Account account = Account.generateNewAccount(networkType);
+
+  private final Address recipient = Address.generateRandom(networkType);
+
+  private TransferTransaction createTransfer() {
+    return TransferTransactionFactory.create(
+            networkType, new Deadline(BigInteger.valueOf(1234)), recipient, Collections.emptyList())
+        .message(new PlainMessage("hello"))
+        .maxFee(new BigInteger("18446744073709551615"))
+        .build();
+  }
+
+  @Test
+  void readSignedTransfer() {
+    String signedPayload = createTransfer().signWith(account, generationHash).getPayload();
+    byte[] payload = ConvertUtils.fromHexToBytes(signedPayload);
+    Transaction expected = BinarySerializationImpl.INSTANCE.deserialize(payload);
+
+    TransactionView view = TransactionView.of(payload);
+
+    Assertions.assertEquals(payload.length, view.getSize());
+    Assertions.assertEquals(payload.length, view.getEndOffset());
+    Assertions.assertEquals(TransactionType.TRANSFER, view.getType());
+    Assertions.assertEquals(expected.getVersion().intValue(), view.getVersion());
+    Assertions.assertEquals(networkType, view.getNetworkType());
+    Assertions.assertEquals(1234, view.getDeadlineValue());
+    Assertions.assertEquals(
+        expected.getDeadline().toBigInteger(), view.getDeadline().toBigInteger());
+    Assertions.assertEquals(-1, view.getMaxFeeValue());
+    Assertions.assertEquals(expected.getMaxFee(), view.getMaxFee());
+    Assertions.assertEquals(expected.getSignature(), view.getSignature());
+    Assertions.assertEquals(account.getPublicAccount(), view.getSigner().get());
+    Assertions.assertEquals(recipient, view.getRecipient().get());
+    Assertions.assertArrayEquals(payload, view.toByteArray());
+    Assertions.assertEquals(
+        ConvertUtils.toHex(payload), ConvertUtils.toHex(view.toTransaction().serialize()));
+  }
+
+  @Test
+  void scanConsecutivePayloads() {
+    Account cosigner = Account.generateNewAccount(networkType);
+    List<Transaction> transactions =
+        Arrays.asList(
+            createTransfer(),
+            MosaicSupplyChangeTransactionFactory.create(
+                    networkType,
+                    new Deadline(BigInteger.ONE),
+                    new MosaicId(BigInteger.TEN),
+                    MosaicSupplyChangeActionType.INCREASE,
+                    BigInteger.valueOf(10))
+                .build(),
+            AggregateTransactionFactory.createComplete(
+                    networkType,
+                    new Deadline(BigInteger.ONE),
+                    Collections.singletonList(
+                        createTransfer().toAggregate(cosigner.getPublicAccount())))
+                .build());
+
+    List<byte[]> payloads = new ArrayList<>();
+    int totalSize = 0;
+    for (Transaction transaction : transactions) {
+      byte[] payload = transaction.serialize();
+      payloads.add(payload);
+      totalSize += payload.length;
+    }
+    int start = 5;
+    ByteBuffer buffer = ByteBuffer.allocateDirect(start + totalSize);
+    buffer.position(start);
+    payloads.forEach(buffer::put);
+    buffer.flip();
+
+    TransactionView view = new TransactionView();
+    int offset = start;
+    for (int i = 0; i < transactions.size(); i++) {
+      view.wrap(buffer, offset);
+      Transaction transaction = transactions.get(i);
+      Assertions.assertEquals(transaction.getType(), view.getType());
+      Assertions.assertEquals(payloads.get(i).length, view.getSize());
+      Assertions.assertFalse(view.getSigner().isPresent());
+      Assertions.assertFalse(view.getSignature().isPresent());
+      Assertions.assertEquals(
+          transaction.getType() == TransactionType.TRANSFER, view.getRecipient().isPresent());
+      Assertions.assertArrayEquals(payloads.get(i), view.toByteArray());
+      ByteBuffer slice = view.getPayload();
+      Assertions.assertTrue(slice.isReadOnly());
+      Assertions.assertEquals(payloads.get(i).length, slice.remaining());
+      Assertions.assertArrayEquals(payloads.get(i), view.toTransaction().serialize());
+      offset = view.getEndOffset();
+    }
+    Assertions.assertEquals(buffer.limit(), offset);
+    Assertions.assertEquals(0, buffer.position());
+  }
+
+  @Test
+  void invalidBuffers() {
+    byte[] payload = createTransfer().serialize();
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> TransactionView.of(Arrays.copyOf(payload, TransactionView.HEADER_SIZE - 1)));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> TransactionView.of(Arrays.copyOf(payload, payload.length - 1)));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> new TransactionView().wrap(ByteBuffer.wrap(payload), 1));
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.model.account;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.nem.symbol.core.crypto.KeyPair;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+class AccountBatchTest {
+
+  @Test
+  void shouldGenerateValidAccounts() {
+    AccountBatch batch = AccountBatch.generate(NetworkType.TEST_NET, 150);
+    assertEquals(150, batch.size());
+    assertEquals(NetworkType.TEST_NET, batch.getNetworkType());
+    Set<Address> addresses = new HashSet<>();
+    for (int index = 0; index < batch.size(); index++) {
+      KeyPair keyPair = KeyPair.fromPrivate(batch.getPrivateKey(index));
+      assertEquals(keyPair.getPublicKey(), batch.getPublicKey(index));
+      Address address = batch.getAddress(index);
+      assertEquals(
+          Address.createFromPublicKey(keyPair.getPublicKey().toHex(), NetworkType.TEST_NET),
+          address);
+      assertTrue(Address.isValidEncodedAddress(address.encoded()));
+      addresses.add(address);
+    }
+    assertEquals(150, addresses.size());
+  }
+
+  @Test
+  void shouldCreateAccounts() {
+    AccountBatch batch = AccountBatch.generate(NetworkType.MIJIN_TEST, 3, new ForkJoinPool(2));
+    List<Account> accounts = batch.toAccounts();
+    assertEquals(3, accounts.size());
+    for (int index = 0; index < accounts.size(); index++) {
+      Account account = accounts.get(index);
+      Account expected =
+          Account.createFromPrivateKey(account.getPrivateKey(), NetworkType.MIJIN_TEST);
+      assertEquals(expected.getPublicKey(), account.getPublicKey());
+      assertEquals(expected.getAddress(), account.getAddress());
+      assertEquals(expected.getPublicAccount(), batch.getPublicAccount(index));
+      assertEquals(NetworkType.MIJIN_TEST, account.getNetworkType());
+    }
+  }
+
+  @Test
+  void shouldGenerateEmptyBatch() {
+    AccountBatch batch = AccountBatch.generate(NetworkType.MAIN_NET, 0);
+    assertEquals(0, batch.size());
+    assertTrue(batch.toAccounts().isEmpty());
+    assertThrows(IllegalArgumentException.class, () -> batch.getAddress(0));
+  }
+
+  @Test
+  void shouldRejectNegativeCount() {
+    assertThrows(
+        IllegalArgumentException.class, () -> AccountBatch.generate(NetworkType.MAIN_NET, -1));
+  }
+}
@@ -284,4 +284,34 @@ class AddressTest {
         "Plain address 'SDRDGFTDLLCB67D4HPGIMIHPNSRYRJRT7DOBGGA' checksum is incorrect. Address checksum is 'DC1318' when 'DC135B' is expected",
         Address.validatePlainAddress("SDRDGFTDLLCB67D4HPGIMIHPNSRYRJRT7DOBGGA").get());
   }
+
+  @Test
+  void createFromBytes() {
+    Address address = Address.createFromRawAddress("NAR3W7B4BCOZSZMFIZRYB3N5YGOUSWIYJCJ6HDA");
+    byte[] bytes = address.getBytes();
+    Assertions.assertEquals(24, bytes.length);
+    Assertions.assertEquals("6823BB7C3C089D996585466380EDBDC19D4959184893E38C", address.encoded());
+
+    Address fromBytes = Address.createFromBytes(bytes);
+    bytes[1] = 0;
+    Assertions.assertEquals(address, fromBytes);
+    Assertions.assertEquals(address.hashCode(), fromBytes.hashCode());
+    Assertions.assertEquals(address.plain(), fromBytes.plain());
+    Assertions.assertEquals(address.pretty(), fromBytes.pretty());
+    Assertions.assertEquals(NetworkType.MAIN_NET, fromBytes.getNetworkType());
+
+    assertThrows(IllegalArgumentException.class, () -> Address.createFromBytes(bytes));
+    assertThrows(IllegalArgumentException.class, () -> Address.createFromBytes(new byte[23]));
+  }
+
+  @Test
+  void createFromTrustedBytes() {
+    Address address = generateAddress(NetworkType.MIJIN_TEST);
+    Address trusted = Address.createFromTrustedBytes(address.getBytes());
+    Assertions.assertEquals(address, trusted);
+    Assertions.assertEquals(address.plain(), trusted.plain());
+    Assertions.assertEquals(trusted, address.intern());
+    assertThrows(
+        IllegalArgumentException.class, () -> Address.createFromTrustedBytes(new byte[10]));
+  }
 }
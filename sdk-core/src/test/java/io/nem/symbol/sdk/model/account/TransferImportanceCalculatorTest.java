@@ -0,0 +1,166 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.model.account;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.nem.symbol.sdk.model.mosaic.Mosaic;
+import io.nem.symbol.sdk.model.mosaic.MosaicId;
+import io.nem.symbol.sdk.model.namespace.NamespaceId;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import io.nem.symbol.sdk.model.transaction.Deadline;
+import io.nem.symbol.sdk.model.transaction.TransferTransaction;
+import io.nem.symbol.sdk.model.transaction.TransferTransactionFactory;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+class TransferImportanceCalculatorTest {
+
+  private final NetworkType networkType = NetworkType.MIJIN_TEST;
+
+  private final AccountBatch accounts = AccountBatch.generate(networkType, 3);
+
+  private TransferTransaction transfer(int from, int to, long amount) {
+    return transfer(accounts.getPublicAccount(from), accounts.getAddress(to), amount);
+  }
+
+  private TransferTransaction transfer(
+      PublicAccount signer, UnresolvedAddress recipient, long amount) {
+    List<Mosaic> mosaics =
+        Collections.singletonList(
+            new Mosaic(new MosaicId(BigInteger.ONE), BigInteger.valueOf(amount)));
+    TransferTransactionFactory factory =
+        TransferTransactionFactory.create(
+            networkType, new Deadline(BigInteger.ONE), recipient, mosaics);
+    if (signer != null) {
+      factory.signer(signer);
+    }
+    return factory.build();
+  }
+
+  private static double amount(TransferTransaction transfer) {
+    return transfer.getMosaics().get(0).getAmount().doubleValue();
+  }
+
+  @Test
+  void cycleHasUniformImportance() {
+    TransferImportance importance =
+        new TransferImportanceCalculator()
+            .calculate(Stream.of(transfer(0, 1, 1), transfer(1, 2, 1), transfer(2, 0, 1)));
+
+    assertTrue(importance.isConverged());
+    assertEquals(3, importance.getAccountCount());
+    for (int index = 0; index < 3; index++) {
+      assertEquals(1.0 / 3, importance.getScore(accounts.getAddress(index)), 1e-9);
+    }
+  }
+
+  @Test
+  void recipientWithoutOutlinksGetsMoreImportance() {
+    TransferImportance importance =
+        new TransferImportanceCalculator()
+            .withEpsilon(1e-12)
+            .calculate(Stream.of(transfer(0, 1, 1)));
+
+    double expected = 0.5 / 1.425;
+    assertEquals(
+        Arrays.asList(accounts.getAddress(0), accounts.getAddress(1)), importance.getAccounts());
+    assertEquals(expected, importance.getScore(0), 1e-9);
+    assertEquals(1 - expected, importance.getScore(1), 1e-9);
+    assertEquals(0.0, importance.getScore(accounts.getAddress(2)));
+  }
+
+  @Test
+  void repeatedTransfersAddUpTheirWeights() {
+    TransferImportance repeated =
+        new TransferImportanceCalculator()
+            .calculate(Stream.of(transfer(0, 1, 1), transfer(0, 2, 1), transfer(0, 1, 1)));
+    TransferImportance weighted =
+        new TransferImportanceCalculator()
+            .withWeight(TransferImportanceCalculatorTest::amount)
+            .calculate(Stream.of(transfer(0, 1, 2), transfer(0, 2, 1)));
+
+    assertArrayEquals(weighted.getScores(), repeated.getScores(), 1e-12);
+    assertTrue(repeated.getScore(1) > repeated.getScore(2));
+  }
+
+  @Test
+  void ignoresUnsignedSelfAndZeroWeightTransfers() {
+    NamespaceId alias = NamespaceId.createFromName("alias");
+    TransferImportance importance =
+        new TransferImportanceCalculator()
+            .withWeight(TransferImportanceCalculatorTest::amount)
+            .calculate(
+                Stream.of(
+                    transfer(null, accounts.getAddress(1), 1),
+                    transfer(0, 0, 1),
+                    transfer(0, 1, 0),
+                    transfer(accounts.getPublicAccount(2), alias, 1)));
+
+    assertEquals(Arrays.asList(accounts.getAddress(2), alias), importance.getAccounts());
+    assertTrue(importance.getScore(alias) > importance.getScore(accounts.getAddress(2)));
+    assertEquals(0.0, importance.getScore(accounts.getAddress(1)));
+  }
+
+  @Test
+  void emptyTransfersHaveNoAccounts() {
+    TransferImportance importance = new TransferImportanceCalculator().calculate(Stream.empty());
+
+    assertEquals(0, importance.getAccountCount());
+    assertEquals(0, importance.getIterations());
+    assertTrue(importance.isConverged());
+  }
+
+  @Test
+  void parallelCalculationMatchesSingleThreadedCalculation() {
+    AccountBatch batch = AccountBatch.generate(networkType, 200);
+    Random random = new Random(3);
+    List<TransferTransaction> transfers =
+        IntStream.range(0, 2000)
+            .mapToObj(
+                i ->
+                    transfer(
+                        batch.getPublicAccount(random.nextInt(150)),
+                        batch.getAddress(random.nextInt(200)),
+                        1 + random.nextInt(100)))
+            .collect(Collectors.toList());
+
+    TransferImportance single =
+        new TransferImportanceCalculator()
+            .withPool(new ForkJoinPool(1))
+            .calculate(transfers.stream());
+    TransferImportance parallel =
+        new TransferImportanceCalculator()
+            .withPool(new ForkJoinPool(4))
+            .calculate(transfers.parallelStream());
+
+    assertEquals(single.getAccounts(), parallel.getAccounts());
+    assertArrayEquals(single.getScores(), parallel.getScores());
+    assertEquals(1.0, Arrays.stream(parallel.getScores()).sum(), 1e-9);
+    assertFalse(parallel.getIterations() == 0);
+  }
+}
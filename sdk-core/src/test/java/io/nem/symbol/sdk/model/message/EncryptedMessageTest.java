@@ -18,7 +18,10 @@ package io.nem.symbol.sdk.model.message;
 import io.nem.symbol.core.crypto.CryptoException;
 import io.nem.symbol.core.crypto.KeyPair;
 import io.nem.symbol.core.crypto.PrivateKey;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -43,6 +46,29 @@ public class EncryptedMessageTest {
     Assertions.assertEquals(message, plainMessage);
   }
 
+  @Test
+  public void testCreateEncryptedMessagesForManyRecipients() {
+
+    String message = "This is a plain message 漢字";
+    KeyPair sender = KeyPair.random();
+    List<KeyPair> recipients = Arrays.asList(KeyPair.random(), KeyPair.random(), KeyPair.random());
+
+    List<EncryptedMessage> encryptedMessages =
+        EncryptedMessage.create(
+            message,
+            sender.getPrivateKey(),
+            recipients.stream().map(KeyPair::getPublicKey).collect(Collectors.toList()));
+
+    Assertions.assertEquals(recipients.size(), encryptedMessages.size());
+    for (int i = 0; i < recipients.size(); i++) {
+      Assertions.assertEquals(
+          message,
+          encryptedMessages
+              .get(i)
+              .decryptPayload(sender.getPublicKey(), recipients.get(i).getPrivateKey()));
+    }
+  }
+
   @Test
   public void testDecryptWrong() {
 
@@ -36,6 +36,14 @@ class MosaicIdTest {
     assertEquals(mosaicId.getId(), new BigInteger("-8810190493148073404"));
   }
 
+  @Test
+  void createAMosaicIdFromLong() {
+    MosaicId mosaicId = new MosaicId(-8810190493148073404L);
+    assertEquals(new MosaicId("85BBEA6CC462B244"), mosaicId);
+    assertEquals("85BBEA6CC462B244", mosaicId.getIdAsHex());
+    assertEquals(new BigInteger("9636553580561478212"), mosaicId.getId());
+  }
+
   @Test
   void testCurrencyTestnet() {
     String nemesisSignerPublicKey =
@@ -106,6 +114,20 @@ class MosaicIdTest {
     assertNotEquals(mosaicId1.getId(), mosaicId2.getId());
   }
 
+  @Test
+  void signedAndUnsignedIdsHaveTheSameLongId() {
+    MosaicId mosaicId1 = new MosaicId(new BigInteger("9636553580561478212"));
+    MosaicId mosaicId2 = new MosaicId(new BigInteger("-8810190493148073404"));
+    assertEquals(mosaicId1.getIdAsLong(), mosaicId2.getIdAsLong());
+    assertEquals(mosaicId1.getIdAsHex(), mosaicId2.getIdAsHex());
+  }
+
+  @Test
+  void shouldRejectIdsBiggerThan64Bits() {
+    BigInteger tooBig = BigInteger.ONE.shiftLeft(Long.SIZE).add(BigInteger.valueOf(5));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> new MosaicId(tooBig));
+  }
+
   @Test
   void createAMosaicIdFromNonceAndOwner() {
     PublicAccount owner = PublicAccount.createFromPublicKey(publicKey, NetworkType.MIJIN_TEST);
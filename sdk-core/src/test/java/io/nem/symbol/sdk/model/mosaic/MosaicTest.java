@@ -29,4 +29,13 @@ class MosaicTest {
     assertEquals(mosaicId, mosaic.getId());
     assertEquals(BigInteger.valueOf(24), mosaic.getAmount());
   }
+
+  @Test
+  void createANewMosaicFromLongAmount() {
+    MosaicId mosaicId = new MosaicId(-3087871471161192663L);
+    Mosaic mosaic = new Mosaic(mosaicId, -1L);
+    assertEquals(new Mosaic(mosaicId, new BigInteger("18446744073709551615")), mosaic);
+    assertEquals(new BigInteger("18446744073709551615"), mosaic.getAmount());
+    assertEquals(-1L, mosaic.getAmountAsLong());
+  }
 }
@@ -102,6 +102,17 @@ class NamespaceIdTest {
     Assertions.assertEquals(hex, NamespaceId.createFromId(BigInteger.valueOf(number)).getIdAsHex());
   }
 
+  @Test
+  void shouldRejectIdsBiggerThan64Bits() {
+    BigInteger tooBig = BigInteger.ONE.shiftLeft(Long.SIZE).add(BigInteger.valueOf(5));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> NamespaceId.createFromId(tooBig));
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> NamespaceId.createFromIdAndFullName(tooBig, "nem"));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> NamespaceId.createFromNameAndParentId("subnem", tooBig));
+  }
+
   @Test
   void createANamespaceIdFromSubNamespaceNameAndParentNamespaceNameViaConstructor() {
     NamespaceId namespaceId = NamespaceId.createFromNameAndParentName("subnem", "nem");
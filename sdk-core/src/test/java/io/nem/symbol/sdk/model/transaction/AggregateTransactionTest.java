@@ -18,6 +18,7 @@ package io.nem.symbol.sdk.model.transaction;
 import io.nem.symbol.catapult.builders.AggregateBondedTransactionBuilder;
 import io.nem.symbol.catapult.builders.AggregateCompleteTransactionBuilder;
 import io.nem.symbol.catapult.builders.TransactionBuilderHelper;
+import io.nem.symbol.core.crypto.Hashes;
 import io.nem.symbol.core.utils.ConvertUtils;
 import io.nem.symbol.sdk.api.BinarySerialization;
 import io.nem.symbol.sdk.infrastructure.BinarySerializationImpl;
@@ -33,6 +34,8 @@ import io.nem.symbol.sdk.model.network.NetworkType;
 import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -133,6 +136,60 @@ public class AggregateTransactionTest extends AbstractTransactionTester {
         binarySerialization.serializeEmbedded(serialized.getInnerTransactions().get(1)));
   }
 
+  @Test
+  void embeddedBytesAndHashAreMemoized() {
+    NetworkType networkType = NetworkType.MIJIN_TEST;
+    BinarySerializationImpl serialization = new BinarySerializationImpl();
+    TransferTransaction transaction =
+        TransferTransactionFactory.create(
+                networkType,
+                new Deadline(BigInteger.ONE),
+                new Address("SDZWZJUAYNOWGBTCUDBY3SE5JF4NCC2RDM6SIGQ", networkType),
+                Collections.emptyList())
+            .message(new PlainMessage("Some Message"))
+            .build();
+
+    Transaction innerTransaction = transaction.toAggregate(account.getPublicAccount());
+    byte[] embeddedBytes = innerTransaction.getSharedEmbeddedBytes();
+    byte[] embeddedHash = innerTransaction.getEmbeddedHash();
+    Assertions.assertSame(embeddedBytes, innerTransaction.getSharedEmbeddedBytes());
+    Assertions.assertSame(embeddedHash, innerTransaction.getEmbeddedHash());
+    Assertions.assertEquals(embeddedBytes.length, innerTransaction.getEmbeddedSize());
+
+    // The public getter returns copies, the memoized array can't be modified by callers.
+    byte[] copy = innerTransaction.getEmbeddedBytes();
+    Assertions.assertNotSame(embeddedBytes, copy);
+    Assertions.assertArrayEquals(embeddedBytes, copy);
+    copy[0] = (byte) (copy[0] + 1);
+    Assertions.assertArrayEquals(embeddedBytes, innerTransaction.getEmbeddedBytes());
+    Assertions.assertArrayEquals(serialization.serializeEmbedded(innerTransaction), embeddedBytes);
+    Assertions.assertArrayEquals(Hashes.sha3_256(embeddedBytes), embeddedHash);
+
+    AggregateTransactionFactory factory =
+        AggregateTransactionFactory.createComplete(
+            networkType, new Deadline(BigInteger.ONE), Collections.singletonList(innerTransaction));
+    // The merkle root of a single transaction is its embedded hash.
+    Assertions.assertEquals(ConvertUtils.toHex(embeddedHash), factory.getTransactionsHash());
+    AggregateTransaction aggregateTransaction = factory.build();
+    Assertions.assertSame(embeddedBytes, innerTransaction.getSharedEmbeddedBytes());
+
+    byte[] aggregateBytes = aggregateTransaction.serialize();
+    Assertions.assertEquals(aggregateBytes.length, aggregateTransaction.getSize());
+    AggregateTransaction deserialized =
+        (AggregateTransaction) serialization.deserialize(aggregateBytes);
+    Assertions.assertArrayEquals(
+        embeddedBytes, deserialized.getInnerTransactions().get(0).getEmbeddedBytes());
+
+    // A new signer invalidates the memoized values.
+    Account otherAccount = Account.generateNewAccount(networkType);
+    innerTransaction.toAggregate(otherAccount.getPublicAccount());
+    Assertions.assertNotSame(embeddedBytes, innerTransaction.getSharedEmbeddedBytes());
+    Assertions.assertArrayEquals(
+        serialization.serializeEmbedded(innerTransaction), innerTransaction.getEmbeddedBytes());
+    Assertions.assertArrayEquals(
+        Hashes.sha3_256(innerTransaction.getEmbeddedBytes()), innerTransaction.getEmbeddedHash());
+  }
+
   @Test
   void basicCatbufferAggregateSerialization() {
     String expected =
@@ -487,4 +544,96 @@ public class AggregateTransactionTest extends AbstractTransactionTester {
     Assertions.assertEquals(2, transactionBuilder.getTransactions().size());
     Assertions.assertEquals(2, transactionBuilder.getCosignatures().size());
   }
+
+  private AggregateTransaction createBondedAggregate() {
+    NetworkType networkType = NetworkType.MIJIN_TEST;
+    TransferTransaction transaction =
+        TransferTransactionFactory.create(
+                networkType,
+                new Deadline(BigInteger.ONE),
+                new Address("SDZWZJUAYNOWGBTCUDBY3SE5JF4NCC2RDM6SIGQ", networkType),
+                Collections.emptyList())
+            .message(new PlainMessage("Some Message"))
+            .signer(account.getPublicAccount())
+            .build();
+    return AggregateTransactionFactory.createBonded(
+            networkType, new Deadline(BigInteger.ONE), Collections.singletonList(transaction))
+        .build();
+  }
+
+  @Test
+  void appendVerifiedCosignatures() {
+    String generationHash = "57F7DA205008026C776CB6AED843393F04CD458E0AA2D9F1D5F31A402072B2D6";
+    AggregateTransaction aggregateTransaction = createBondedAggregate();
+    List<Account> cosigners =
+        Arrays.asList(
+            Account.generateNewAccount(NetworkType.MIJIN_TEST),
+            Account.generateNewAccount(NetworkType.MIJIN_TEST),
+            Account.generateNewAccount(NetworkType.MIJIN_TEST));
+
+    SignedTransaction signedAggregate = aggregateTransaction.signWith(account, generationHash);
+    List<CosignatureSignedTransaction> cosignatures =
+        cosigners.stream()
+            .map(cosigner -> cosigner.signCosignatureTransaction(signedAggregate.getHash()))
+            .collect(Collectors.toList());
+
+    SignedTransaction cosigned =
+        AggregateTransaction.appendVerifiedCosignatures(signedAggregate, cosignatures);
+
+    Assertions.assertEquals(
+        aggregateTransaction
+            .signTransactionWithCosigners(account, cosigners, generationHash)
+            .getPayload(),
+        cosigned.getPayload());
+    Assertions.assertEquals(signedAggregate.getHash(), cosigned.getHash());
+    Assertions.assertEquals(signedAggregate.getSigner(), cosigned.getSigner());
+
+    byte[] payload = ConvertUtils.fromHexToBytes(cosigned.getPayload());
+    AggregateTransaction deserialized =
+        (AggregateTransaction) new BinarySerializationImpl().deserialize(payload);
+    Assertions.assertEquals(payload.length, deserialized.getSize());
+    Assertions.assertEquals(3, deserialized.getCosignatures().size());
+    for (int i = 0; i < cosigners.size(); i++) {
+      AggregateTransactionCosignature cosignature = deserialized.getCosignatures().get(i);
+      Assertions.assertEquals(cosigners.get(i).getPublicAccount(), cosignature.getSigner());
+      Assertions.assertEquals(
+          cosignatures.get(i).getSignature().toUpperCase(),
+          cosignature.getSignature().toUpperCase());
+    }
+    Assertions.assertEquals(cosigned.getPayload(), ConvertUtils.toHex(deserialized.serialize()));
+  }
+
+  @Test
+  void appendVerifiedCosignaturesRejectsInvalidCosignatures() {
+    String generationHash = "57F7DA205008026C776CB6AED843393F04CD458E0AA2D9F1D5F31A402072B2D6";
+    SignedTransaction signedAggregate = createBondedAggregate().signWith(account, generationHash);
+    Account cosigner = Account.generateNewAccount(NetworkType.MIJIN_TEST);
+    Account otherCosigner = Account.generateNewAccount(NetworkType.MIJIN_TEST);
+
+    CosignatureSignedTransaction valid =
+        cosigner.signCosignatureTransaction(signedAggregate.getHash());
+    CosignatureSignedTransaction otherHash =
+        otherCosigner.signCosignatureTransaction(
+            "6C610D61B3E6839AE85AC18465CF6AD06D8F17A4F145F720BD324880B4FBB12B");
+    CosignatureSignedTransaction wrongSigner =
+        new CosignatureSignedTransaction(
+            valid.getVersion(),
+            valid.getParentHash(),
+            valid.getSignature(),
+            otherCosigner.getPublicAccount());
+
+    AggregateTransaction.verifyCosignatures(
+        signedAggregate.getHash(), Collections.singletonList(valid));
+
+    IllegalArgumentException exception =
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () ->
+                AggregateTransaction.appendVerifiedCosignatures(
+                    signedAggregate, Arrays.asList(valid, otherHash, wrongSigner)));
+    Assertions.assertFalse(
+        exception.getMessage().contains(cosigner.getPublicAccount().getPublicKey().toHex()));
+    Assertions.assertTrue(
+        exception.getMessage().contains(otherCosigner.getPublicAccount().getPublicKey().toHex()));
+  }
 }
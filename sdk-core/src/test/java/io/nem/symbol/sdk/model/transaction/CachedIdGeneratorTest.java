@@ -0,0 +1,76 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.model.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.nem.symbol.sdk.model.mosaic.IllegalIdentifierException;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class CachedIdGeneratorTest {
+
+  @Test
+  void generatesSameIdsAsIdGenerator() {
+    CachedIdGenerator generator = new CachedIdGenerator();
+    for (String path : Arrays.asList("symbol", "symbol.xym", "foo.bar.baz", "foo.bar", "a-b_c.d")) {
+      assertArrayEquals(
+          IdGenerator.generateNamespacePathAsLongs(path),
+          generator.generateNamespacePathAsLongs(path));
+      assertEquals(IdGenerator.generateNamespaceId(path), generator.generateNamespaceId(path));
+      assertEquals(IdGenerator.generateNamespacePath(path), generator.generateNamespacePath(path));
+    }
+  }
+
+  @Test
+  void cachesParentPaths() {
+    CachedIdGenerator generator = new CachedIdGenerator();
+    generator.generateNamespaceIdAsLong("foo.bar.baz");
+    assertEquals(3, generator.size());
+    generator.generateNamespaceIdAsLong("foo.bar.other");
+    assertEquals(4, generator.size());
+    generator.clear();
+    assertEquals(0, generator.size());
+  }
+
+  @Test
+  void cacheIsBounded() {
+    CachedIdGenerator generator = new CachedIdGenerator(10);
+    IntStream.range(0, 100).forEach(i -> generator.generateNamespaceIdAsLong("name" + i));
+    assertEquals(
+        IdGenerator.generateNamespaceIdAsLong("name99"),
+        generator.generateNamespaceIdAsLong("name99"));
+    assertTrue(generator.size() <= 10);
+  }
+
+  @Test
+  void rejectsInvalidPaths() {
+    CachedIdGenerator generator = new CachedIdGenerator();
+    for (String path : Arrays.asList("", ".", "..", ".a", "a..a", "a..a.b", "A", "foo.B@r")) {
+      assertThrows(
+          IllegalIdentifierException.class,
+          () -> generator.generateNamespacePathAsLongs(path),
+          path);
+    }
+    assertArrayEquals(
+        IdGenerator.generateNamespacePathAsLongs("foo.bar."),
+        generator.generateNamespacePathAsLongs("foo.bar."));
+  }
+}
@@ -15,6 +15,7 @@
  */
 package io.nem.symbol.sdk.model.transaction;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -155,6 +156,32 @@ class IdGeneratorTest {
     assertEquals(new BigInteger("16440672666685223858"), ids.get(1));
   }
 
+  @Test
+  void namespacePathAsLongsMatchesBigIntegerPath() {
+    long[] ids = IdGenerator.generateNamespacePathAsLongs("nem.subnem");
+
+    assertEquals(2, ids.length);
+    assertEquals(new BigInteger("9562080086528621131").longValue(), ids[0]);
+    assertEquals(new BigInteger("16440672666685223858").longValue(), ids[1]);
+    assertEquals(ids[1], IdGenerator.generateNamespaceIdAsLong("nem.subnem"));
+    assertEquals(ids[1], IdGenerator.generateNamespaceIdAsLong("subnem", ids[0]));
+    assertArrayEquals(ids, IdGenerator.generateNamespacePathAsLongs("nem.subnem."));
+  }
+
+  @Test
+  void failedGenerationsDoNotChangeLaterIds() {
+    byte[] publicKey = new byte[32];
+    long mosaicId = IdGenerator.generateMosaicIdAsLong(1, publicKey);
+    long namespaceId = IdGenerator.generateNamespaceIdAsLong("nem.subnem");
+
+    assertThrows(NullPointerException.class, () -> IdGenerator.generateMosaicIdAsLong(1, null));
+    assertThrows(
+        IllegalIdentifierException.class, () -> IdGenerator.generateNamespaceIdAsLong("nem.$"));
+
+    assertEquals(mosaicId, IdGenerator.generateMosaicIdAsLong(1, publicKey));
+    assertEquals(namespaceId, IdGenerator.generateNamespaceIdAsLong("nem.subnem"));
+  }
+
   @Test
   void namespacePathSupportsMultiLevelNamespaces() {
     List<BigInteger> ids = new ArrayList<BigInteger>();
@@ -184,4 +184,21 @@ class TransactionTypeTest {
         TransactionType.rawValueOf(enumTypeDto.getValue()),
         enumTypeDto.getValue() + " not found. Transaction " + enumTypeDto.getValue());
   }
+
+  @ParameterizedTest
+  @EnumSource(TransactionType.class)
+  void rawValueOfRoundTrip(TransactionType transactionType) {
+    assertEquals(transactionType, TransactionType.rawValueOf(transactionType.getValue()));
+  }
+
+  @Test
+  void rawValueOfInvalidValues() {
+    Assertions.assertThrows(IllegalArgumentException.class, () -> TransactionType.rawValueOf(0));
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> TransactionType.rawValueOf(16706));
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> TransactionType.rawValueOf(Integer.MIN_VALUE));
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> TransactionType.rawValueOf(Integer.MAX_VALUE));
+  }
 }
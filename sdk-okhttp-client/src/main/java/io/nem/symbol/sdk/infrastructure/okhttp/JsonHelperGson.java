@@ -154,7 +154,17 @@ public class JsonHelperGson implements JsonHelper {
     if (instanceClass.isInstance(child)) {
       return (T) child;
     }
-    return parse(print(child), instanceClass);
+    try {
+      // Tree to object conversion, the json string is never printed nor parsed.
+      JsonElement tree =
+          child instanceof JsonElement ? (JsonElement) child : objectMapper.toJsonTree(child);
+      if (instanceClass.isInstance(tree)) {
+        return (T) tree;
+      }
+      return objectMapper.fromJson(tree, instanceClass);
+    } catch (Exception e) {
+      throw handleException(e, "Converting to " + instanceClass.getSimpleName());
+    }
   }
 
   @Override
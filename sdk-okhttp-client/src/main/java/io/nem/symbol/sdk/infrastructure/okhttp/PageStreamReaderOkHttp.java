@@ -0,0 +1,82 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure.okhttp;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import io.reactivex.ObservableEmitter;
+import io.reactivex.functions.Function;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * It reads the items of a rest page response ({"data": [...], "pagination": {...}})
+ * incrementally using a Gson {@link JsonReader}. Only one item is held in memory at a time, each
+ * one is mapped and emitted as soon as it has been read.
+ */
+public class PageStreamReaderOkHttp {
+
+  /** The name of the page attribute holding the items. */
+  private static final String DATA_FIELD = "data";
+
+  private final Gson gson;
+
+  /** @param gson the gson instance used to read the items. */
+  public PageStreamReaderOkHttp(Gson gson) {
+    this.gson = gson;
+  }
+
+  /**
+   * Reads the page items from the reader, mapping and emitting them one by one. It stops reading
+   * if the emitter is disposed. The emitter is not completed by this method.
+   *
+   * @param reader the response body reader.
+   * @param emitter the emitter of the mapped items.
+   * @param mapper the item mapper.
+   * @param <T> the type of the mapped items.
+   * @throws Exception if the response cannot be read or an item cannot be mapped.
+   */
+  public <T> void read(Reader reader, ObservableEmitter<T> emitter, Function<JsonObject, T> mapper)
+      throws Exception {
+    JsonReader jsonReader = new JsonReader(reader);
+    jsonReader.beginObject();
+    while (jsonReader.hasNext()) {
+      if (!DATA_FIELD.equals(jsonReader.nextName())) {
+        jsonReader.skipValue();
+        continue;
+      }
+      jsonReader.beginArray();
+      while (jsonReader.hasNext()) {
+        if (emitter.isDisposed()) {
+          return;
+        }
+        JsonObject item = readItem(jsonReader);
+        emitter.onNext(mapper.apply(item));
+      }
+      jsonReader.endArray();
+    }
+    jsonReader.endObject();
+  }
+
+  private JsonObject readItem(JsonReader jsonReader) throws IOException {
+    JsonObject item = gson.fromJson(jsonReader, JsonObject.class);
+    if (item == null) {
+      throw new IOException("Page item must not be null");
+    }
+    return item;
+  }
+}
@@ -39,6 +39,9 @@ import io.reactivex.Observable;
 import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.stream.Collectors;
+import okhttp3.Call;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
 
 /**
  * Transaction http repository.
@@ -52,10 +55,13 @@ public class TransactionRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImp
 
   private final GeneralTransactionMapper transactionMapper;
 
+  private final PageStreamReaderOkHttp pageStreamReader;
+
   public TransactionRepositoryOkHttpImpl(ApiClient apiClient) {
     super(apiClient);
     this.client = new TransactionRoutesApi(apiClient);
     this.transactionMapper = new GeneralTransactionMapper(getJsonHelper());
+    this.pageStreamReader = new PageStreamReaderOkHttp(apiClient.getJSON().getGson());
   }
 
   public TransactionRoutesApi getClient() {
@@ -69,8 +75,7 @@ public class TransactionRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImp
         call(callback).map(transactionInfoDTO -> mapTransaction(group, transactionInfoDTO)));
   }
 
-  private Transaction mapTransaction(
-      TransactionGroup group, TransactionInfoDTO transactionInfoDTO) {
+  private Transaction mapTransaction(TransactionGroup group, Object transactionInfoDTO) {
     return this.transactionMapper.mapToFactoryFromDto(transactionInfoDTO).group(group).build();
   }
 
@@ -136,6 +141,100 @@ public class TransactionRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImp
         });
   }
 
+  @Override
+  public Observable<Transaction> streamSearch(TransactionSearchCriteria criteria) {
+    Observable<Transaction> observable =
+        Observable.create(
+            emitter -> {
+              Call call = basicSearchCall(criteria);
+              emitter.setCancellable(call::cancel);
+              try (Response response = call.execute()) {
+                ResponseBody body = response.body();
+                if (!response.isSuccessful() || body == null) {
+                  throw new ApiException(
+                      response.message(),
+                      response.code(),
+                      response.headers().toMultimap(),
+                      body == null ? null : body.string());
+                }
+                pageStreamReader.read(
+                    body.charStream(),
+                    emitter,
+                    item -> mapTransaction(criteria.getGroup(), item));
+                emitter.onComplete();
+              } catch (Exception e) {
+                if (!emitter.isDisposed()) {
+                  emitter.onError(e);
+                }
+              }
+            });
+    return exceptionHandling(observable);
+  }
+
+  private Call basicSearchCall(TransactionSearchCriteria criteria) throws ApiException {
+    switch (criteria.getGroup()) {
+      case CONFIRMED:
+        return getClient()
+            .searchConfirmedTransactionsCall(
+                toDto(criteria.getAddress()),
+                toDto(criteria.getRecipientAddress()),
+                toDto(criteria.getSignerPublicKey()),
+                criteria.getHeight(),
+                criteria.getFromHeight(),
+                criteria.getToHeight(),
+                criteria.getFromTransferAmount(),
+                criteria.getToTransferAmount(),
+                toDto(criteria.getTransactionTypes()),
+                criteria.getEmbedded(),
+                toDto(criteria.getTransferMosaicId()),
+                criteria.getPageSize(),
+                criteria.getPageNumber(),
+                criteria.getOffset(),
+                toDto(criteria.getOrder()),
+                null);
+      case PARTIAL:
+        return getClient()
+            .searchPartialTransactionsCall(
+                toDto(criteria.getAddress()),
+                toDto(criteria.getRecipientAddress()),
+                toDto(criteria.getSignerPublicKey()),
+                criteria.getHeight(),
+                criteria.getFromHeight(),
+                criteria.getToHeight(),
+                criteria.getFromTransferAmount(),
+                criteria.getToTransferAmount(),
+                toDto(criteria.getTransactionTypes()),
+                criteria.getEmbedded(),
+                toDto(criteria.getTransferMosaicId()),
+                criteria.getPageSize(),
+                criteria.getPageNumber(),
+                criteria.getOffset(),
+                toDto(criteria.getOrder()),
+                null);
+
+      case UNCONFIRMED:
+        return getClient()
+            .searchUnconfirmedTransactionsCall(
+                toDto(criteria.getAddress()),
+                toDto(criteria.getRecipientAddress()),
+                toDto(criteria.getSignerPublicKey()),
+                criteria.getHeight(),
+                criteria.getFromHeight(),
+                criteria.getToHeight(),
+                criteria.getFromTransferAmount(),
+                criteria.getToTransferAmount(),
+                toDto(criteria.getTransactionTypes()),
+                criteria.getEmbedded(),
+                toDto(criteria.getTransferMosaicId()),
+                criteria.getPageSize(),
+                criteria.getPageNumber(),
+                criteria.getOffset(),
+                toDto(criteria.getOrder()),
+                null);
+    }
+    throw new IllegalArgumentException("Invalid group " + criteria.getGroup());
+  }
+
   private TransactionPage basicSearch(TransactionSearchCriteria criteria) throws ApiException {
     switch (criteria.getGroup()) {
       case CONFIRMED:
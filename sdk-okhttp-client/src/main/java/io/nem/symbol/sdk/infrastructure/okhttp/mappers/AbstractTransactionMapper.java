@@ -15,6 +15,7 @@
  */
 package io.nem.symbol.sdk.infrastructure.okhttp.mappers;
 
+import com.google.gson.JsonObject;
 import io.nem.symbol.core.crypto.PublicKey;
 import io.nem.symbol.sdk.infrastructure.TransactionMapper;
 import io.nem.symbol.sdk.model.account.PublicAccount;
@@ -68,11 +69,19 @@ public abstract class AbstractTransactionMapper<D, T extends Transaction>
           createTransactionInfo(transactionInfoDTO.getMeta(), transactionInfoDTO.getId());
       return createFactory(transactionInfo, transactionInfoDTO.getTransaction());
     }
-    TransactionInfoDTO transactionInfoDTO =
-        this.jsonHelper.convert(object, TransactionInfoDTO.class);
+    if (object instanceof TransactionInfoDTO) {
+      TransactionInfoDTO transactionInfoDTO = (TransactionInfoDTO) object;
+      TransactionInfo transactionInfo =
+          createTransactionInfo(transactionInfoDTO.getMeta(), transactionInfoDTO.getId());
+      return createFactory(transactionInfo, transactionInfoDTO.getTransaction());
+    }
+    // Any other object is decoded once into a json tree. The meta, id and transaction are read
+    // from the same tree instead of converting the whole object into a TransactionInfoDTO.
+    JsonObject json = this.jsonHelper.convert(object, JsonObject.class);
+    Object meta = this.jsonHelper.contains(json, "meta") ? json.get("meta") : null;
     TransactionInfo transactionInfo =
-        createTransactionInfo(transactionInfoDTO.getMeta(), transactionInfoDTO.getId());
-    return createFactory(transactionInfo, transactionInfoDTO.getTransaction());
+        createTransactionInfo(meta, this.jsonHelper.getString(json, "id"));
+    return createFactory(transactionInfo, json.get("transaction"));
   }
 
   protected TransactionInfo createTransactionInfo(Object meta, String id) {
@@ -119,28 +128,31 @@ public abstract class AbstractTransactionMapper<D, T extends Transaction>
 
   protected final TransactionFactory<T> createFactory(
       TransactionInfo transactionInfo, Object transactionDto) {
-    D transaction = getJsonHelper().convert(transactionDto, transactionDtoClass);
-    TransactionDTO transactionDTO = getJsonHelper().convert(transactionDto, TransactionDTO.class);
-    NetworkType networkType = NetworkType.rawValueOf(transactionDTO.getNetwork().getValue());
-    Deadline deadline =
-        transactionDTO.getDeadline() != null
-            ? new Deadline(transactionDTO.getDeadline())
-            : new Deadline(BigInteger.ZERO);
+    // The transaction json is decoded once into a tree. The specific dto is created from the tree
+    // and the common attributes are read from it directly, without a TransactionDTO copy.
+    JsonObject json = getJsonHelper().convert(transactionDto, JsonObject.class);
+    D transaction = getJsonHelper().convert(json, transactionDtoClass);
+    NetworkType networkType = NetworkType.rawValueOf(getJsonHelper().getInteger(json, "network"));
+    BigInteger deadlineValue = getJsonHelper().getBigInteger(json, "deadline");
+    Deadline deadline = new Deadline(deadlineValue != null ? deadlineValue : BigInteger.ZERO);
     TransactionFactory<T> factory = createFactory(networkType, deadline, transaction);
-    factory.version(transactionDTO.getVersion());
+    factory.version(getJsonHelper().getInteger(json, "version"));
 
-    if (transactionDTO.getSignerPublicKey() != null) {
-      factory.signer(
-          PublicAccount.createFromPublicKey(transactionDTO.getSignerPublicKey(), networkType));
+    String signerPublicKey = getJsonHelper().getString(json, "signerPublicKey");
+    if (signerPublicKey != null) {
+      factory.signer(PublicAccount.createFromPublicKey(signerPublicKey, networkType));
     }
-    if (transactionDTO.getSignature() != null) {
-      factory.signature(transactionDTO.getSignature());
+    String signature = getJsonHelper().getString(json, "signature");
+    if (signature != null) {
+      factory.signature(signature);
     }
-    if (transactionDTO.getMaxFee() != null) {
-      factory.maxFee(transactionDTO.getMaxFee());
+    BigInteger maxFee = getJsonHelper().getBigInteger(json, "maxFee");
+    if (maxFee != null) {
+      factory.maxFee(maxFee);
     }
-    if (transactionDTO.getSize() != null) {
-      factory.size(transactionDTO.getSize());
+    Long size = getJsonHelper().getLong(json, "size");
+    if (size != null) {
+      factory.size(size);
     }
     if (transactionInfo != null) {
       factory.transactionInfo(transactionInfo);
@@ -206,7 +218,7 @@ public abstract class AbstractTransactionMapper<D, T extends Transaction>
       dto.setSignature(transaction.getSignature().orElse(null));
     }
 
-    D specificDto = getJsonHelper().parse(getJsonHelper().print(dto), transactionDtoClass);
+    D specificDto = getJsonHelper().convert(dto, transactionDtoClass);
     copyToDto((T) transaction, specificDto);
     return specificDto;
   }
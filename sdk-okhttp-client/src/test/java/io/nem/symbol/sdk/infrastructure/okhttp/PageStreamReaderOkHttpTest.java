@@ -0,0 +1,110 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure.okhttp;
+
+import com.google.gson.Gson;
+import io.nem.symbol.sdk.infrastructure.okhttp.mappers.GeneralTransactionMapper;
+import io.nem.symbol.sdk.model.transaction.JsonHelper;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.model.transaction.TransactionType;
+import io.nem.symbol.sdk.openapi.okhttp_gson.model.TransactionInfoDTO;
+import io.reactivex.Observable;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/** Tests of {@link PageStreamReaderOkHttp}. */
+public class PageStreamReaderOkHttpTest {
+
+  private final Gson gson = JsonHelperGson.creatGson(false);
+
+  private final JsonHelper jsonHelper = new JsonHelperGson(gson);
+
+  private final GeneralTransactionMapper mapper = new GeneralTransactionMapper(jsonHelper);
+
+  private final PageStreamReaderOkHttp reader = new PageStreamReaderOkHttp(gson);
+
+  @Test
+  void shouldReadPageItems() {
+    List<String> fixtures =
+        Arrays.asList(
+            "standaloneTransferTransaction.json",
+            "aggregateTransferTransaction.json",
+            "standaloneSecretLockTransaction.json");
+    StringBuilder page = new StringBuilder("{\"pagination\":{\"pageNumber\":1,\"pageSize\":3}");
+    page.append(",\"data\":[");
+    for (int i = 0; i < fixtures.size(); i++) {
+      if (i > 0) {
+        page.append(",");
+      }
+      page.append(TestHelperOkHttp.loadResource("transaction-" + fixtures.get(i)));
+    }
+    page.append("],\"extra\":{\"ignored\":[1,2,3]}}");
+
+    List<Transaction> transactions =
+        Observable.<Transaction>create(
+                emitter -> {
+                  reader.read(
+                      new StringReader(page.toString()), emitter, mapper::mapFromDto);
+                  emitter.onComplete();
+                })
+            .toList()
+            .blockingGet();
+
+    Assertions.assertEquals(fixtures.size(), transactions.size());
+    Assertions.assertEquals(TransactionType.TRANSFER, transactions.get(0).getType());
+    Assertions.assertEquals(TransactionType.AGGREGATE_COMPLETE, transactions.get(1).getType());
+    Assertions.assertEquals(TransactionType.SECRET_LOCK, transactions.get(2).getType());
+
+    for (int i = 0; i < fixtures.size(); i++) {
+      TransactionInfoDTO dto = TestHelperOkHttp.loadTransactionInfoDTO(fixtures.get(i));
+      Assertions.assertEquals(
+          jsonHelper.print(mapper.mapToDto(mapper.mapFromDto(dto))),
+          jsonHelper.print(mapper.mapToDto(transactions.get(i))));
+    }
+  }
+
+  @Test
+  void shouldStopWhenDisposed() {
+    String item = TestHelperOkHttp.loadResource("transaction-standaloneTransferTransaction.json");
+    String page = "{\"data\":[" + item + "," + item + "," + item + "]}";
+
+    List<Transaction> transactions =
+        Observable.<Transaction>create(
+                emitter -> {
+                  reader.read(new StringReader(page), emitter, mapper::mapFromDto);
+                  emitter.onComplete();
+                })
+            .take(1)
+            .toList()
+            .blockingGet();
+
+    Assertions.assertEquals(1, transactions.size());
+  }
+
+  @Test
+  void shouldFailOnInvalidPage() {
+    Observable<Transaction> observable =
+        Observable.create(
+            emitter -> {
+              reader.read(new StringReader("[]"), emitter, mapper::mapFromDto);
+              emitter.onComplete();
+            });
+    Assertions.assertThrows(IllegalStateException.class, observable::blockingFirst);
+  }
+}
@@ -34,7 +34,9 @@ import io.reactivex.Observable;
 import io.reactivex.ObservableSource;
 import io.reactivex.functions.Function;
 import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
 import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
 import io.vertx.reactivex.core.impl.AsyncResultSingle;
 import java.math.BigInteger;
 import java.util.ArrayList;
@@ -53,19 +55,47 @@ public abstract class AbstractRepositoryVertxImpl {
 
   private final JsonHelper jsonHelper;
 
+  /** If the responses are delivered on the vertx context that subscribed to the call. */
+  private final boolean callerContextDelivery;
+
   public AbstractRepositoryVertxImpl(ApiClient apiClient) {
     this.jsonHelper = new JsonHelperJackson2(apiClient.getObjectMapper());
+    this.callerContextDelivery =
+        apiClient instanceof ApiClientVertx
+            && ((ApiClientVertx) apiClient).isCallerContextDelivery();
   }
 
   public <T> Observable<T> call(Consumer<Handler<AsyncResult<T>>> callback) {
     IllegalArgumentException originalException = new IllegalArgumentException("Original call");
     Function<? super Throwable, ? extends ObservableSource<? extends T>> resumeFunction =
         this.onError(originalException);
-    return new AsyncResultSingle<T>(callback::accept)
+    Consumer<Handler<AsyncResult<T>>> contextCallback =
+        callerContextDelivery ? onCallerContext(callback) : callback;
+    return new AsyncResultSingle<T>(contextCallback::accept)
         .toObservable()
         .onErrorResumeNext(resumeFunction);
   }
 
+  /**
+   * It wraps the callback so the result handler is executed on the vertx context that subscribed
+   * to the call. If the subscription doesn't happen in a vertx context, the callback is used as is.
+   *
+   * @param callback the original callback
+   * @param <T> the response type
+   * @return the wrapped callback.
+   */
+  static <T> Consumer<Handler<AsyncResult<T>>> onCallerContext(
+      Consumer<Handler<AsyncResult<T>>> callback) {
+    return handler -> {
+      Context context = Vertx.currentContext();
+      if (context == null) {
+        callback.accept(handler);
+      } else {
+        callback.accept(result -> context.runOnContext(v -> handler.handle(result)));
+      }
+    };
+  }
+
   public <T, R> Observable<R> call(
       Consumer<Handler<AsyncResult<T>>> callback, Function<? super T, ? extends R> mapper) {
     return exceptionHandling(this.call(callback).map(mapper));
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure.vertx;
+
+import io.nem.symbol.sdk.openapi.vertx.invoker.ApiClient;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.client.WebClient;
+import java.util.function.Supplier;
+
+/**
+ * {@link ApiClient} that uses the factory's {@link WebClient} and knows how the repositories should
+ * deliver the responses.
+ */
+public class ApiClientVertx extends ApiClient {
+
+  private final WebClient webClient;
+
+  private final Supplier<HttpClient> httpClient;
+
+  private final boolean callerContextDelivery;
+
+  /**
+   * Constructor.
+   *
+   * @param vertx the vertx instance.
+   * @param basePath the rest base url.
+   * @param webClient the web client used to call rest.
+   * @param httpClient the provider of the http client used to stream rest responses.
+   * @param callerContextDelivery if the responses are delivered on the caller's context.
+   */
+  public ApiClientVertx(
+      Vertx vertx,
+      String basePath,
+      WebClient webClient,
+      Supplier<HttpClient> httpClient,
+      boolean callerContextDelivery) {
+    super(vertx, new JsonObject().put("basePath", basePath));
+    this.webClient = webClient;
+    this.httpClient = httpClient;
+    this.callerContextDelivery = callerContextDelivery;
+  }
+
+  @Override
+  public synchronized WebClient getWebClient() {
+    return webClient;
+  }
+
+  /**
+   * @return the http client used when the response status needs to be known before the body is
+   *     read, like streamed searches.
+   */
+  public HttpClient getHttpClient() {
+    return httpClient.get();
+  }
+
+  /** @return if the responses are delivered on the vertx context that subscribed to the call. */
+  public boolean isCallerContextDelivery() {
+    return callerContextDelivery;
+  }
+}
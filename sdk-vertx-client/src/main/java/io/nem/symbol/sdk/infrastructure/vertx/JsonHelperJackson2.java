@@ -17,6 +17,7 @@ package io.nem.symbol.sdk.infrastructure.vertx;
 
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.TreeNode;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.MapperFeature;
@@ -145,7 +146,15 @@ public class JsonHelperJackson2 implements JsonHelper {
     if (instanceClass.isInstance(child)) {
       return (T) child;
     }
-    return parse(print(child), instanceClass);
+    try {
+      // Tree to object conversion, the json string is never printed nor parsed.
+      if (child instanceof TreeNode) {
+        return objectMapper.treeToValue((TreeNode) child, instanceClass);
+      }
+      return objectMapper.convertValue(child, instanceClass);
+    } catch (Exception e) {
+      throw handleException(e, "Converting to " + instanceClass.getSimpleName());
+    }
   }
 
   @Override
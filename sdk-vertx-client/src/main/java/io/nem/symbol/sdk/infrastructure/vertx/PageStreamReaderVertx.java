@@ -0,0 +1,210 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure.vertx;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import io.reactivex.ObservableEmitter;
+import io.reactivex.functions.Function;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.WriteStream;
+import java.io.IOException;
+
+/**
+ * It reads the items of a rest page response ({"data": [...], "pagination": {...}})
+ * incrementally, chunk by chunk, using a Jackson non-blocking parser. Each item is mapped and
+ * emitted as soon as its last byte has been received.
+ *
+ * <p>This object is the {@link WriteStream} the http client pumps the response body into.
+ *
+ * @param <T> the type of the mapped items.
+ */
+public class PageStreamReaderVertx<T> implements WriteStream<Buffer> {
+
+  /** The name of the page attribute holding the items. */
+  private static final String DATA_FIELD = "data";
+
+  /** The json depth of the page items, page object (1), data array (2) and item object (3). */
+  private static final int ITEM_DEPTH = 3;
+
+  private final ObjectMapper objectMapper;
+
+  private final ObservableEmitter<T> emitter;
+
+  private final Function<JsonNode, T> mapper;
+
+  private final JsonParser parser;
+
+  private final ByteArrayFeeder feeder;
+
+  /** The current json depth. */
+  private int depth;
+
+  /** The last field name of the page object. */
+  private String pageField;
+
+  /** If the parser is inside the data array. */
+  private boolean inData;
+
+  /** The tokens of the item being read, null if no item is being read. */
+  private TokenBuffer item;
+
+  /** The first error found when reading the page. */
+  private Throwable error;
+
+  private Handler<Throwable> exceptionHandler;
+
+  /**
+   * Constructor.
+   *
+   * @param objectMapper the object mapper.
+   * @param emitter the emitter of the mapped items.
+   * @param mapper the item mapper.
+   * @throws IOException if the parser cannot be created.
+   */
+  public PageStreamReaderVertx(
+      ObjectMapper objectMapper, ObservableEmitter<T> emitter, Function<JsonNode, T> mapper)
+      throws IOException {
+    this.objectMapper = objectMapper;
+    this.emitter = emitter;
+    this.mapper = mapper;
+    this.parser = objectMapper.getFactory().createNonBlockingByteArrayParser();
+    this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+  }
+
+  @Override
+  public PageStreamReaderVertx<T> write(Buffer data) {
+    if (error == null) {
+      try {
+        byte[] bytes = data.getBytes();
+        feeder.feedInput(bytes, 0, bytes.length);
+        process();
+      } catch (Exception e) {
+        fail(e);
+      }
+    }
+    return this;
+  }
+
+  @Override
+  public void end() {
+    if (error == null) {
+      try {
+        feeder.endOfInput();
+        process();
+        if (depth != 0) {
+          throw new IOException("Unexpected end of page");
+        }
+      } catch (Exception e) {
+        fail(e);
+      }
+    }
+  }
+
+  /**
+   * It completes the emitter, or raises the error if the page couldn't be read. It should be
+   * called once the response has been fully received and it's known to be successful.
+   */
+  public void complete() {
+    if (emitter.isDisposed()) {
+      return;
+    }
+    if (error != null) {
+      emitter.onError(error);
+    } else {
+      emitter.onComplete();
+    }
+  }
+
+  private void process() throws Exception {
+    JsonToken token = parser.nextToken();
+    while (token != null && token != JsonToken.NOT_AVAILABLE) {
+      if (emitter.isDisposed()) {
+        return;
+      }
+      handle(token);
+      token = parser.nextToken();
+    }
+  }
+
+  private void handle(JsonToken token) throws Exception {
+    if (item != null) {
+      item.copyCurrentEvent(parser);
+      updateDepth(token);
+      if (depth < ITEM_DEPTH) {
+        JsonNode node = objectMapper.readTree(item.asParser(objectMapper));
+        item = null;
+        emitter.onNext(mapper.apply(node));
+      }
+      return;
+    }
+    if (depth == 0 && token != JsonToken.START_OBJECT) {
+      throw new IllegalArgumentException("Page json must be an object but got " + token);
+    }
+    updateDepth(token);
+    if (token == JsonToken.FIELD_NAME && depth == 1) {
+      pageField = parser.getCurrentName();
+    } else if (token == JsonToken.START_ARRAY && depth == 2 && DATA_FIELD.equals(pageField)) {
+      inData = true;
+    } else if (token == JsonToken.END_ARRAY && depth == 1) {
+      inData = false;
+    } else if (token == JsonToken.START_OBJECT && depth == ITEM_DEPTH && inData) {
+      item = new TokenBuffer(objectMapper, false);
+      item.copyCurrentEvent(parser);
+    }
+  }
+
+  private void updateDepth(JsonToken token) {
+    if (token.isStructStart()) {
+      depth++;
+    } else if (token.isStructEnd()) {
+      depth--;
+    }
+  }
+
+  private void fail(Exception e) {
+    error = e;
+    if (exceptionHandler != null) {
+      exceptionHandler.handle(e);
+    }
+  }
+
+  @Override
+  public PageStreamReaderVertx<T> exceptionHandler(Handler<Throwable> handler) {
+    this.exceptionHandler = handler;
+    return this;
+  }
+
+  @Override
+  public PageStreamReaderVertx<T> setWriteQueueMaxSize(int maxSize) {
+    return this;
+  }
+
+  @Override
+  public boolean writeQueueFull() {
+    return false;
+  }
+
+  @Override
+  public PageStreamReaderVertx<T> drainHandler(Handler<Void> handler) {
+    return this;
+  }
+}
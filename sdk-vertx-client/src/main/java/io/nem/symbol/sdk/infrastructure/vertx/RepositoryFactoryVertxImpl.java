@@ -39,8 +39,8 @@ import io.nem.symbol.sdk.api.TransactionStatusRepository;
 import io.nem.symbol.sdk.infrastructure.RepositoryFactoryBase;
 import io.nem.symbol.sdk.openapi.vertx.invoker.ApiClient;
 import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
 import io.vertx.core.json.Json;
-import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.client.WebClient;
 
 /**
@@ -56,21 +56,70 @@ public class RepositoryFactoryVertxImpl extends RepositoryFactoryBase {
 
   private final Vertx vertx;
 
+  /** If the vertx instance has been created by this factory and it should be closed. */
+  private final boolean ownedVertx;
+
+  /** If the web client has been created by this factory and it should be closed. */
+  private final boolean ownedWebClient;
+
+  /** The http client shared by all the listeners, lazily created. */
+  private HttpClient httpClient;
+
   public RepositoryFactoryVertxImpl(String baseUrl) {
     this(new RepositoryFactoryConfiguration(baseUrl));
   }
 
   public RepositoryFactoryVertxImpl(RepositoryFactoryConfiguration configuration) {
+    this(configuration, new VertxClientConfiguration());
+  }
+
+  /**
+   * Creates a factory that reuses an existing {@link Vertx} instance. The instance is not closed
+   * when the factory is closed.
+   *
+   * @param configuration the repository configuration.
+   * @param vertx the caller's vertx instance.
+   */
+  public RepositoryFactoryVertxImpl(RepositoryFactoryConfiguration configuration, Vertx vertx) {
+    this(configuration, new VertxClientConfiguration().withVertx(vertx));
+  }
+
+  /**
+   * Creates a factory that reuses an existing {@link Vertx} instance and {@link WebClient}. They
+   * are not closed when the factory is closed.
+   *
+   * @param configuration the repository configuration.
+   * @param vertx the caller's vertx instance.
+   * @param webClient the caller's web client.
+   */
+  public RepositoryFactoryVertxImpl(
+      RepositoryFactoryConfiguration configuration, Vertx vertx, WebClient webClient) {
+    this(configuration, new VertxClientConfiguration().withVertx(vertx).withWebClient(webClient));
+  }
+
+  /**
+   * Creates a factory with vertx specific settings.
+   *
+   * @param configuration the repository configuration.
+   * @param clientConfiguration the vertx specific configuration.
+   */
+  public RepositoryFactoryVertxImpl(
+      RepositoryFactoryConfiguration configuration, VertxClientConfiguration clientConfiguration) {
     super(configuration);
-    vertx = Vertx.vertx();
-    webClient = WebClient.create(vertx);
+    ownedVertx = clientConfiguration.getVertx() == null;
+    vertx = ownedVertx ? Vertx.vertx() : clientConfiguration.getVertx();
+    ownedWebClient = clientConfiguration.getWebClient() == null;
+    webClient =
+        ownedWebClient
+            ? WebClient.create(vertx, clientConfiguration.getWebClientOptions())
+            : clientConfiguration.getWebClient();
     this.apiClient =
-        new ApiClient(vertx, new JsonObject().put("basePath", getBaseUrl())) {
-          @Override
-          public synchronized WebClient getWebClient() {
-            return webClient;
-          }
-        };
+        new ApiClientVertx(
+            vertx,
+            getBaseUrl(),
+            webClient,
+            this::getHttpClient,
+            clientConfiguration.isCallerContextDelivery());
     // Note: For some reason the generated code use to mapper instances.
     JsonHelperJackson2.configureMapper(apiClient.getObjectMapper());
     JsonHelperJackson2.configureMapper(Json.mapper);
@@ -164,7 +213,7 @@ public class RepositoryFactoryVertxImpl extends RepositoryFactoryBase {
   @Override
   public Listener createListener() {
     return new ListenerVertx(
-        vertx.createHttpClient(),
+        getHttpClient(),
         getBaseUrl(),
         createNamespaceRepository(),
         createMultisigRepository(),
@@ -176,14 +225,34 @@ public class RepositoryFactoryVertxImpl extends RepositoryFactoryBase {
     return new JsonSerializationVertx(apiClient.getObjectMapper());
   }
 
+  private synchronized HttpClient getHttpClient() {
+    if (httpClient == null) {
+      httpClient = vertx.createHttpClient();
+    }
+    return httpClient;
+  }
+
   @Override
   public void close() {
-
-    vertx.close();
-    try {
-      webClient.close();
-    } catch (IllegalStateException e) {
-      // Failing quietly
+    synchronized (this) {
+      if (httpClient != null) {
+        try {
+          httpClient.close();
+        } catch (IllegalStateException e) {
+          // Failing quietly
+        }
+        httpClient = null;
+      }
+    }
+    if (ownedVertx) {
+      vertx.close();
+    }
+    if (ownedWebClient) {
+      try {
+        webClient.close();
+      } catch (IllegalStateException e) {
+        // Failing quietly
+      }
     }
   }
 }
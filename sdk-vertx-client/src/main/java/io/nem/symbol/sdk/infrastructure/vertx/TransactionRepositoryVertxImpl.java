@@ -29,6 +29,7 @@ import io.nem.symbol.sdk.model.transaction.TransactionType;
 import io.nem.symbol.sdk.openapi.vertx.api.TransactionRoutesApi;
 import io.nem.symbol.sdk.openapi.vertx.api.TransactionRoutesApiImpl;
 import io.nem.symbol.sdk.openapi.vertx.invoker.ApiClient;
+import io.nem.symbol.sdk.openapi.vertx.invoker.ApiException;
 import io.nem.symbol.sdk.openapi.vertx.model.AnnounceTransactionInfoDTO;
 import io.nem.symbol.sdk.openapi.vertx.model.Cosignature;
 import io.nem.symbol.sdk.openapi.vertx.model.TransactionIds;
@@ -39,9 +40,16 @@ import io.nem.symbol.sdk.openapi.vertx.model.TransactionTypeEnum;
 import io.reactivex.Observable;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.streams.Pump;
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import org.apache.commons.lang3.Validate;
 
 /**
  * Transaction http repository.
@@ -55,8 +63,11 @@ public class TransactionRepositoryVertxImpl extends AbstractRepositoryVertxImpl
 
   private final TransactionMapper transactionMapper;
 
+  private final ApiClient apiClient;
+
   public TransactionRepositoryVertxImpl(ApiClient apiClient) {
     super(apiClient);
+    this.apiClient = apiClient;
     client = new TransactionRoutesApiImpl(apiClient);
     transactionMapper = new GeneralTransactionMapper(getJsonHelper());
   }
@@ -82,6 +93,95 @@ public class TransactionRepositoryVertxImpl extends AbstractRepositoryVertxImpl
                 }));
   }
 
+  @Override
+  public Observable<Transaction> streamSearch(TransactionSearchCriteria criteria) {
+    Observable<Transaction> observable =
+        Observable.create(
+            emitter -> {
+              PageStreamReaderVertx<Transaction> reader =
+                  new PageStreamReaderVertx<>(
+                      apiClient.getObjectMapper(),
+                      emitter,
+                      item -> mapTransaction(criteria.getGroup(), item));
+              Handler<Throwable> onError =
+                  e -> {
+                    if (!emitter.isDisposed()) {
+                      emitter.onError(e);
+                    }
+                  };
+              HttpClientRequest request =
+                  getHttpClient()
+                      .getAbs(
+                          createSearchUri(criteria),
+                          response -> {
+                            response.exceptionHandler(onError);
+                            int statusCode = response.statusCode();
+                            if (statusCode < 200 || statusCode >= 300) {
+                              // The error body is buffered for the exception, never piped into
+                              // the page reader.
+                              response.bodyHandler(
+                                  body ->
+                                      onError.handle(
+                                          new ApiException(
+                                              response.statusMessage(),
+                                              statusCode,
+                                              response.headers(),
+                                              body.toString())));
+                              return;
+                            }
+                            response.endHandler(
+                                v -> {
+                                  reader.end();
+                                  reader.complete();
+                                });
+                            Pump.pump(response, reader).start();
+                          });
+              request.exceptionHandler(onError);
+              request.putHeader("Accept", "application/json").end();
+            });
+    return exceptionHandling(observable);
+  }
+
+  private HttpClient getHttpClient() {
+    Validate.isTrue(
+        apiClient instanceof ApiClientVertx, "Stream search requires an ApiClientVertx");
+    return ((ApiClientVertx) apiClient).getHttpClient();
+  }
+
+  private String createSearchUri(TransactionSearchCriteria criteria)
+      throws UnsupportedEncodingException {
+    List<String> query = new ArrayList<>();
+    addQueryParam(query, "address", toDto(criteria.getAddress()));
+    addQueryParam(query, "recipientAddress", toDto(criteria.getRecipientAddress()));
+    addQueryParam(query, "signerPublicKey", toDto(criteria.getSignerPublicKey()));
+    addQueryParam(query, "height", criteria.getHeight());
+    addQueryParam(query, "fromHeight", criteria.getFromHeight());
+    addQueryParam(query, "toHeight", criteria.getToHeight());
+    addQueryParam(query, "fromTransferAmount", criteria.getFromTransferAmount());
+    addQueryParam(query, "toTransferAmount", criteria.getToTransferAmount());
+    if (criteria.getTransactionTypes() != null) {
+      for (TransactionType type : criteria.getTransactionTypes()) {
+        addQueryParam(query, "type", type.getValue());
+      }
+    }
+    addQueryParam(query, "embedded", criteria.getEmbedded());
+    addQueryParam(query, "transferMosaicId", toDto(criteria.getTransferMosaicId()));
+    addQueryParam(query, "pageSize", criteria.getPageSize());
+    addQueryParam(query, "pageNumber", criteria.getPageNumber());
+    addQueryParam(query, "offset", criteria.getOffset());
+    addQueryParam(
+        query, "order", criteria.getOrder() == null ? null : criteria.getOrder().getValue());
+    String path = apiClient.getBasePath() + "/transactions/" + criteria.getGroup().getValue();
+    return query.isEmpty() ? path : path + "?" + String.join("&", query);
+  }
+
+  private static void addQueryParam(List<String> query, String name, Object value)
+      throws UnsupportedEncodingException {
+    if (value != null) {
+      query.add(name + "=" + URLEncoder.encode(value.toString(), "UTF-8"));
+    }
+  }
+
   private List<TransactionTypeEnum> toDto(List<TransactionType> transactionTypes) {
     return transactionTypes == null
         ? null
@@ -247,7 +347,7 @@ public class TransactionRepositoryVertxImpl extends AbstractRepositoryVertxImpl
     throw new IllegalArgumentException("Invalid group " + criteria.getGroup());
   }
 
-  private Transaction mapTransaction(TransactionGroup group, TransactionInfoDTO transactionDto) {
+  private Transaction mapTransaction(TransactionGroup group, Object transactionDto) {
     return transactionMapper.mapToFactoryFromDto(transactionDto).group(group).build();
   }
 }
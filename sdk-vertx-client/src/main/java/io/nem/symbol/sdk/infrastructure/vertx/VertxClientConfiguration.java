@@ -0,0 +1,131 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure.vertx;
+
+import io.vertx.core.Vertx;
+import io.vertx.ext.web.client.WebClient;
+import io.vertx.ext.web.client.WebClientOptions;
+
+/**
+ * Vertx specific settings used when creating a {@link RepositoryFactoryVertxImpl}.
+ *
+ * <p>By default, the factory creates and owns its own {@link Vertx} and {@link WebClient}.
+ * Applications already running Vertx can provide their instances so no extra event loops and
+ * thread pools are created. Provided instances are not closed when the factory is closed.
+ */
+public class VertxClientConfiguration {
+
+  /** The caller provided vertx instance. If not provided, the factory creates its own. */
+  private Vertx vertx;
+
+  /** The caller provided web client. If not provided, the factory creates its own. */
+  private WebClient webClient;
+
+  /** The options used when the factory creates its own web client. */
+  private WebClientOptions webClientOptions = new WebClientOptions();
+
+  /**
+   * If the repositories should deliver the rest responses on the vertx context that subscribed to
+   * the call (when the subscription happens in a vertx context).
+   */
+  private boolean callerContextDelivery;
+
+  /**
+   * Helper method to reuse an existing {@link Vertx} instance.
+   *
+   * @param vertx the vertx instance.
+   * @return this configuration.
+   */
+  public VertxClientConfiguration withVertx(Vertx vertx) {
+    this.vertx = vertx;
+    return this;
+  }
+
+  /**
+   * Helper method to reuse an existing {@link WebClient}. The web client should have been created
+   * from the provided {@link Vertx} instance.
+   *
+   * @param webClient the web client.
+   * @return this configuration.
+   */
+  public VertxClientConfiguration withWebClient(WebClient webClient) {
+    this.webClient = webClient;
+    return this;
+  }
+
+  /**
+   * Helper method to setup the options used when the factory creates its own web client.
+   *
+   * @param webClientOptions the web client options.
+   * @return this configuration.
+   */
+  public VertxClientConfiguration withWebClientOptions(WebClientOptions webClientOptions) {
+    this.webClientOptions = webClientOptions;
+    return this;
+  }
+
+  /**
+   * Helper method to setup the max number of pooled connections to the rest gateway.
+   *
+   * @param maxPoolSize the max pool size.
+   * @return this configuration.
+   */
+  public VertxClientConfiguration withMaxPoolSize(int maxPoolSize) {
+    this.webClientOptions.setMaxPoolSize(maxPoolSize);
+    return this;
+  }
+
+  /**
+   * Helper method to enable http pipelining, sending several requests per connection without
+   * waiting for the previous responses.
+   *
+   * @param pipelining if pipelining is enabled.
+   * @param pipeliningLimit the max number of pipelined requests per connection.
+   * @return this configuration.
+   */
+  public VertxClientConfiguration withPipelining(boolean pipelining, int pipeliningLimit) {
+    this.webClientOptions.setPipelining(pipelining);
+    this.webClientOptions.setPipeliningLimit(pipeliningLimit);
+    return this;
+  }
+
+  /**
+   * Helper method to deliver the rest responses on the vertx context that subscribed to the call.
+   *
+   * @param callerContextDelivery if the responses are delivered on the caller's context.
+   * @return this configuration.
+   */
+  public VertxClientConfiguration withCallerContextDelivery(boolean callerContextDelivery) {
+    this.callerContextDelivery = callerContextDelivery;
+    return this;
+  }
+
+  public Vertx getVertx() {
+    return vertx;
+  }
+
+  public WebClient getWebClient() {
+    return webClient;
+  }
+
+  public WebClientOptions getWebClientOptions() {
+    return webClientOptions;
+  }
+
+  public boolean isCallerContextDelivery() {
+    return callerContextDelivery;
+  }
+}
@@ -15,16 +15,16 @@
  */
 package io.nem.symbol.sdk.infrastructure.vertx.mappers;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import io.nem.symbol.sdk.infrastructure.TransactionMapper;
+import io.nem.symbol.sdk.infrastructure.TransactionTypeRegistry;
 import io.nem.symbol.sdk.model.transaction.JsonHelper;
 import io.nem.symbol.sdk.model.transaction.Transaction;
 import io.nem.symbol.sdk.model.transaction.TransactionFactory;
 import io.nem.symbol.sdk.model.transaction.TransactionType;
-import java.util.HashMap;
-import java.util.Map;
+import io.nem.symbol.sdk.openapi.vertx.model.TransactionInfoDTO;
 import org.apache.commons.lang3.Validate;
 import org.apache.commons.lang3.exception.ExceptionUtils;
-import org.apache.commons.lang3.tuple.Pair;
 
 /**
  * Entry point for the transaction mapping. This mapper should support all the known transactions.
@@ -36,8 +36,8 @@ public class GeneralTransactionMapper implements TransactionMapper {
 
   private final JsonHelper jsonHelper;
 
-  private final Map<Pair<TransactionType, Integer>, TransactionMapper> transactionMappers =
-      new HashMap<>();
+  private final TransactionTypeRegistry<TransactionMapper> transactionMappers =
+      new TransactionTypeRegistry<>("TransactionMapper");
 
   public GeneralTransactionMapper(JsonHelper jsonHelper) {
     this.jsonHelper = jsonHelper;
@@ -71,23 +71,37 @@ public class GeneralTransactionMapper implements TransactionMapper {
         new AggregateTransactionMapper(jsonHelper, TransactionType.MOSAIC_SUPPLY_REVOCATION, this));
   }
 
-  private void register(TransactionMapper mapper) {
-    if (transactionMappers.put(Pair.of(mapper.getTransactionType(), mapper.getVersion()), mapper)
-        != null) {
-      throw new IllegalArgumentException(
-          "TransactionMapper for type "
-              + mapper.getTransactionType()
-              + " version "
-              + mapper.getVersion()
-              + " was already registered!");
-    }
+  /**
+   * It registers a mapper. This is the extension point to support new transaction versions.
+   *
+   * @param mapper the mapper to be registered.
+   * @throws IllegalArgumentException if there is a mapper already registered for the same
+   *     transaction type and version.
+   */
+  public void register(TransactionMapper mapper) {
+    Validate.notNull(mapper, "mapper must not be null");
+    transactionMappers.register(mapper.getTransactionType(), mapper.getVersion(), mapper);
   }
 
   @Override
   public TransactionFactory<?> mapToFactoryFromDto(Object transactionInfoDTO) {
     try {
       Validate.notNull(transactionInfoDTO, "transactionInfoDTO must not be null");
-      return resolveMapper(transactionInfoDTO).mapToFactoryFromDto(transactionInfoDTO);
+      if (transactionInfoDTO instanceof TransactionInfoDTO) {
+        // Typed dtos are dispatched directly. Only their transaction is decoded into a json tree,
+        // the discriminator is read from it and the resolved mapper reuses it.
+        TransactionInfoDTO dto = (TransactionInfoDTO) transactionInfoDTO;
+        JsonNode transaction = jsonHelper.convert(dto.getTransaction(), JsonNode.class);
+        TransactionInfoDTO typedDto = new TransactionInfoDTO();
+        typedDto.setId(dto.getId());
+        typedDto.setMeta(dto.getMeta());
+        typedDto.setTransaction(transaction);
+        return resolveMapper(transaction).mapToFactoryFromDto(typedDto);
+      }
+      // Any other object is decoded into a json tree once. The type discriminator is read from the
+      // tree and the same tree is handed to the resolved mapper.
+      JsonNode json = jsonHelper.convert(transactionInfoDTO, JsonNode.class);
+      return resolveMapper(json.get("transaction")).mapToFactoryFromDto(json);
     } catch (Exception e) {
       throw new IllegalArgumentException(
           "Unknown error mapping transaction: "
@@ -116,13 +130,14 @@ public class GeneralTransactionMapper implements TransactionMapper {
     return null;
   }
 
-  private TransactionMapper resolveMapper(Object transactionInfoJson) {
-    Integer type = getJsonHelper().getInteger(transactionInfoJson, "transaction", "type");
+  private TransactionMapper resolveMapper(JsonNode transactionJson) {
+    Integer type =
+        transactionJson == null ? null : getJsonHelper().getInteger(transactionJson, "type");
     if (type == null) {
       throw new IllegalArgumentException(
           "Transaction cannot be mapped, object does not not have transaction type.");
     }
-    Integer version = getJsonHelper().getInteger(transactionInfoJson, "transaction", "version");
+    Integer version = getJsonHelper().getInteger(transactionJson, "version");
     if (version == null) {
       throw new IllegalArgumentException(
           "Transaction cannot be mapped, object does not not have transaction version.");
@@ -132,12 +147,7 @@ public class GeneralTransactionMapper implements TransactionMapper {
   }
 
   private TransactionMapper resolveMapper(TransactionType transactionType, int version) {
-    TransactionMapper mapper = transactionMappers.get(Pair.of(transactionType, version));
-    if (mapper == null) {
-      throw new UnsupportedOperationException(
-          "Unimplemented Transaction type " + transactionType + " version " + version);
-    }
-    return mapper;
+    return transactionMappers.resolve(transactionType, version);
   }
 
   public JsonHelper getJsonHelper() {
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure.vertx;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.nem.symbol.sdk.infrastructure.vertx.mappers.GeneralTransactionMapper;
+import io.nem.symbol.sdk.model.transaction.JsonHelper;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.model.transaction.TransactionType;
+import io.nem.symbol.sdk.openapi.vertx.model.TransactionInfoDTO;
+import io.reactivex.Observable;
+import io.vertx.core.buffer.Buffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/** Tests of {@link PageStreamReaderVertx}. */
+public class PageStreamReaderVertxTest {
+
+  private final ObjectMapper objectMapper = JsonHelperJackson2.configureMapper(new ObjectMapper());
+
+  private final JsonHelper jsonHelper = new JsonHelperJackson2(objectMapper);
+
+  private final GeneralTransactionMapper mapper = new GeneralTransactionMapper(jsonHelper);
+
+  /**
+   * Simulates the web client piping the response body in chunks of the given size.
+   *
+   * @param page the page json.
+   * @param chunkSize the chunk size.
+   * @return the observable of the read transactions.
+   */
+  private Observable<Transaction> read(String page, int chunkSize) {
+    byte[] bytes = page.getBytes(StandardCharsets.UTF_8);
+    return Observable.create(
+        emitter -> {
+          PageStreamReaderVertx<Transaction> reader =
+              new PageStreamReaderVertx<>(objectMapper, emitter, mapper::mapFromDto);
+          for (int i = 0; i < bytes.length; i += chunkSize) {
+            reader.write(
+                Buffer.buffer(Arrays.copyOfRange(bytes, i, Math.min(bytes.length, i + chunkSize))));
+          }
+          reader.end();
+          reader.complete();
+        });
+  }
+
+  @Test
+  void shouldReadPageItems() {
+    List<String> fixtures =
+        Arrays.asList(
+            "standaloneTransferTransaction.json",
+            "aggregateTransferTransaction.json",
+            "standaloneSecretLockTransaction.json");
+    StringBuilder page = new StringBuilder("{\"pagination\":{\"pageNumber\":1,\"pageSize\":3}");
+    page.append(",\"data\":[");
+    for (int i = 0; i < fixtures.size(); i++) {
+      if (i > 0) {
+        page.append(",");
+      }
+      page.append(TestHelperVertx.loadResource("transaction-" + fixtures.get(i)));
+    }
+    page.append("],\"extra\":{\"ignored\":[1,2,3]}}");
+
+    for (int chunkSize : Arrays.asList(1, 7, 1024, Integer.MAX_VALUE)) {
+      List<Transaction> transactions = read(page.toString(), chunkSize).toList().blockingGet();
+
+      Assertions.assertEquals(fixtures.size(), transactions.size());
+      Assertions.assertEquals(TransactionType.TRANSFER, transactions.get(0).getType());
+      Assertions.assertEquals(TransactionType.AGGREGATE_COMPLETE, transactions.get(1).getType());
+      Assertions.assertEquals(TransactionType.SECRET_LOCK, transactions.get(2).getType());
+
+      for (int i = 0; i < fixtures.size(); i++) {
+        TransactionInfoDTO dto = TestHelperVertx.loadTransactionInfoDTO(fixtures.get(i));
+        Assertions.assertEquals(
+            jsonHelper.print(mapper.mapToDto(mapper.mapFromDto(dto))),
+            jsonHelper.print(mapper.mapToDto(transactions.get(i))));
+      }
+    }
+  }
+
+  @Test
+  void shouldReadEmptyPage() {
+    Assertions.assertEquals(
+        0, read("{\"data\":[],\"pagination\":{}}", 3).toList().blockingGet().size());
+  }
+
+  @Test
+  void shouldFailOnInvalidPage() {
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> read("[]", 10).toList().blockingGet());
+  }
+
+  @Test
+  void shouldFailOnTruncatedPage() {
+    String item = TestHelperVertx.loadResource("transaction-standaloneTransferTransaction.json");
+    Assertions.assertThrows(
+        RuntimeException.class,
+        () -> read("{\"data\":[" + item + "," + item, 10).toList().blockingGet());
+  }
+}
@@ -23,6 +23,14 @@ import io.nem.symbol.sdk.model.mosaic.Currency;
 import io.nem.symbol.sdk.model.mosaic.NetworkCurrencies;
 import io.nem.symbol.sdk.model.network.NetworkType;
 import io.reactivex.Observable;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -61,6 +69,53 @@ public class RepositoryFactoryVertxImplTest {
     factory.close();
   }
 
+  @Test
+  public void shouldReuseCallerVertx() throws Exception {
+    String baseUrl = "https://nem.com:3000/path";
+    Vertx vertx = Vertx.vertx();
+    try {
+      RepositoryFactory factory =
+          new RepositoryFactoryVertxImpl(
+              new RepositoryFactoryConfiguration(baseUrl),
+              new VertxClientConfiguration()
+                  .withVertx(vertx)
+                  .withMaxPoolSize(50)
+                  .withPipelining(true, 20)
+                  .withCallerContextDelivery(true));
+
+      Assertions.assertNotNull(factory.createTransactionRepository());
+      Assertions.assertNotNull(factory.createListener());
+      Assertions.assertNotNull(factory.createListener());
+      factory.close();
+
+      // The caller's vertx is not closed by the factory.
+      CompletableFuture<Boolean> future = new CompletableFuture<>();
+      vertx.runOnContext(v -> future.complete(true));
+      Assertions.assertTrue(future.get(10, TimeUnit.SECONDS));
+    } finally {
+      vertx.close();
+    }
+  }
+
+  @Test
+  public void shouldDeliverOnCallerContext() throws Exception {
+    Vertx vertx = Vertx.vertx();
+    try {
+      Context context = vertx.getOrCreateContext();
+      CompletableFuture<Context> delivered = new CompletableFuture<>();
+      context.runOnContext(
+          v -> {
+            Consumer<Handler<AsyncResult<String>>> callback =
+                AbstractRepositoryVertxImpl.onCallerContext(
+                    h -> new Thread(() -> h.handle(Future.succeededFuture("done"))).start());
+            callback.accept(r -> delivered.complete(Vertx.currentContext()));
+          });
+      Assertions.assertSame(context, delivered.get(10, TimeUnit.SECONDS));
+    } finally {
+      vertx.close();
+    }
+  }
+
   @Test
   public void getNetworkTypeFailWhenInvalidServer() {
     String baseUrl = "https://localhost:1934/path";
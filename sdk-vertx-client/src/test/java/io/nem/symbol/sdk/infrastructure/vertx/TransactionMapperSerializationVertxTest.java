@@ -21,6 +21,7 @@ import io.nem.symbol.sdk.infrastructure.BinarySerializationImpl;
 import io.nem.symbol.sdk.infrastructure.vertx.mappers.GeneralTransactionMapper;
 import io.nem.symbol.sdk.model.transaction.JsonHelper;
 import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.openapi.vertx.model.TransactionDTO;
 import io.nem.symbol.sdk.openapi.vertx.model.TransactionInfoDTO;
 import io.vertx.core.json.Json;
 import java.io.File;
@@ -130,4 +131,44 @@ public class TransactionMapperSerializationVertxTest {
       transactionsJson.forEach(t -> t.remove("id"));
     }
   }
+
+  @ParameterizedTest
+  @MethodSource("transactionJsonFiles")
+  void testJsonTreeAndDtoMappingMatchBaseline(String jsonFilename) {
+    String json = TestHelperVertx.loadResource(jsonFilename);
+    TransactionInfoDTO dto = jsonHelper.parse(json, TransactionInfoDTO.class);
+    // Baseline: the common attributes read through a TransactionDTO copy of the printed json, as
+    // the mappers did before the single pass mapping.
+    TransactionDTO baseline =
+        jsonHelper.parse(jsonHelper.print(dto.getTransaction()), TransactionDTO.class);
+
+    Transaction fromDto = transactionMapper.mapFromDto(dto);
+    Transaction fromTree = transactionMapper.mapFromDto(jsonHelper.parse(json));
+
+    for (Transaction transaction : Arrays.asList(fromDto, fromTree)) {
+      Assertions.assertEquals(
+          baseline.getNetwork().getValue().intValue(), transaction.getNetworkType().getValue());
+      Assertions.assertEquals(baseline.getVersion(), transaction.getVersion());
+      Assertions.assertEquals(
+          baseline.getSignerPublicKey(),
+          transaction.getSigner().map(s -> s.getPublicKey().toHex()).orElse(null));
+      Assertions.assertEquals(baseline.getSignature(), transaction.getSignature().orElse(null));
+      if (baseline.getMaxFee() != null) {
+        Assertions.assertEquals(baseline.getMaxFee(), transaction.getMaxFee());
+      }
+      if (baseline.getDeadline() != null) {
+        Assertions.assertEquals(baseline.getDeadline(), transaction.getDeadline().toBigInteger());
+      }
+    }
+
+    Assertions.assertEquals(
+        jsonHelper.prettyPrint(transactionMapper.mapToDto(fromDto)),
+        jsonHelper.prettyPrint(transactionMapper.mapToDto(fromTree)));
+
+    BinarySerialization serialization = new BinarySerializationImpl();
+    Assertions.assertEquals(
+        ConvertUtils.toHex(serialization.serialize(fromDto)),
+        ConvertUtils.toHex(serialization.serialize(fromTree)));
+  }
+
 }